@@ -0,0 +1,175 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding a list of pods from the Kubernetes protobuf encoding with parsing the same list from JSON,
+ * as the operator does when it relists a namespace. Both start from the bytes of a response body and produce a
+ * V1PodList. Run with -prof gc to compare the allocation per decoded list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtobufDecodeBenchmark {
+
+  private static final long CREATION_SECONDS = 1_600_000_000L;
+
+  @Param({"2000"})
+  int numPods;
+
+  private final JSON json = new JSON();
+  private byte[] protobufBody;
+  private byte[] jsonBody;
+
+  /** Encodes the same list of pods both ways. */
+  @Setup
+  public void setUp() throws IOException {
+    V1.PodList.Builder list = V1.PodList.newBuilder()
+          .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("123456"));
+    for (int i = 0; i < numPods; i++) {
+      list.addItems(createPod("domain" + (i % 20), "managed-server" + i));
+    }
+    protobufBody = encode(list.build());
+    jsonBody = json.serialize(ProtobufCodec.decode(protobufBody, V1PodList.class)).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] encode(V1.PodList list) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(new byte[] {'k', '8', 's', 0});
+    Runtime.Unknown.newBuilder()
+          .setTypeMeta(Runtime.TypeMeta.newBuilder().setApiVersion("v1").setKind("PodList"))
+          .setRaw(list.toByteString())
+          .build()
+          .writeTo(out);
+    return out.toByteArray();
+  }
+
+  // A pod resembling a WebLogic managed server pod, with the labels, environment and probes the operator sets.
+  private static V1.Pod createPod(String domainUid, String serverName) {
+    return V1.Pod.newBuilder()
+          .setMetadata(Meta.ObjectMeta.newBuilder()
+                .setName(domainUid + "-" + serverName)
+                .setNamespace("weblogic")
+                .setUid("3b0a8ab4-2c1e-4a5f-9d7c-" + serverName)
+                .setResourceVersion("123456")
+                .setCreationTimestamp(Meta.Time.newBuilder().setSeconds(CREATION_SECONDS))
+                .putLabels("weblogic.createdByOperator", "true")
+                .putLabels("weblogic.domainUID", domainUid)
+                .putLabels("weblogic.domainName", "base_domain")
+                .putLabels("weblogic.serverName", serverName)
+                .putLabels("weblogic.clusterName", "cluster-1")
+                .putLabels("weblogic.operatorVersion", "3.3.0")
+                .putAnnotations("weblogic.sha256", "5f2a8c1d9e7b3a4c6d8e0f1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d7e8f9a0b1c")
+                .putAnnotations("prometheus.io/port", "8001")
+                .putAnnotations("prometheus.io/path", "/wls-exporter/metrics"))
+          .setSpec(V1.PodSpec.newBuilder()
+                .setHostname(serverName)
+                .setRestartPolicy("Always")
+                .addVolumes(V1.Volume.newBuilder().setName("weblogic-scripts-cm-volume")
+                      .setVolumeSource(V1.VolumeSource.newBuilder()
+                            .setConfigMap(V1.ConfigMapVolumeSource.newBuilder()
+                                  .setLocalObjectReference(V1.LocalObjectReference.newBuilder()
+                                        .setName("weblogic-scripts-cm"))
+                                  .setDefaultMode(365))))
+                .addContainers(V1.Container.newBuilder()
+                      .setName("weblogic-server")
+                      .setImage("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                      .setImagePullPolicy("IfNotPresent")
+                      .addCommand("/weblogic-operator/scripts/startServer.sh")
+                      .addEnv(envVar("DOMAIN_NAME", "base_domain"))
+                      .addEnv(envVar("DOMAIN_UID", domainUid))
+                      .addEnv(envVar("SERVER_NAME", serverName))
+                      .addEnv(envVar("DOMAIN_HOME", "/u01/domains/" + domainUid))
+                      .addEnv(envVar("LOG_HOME", "/shared/logs/" + domainUid))
+                      .addEnv(envVar("USER_MEM_ARGS", "-Djava.security.egd=file:/dev/./urandom"))
+                      .addPorts(V1.ContainerPort.newBuilder().setName("default").setContainerPort(8001)
+                            .setProtocol("TCP"))
+                      .setResources(V1.ResourceRequirements.newBuilder()
+                            .putLimits("memory", Resource.Quantity.newBuilder().setString("2Gi").build())
+                            .putRequests("cpu", Resource.Quantity.newBuilder().setString("250m").build()))
+                      .setReadinessProbe(V1.Probe.newBuilder()
+                            .setInitialDelaySeconds(30).setPeriodSeconds(5).setTimeoutSeconds(5)
+                            .setHandler(V1.Handler.newBuilder()
+                                  .setHttpGet(V1.HTTPGetAction.newBuilder()
+                                        .setPath("/weblogic/ready")
+                                        .setPort(IntStr.IntOrString.newBuilder().setType(0).setIntVal(8001)))))
+                      .setLivenessProbe(V1.Probe.newBuilder()
+                            .setInitialDelaySeconds(30).setPeriodSeconds(45).setTimeoutSeconds(5)
+                            .setHandler(V1.Handler.newBuilder()
+                                  .setExec(V1.ExecAction.newBuilder()
+                                        .addCommand("/weblogic-operator/scripts/livenessProbe.sh"))))
+                      .addVolumeMounts(V1.VolumeMount.newBuilder()
+                            .setName("weblogic-scripts-cm-volume")
+                            .setMountPath("/weblogic-operator/scripts")
+                            .setReadOnly(true))))
+          .setStatus(V1.PodStatus.newBuilder()
+                .setPhase("Running")
+                .setPodIP("10.244.0.12")
+                .setStartTime(Meta.Time.newBuilder().setSeconds(CREATION_SECONDS + 1))
+                .addConditions(condition("Initialized"))
+                .addConditions(condition("Ready"))
+                .addConditions(condition("ContainersReady"))
+                .addConditions(condition("PodScheduled"))
+                .addContainerStatuses(V1.ContainerStatus.newBuilder()
+                      .setName("weblogic-server")
+                      .setReady(true)
+                      .setRestartCount(0)
+                      .setImage("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                      .setState(V1.ContainerState.newBuilder()
+                            .setRunning(V1.ContainerStateRunning.newBuilder()
+                                  .setStartedAt(Meta.Time.newBuilder().setSeconds(CREATION_SECONDS + 2))))))
+          .build();
+  }
+
+  private static V1.EnvVar envVar(String name, String value) {
+    return V1.EnvVar.newBuilder().setName(name).setValue(value).build();
+  }
+
+  private static V1.PodCondition condition(String type) {
+    return V1.PodCondition.newBuilder()
+          .setType(type)
+          .setStatus("True")
+          .setLastTransitionTime(Meta.Time.newBuilder().setSeconds(CREATION_SECONDS + 60))
+          .build();
+  }
+
+  /** Decodes the list from protobuf directly into the models. */
+  @Benchmark
+  public V1PodList decodeProtobuf() throws IOException {
+    return ProtobufCodec.decode(protobufBody, V1PodList.class);
+  }
+
+  /** Parses the list from JSON, as the Kubernetes client does with a response body. */
+  @Benchmark
+  public V1PodList decodeJson() {
+    return json.deserialize(new String(jsonBody, StandardCharsets.UTF_8), V1PodList.class);
+  }
+}
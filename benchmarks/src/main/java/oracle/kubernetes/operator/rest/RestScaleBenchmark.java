@@ -0,0 +1,206 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.DomainAction;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of concurrent scale requests to the REST server, with as few request threads as the
+ * operator uses. The backend simulates the latency of the calls to Kubernetes: a token review when it is created,
+ * and a domain update for each scale request. Since the requests are suspended, the throughput should be bounded by
+ * the number of REST workers rather than by the number of request threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class RestScaleBenchmark {
+
+  private static final int REQUEST_THREADS = 3;
+  private static final String SCALE_PATH = "/operator/latest/domains/uid1/clusters/cluster1/scale";
+
+  @Param({"0", "10"})
+  int tokenReviewMillis;
+
+  @Param({"20"})
+  int scaleMillis;
+
+  private HttpServer server;
+  private HttpClient client;
+  private HttpRequest request;
+
+  /** Starts the REST server and creates the scale request. */
+  @Setup
+  public void setUp() throws IOException {
+    final String baseUri = "http://127.0.0.1:" + findFreePort();
+    server = GrizzlyHttpServerFactory.createHttpServer(
+          URI.create(baseUri), RestServer.createResourceConfig(new SimulatedRestConfig()), false);
+    server.getListeners().forEach(listener -> listener.getTransport().setWorkerThreadPoolConfig(
+          ThreadPoolConfig.defaultConfig().setCorePoolSize(REQUEST_THREADS).setMaxPoolSize(REQUEST_THREADS)));
+    server.start();
+
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    request = HttpRequest.newBuilder(URI.create(baseUri + SCALE_PATH))
+          .header("Authorization", AuthenticationFilter.ACCESS_TOKEN_PREFIX + "token")
+          .header("X-Requested-By", "benchmark")
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString("{\"managedServerCount\": 2}"))
+          .build();
+  }
+
+  private static int findFreePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdownNow();
+  }
+
+  /** Sends a scale request and waits for its response. */
+  @Benchmark
+  public int scaleCluster() throws IOException, InterruptedException {
+    final int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    if (status != 204) {
+      throw new IllegalStateException("Scale request failed with status " + status);
+    }
+    return status;
+  }
+
+  private static void sleep(int millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private class SimulatedRestConfig implements RestConfig {
+
+    @Override
+    public String getHost() {
+      return "127.0.0.1";
+    }
+
+    @Override
+    public int getExternalHttpsPort() {
+      return 0;
+    }
+
+    @Override
+    public int getInternalHttpsPort() {
+      return 0;
+    }
+
+    @Override
+    public String getOperatorExternalCertificateData() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorInternalCertificateData() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorExternalCertificateFile() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorInternalCertificateFile() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorExternalKeyData() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorInternalKeyData() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorExternalKeyFile() {
+      return null;
+    }
+
+    @Override
+    public String getOperatorInternalKeyFile() {
+      return null;
+    }
+
+    @Override
+    public RestBackend getBackend(String accessToken) {
+      sleep(tokenReviewMillis);
+      return new SimulatedRestBackend();
+    }
+  }
+
+  private class SimulatedRestBackend implements RestBackend {
+
+    @Override
+    public Set<String> getDomainUids() {
+      return Set.of("uid1");
+    }
+
+    @Override
+    public boolean isDomainUid(String domainUid) {
+      return getDomainUids().contains(domainUid);
+    }
+
+    @Override
+    public void performDomainAction(String domainUid, DomainAction params) {
+      sleep(scaleMillis);
+    }
+
+    @Override
+    public Set<String> getClusters(String domainUid) {
+      return Set.of("cluster1");
+    }
+
+    @Override
+    public boolean isCluster(String domainUid, String cluster) {
+      return getClusters(domainUid).contains(cluster);
+    }
+
+    @Override
+    public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+      sleep(scaleMillis);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Engine.ThreadMode;
+import oracle.kubernetes.operator.work.Step.StepAndPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the round trip of fibers through a real engine: starting a fiber and running it to completion,
+ * resuming a fiber after each of its steps suspends, and forking and joining child fibers.
+ * Each operation waits for the fiber's completion callback, so the time includes the hand-off to the
+ * engine's threads and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FiberBenchmark {
+
+  private static final int NUM_STEPS = 10;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  String threadMode;
+
+  private ScheduledExecutorService threadPool;
+  private Engine engine;
+  private Step sequentialSteps;
+  private Step suspendingSteps;
+
+  /** Creates the engine and the step chains. */
+  @Setup
+  public void setUp() {
+    threadPool = Engine.wrappedExecutorService("benchmark", null);
+    engine = Engine.createEngine("benchmark", null, threadPool, ThreadMode.fromString(threadMode));
+
+    Step[] steps = new Step[NUM_STEPS];
+    Step[] suspending = new Step[NUM_STEPS];
+    for (int i = 0; i < NUM_STEPS; i++) {
+      steps[i] = new NoOpStep();
+      suspending[i] = new SuspendAndResumeStep();
+    }
+    sequentialSteps = Step.chain(steps);
+    suspendingSteps = Step.chain(suspending);
+  }
+
+  @TearDown
+  public void tearDown() {
+    threadPool.shutdownNow();
+  }
+
+  /** Runs a fiber of ten trivial steps from start to completion. */
+  @Benchmark
+  public Packet startToCompletion() {
+    return runFiber(engine, sequentialSteps);
+  }
+
+  /** Runs a fiber of ten steps, each of which suspends the fiber and immediately resumes it. */
+  @Benchmark
+  public Packet resumeAfterSuspend() {
+    return runFiber(engine, suspendingSteps);
+  }
+
+  static Packet runFiber(Engine engine, Step steps) {
+    FutureCallback callback = new FutureCallback();
+    engine.createFiber().start(steps, new Packet(), callback);
+    return callback.join();
+  }
+
+  /** Forks and joins child fibers, each of which runs one trivial step. */
+  @State(Scope.Benchmark)
+  public static class ForkJoinState {
+    @Param({"10", "100", "1000"})
+    int numChildren;
+
+    private Step forkStep;
+
+    @Setup
+    public void setUp() {
+      forkStep = new ForkStep(numChildren);
+    }
+  }
+
+  /** Runs a fiber which forks the specified number of children and waits for all of them to complete. */
+  @Benchmark
+  public Packet forkJoin(ForkJoinState state) {
+    return runFiber(engine, state.forkStep);
+  }
+
+  static class NoOpStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SuspendAndResumeStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> fiber.resume(packet));
+    }
+  }
+
+  static class ForkStep extends Step {
+    private final int numChildren;
+
+    ForkStep(int numChildren) {
+      this.numChildren = numChildren;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> children = new ArrayList<>(numChildren);
+      for (int i = 0; i < numChildren; i++) {
+        children.add(new StepAndPacket(new NoOpStep(), packet.copy()));
+      }
+      return doForkJoin(getNext(), packet, children);
+    }
+  }
+
+  /** A completion callback which lets the benchmark thread wait for the fiber to finish. */
+  static class FutureCallback implements Fiber.CompletionCallback {
+    private final CompletableFuture<Packet> future = new CompletableFuture<>();
+
+    Packet join() {
+      return future.join();
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      future.complete(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      future.completeExceptionally(throwable);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import oracle.kubernetes.operator.work.FiberBenchmark.FutureCallback;
+import oracle.kubernetes.operator.work.FiberBenchmark.NoOpStep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of a fiber gate shared by several threads, each of which starts fibers for its own
+ * set of keys and waits for them to complete. Since no two threads use the same key, no fiber is cancelled;
+ * the contention is purely on the gate's bookkeeping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FiberGateBenchmark {
+
+  @Param({"1", "100"})
+  int keysPerThread;
+
+  private final AtomicInteger threadIndex = new AtomicInteger();
+  private ScheduledExecutorService threadPool;
+  private FiberGate gate;
+  private final Step step = new NoOpStep();
+
+  /** Creates the engine and the gate. */
+  @Setup
+  public void setUp() {
+    threadPool = Engine.wrappedExecutorService("benchmark", null);
+    gate = new FiberGate(new Engine(threadPool));
+  }
+
+  @TearDown
+  public void tearDown() {
+    threadPool.shutdownNow();
+  }
+
+  /** The keys used by a single benchmark thread. */
+  @State(Scope.Thread)
+  public static class ThreadKeys {
+    private String[] keys;
+    private int next;
+
+    /** Creates keys unique to this thread. */
+    @Setup
+    public void setUp(FiberGateBenchmark benchmark) {
+      int thread = benchmark.threadIndex.getAndIncrement();
+      keys = new String[benchmark.keysPerThread];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = "domain-" + thread + "-" + i;
+      }
+    }
+
+    String nextKey() {
+      next = (next + 1) % keys.length;
+      return keys[next];
+    }
+  }
+
+  /** Starts a fiber through the gate and waits for it to complete. */
+  @Benchmark
+  public Packet startFiber(ThreadKeys keys) {
+    FutureCallback callback = new FutureCallback();
+    gate.startFiber(keys.nextKey(), step, new Packet(), callback);
+    return callback.join();
+  }
+}
@@ -0,0 +1,158 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the structural-sharing {@link Packet#copy()} with the eager copy it replaced, using the pattern
+ * of the per-server steps: one copy of the domain packet per server, each of which adds a few values
+ * and reads a few more, and the component lookups which steps make on such copies. Run with -prof gc to compare
+ * allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketCopyBenchmark {
+
+  private static final int NUM_COMPONENTS = 5;
+
+  @Param({"20", "100"})
+  int numEntries;
+
+  @Param({"200"})
+  int numServers;
+
+  private Packet packet;
+  private Packet packetCopy;
+  private EagerCopyPacket eagerPacket;
+  private EagerCopyPacket eagerPacketCopy;
+  private String[] serverNames;
+
+  /** Populates the domain packets with the same entries. */
+  @Setup
+  public void setUp() {
+    packet = new Packet();
+    eagerPacket = new EagerCopyPacket();
+    for (int i = 0; i < numEntries; i++) {
+      packet.put("key" + i, "value" + i);
+      eagerPacket.values.put("key" + i, "value" + i);
+    }
+    for (int i = 0; i < NUM_COMPONENTS; i++) {
+      Component component = Component.createFor("component" + i);
+      packet.getComponents().put("component" + i, component);
+      eagerPacket.components.put("component" + i, component);
+    }
+    Component info = Component.createFor(Integer.valueOf(numEntries));
+    packet.getComponents().put("info", info);
+    eagerPacket.components.put("info", info);
+
+    packetCopy = packet.copy().copy();
+    packetCopy.put("serverName", "managed-server0");
+    eagerPacketCopy = eagerPacket.copy().copy();
+    eagerPacketCopy.values.put("serverName", "managed-server0");
+
+    serverNames = new String[numServers];
+    for (int i = 0; i < numServers; i++) {
+      serverNames[i] = "managed-server" + i;
+    }
+  }
+
+  /** Copies the packet once per server using structural sharing. */
+  @Benchmark
+  public void layeredCopy(Blackhole blackhole) {
+    for (String serverName : serverNames) {
+      Packet copy = packet.copy();
+      copy.put("serverName", serverName);
+      copy.put("serverScan", Boolean.TRUE);
+      blackhole.consume(copy.get("key0"));
+      blackhole.consume(copy.get("serverName"));
+      blackhole.consume(copy.getComponents().get("component0"));
+    }
+  }
+
+  /** Copies the packet once per server by duplicating both maps, as Packet.copy() used to. */
+  @Benchmark
+  public void eagerCopy(Blackhole blackhole) {
+    for (String serverName : serverNames) {
+      EagerCopyPacket copy = eagerPacket.copy();
+      copy.values.put("serverName", serverName);
+      copy.values.put("serverScan", Boolean.TRUE);
+      blackhole.consume(copy.values.get("key0"));
+      blackhole.consume(copy.values.get("serverName"));
+      blackhole.consume(copy.components.get("component0"));
+    }
+  }
+
+  /** Reads a value from a copy four layers removed from the original packet. */
+  @Benchmark
+  public Object layeredNestedRead() {
+    Packet copy = packet.copy();
+    for (int i = 0; i < 3; i++) {
+      copy.put("level", i);
+      copy = copy.copy();
+    }
+    return copy.get("key0");
+  }
+
+  /** Reads a value from the fourth successive eager copy of the original packet. */
+  @Benchmark
+  public Object eagerNestedRead() {
+    EagerCopyPacket copy = eagerPacket.copy();
+    for (int i = 0; i < 3; i++) {
+      copy.values.put("level", i);
+      copy = copy.copy();
+    }
+    return copy.values.get("key0");
+  }
+
+  /** Looks up a component's SPI in a copy of a copy of the domain packet, as DomainPresenceInfo.fromPacket does. */
+  @Benchmark
+  public Object layeredGetSpi() {
+    return packetCopy.getSpi(Integer.class);
+  }
+
+  /** Looks up a component's SPI in an eager copy of a copy of the domain packet. */
+  @Benchmark
+  public Object eagerGetSpi() {
+    for (Component component : eagerPacketCopy.components.values()) {
+      Integer spi = component.getSpi(Integer.class);
+      if (spi != null) {
+        return spi;
+      }
+    }
+    return null;
+  }
+
+  /** The copy strategy used by Packet before structural sharing was introduced. */
+  static class EagerCopyPacket {
+    private final ConcurrentMap<String, Component> components = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> values = new ConcurrentHashMap<>();
+
+    EagerCopyPacket copy() {
+      EagerCopyPacket copy = new EagerCopyPacket();
+      copy.components.putAll(components);
+      copy.values.putAll(values);
+      return copy;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares scheduling and cancelling a fiber timer on the engine's scheduled executor with doing so
+ * on a {@link TimingWheel}, while a large number of long timers are already pending. This mirrors
+ * the pattern of request timeouts, which are almost always cancelled before they fire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimerBenchmark {
+
+  private static final Runnable NO_OP = () -> { };
+
+  @Param({"10000", "100000"})
+  int pendingTimers;
+
+  private ScheduledThreadPoolExecutor executor;
+  private ScheduledExecutorService ticker;
+  private TimingWheel wheel;
+
+  /** Creates both timer implementations and fills each with long-running timers. */
+  @Setup
+  public void setUp() {
+    executor = new ScheduledThreadPoolExecutor(2);
+    executor.setRemoveOnCancelPolicy(true);
+    ticker = Executors.newSingleThreadScheduledExecutor();
+    wheel = new TimingWheel(executor, 10, TimeUnit.MILLISECONDS, 512);
+    ticker.scheduleWithFixedDelay(wheel::advance, 10, 10, TimeUnit.MILLISECONDS);
+
+    for (int i = 0; i < pendingTimers; i++) {
+      executor.schedule(NO_OP, 1, TimeUnit.HOURS);
+      wheel.schedule(NO_OP, 1, TimeUnit.HOURS);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    ticker.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  /** Schedules a timer on the scheduled executor and cancels it. */
+  @Benchmark
+  public boolean scheduledExecutor() {
+    ScheduledFuture<?> future = executor.schedule(NO_OP, 30, TimeUnit.SECONDS);
+    return future.cancel(false);
+  }
+
+  /** Schedules a timer on the timing wheel and cancels it. */
+  @Benchmark
+  public boolean timingWheel() {
+    return wheel.schedule(NO_OP, 30, TimeUnit.SECONDS).cancel();
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Watches one type of resource in all namespaces with a single watch, and hands each event to the watcher for the
+ * event's namespace, as though that watcher had received it itself. The namespace watchers run no threads and
+ * make no calls of their own, so each type of resource needs one thread and one watch connection, rather than one
+ * per namespace. Events in namespaces which the operator does not manage are discarded.
+ *
+ * <p>This is enabled by the "ClusterWideWatches" feature gate, for every namespace selection strategy except
+ * Dedicated. It requires the operator to be allowed to list and watch its resources in all namespaces.
+ *
+ * @param <T> the type of resource watched
+ */
+class ClusterWatcher<T> extends Watcher<T> implements WatchListener<T> {
+
+  public static final String FEATURE_GATE = "ClusterWideWatches";
+
+  private final Initiator<T> initiator;
+  private final Function<String, ? extends Watcher<T>> namespaceWatchers;
+
+  /**
+   * Creates a cluster watcher.
+   *
+   * @param initialResourceVersion the resource version from which to start watching
+   * @param tuning watch tuning parameters
+   * @param stopping the flag which stops the watcher when set
+   * @param initiator the function which starts a watch of the resource in all namespaces
+   * @param namespaceWatchers a function which returns the watcher for a namespace, or null if it is not managed
+   */
+  ClusterWatcher(String initialResourceVersion, WatchTuning tuning, AtomicBoolean stopping,
+                 Initiator<T> initiator, Function<String, ? extends Watcher<T>> namespaceWatchers) {
+    super(initialResourceVersion, tuning, stopping);
+    setListener(this);
+    this.initiator = initiator;
+    this.namespaceWatchers = namespaceWatchers;
+  }
+
+  /**
+   * Returns true if the operator should watch its resources with one watch per type of resource.
+   *
+   * @return true if the feature gate is enabled and the namespace selection strategy is not Dedicated
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(FEATURE_GATE))
+          .orElse(false)
+          && !Namespaces.SelectionStrategy.Dedicated.equals(Namespaces.getSelectionStrategy());
+  }
+
+  @Override
+  public Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return initiator.initiateWatch(watchBuilder, null);
+  }
+
+  @Override
+  public String getNamespace() {
+    return null;
+  }
+
+  @Override
+  public String getDomainUid(Watch.Response<T> item) {
+    return null;
+  }
+
+  // The namespace watchers must receive their events one at a time and in order, since each ignores events no
+  // newer than the last it handled. They hand the events to their own listeners on dispatch threads, if any.
+  @Override
+  boolean mayDispatchEventsOnOtherThreads() {
+    return false;
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> item) {
+    getMetadata(item.object)
+          .map(V1ObjectMeta::getNamespace)
+          .map(namespaceWatchers)
+          .ifPresent(watcher -> watcher.dispatch(item));
+  }
+
+  /**
+   * A function which starts a watch of one type of resource.
+   *
+   * @param <T> the type of resource watched
+   */
+  @FunctionalInterface
+  interface Initiator<T> {
+    /**
+     * Starts a watch.
+     *
+     * @param watchBuilder the watch builder, initialized with the resource version from which to watch
+     * @param namespace the namespace to watch, or null to watch all namespaces
+     * @return the watch
+     * @throws ApiException if the watch cannot be started
+     */
+    Watchable<T> initiateWatch(WatchBuilder watchBuilder, String namespace) throws ApiException;
+  }
+}
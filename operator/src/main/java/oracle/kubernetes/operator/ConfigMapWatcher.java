@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.util.Watch.Response;
@@ -58,9 +59,36 @@ public class ConfigMapWatcher extends Watcher<V1ConfigMap> {
 
   @Override
   public Watchable<V1ConfigMap> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL).listConfigMaps(ns);
+  }
+
+  @Override
+  V1ConfigMap toDeletionRecord(V1ConfigMap configMap) {
+    return new V1ConfigMap().metadata(toDeletionMetadata(configMap.getMetadata()));
+  }
+
+  @Override
+  ResourceCache<V1ConfigMap> getResourceCache() {
+    return ResourceCache.getConfigMaps();
+  }
+
+  /**
+   * Starts a watch of the config maps created by the operator.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<V1ConfigMap> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelector(LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createConfigMapWatch(ns);
+        .createConfigMapWatch(namespace);
   }
 
   @Override
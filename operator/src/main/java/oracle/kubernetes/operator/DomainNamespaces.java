@@ -3,6 +3,10 @@
 
 package oracle.kubernetes.operator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +34,7 @@ import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -47,23 +52,27 @@ public class DomainNamespaces {
 
   private final Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
   private final Map<String, AtomicBoolean> namespaceStoppingMap = new ConcurrentHashMap<>();
+  private final AtomicBoolean clusterWatchersStopping = new AtomicBoolean(false);
+  private final boolean clusterWatches = ClusterWatcher.isEnabled();
 
   private final WatcherControl<V1ConfigMap, ConfigMapWatcher> configMapWatchers
-        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch);
+        = new WatcherControl<>(ConfigMapWatcher::create, d -> d::dispatchConfigMapWatch, ConfigMapWatcher::createWatch);
   private final WatcherControl<Domain, DomainWatcher> domainWatchers
-        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch);
+        = new WatcherControl<>(DomainWatcher::create, d -> d::dispatchDomainWatch, DomainWatcher::createWatch);
   private final WatcherControl<CoreV1Event, EventWatcher> eventWatchers
-        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch);
+        = new WatcherControl<>(EventWatcher::create, d -> d::dispatchEventWatch, EventWatcher::createWatch);
   private final WatcherControl<CoreV1Event, OperatorEventWatcher> operatorEventWatchers
-      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch);
+      = new WatcherControl<>(OperatorEventWatcher::create, d -> d::dispatchEventWatch,
+                            OperatorEventWatcher::createWatch);
   private final WatcherControl<V1Job, JobWatcher> jobWatchers
-        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER);
+        = new WatcherControl<>(JobWatcher::create, d -> NULL_LISTENER, JobWatcher::createWatch);
   private final WatcherControl<V1Pod, PodWatcher> podWatchers
-        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch);
+        = new WatcherControl<>(PodWatcher::create, d -> d::dispatchPodWatch, PodWatcher::createWatch);
   private final WatcherControl<V1Service, ServiceWatcher> serviceWatchers
-        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch);
+        = new WatcherControl<>(ServiceWatcher::create, d -> d::dispatchServiceWatch, ServiceWatcher::createWatch);
   private final WatcherControl<V1beta1PodDisruptionBudget, PodDisruptionBudgetWatcher> podDisruptionBudgetWatchers
-          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch);
+          = new WatcherControl<>(PodDisruptionBudgetWatcher::create, d -> d::dispatchPodDisruptionBudgetWatch,
+                                PodDisruptionBudgetWatcher::createWatch);
 
   private final SemanticVersion productVersion;
 
@@ -100,6 +109,7 @@ public class DomainNamespaces {
    */
   void stopAllWatchers() {
     namespaceStoppingMap.forEach((key, value) -> value.set(true));
+    clusterWatchersStopping.set(true);
   }
 
   /**
@@ -118,6 +128,7 @@ public class DomainNamespaces {
     podDisruptionBudgetWatchers.removeWatcher(ns);
     configMapWatchers.removeWatcher(ns);
     jobWatchers.removeWatcher(ns);
+    ResourceCache.removeNamespace(ns);
 
     DomainProcessorImpl.cleanupNamespace(ns);
   }
@@ -205,22 +216,64 @@ public class DomainNamespaces {
 
   interface ListenerSelector<T> extends Function<DomainProcessor, WatchListener<T>> { }
 
+  // When cluster-wide watches are enabled, the watchers for each namespace run no threads of their own;
+  // a single cluster watcher per type of resource hands them the events for their namespaces.
   class WatcherControl<T, W extends Watcher<T>> {
     private final Map<String, W> watchers = new ConcurrentHashMap<>();
     private final WatcherFactory<T,W> factory;
     private final ListenerSelector<T> selector;
+    private final ClusterWatcher.Initiator<T> initiator;
+    private final Map<String, List<Object>> existingResources = new ConcurrentHashMap<>();
+    private ClusterWatcher<T> clusterWatcher;
 
-    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector) {
+    private WatcherControl(WatcherFactory<T, W> factory, ListenerSelector<T> selector,
+                           ClusterWatcher.Initiator<T> initiator) {
       this.factory = factory;
       this.selector = selector;
+      this.initiator = initiator;
     }
 
     void startWatcher(String namespace, String resourceVersion, DomainProcessor domainProcessor) {
-      watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
+      if (!clusterWatches) {
+        watchers.computeIfAbsent(namespace, n -> createWatcher(n, resourceVersion, selector.apply(domainProcessor)));
+      } else if (watchers.putIfAbsent(namespace,
+            createWatcher(namespace, resourceVersion, selector.apply(domainProcessor))) == null) {
+        getClusterWatcher(resourceVersion).restartFrom(resourceVersion);
+      }
+      Optional.ofNullable(existingResources.remove(namespace)).ifPresent(r -> getWatcher(namespace).recordExisting(r));
+    }
+
+    // Resources may be listed before the watcher for their namespace is started; if so, they are held until it is.
+    void recordExisting(String namespace, Collection<?> resources) {
+      final W watcher = watchers.get(namespace);
+      if (resources == null) {
+        return;
+      } else if (watcher != null) {
+        watcher.recordExisting(resources);
+      } else {
+        existingResources.merge(namespace, new ArrayList<>(resources), this::combine);
+      }
+    }
+
+    private List<Object> combine(List<Object> first, List<Object> second) {
+      first.addAll(second);
+      return first;
     }
 
     W createWatcher(String ns, String resourceVersion, WatchListener<T> listener) {
-      return factory.create(getThreadFactory(), ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+      final ThreadFactory threadFactory = clusterWatches ? null : getThreadFactory();
+      return factory.create(threadFactory, ns, resourceVersion, getWatchTuning(), listener, isStopping(ns));
+    }
+
+    // The cluster watcher starts from the resource version of the first namespace listed. A namespace listed
+    // at an older version restarts it from that version, so that none of the namespace's events are missed.
+    private synchronized ClusterWatcher<T> getClusterWatcher(String resourceVersion) {
+      if (clusterWatcher == null) {
+        clusterWatcher = new ClusterWatcher<>(
+              resourceVersion, getWatchTuning(), clusterWatchersStopping, initiator, watchers::get);
+        clusterWatcher.start(getThreadFactory());
+      }
+      return clusterWatcher;
     }
 
     W getWatcher(String ns) {
@@ -229,6 +282,7 @@ public class DomainNamespaces {
 
     void removeWatcher(String ns) {
       watchers.remove(ns);
+      existingResources.remove(ns);
     }
   }
 
@@ -247,12 +301,18 @@ public class DomainNamespaces {
 
     @Override
     Consumer<V1ConfigMapList> getConfigMapListProcessing() {
-      return l -> configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        configMapWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+        configMapWatchers.recordExisting(ns, l.getItems());
+      };
     }
 
     @Override
     Consumer<CoreV1EventList> getEventListProcessing() {
-      return l -> eventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        eventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+        eventWatchers.recordExisting(ns, l.getItems());
+      };
     }
 
     @Override
@@ -260,9 +320,17 @@ public class DomainNamespaces {
       return l -> operatorEventWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
     }
 
+    @Override
+    Consumer<CoreV1Event> getOperatorEventProcessing() {
+      return e -> operatorEventWatchers.recordExisting(ns, Collections.singletonList(e));
+    }
+
     @Override
     Consumer<V1JobList> getJobListProcessing() {
-      return l -> jobWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        jobWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+        jobWatchers.recordExisting(ns, l.getItems());
+      };
     }
 
     @Override
@@ -270,19 +338,41 @@ public class DomainNamespaces {
       return l -> podWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
     }
 
+    @Override
+    Consumer<V1Pod> getPodProcessing() {
+      return p -> podWatchers.recordExisting(ns, Collections.singletonList(p));
+    }
+
     @Override
     Consumer<V1ServiceList> getServiceListProcessing() {
       return l -> serviceWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
     }
 
+    @Override
+    Consumer<V1Service> getServiceProcessing() {
+      return s -> serviceWatchers.recordExisting(ns, Collections.singletonList(s));
+    }
+
     @Override
     Consumer<V1beta1PodDisruptionBudgetList> getPodDisruptionBudgetListProcessing() {
-      return l -> podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        podDisruptionBudgetWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+        podDisruptionBudgetWatchers.recordExisting(ns, l.getItems());
+      };
     }
 
     @Override
     Consumer<DomainList> getDomainListProcessing() {
-      return l -> domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+      return l -> {
+        domainWatchers.startWatcher(ns, getResourceVersion(l), domainProcessor);
+        domainWatchers.recordExisting(ns, l.getItems());
+      };
+    }
+
+    // Every watcher of the namespace has now started and been given the resources which existed before it.
+    @Override
+    void completeProcessing(Packet packet) {
+      ResourceCache.markComplete(ns);
     }
   }
 }
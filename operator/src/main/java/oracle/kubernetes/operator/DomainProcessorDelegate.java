@@ -52,6 +52,16 @@ public interface DomainProcessorDelegate {
    */
   FiberGate createFiberGate();
 
+  /**
+   * Creates a new FiberGate whose fibers run on the engine assigned to the specified namespace.
+   *
+   * @param namespace the namespace whose domains the gate will process
+   * @return the created instance
+   */
+  default FiberGate createFiberGate(String namespace) {
+    return createFiberGate();
+  }
+
   /**
    * Runs a chain of steps.
    *
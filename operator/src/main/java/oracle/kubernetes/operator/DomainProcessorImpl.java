@@ -25,9 +25,7 @@ import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1ObjectReference;
 import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
-import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import io.kubernetes.client.util.Watch;
@@ -53,6 +51,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -63,6 +62,7 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberMetrics;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -92,6 +92,10 @@ public class DomainProcessorImpl implements DomainProcessor {
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
+  static {
+    OperatorMetrics.register(new FiberGateMetrics(makeRightFiberGates, statusFiberGates));
+  }
+
   // Map namespace to map of domainUID to Domain; tests may replace this value.
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
@@ -144,6 +148,7 @@ public class DomainProcessorImpl implements DomainProcessor {
   private static void unregisterDomain(String ns, String domainUid) {
     unregisterPresenceInfo(ns, domainUid);
     unregisterEventK8SObject(ns, domainUid);
+    FiberMetrics.getInstance().removeGateKey(domainUid);
   }
 
   private static void registerStatusUpdater(
@@ -340,11 +345,21 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private FiberGate getMakeRightFiberGate(String ns) {
-    return makeRightFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return makeRightFiberGates.computeIfAbsent(ns, this::createMakeRightFiberGate);
+  }
+
+  private FiberGate createMakeRightFiberGate(String ns) {
+    FiberGate gate = delegate.createFiberGate(ns);
+    Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .filter(tuning -> tuning.makeRightCoalescingWindowMillis > 0)
+        .ifPresent(tuning -> gate.withCoalescing(tuning.makeRightCoalescingWindowMillis,
+            TimeUnit.SECONDS.toMillis(tuning.makeRightCoalescingMaxDelaySeconds), TimeUnit.MILLISECONDS));
+    return gate;
   }
 
   private FiberGate getStatusFiberGate(String ns) {
-    return statusFiberGates.computeIfAbsent(ns, k -> delegate.createFiberGate());
+    return statusFiberGates.computeIfAbsent(ns, delegate::createFiberGate);
   }
 
   /**
@@ -1249,8 +1264,8 @@ public class DomainProcessorImpl implements DomainProcessor {
 
       resources.addProcessing(new NamespacedResources.Processors() {
         @Override
-        Consumer<V1PodList> getPodListProcessing() {
-          return list -> list.getItems().forEach(this::addPod);
+        Consumer<V1Pod> getPodProcessing() {
+          return this::addPod;
         }
 
         private void addPod(V1Pod pod) {
@@ -1258,8 +1273,8 @@ public class DomainProcessorImpl implements DomainProcessor {
         }
 
         @Override
-        Consumer<V1ServiceList> getServiceListProcessing() {
-          return list -> list.getItems().forEach(this::addService);
+        Consumer<V1Service> getServiceProcessing() {
+          return this::addService;
         }
 
         private void addService(V1Service service) {
@@ -10,11 +10,8 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import io.kubernetes.client.openapi.models.CoreV1Event;
-import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
-import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -43,18 +40,18 @@ class DomainResourcesValidation {
   NamespacedResources.Processors getProcessors() {
     return new NamespacedResources.Processors() {
       @Override
-      Consumer<V1PodList> getPodListProcessing() {
-        return l -> addPodList(l);
+      Consumer<V1Pod> getPodProcessing() {
+        return pod -> addPod(pod);
       }
 
       @Override
-      Consumer<V1ServiceList> getServiceListProcessing() {
-        return l -> addServiceList(l);
+      Consumer<V1Service> getServiceProcessing() {
+        return service -> addService(service);
       }
 
       @Override
-      Consumer<CoreV1EventList> getOperatorEventListProcessing() {
-        return l -> addOperatorEventList(l);
+      Consumer<CoreV1Event> getOperatorEventProcessing() {
+        return event -> addEvent(event);
       }
 
       @Override
@@ -76,18 +73,10 @@ class DomainResourcesValidation {
     };
   }
 
-  private void addPodList(V1PodList list) {
-    list.getItems().forEach(this::addPod);
-  }
-
   private void addEvent(CoreV1Event event) {
     DomainProcessorImpl.updateEventK8SObjects(event);
   }
 
-  private void addOperatorEventList(CoreV1EventList list) {
-    list.getItems().forEach(this::addEvent);
-  }
-
   private void addPod(V1Pod pod) {
     String domainUid = PodHelper.getPodDomainUid(pod);
     String serverName = PodHelper.getPodServerName(pod);
@@ -100,10 +89,6 @@ class DomainResourcesValidation {
     return domainPresenceInfoMap.computeIfAbsent(domainUid, k -> new DomainPresenceInfo(namespace, domainUid));
   }
 
-  private void addServiceList(V1ServiceList list) {
-    list.getItems().forEach(this::addService);
-  }
-
   private void addService(V1Service service) {
     String domainUid = ServiceHelper.getServiceDomainUid(service);
     if (domainUid != null) {
@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
@@ -14,6 +15,7 @@ import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
 /**
  * This class handles Domain watching. It receives domain events and sends them into the operator
@@ -57,7 +59,32 @@ public class DomainWatcher extends Watcher<Domain> {
 
   @Override
   public Watchable<Domain> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.createDomainWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.listDomains(ns);
+  }
+
+  // The domain UID may differ from the name of the domain resource.
+  @Override
+  Domain toDeletionRecord(Domain domain) {
+    return new Domain()
+          .withMetadata(toDeletionMetadata(domain.getMetadata()))
+          .withSpec(new DomainSpec().withDomainUid(domain.getDomainUid()));
+  }
+
+  /**
+   * Starts a watch of domain resources.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<Domain> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
+    return watchBuilder.createDomainWatch(namespace);
   }
 
   @Override
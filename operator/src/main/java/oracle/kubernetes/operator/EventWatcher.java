@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.util.Watch.Response;
@@ -58,7 +59,34 @@ public class EventWatcher extends Watcher<CoreV1Event> {
 
   @Override
   public Watchable<CoreV1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.withFieldSelector(FIELD_SELECTOR).createEventWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.withFieldSelector(FIELD_SELECTOR).listEvents(ns);
+  }
+
+  // The operator identifies the events it has seen by their involved object, reason and message.
+  @Override
+  CoreV1Event toDeletionRecord(CoreV1Event event) {
+    return new CoreV1Event()
+          .metadata(toDeletionMetadata(event.getMetadata()))
+          .involvedObject(event.getInvolvedObject())
+          .reason(event.getReason())
+          .message(event.getMessage());
+  }
+
+  /**
+   * Starts a watch of the events which report failed readiness probes.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<CoreV1Event> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
+    return watchBuilder.withFieldSelector(FIELD_SELECTOR).createEventWatch(namespace);
   }
 
   @Override
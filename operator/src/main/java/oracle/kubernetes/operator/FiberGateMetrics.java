@@ -0,0 +1,43 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import oracle.kubernetes.operator.work.FiberGate;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+
+/** Reports, for each namespace, how often the domain processing gates cancelled or coalesced fibers. */
+class FiberGateMetrics implements MetricsSource {
+
+  private final Map<String, FiberGate> makeRightFiberGates;
+  private final Map<String, FiberGate> statusFiberGates;
+
+  FiberGateMetrics(Map<String, FiberGate> makeRightFiberGates, Map<String, FiberGate> statusFiberGates) {
+    this.makeRightFiberGates = makeRightFiberGates;
+    this.statusFiberGates = statusFiberGates;
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    writer.family("operator_fiber_gate_cancelled_total", COUNTER,
+        "Number of running fibers cancelled to start a later fiber for the same domain.");
+    writeSamples(writer, "operator_fiber_gate_cancelled_total", FiberGate::getCancelledCount);
+
+    writer.family("operator_fiber_gate_coalesced_total", COUNTER,
+        "Number of requests replaced by a later request for the same domain before they started.");
+    writeSamples(writer, "operator_fiber_gate_coalesced_total", FiberGate::getCoalescedCount);
+  }
+
+  private void writeSamples(PrometheusTextWriter writer, String name, ToLongFunction<FiberGate> count) {
+    makeRightFiberGates.forEach((namespace, gate) ->
+        writer.sample(name, count.applyAsLong(gate), "namespace", namespace, "gate", "makeRight"));
+    statusFiberGates.forEach((namespace, gate) ->
+        writer.sample(name, count.applyAsLong(gate), "namespace", namespace, "gate", "status"));
+  }
+}
@@ -17,6 +17,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobCondition;
@@ -188,6 +189,35 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
 
   @Override
   public Watchable<V1Job> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, namespace);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listJobs(namespace);
+  }
+
+  @Override
+  V1Job toDeletionRecord(V1Job job) {
+    return new V1Job().metadata(toDeletionMetadata(job.getMetadata()));
+  }
+
+  @Override
+  ResourceCache<V1Job> getResourceCache() {
+    return ResourceCache.getJobs();
+  }
+
+  /**
+   * Starts a watch of the jobs created by the operator for domains.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<V1Job> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createJobWatch(namespace);
@@ -287,6 +317,11 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job>,
       return new CallBuilder().readJobAsync(name, namespace, domainUid, responseStep);
     }
 
+    @Override
+    ResourceCache<V1Job> getResourceCache() {
+      return ResourceCache.getJobs();
+    }
+
     // When we detect a job as ready, we add it to the packet for downstream processing.
     @Override
     void updatePacket(Packet packet, V1Job job) {
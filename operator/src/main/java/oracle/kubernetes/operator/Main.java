@@ -29,6 +29,9 @@ import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.CircuitBreakers;
+import oracle.kubernetes.operator.calls.ReadCoalescer;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -43,7 +46,9 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
+import oracle.kubernetes.operator.rest.RestRequestExecutor;
 import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.steps.InitializeInternalIdentityStep;
@@ -51,9 +56,12 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Engine.ThreadMode;
+import oracle.kubernetes.operator.work.EngineShards;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberWatchdog;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -136,7 +144,9 @@ public class Main {
     private final String operatorBuildTime;
     private final SemanticVersion productVersion;
     private final KubernetesVersion kubernetesVersion;
+    private final ThreadMode requestedThreadMode;
     private final Engine engine;
+    private final EngineShards engineShards;
     private final DomainProcessor domainProcessor;
     private final DomainNamespaces domainNamespaces;
 
@@ -148,7 +158,18 @@ public class Main {
       productVersion = new SemanticVersion(buildVersion);
       kubernetesVersion = HealthCheckHelper.performK8sVersionCheck();
 
-      engine = new Engine(scheduledExecutorService);
+      requestedThreadMode = getEngineThreadMode();
+      engine = Engine.createEngine("operator", container, scheduledExecutorService, requestedThreadMode);
+      getFiberTimerTickMillis().ifPresent(engine::withTimingWheel);
+      getFiberBreadCrumbCapacity().ifPresent(engine::withBreadCrumbCapacity);
+      createFiberWatchdog().ifPresent(this::startWatchdog);
+      engineShards = createEngineShards(engine);
+      Optional.ofNullable(engineShards).ifPresent(OperatorMetrics::register);
+      OperatorMetrics.register(ClientPool.getInstance().getHttpResources());
+      OperatorMetrics.register(RequestRateLimiter.getInstance());
+      OperatorMetrics.register(ReadCoalescer.getInstance());
+      OperatorMetrics.register(CircuitBreakers.getInstance());
+      OperatorMetrics.register(RestRequestExecutor.getInstance());
       domainProcessor = new DomainProcessorImpl(this, productVersion);
 
       domainNamespaces = new DomainNamespaces(productVersion);
@@ -156,6 +177,63 @@ public class Main {
       PodHelper.setProductVersion(productVersion.toString());
     }
 
+    private static ThreadMode getEngineThreadMode() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.engineThreadMode)
+          .map(ThreadMode::fromString)
+          .orElse(ThreadMode.PLATFORM);
+    }
+
+    private static Optional<Long> getFiberTimerTickMillis() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> (long) t.fiberTimerTickMillis)
+          .filter(tick -> tick > 0);
+    }
+
+    private static Optional<Integer> getFiberBreadCrumbCapacity() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.fiberBreadCrumbCapacity);
+    }
+
+    private static Optional<FiberWatchdog> createFiberWatchdog() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .filter(t -> t.stuckFiberThresholdSeconds > 0)
+          .map(t -> new FiberWatchdog(t.stuckFiberThresholdSeconds, TimeUnit.SECONDS, t.stuckFiberLogCount));
+    }
+
+    private void startWatchdog(FiberWatchdog watchdog) {
+      engine.withWatchdog(watchdog);
+      OperatorMetrics.register(watchdog);
+    }
+
+    private static EngineShards createEngineShards(Engine engine) {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.engineShardCount)
+          .filter(count -> count > 0)
+          .filter(count -> isShardable(engine, count))
+          .map(count -> new EngineShards(engine, "operator", container, count))
+          .orElse(null);
+    }
+
+    // Each fiber task already has its own virtual thread; shards would confine them to a few platform threads.
+    private static boolean isShardable(Engine engine, int shardCount) {
+      if (engine.getThreadMode() == ThreadMode.VIRTUAL) {
+        LOGGER.warning(MessageKeys.ENGINE_SHARDS_IGNORED, shardCount);
+        return false;
+      }
+      return true;
+    }
+
+    @Override
+    public void stopEngineShards() {
+      Optional.ofNullable(engineShards).ifPresent(EngineShards::shutdown);
+    }
+
     private static String getBuildVersion(Properties buildProps) {
       return Optional.ofNullable(buildProps.getProperty(GIT_BUILD_VERSION_KEY)).orElse("1.0");
     }
@@ -180,6 +258,7 @@ public class Main {
       loggingFacade.info(MessageKeys.OPERATOR_STARTED, buildVersion, operatorImpl, operatorBuildTime);
       Optional.ofNullable(TuningParameters.getInstance().getFeatureGates().getEnabledFeatures())
           .ifPresent(ef -> loggingFacade.info(MessageKeys.ENABLED_FEATURES, ef));
+      loggingFacade.info(MessageKeys.ENGINE_THREAD_MODE, engine.getThreadMode(), requestedThreadMode);
       loggingFacade.info(MessageKeys.OP_CONFIG_NAMESPACE, getOperatorNamespace());
       loggingFacade.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
       Optional.ofNullable(Namespaces.getConfiguredDomainNamespaces())
@@ -252,6 +331,11 @@ public class Main {
       return new FiberGate(engine);
     }
 
+    @Override
+    public FiberGate createFiberGate(String namespace) {
+      return new FiberGate(Optional.ofNullable(engineShards).map(s -> s.getEngine(namespace)).orElse(engine));
+    }
+
     @Override
     public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
       return engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
@@ -516,6 +600,8 @@ public class Main {
     }
 
     stopAllWatchers();
+    WatchEventDispatcher.shutdownAll();
+    delegate.stopEngineShards();
   }
 
   private void stopAllWatchers() {
@@ -33,4 +33,8 @@ interface MainDelegate {
   KubernetesVersion getKubernetesVersion();
 
   ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit);
+
+  /** Stops the worker threads of the engine shards, if any. */
+  default void stopEngineShards() {
+  }
 }
@@ -10,16 +10,19 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import javax.annotation.Nonnull;
 
 import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.StreamingListDecoder;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.NextAction;
@@ -29,6 +32,9 @@ import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 /**
  * A Class to manage listing Kubernetes resources associated with a namespace and doing processing on them.
+ * Lists are read a page at a time, and each page is processed as it arrives. Pods, services and operator events
+ * may also be processed an item at a time; if the "StreamingListProcessing" feature gate is enabled, those items
+ * are handed to their processing as they are decoded, so that no complete page of them is ever held in memory.
  */
 class NamespacedResources {
 
@@ -85,6 +91,13 @@ class NamespacedResources {
       return null;
     }
 
+    /**
+     * Return the processing to be performed on each domain event found in Kubernetes. May be null.
+     */
+    Consumer<CoreV1Event> getOperatorEventProcessing() {
+      return null;
+    }
+
     /**
      * Return the processing to be performed on a list of jobs found in Kubernetes. May be null.
      */
@@ -99,6 +112,13 @@ class NamespacedResources {
       return null;
     }
 
+    /**
+     * Return the processing to be performed on each pod found in Kubernetes. May be null.
+     */
+    Consumer<V1Pod> getPodProcessing() {
+      return null;
+    }
+
     /**
      * Return the processing to be performed on a list of services found in Kubernetes. May be null.
      */
@@ -106,6 +126,13 @@ class NamespacedResources {
       return null;
     }
 
+    /**
+     * Return the processing to be performed on each service found in Kubernetes. May be null.
+     */
+    Consumer<V1Service> getServiceProcessing() {
+      return null;
+    }
+
     /**
      * Return the processing to be performed on a list of services found in Kubernetes. May be null.
      */
@@ -132,7 +159,7 @@ class NamespacedResources {
     return getListProcessing(Processors::getConfigMapListProcessing).map(this::createConfigMapListStep).orElse(null);
   }
 
-  private Step createConfigMapListStep(List<Consumer<V1ConfigMapList>> processing) {
+  private Step createConfigMapListStep(ListProcessing<V1ConfigMapList, ?> processing) {
     return new CallBuilder()
              .listConfigMapsAsync(namespace, new ListResponseStep<>(processing));
   }
@@ -141,20 +168,20 @@ class NamespacedResources {
     return getListProcessing(Processors::getEventListProcessing).map(this::createPodEventListStep).orElse(null);
   }
 
-  private Step createPodEventListStep(List<Consumer<CoreV1EventList>> processing) {
+  private Step createPodEventListStep(ListProcessing<CoreV1EventList, ?> processing) {
     return new CallBuilder()
             .withFieldSelector(ProcessingConstants.READINESS_PROBE_FAILURE_EVENT_FILTER)
             .listEventAsync(namespace, new ListResponseStep<>(processing));
   }
 
   private Step getOperatorEventListSteps() {
-    return getListProcessing(Processors::getOperatorEventListProcessing)
+    return getListProcessing(Processors::getOperatorEventListProcessing, Processors::getOperatorEventProcessing)
         .map(this::createOperatorEventListStep).orElse(null);
   }
 
-  private Step createOperatorEventListStep(List<Consumer<CoreV1EventList>> processing) {
-    return new CallBuilder()
-        .withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER)
+  private Step createOperatorEventListStep(ListProcessing<CoreV1EventList, CoreV1Event> processing) {
+    return processing.streamItems(new CallBuilder()
+        .withLabelSelectors(ProcessingConstants.OPERATOR_EVENT_LABEL_FILTER))
         .listEventAsync(namespace, new ListResponseStep<>(processing));
   }
 
@@ -163,7 +190,7 @@ class NamespacedResources {
             .map(this::createPodDisruptionBudgetListStep).orElse(null);
   }
 
-  private Step createPodDisruptionBudgetListStep(List<Consumer<V1beta1PodDisruptionBudgetList>> processing) {
+  private Step createPodDisruptionBudgetListStep(ListProcessing<V1beta1PodDisruptionBudgetList, ?> processing) {
     return new CallBuilder()
             .listPodDisruptionBudgetAsync(namespace, new ListResponseStep<>(processing));
   }
@@ -172,16 +199,18 @@ class NamespacedResources {
     return getListProcessing(Processors::getJobListProcessing).map(this::createJobListStep).orElse(null);
   }
 
-  private Step createJobListStep(List<Consumer<V1JobList>> processing) {
+  private Step createJobListStep(ListProcessing<V1JobList, ?> processing) {
     return createSubResourceCallBuilder().listJobAsync(namespace, new ListResponseStep<>(processing));
   }
 
   private Step getPodListSteps() {
-    return getListProcessing(Processors::getPodListProcessing).map(this::createPodListStep).orElse(null);
+    return getListProcessing(Processors::getPodListProcessing, Processors::getPodProcessing)
+          .map(this::createPodListStep).orElse(null);
   }
 
-  private Step createPodListStep(List<Consumer<V1PodList>> processing) {
-    return createSubResourceCallBuilder().listPodAsync(namespace, new ListResponseStep<>(processing));
+  private Step createPodListStep(ListProcessing<V1PodList, V1Pod> processing) {
+    return processing.streamItems(createSubResourceCallBuilder())
+          .listPodAsync(namespace, new ListResponseStep<>(processing));
   }
 
   private CallBuilder createSubResourceCallBuilder() {
@@ -193,30 +222,37 @@ class NamespacedResources {
   }
 
   private Step getServiceListSteps() {
-    return getListProcessing(Processors::getServiceListProcessing).map(this::createServiceListStep).orElse(null);
+    return getListProcessing(Processors::getServiceListProcessing, Processors::getServiceProcessing)
+          .map(this::createServiceListStep).orElse(null);
   }
 
-  private Step createServiceListStep(List<Consumer<V1ServiceList>> processing) {
-    return createSubResourceCallBuilder().listServiceAsync(namespace, new ListResponseStep<>(processing));
+  private Step createServiceListStep(ListProcessing<V1ServiceList, V1Service> processing) {
+    return processing.streamItems(createSubResourceCallBuilder())
+          .listServiceAsync(namespace, new ListResponseStep<>(processing));
   }
 
   private Step getDomainListSteps() {
     return getListProcessing(Processors::getDomainListProcessing).map(this::createDomainListSteps).orElse(null);
   }
 
-  private Step createDomainListSteps(List<Consumer<DomainList>> processing) {
+  private Step createDomainListSteps(ListProcessing<DomainList, ?> processing) {
     return new CallBuilder().listDomainAsync(namespace, new ListResponseStep<>(processing));
   }
 
   private <L extends KubernetesListObject>
-        Optional<List<Consumer<L>>> getListProcessing(Function<Processors, Consumer<L>> method) {
-    return nullIfEmpty(processors.stream().map(method).filter(Objects::nonNull).collect(Collectors.toList()));
+        Optional<ListProcessing<L, Object>> getListProcessing(Function<Processors, Consumer<L>> listMethod) {
+    return getListProcessing(listMethod, p -> null);
   }
 
-  private <T> Optional<List<T>> nullIfEmpty(@Nonnull List<T> list) {
-    return list.isEmpty() ? Optional.empty() : Optional.of(list);
+  private <L extends KubernetesListObject, I> Optional<ListProcessing<L, I>> getListProcessing(
+        Function<Processors, Consumer<L>> listMethod, Function<Processors, Consumer<I>> itemMethod) {
+    return Optional.of(new ListProcessing<>(getProcessing(listMethod), getProcessing(itemMethod)))
+          .filter(ListProcessing::isNeeded);
   }
 
+  private <T> List<Consumer<T>> getProcessing(Function<Processors, Consumer<T>> method) {
+    return processors.stream().map(method).filter(Objects::nonNull).collect(Collectors.toList());
+  }
 
   class CompletionStep extends Step {
     @Override
@@ -226,16 +262,54 @@ class NamespacedResources {
     }
   }
 
+  /**
+   * The processing to be performed on the pages of a list, and on each of their items.
+   * @param <L> the type of the list
+   * @param <I> the type of the items in the list
+   */
+  private static class ListProcessing<L extends KubernetesListObject, I> {
+    private final List<Consumer<L>> listProcessing;
+    private final List<Consumer<I>> itemProcessing;
+
+    ListProcessing(List<Consumer<L>> listProcessing, List<Consumer<I>> itemProcessing) {
+      this.listProcessing = listProcessing;
+      this.itemProcessing = itemProcessing;
+    }
+
+    boolean isNeeded() {
+      return !listProcessing.isEmpty() || !itemProcessing.isEmpty();
+    }
+
+    // When streaming, the call hands each item to the processing as it is decoded, and the page has no items.
+    CallBuilder streamItems(CallBuilder callBuilder) {
+      return StreamingListDecoder.isEnabled() && !itemProcessing.isEmpty()
+            ? callBuilder.withItemConsumer(this::processItem)
+            : callBuilder;
+    }
+
+    void processItem(I item) {
+      itemProcessing.forEach(p -> p.accept(item));
+    }
+
+    @SuppressWarnings("unchecked")
+    void processPage(L page) {
+      if (!itemProcessing.isEmpty()) {
+        Optional.ofNullable(page.getItems()).ifPresent(items -> items.forEach(item -> processItem((I) item)));
+      }
+      listProcessing.forEach(p -> p.accept(page));
+    }
+  }
+
   private static class ListResponseStep<L extends KubernetesListObject> extends DefaultResponseStep<L> {
-    private final List<Consumer<L>> processors;
+    private final ListProcessing<L, ?> processing;
 
-    ListResponseStep(List<Consumer<L>> processors) {
-      this.processors = processors;
+    ListResponseStep(ListProcessing<L, ?> processing) {
+      this.processing = processing;
     }
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<L> callResponse) {
-      processors.forEach(p -> p.accept(callResponse.getResult()));
+      processing.processPage(callResponse.getResult());
       return doContinueListOrNext(callResponse, packet);
     }
   }
@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.CoreV1Event;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -60,7 +61,34 @@ public class OperatorEventWatcher extends Watcher<CoreV1Event> {
 
   @Override
   public Watchable<CoreV1Event> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
-    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).createEventWatch(ns);
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).listEvents(ns);
+  }
+
+  // The operator identifies the events it has seen by their involved object, reason and message.
+  @Override
+  CoreV1Event toDeletionRecord(CoreV1Event event) {
+    return new CoreV1Event()
+          .metadata(toDeletionMetadata(event.getMetadata()))
+          .involvedObject(event.getInvolvedObject())
+          .reason(event.getReason())
+          .message(event.getMessage());
+  }
+
+  /**
+   * Starts a watch of the events created by the operator.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<CoreV1Event> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
+    return watchBuilder.withLabelSelector(OPERATOR_EVENT_LABEL_FILTER).createEventWatch(namespace);
   }
 
   @Override
@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import io.kubernetes.client.util.Watch.Response;
@@ -58,9 +59,34 @@ public class PodDisruptionBudgetWatcher extends Watcher<V1beta1PodDisruptionBudg
 
   @Override
   public Watchable<V1beta1PodDisruptionBudget> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listPodDisruptionBudgets(ns);
+  }
+
+  @Override
+  V1beta1PodDisruptionBudget toDeletionRecord(V1beta1PodDisruptionBudget pdb) {
+    return new V1beta1PodDisruptionBudget().metadata(toDeletionMetadata(pdb.getMetadata()));
+  }
+
+  /**
+   * Starts a watch of the pod disruption budgets created by the operator for domains.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<V1beta1PodDisruptionBudget> createWatch(WatchBuilder watchBuilder, String namespace)
+        throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createPodDisruptionBudgetWatch(ns);
+        .createPodDisruptionBudgetWatch(namespace);
   }
 
   @Override
@@ -15,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -127,6 +128,42 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
 
   @Override
   public Watchable<V1Pod> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, namespace);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listPods(namespace);
+  }
+
+  @Override
+  V1Pod toDeletionRecord(V1Pod pod) {
+    return new V1Pod().metadata(toDeletionMetadata(pod.getMetadata()));
+  }
+
+  // A burst of changes to one resource need only be reported once. Pod readiness is reported through the same
+  // events, so a step waiting for a pod to become ready resumes up to one compaction window later.
+  @Override
+  boolean mayCompactEvents() {
+    return true;
+  }
+
+  @Override
+  ResourceCache<V1Pod> getResourceCache() {
+    return ResourceCache.getPods();
+  }
+
+  /**
+   * Starts a watch of the pods created by the operator for domains.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<V1Pod> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
         .createPodWatch(namespace);
@@ -224,6 +261,11 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
       return new CallBuilder().readPodAsync(name, namespace, domainUid, responseStep);
     }
 
+    @Override
+    ResourceCache<V1Pod> getResourceCache() {
+      return ResourceCache.getPods();
+    }
+
     protected DefaultResponseStep<V1Pod> resumeIfReady(Callback callback) {
       return new DefaultResponseStep<>(getNext()) {
         @Override
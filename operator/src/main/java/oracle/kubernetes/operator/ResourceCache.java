@@ -0,0 +1,385 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.calls.AsyncRequestStep;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+
+/**
+ * An in-memory copy of the resources of one type which the operator watches, kept up to date from the watch
+ * events, and indexed by namespace and name, and by the domain UID, server name and cluster name labels of each
+ * resource. A step which would otherwise read a resource from Kubernetes may use the copy instead, as long as
+ * the copy is at least as new as the version of the resource which the step already has.
+ *
+ * <p>The cache of a namespace is complete once the operator has listed the resources of that namespace and
+ * started watching them; before then, only the presence of a resource in the cache means anything.
+ *
+ * <p>This is enabled by the "ResourceCache" feature gate. When it is disabled, the caches are empty.
+ *
+ * @param <T> the type of resource cached
+ */
+public class ResourceCache<T> {
+
+  public static final String FEATURE_GATE = "ResourceCache";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static ResourceCache<V1Pod> pods = new ResourceCache<>("Pod", V1Pod::getMetadata);
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static ResourceCache<V1Service> services = new ResourceCache<>("Service", V1Service::getMetadata);
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static ResourceCache<V1Job> jobs = new ResourceCache<>("Job", V1Job::getMetadata);
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static ResourceCache<V1ConfigMap> configMaps = new ResourceCache<>("ConfigMap", V1ConfigMap::getMetadata);
+
+  private final String kind;
+  private final Function<T, V1ObjectMeta> getMetadata;
+  private final Map<String, NamespaceResources> namespaces = new ConcurrentHashMap<>();
+
+  ResourceCache(String kind, Function<T, V1ObjectMeta> getMetadata) {
+    this.kind = kind;
+    this.getMetadata = getMetadata;
+  }
+
+  /**
+   * Returns true if the operator should keep copies of the resources it watches.
+   *
+   * @return true if the feature gate is enabled
+   */
+  public static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(FEATURE_GATE))
+          .orElse(false);
+  }
+
+  public static ResourceCache<V1Pod> getPods() {
+    return pods;
+  }
+
+  public static ResourceCache<V1Service> getServices() {
+    return services;
+  }
+
+  public static ResourceCache<V1Job> getJobs() {
+    return jobs;
+  }
+
+  public static ResourceCache<V1ConfigMap> getConfigMaps() {
+    return configMaps;
+  }
+
+  private static List<ResourceCache<?>> getAllCaches() {
+    return List.of(pods, services, jobs, configMaps);
+  }
+
+  /**
+   * Records that the caches of the specified namespace hold every resource which the operator watches there.
+   *
+   * @param namespace the namespace
+   */
+  static void markComplete(String namespace) {
+    if (isEnabled()) {
+      getAllCaches().forEach(cache -> cache.getNamespaceResources(namespace).complete = true);
+    }
+  }
+
+  /**
+   * Discards the cached resources of a namespace which the operator no longer manages.
+   *
+   * @param namespace the namespace
+   */
+  static void removeNamespace(String namespace) {
+    getAllCaches().forEach(cache -> cache.namespaces.remove(namespace));
+  }
+
+  /**
+   * Records the latest known state of a resource, unless the cache already holds a newer version of it.
+   *
+   * @param resource the resource
+   */
+  void update(T resource) {
+    final V1ObjectMeta metadata = getMetadata.apply(resource);
+    if (isEnabled() && metadata != null && metadata.getNamespace() != null) {
+      getNamespaceResources(metadata.getNamespace()).update(metadata, resource);
+    }
+  }
+
+  /**
+   * Removes a deleted resource, unless the cache holds a version of it newer than the deletion.
+   *
+   * @param resource the last state of the deleted resource
+   */
+  void remove(T resource) {
+    Optional.ofNullable(getMetadata.apply(resource))
+          .filter(metadata -> metadata.getNamespace() != null)
+          .ifPresent(metadata -> getExistingNamespaceResources(metadata.getNamespace())
+                .ifPresent(resources -> resources.remove(metadata)));
+  }
+
+  private NamespaceResources getNamespaceResources(String namespace) {
+    return namespaces.computeIfAbsent(namespace, n -> new NamespaceResources());
+  }
+
+  private Optional<NamespaceResources> getExistingNamespaceResources(String namespace) {
+    return Optional.ofNullable(namespace).filter(n -> isEnabled()).map(namespaces::get);
+  }
+
+  /**
+   * Returns true if the cache of the specified namespace holds every resource of this type which the operator
+   * watches there, so that the absence of a resource from the cache means that it does not exist.
+   *
+   * @param namespace the namespace
+   * @return true if the cache is complete
+   */
+  public boolean isComplete(String namespace) {
+    return getExistingNamespaceResources(namespace).map(r -> r.complete).orElse(false);
+  }
+
+  /**
+   * Returns the cached copy of a resource.
+   *
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @return the resource, or empty if it is not cached
+   */
+  public Optional<T> get(String namespace, String name) {
+    return getExistingNamespaceResources(namespace).map(r -> r.get(name));
+  }
+
+  /**
+   * Returns the cached copy of a resource, if it is at least as new as the specified version of that resource.
+   *
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param knownVersion the version of the resource already known, or null if none is known
+   * @return the resource, or empty if it is not cached or is out of date
+   */
+  public Optional<T> getIfCurrent(String namespace, String name, T knownVersion) {
+    return get(namespace, name).filter(cached -> !isOlder(cached, knownVersion));
+  }
+
+  private boolean isOlder(T cached, T knownVersion) {
+    return knownVersion != null
+          && getResourceVersion(getMetadata.apply(cached)).compareTo(
+                getResourceVersion(getMetadata.apply(knownVersion))) < 0;
+  }
+
+  /**
+   * Returns the cached resources of a namespace.
+   *
+   * @param namespace the namespace
+   * @return the resources, in no particular order
+   */
+  public List<T> getAll(String namespace) {
+    return getExistingNamespaceResources(namespace).map(NamespaceResources::getAll).orElse(List.of());
+  }
+
+  /**
+   * Returns the cached resources of a namespace which belong to a domain.
+   *
+   * @param namespace the namespace
+   * @param domainUid the UID of the domain
+   * @return the resources, in no particular order
+   */
+  public List<T> getByDomainUid(String namespace, String domainUid) {
+    return getIndexed(namespace, r -> r.byDomainUid, domainUid);
+  }
+
+  /**
+   * Returns the cached resources of a namespace which belong to a WebLogic server.
+   *
+   * @param namespace the namespace
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the server
+   * @return the resources, in no particular order
+   */
+  public List<T> getByServerName(String namespace, String domainUid, String serverName) {
+    return getIndexed(namespace, r -> r.byServerName, toIndexKey(domainUid, serverName));
+  }
+
+  /**
+   * Returns the cached resources of a namespace which belong to a WebLogic cluster.
+   *
+   * @param namespace the namespace
+   * @param domainUid the UID of the domain
+   * @param clusterName the name of the cluster
+   * @return the resources, in no particular order
+   */
+  public List<T> getByClusterName(String namespace, String domainUid, String clusterName) {
+    return getIndexed(namespace, r -> r.byClusterName, toIndexKey(domainUid, clusterName));
+  }
+
+  private List<T> getIndexed(String namespace, Function<NamespaceResources, Map<String, Set<String>>> index,
+                             String key) {
+    return getExistingNamespaceResources(namespace).map(r -> r.getIndexed(index.apply(r), key)).orElse(List.of());
+  }
+
+  private static String toIndexKey(String domainUid, String name) {
+    return domainUid + "/" + name;
+  }
+
+  private static BigInteger getResourceVersion(V1ObjectMeta metadata) {
+    return KubernetesUtils.getResourceVersion(metadata);
+  }
+
+  /**
+   * Creates a step which hands the cached copy of a resource to a response step, as though it had been read from
+   * Kubernetes. If, when the step runs, the cache holds no copy at least as new as the specified version of the
+   * resource, it runs the specified read step instead.
+   *
+   * @param namespace the namespace of the resource
+   * @param name the name of the resource
+   * @param knownVersion the version of the resource already known, or null if none is known
+   * @param responseStep the step to which to hand the resource
+   * @param readStep the step which reads the resource from Kubernetes
+   * @return the created step
+   */
+  public Step createReadStep(String namespace, String name, T knownVersion,
+                             ResponseStep<T> responseStep, Step readStep) {
+    return new ReadFromCacheStep(namespace, name, knownVersion, responseStep, readStep);
+  }
+
+  private class ReadFromCacheStep extends Step {
+    private final String namespace;
+    private final String name;
+    private final T knownVersion;
+    private final ResponseStep<T> responseStep;
+    private final Step readStep;
+
+    ReadFromCacheStep(String namespace, String name, T knownVersion, ResponseStep<T> responseStep, Step readStep) {
+      this.namespace = namespace;
+      this.name = name;
+      this.knownVersion = knownVersion;
+      this.responseStep = responseStep;
+      this.readStep = readStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return getIfCurrent(namespace, name, knownVersion)
+            .map(resource -> respondWith(packet, resource))
+            .orElseGet(() -> doNext(readStep, packet));
+    }
+
+    private NextAction respondWith(Packet packet, T resource) {
+      final RequestParams requestParams = new RequestParams("read" + kind, namespace, name, null, (String) null);
+      packet.getComponents().put(AsyncRequestStep.RESPONSE_COMPONENT_NAME,
+            Component.createFor(CallResponse.createSuccess(requestParams, resource, HTTP_OK)));
+      return doNext(responseStep, packet);
+    }
+  }
+
+  // The resources of one namespace, by name, with indexes from label values to names.
+  private class NamespaceResources {
+    private final Map<String, T> byName = new HashMap<>();
+    private final Map<String, Set<String>> byDomainUid = new HashMap<>();
+    private final Map<String, Set<String>> byServerName = new HashMap<>();
+    private final Map<String, Set<String>> byClusterName = new HashMap<>();
+    private volatile boolean complete;
+
+    synchronized void update(V1ObjectMeta metadata, T resource) {
+      final T cached = byName.get(metadata.getName());
+      if (cached == null || !isOlder(resource, cached)) {
+        Optional.ofNullable(cached).ifPresent(this::removeFromIndexes);
+        byName.put(metadata.getName(), resource);
+        addToIndexes(metadata);
+      }
+    }
+
+    synchronized void remove(V1ObjectMeta metadata) {
+      final T cached = byName.get(metadata.getName());
+      if (cached != null && !isNewer(cached, metadata)) {
+        byName.remove(metadata.getName());
+        removeFromIndexes(cached);
+      }
+    }
+
+    private boolean isNewer(T cached, V1ObjectMeta deleted) {
+      return getResourceVersion(getMetadata.apply(cached)).compareTo(getResourceVersion(deleted)) > 0;
+    }
+
+    synchronized T get(String name) {
+      return byName.get(name);
+    }
+
+    synchronized List<T> getAll() {
+      return new ArrayList<>(byName.values());
+    }
+
+    synchronized List<T> getIndexed(Map<String, Set<String>> index, String key) {
+      final List<T> result = new ArrayList<>();
+      Optional.ofNullable(index.get(key)).ifPresent(names -> names.forEach(name -> result.add(byName.get(name))));
+      return result;
+    }
+
+    private void addToIndexes(V1ObjectMeta metadata) {
+      getDomainUid(metadata).ifPresent(uid -> {
+        addToIndex(byDomainUid, uid, metadata.getName());
+        getLabel(metadata, SERVERNAME_LABEL)
+              .ifPresent(server -> addToIndex(byServerName, toIndexKey(uid, server), metadata.getName()));
+        getLabel(metadata, CLUSTERNAME_LABEL)
+              .ifPresent(cluster -> addToIndex(byClusterName, toIndexKey(uid, cluster), metadata.getName()));
+      });
+    }
+
+    private void removeFromIndexes(T resource) {
+      final V1ObjectMeta metadata = getMetadata.apply(resource);
+      getDomainUid(metadata).ifPresent(uid -> {
+        removeFromIndex(byDomainUid, uid, metadata.getName());
+        getLabel(metadata, SERVERNAME_LABEL)
+              .ifPresent(server -> removeFromIndex(byServerName, toIndexKey(uid, server), metadata.getName()));
+        getLabel(metadata, CLUSTERNAME_LABEL)
+              .ifPresent(cluster -> removeFromIndex(byClusterName, toIndexKey(uid, cluster), metadata.getName()));
+      });
+    }
+
+    private Optional<String> getDomainUid(V1ObjectMeta metadata) {
+      return getLabel(metadata, DOMAINUID_LABEL);
+    }
+
+    private Optional<String> getLabel(V1ObjectMeta metadata, String label) {
+      return Optional.ofNullable(metadata.getLabels()).map(labels -> labels.get(label));
+    }
+
+    private void addToIndex(Map<String, Set<String>> index, String key, String name) {
+      index.computeIfAbsent(key, k -> new HashSet<>()).add(name);
+    }
+
+    private void removeFromIndex(Map<String, Set<String>> index, String key, String name) {
+      final Collection<String> names = index.get(key);
+      if (names != null && names.remove(name) && names.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+}
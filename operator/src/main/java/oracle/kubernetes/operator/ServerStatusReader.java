@@ -112,10 +112,17 @@ public class ServerStatusReader {
         return doNext(packet);
       } else {
         remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, getMaxConcurrency());
       }
     }
 
+    private int getMaxConcurrency() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(tuning -> tuning.serverStatusReadMaxConcurrency)
+          .orElse(0);
+    }
+
     private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod) {
       return new StepAndPacket(
           createServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds),
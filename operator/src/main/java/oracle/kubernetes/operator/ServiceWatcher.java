@@ -7,8 +7,10 @@ import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import io.kubernetes.client.util.Watch.Response;
 import io.kubernetes.client.util.Watchable;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
@@ -58,9 +60,47 @@ public class ServiceWatcher extends Watcher<V1Service> {
 
   @Override
   public Watchable<V1Service> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return createWatch(watchBuilder, ns);
+  }
+
+  @Override
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
+        .listServices(ns);
+  }
+
+  // A service without a service type label is classified by whether it uses a node port.
+  @Override
+  V1Service toDeletionRecord(V1Service service) {
+    return new V1Service()
+          .metadata(toDeletionMetadata(service.getMetadata()))
+          .spec(Optional.ofNullable(service.getSpec()).map(s -> new V1ServiceSpec().type(s.getType())).orElse(null));
+  }
+
+  // A burst of changes to one resource need only be reported once.
+  @Override
+  boolean mayCompactEvents() {
+    return true;
+  }
+
+  @Override
+  ResourceCache<V1Service> getResourceCache() {
+    return ResourceCache.getServices();
+  }
+
+  /**
+   * Starts a watch of the services created by the operator for domains.
+   *
+   * @param watchBuilder the watch builder
+   * @param namespace the namespace to watch, or null to watch all namespaces
+   * @return the watch
+   * @throws ApiException if the watch cannot be started
+   */
+  static Watchable<V1Service> createWatch(WatchBuilder watchBuilder, String namespace) throws ApiException {
     return watchBuilder
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, LabelConstants.CREATEDBYOPERATOR_LABEL)
-        .createServiceWatch(ns);
+        .createServiceWatch(namespace);
   }
 
   @Override
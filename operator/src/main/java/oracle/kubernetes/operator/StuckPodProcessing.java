@@ -7,8 +7,11 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -36,17 +39,33 @@ import static oracle.kubernetes.operator.logging.MessageKeys.POD_FORCE_DELETED;
 public class StuckPodProcessing {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // The cache is only as complete as the watch which fills it, so the pods are still listed now and then.
+  static final int CHECKS_PER_LIST = 10;
+
   private final MainDelegate mainDelegate;
+  private final Map<String, AtomicInteger> cachedChecks = new ConcurrentHashMap<>();
 
   public StuckPodProcessing(MainDelegate mainDelegate) {
     this.mainDelegate = mainDelegate;
   }
 
   void checkStuckPods(String namespace) {
-    Step step = new CallBuilder()
-          .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
-          .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
-    mainDelegate.runSteps(Main.createPacketWithLoggingContext(namespace), step, null);
+    mainDelegate.runSteps(Main.createPacketWithLoggingContext(namespace), createFindStuckPodsStep(namespace), null);
+  }
+
+  // Once the pods of the namespace are cached, they need only be listed on every few checks.
+  private Step createFindStuckPodsStep(String namespace) {
+    if (ResourceCache.getPods().isComplete(namespace) && !isListDue(namespace)) {
+      return new CachedPodProcessing(namespace, SystemClock.now());
+    } else {
+      return new CallBuilder()
+            .withLabelSelectors(LabelConstants.getCreatedByOperatorSelector())
+            .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
+    }
+  }
+
+  private boolean isListDue(String namespace) {
+    return cachedChecks.computeIfAbsent(namespace, n -> new AtomicInteger()).incrementAndGet() % CHECKS_PER_LIST == 0;
   }
 
   @SuppressWarnings("unchecked")
@@ -54,6 +73,28 @@ public class StuckPodProcessing {
     return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
   }
 
+  private void addStuckPodsToPacket(Packet packet, List<V1Pod> pods, OffsetDateTime now) {
+    pods.stream()
+          .filter(pod -> isStuck(pod, now))
+          .forEach(pod -> getStuckPodList(packet).add(pod));
+  }
+
+  private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
+    return getExpectedDeleteTime(pod).isBefore(now);
+  }
+
+  private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+  }
+
   class PodListProcessing extends DefaultResponseStep<V1PodList> {
 
     private final OffsetDateTime now;
@@ -65,31 +106,28 @@ public class StuckPodProcessing {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
+      addStuckPodsToPacket(packet, callResponse.getResult().getItems(), now);
       
       return doContinueListOrNext(callResponse, packet);
     }
+  }
 
-    private boolean isStuck(V1Pod pod, OffsetDateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
-    }
+  class CachedPodProcessing extends Step {
 
-    private OffsetDateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
-    }
+    private final String namespace;
+    private final OffsetDateTime now;
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    CachedPodProcessing(String namespace, OffsetDateTime dateTime) {
+      super(new PodActionsStep(namespace));
+      this.namespace = namespace;
+      now = dateTime;
     }
 
-    private OffsetDateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
-    }
+    @Override
+    public NextAction apply(Packet packet) {
+      addStuckPodsToPacket(packet, ResourceCache.getPods().getAll(namespace), now);
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
+      return doNext(packet);
     }
   }
 
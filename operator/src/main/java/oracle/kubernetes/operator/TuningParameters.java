@@ -47,6 +47,23 @@ public interface TuningParameters extends Map<String, String> {
     public final long initialShortDelay;
     public final long eventualLongDelay;
     public final int weblogicCredentialsSecretRereadIntervalSeconds;
+    public final String engineThreadMode;
+    public final int makeRightCoalescingWindowMillis;
+    public final int makeRightCoalescingMaxDelaySeconds;
+    public final int serverStatusReadMaxConcurrency;
+    public final int clusterServiceCreationMaxConcurrency;
+    public final int exporterConfigurationMaxConcurrency;
+    public final int fiberTimerTickMillis;
+    public final int engineShardCount;
+    public final int fiberBreadCrumbCapacity;
+    public final int stuckFiberThresholdSeconds;
+    public final int stuckFiberLogCount;
+    public final int httpMaxRequests;
+    public final int httpMaxRequestsPerHost;
+    public final int apiRequestMaxConcurrency;
+    public final int circuitBreakerFailureRatePercent;
+    public final int restWorkerThreads;
+    public final int restRequestQueueSize;
 
     /**
      * create main tuning.
@@ -61,6 +78,37 @@ public interface TuningParameters extends Map<String, String> {
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
      * @param weblogicCredentialsSecretRereadIntervalSeconds credentials secret reread interval
+     * @param engineThreadMode the kind of threads on which the fiber engine runs
+     * @param makeRightCoalescingWindowMillis window in which make-right requests for a domain are coalesced,
+     *                                        or zero to cancel the running make-right instead
+     * @param makeRightCoalescingMaxDelaySeconds maximum wait for a running make-right before a coalesced one
+     *                                           cancels it
+     * @param serverStatusReadMaxConcurrency maximum number of server status reads run at once, or zero for no limit
+     * @param clusterServiceCreationMaxConcurrency maximum number of clusters whose services are created at once,
+     *                                             or zero for no limit
+     * @param exporterConfigurationMaxConcurrency maximum number of servers whose monitoring exporters are
+     *                                            configured at once, or zero for no limit
+     * @param fiberTimerTickMillis resolution of the timing wheel used for fiber timers, or zero to schedule
+     *                             them on the engine's executor
+     * @param engineShardCount number of engine shards across which namespaces are spread, or zero to run all
+     *                         namespaces on one engine
+     * @param fiberBreadCrumbCapacity number of recent actions each fiber keeps for diagnostics, or zero to disable
+     *                                bread crumbs
+     * @param stuckFiberThresholdSeconds time after which a suspended fiber is reported as stuck, or zero to disable
+     *                                   the stuck-fiber watchdog
+     * @param stuckFiberLogCount number of longest-stuck fibers whose bread crumbs the watchdog logs
+     * @param httpMaxRequests maximum number of Kubernetes API calls which the operator runs concurrently
+     * @param httpMaxRequestsPerHost maximum number of Kubernetes API calls which the operator runs concurrently
+     *                               against one host. Since the operator calls a single API server, this defaults
+     *                               to httpMaxRequests.
+     * @param apiRequestMaxConcurrency maximum number of Kubernetes API calls, synchronous or asynchronous, which the
+     *                                 client-side rate limiter lets the operator have in flight at once
+     * @param circuitBreakerFailureRatePercent percentage of recent failed calls of one kind at which the operator
+     *                                         stops making such calls for a while, or zero to disable the circuit
+     *                                         breakers
+     * @param restWorkerThreads maximum number of REST requests which change domains that run at once
+     * @param restRequestQueueSize maximum number of such REST requests waiting to run, beyond which they are
+     *                             rejected
      */
     public MainTuning(
           int initializationRetryDelaySeconds,
@@ -73,7 +121,24 @@ public interface TuningParameters extends Map<String, String> {
           int stuckPodRecheckSeconds,
           long initialShortDelay,
           long eventualLongDelay,
-          int weblogicCredentialsSecretRereadIntervalSeconds) {
+          int weblogicCredentialsSecretRereadIntervalSeconds,
+          String engineThreadMode,
+          int makeRightCoalescingWindowMillis,
+          int makeRightCoalescingMaxDelaySeconds,
+          int serverStatusReadMaxConcurrency,
+          int clusterServiceCreationMaxConcurrency,
+          int exporterConfigurationMaxConcurrency,
+          int fiberTimerTickMillis,
+          int engineShardCount,
+          int fiberBreadCrumbCapacity,
+          int stuckFiberThresholdSeconds,
+          int stuckFiberLogCount,
+          int httpMaxRequests,
+          int httpMaxRequestsPerHost,
+          int apiRequestMaxConcurrency,
+          int circuitBreakerFailureRatePercent,
+          int restWorkerThreads,
+          int restRequestQueueSize) {
       this.initializationRetryDelaySeconds = initializationRetryDelaySeconds;
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
@@ -85,6 +150,23 @@ public interface TuningParameters extends Map<String, String> {
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
       this.weblogicCredentialsSecretRereadIntervalSeconds = weblogicCredentialsSecretRereadIntervalSeconds;
+      this.engineThreadMode = engineThreadMode;
+      this.makeRightCoalescingWindowMillis = makeRightCoalescingWindowMillis;
+      this.makeRightCoalescingMaxDelaySeconds = makeRightCoalescingMaxDelaySeconds;
+      this.serverStatusReadMaxConcurrency = serverStatusReadMaxConcurrency;
+      this.clusterServiceCreationMaxConcurrency = clusterServiceCreationMaxConcurrency;
+      this.exporterConfigurationMaxConcurrency = exporterConfigurationMaxConcurrency;
+      this.fiberTimerTickMillis = fiberTimerTickMillis;
+      this.engineShardCount = engineShardCount;
+      this.fiberBreadCrumbCapacity = fiberBreadCrumbCapacity;
+      this.stuckFiberThresholdSeconds = stuckFiberThresholdSeconds;
+      this.stuckFiberLogCount = stuckFiberLogCount;
+      this.httpMaxRequests = httpMaxRequests;
+      this.httpMaxRequestsPerHost = httpMaxRequestsPerHost;
+      this.apiRequestMaxConcurrency = apiRequestMaxConcurrency;
+      this.circuitBreakerFailureRatePercent = circuitBreakerFailureRatePercent;
+      this.restWorkerThreads = restWorkerThreads;
+      this.restRequestQueueSize = restRequestQueueSize;
     }
 
     @Override
@@ -99,6 +181,23 @@ public interface TuningParameters extends Map<String, String> {
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
           .append("weblogicCredentialsSecretRereadIntervalSeconds", weblogicCredentialsSecretRereadIntervalSeconds)
+          .append("engineThreadMode", engineThreadMode)
+          .append("makeRightCoalescingWindowMillis", makeRightCoalescingWindowMillis)
+          .append("makeRightCoalescingMaxDelaySeconds", makeRightCoalescingMaxDelaySeconds)
+          .append("serverStatusReadMaxConcurrency", serverStatusReadMaxConcurrency)
+          .append("clusterServiceCreationMaxConcurrency", clusterServiceCreationMaxConcurrency)
+          .append("exporterConfigurationMaxConcurrency", exporterConfigurationMaxConcurrency)
+          .append("fiberTimerTickMillis", fiberTimerTickMillis)
+          .append("engineShardCount", engineShardCount)
+          .append("fiberBreadCrumbCapacity", fiberBreadCrumbCapacity)
+          .append("stuckFiberThresholdSeconds", stuckFiberThresholdSeconds)
+          .append("stuckFiberLogCount", stuckFiberLogCount)
+          .append("httpMaxRequests", httpMaxRequests)
+          .append("httpMaxRequestsPerHost", httpMaxRequestsPerHost)
+          .append("apiRequestMaxConcurrency", apiRequestMaxConcurrency)
+          .append("circuitBreakerFailureRatePercent", circuitBreakerFailureRatePercent)
+          .append("restWorkerThreads", restWorkerThreads)
+          .append("restRequestQueueSize", restRequestQueueSize)
           .toString();
     }
 
@@ -114,6 +213,23 @@ public interface TuningParameters extends Map<String, String> {
           .append(initialShortDelay)
           .append(eventualLongDelay)
           .append(weblogicCredentialsSecretRereadIntervalSeconds)
+          .append(engineThreadMode)
+          .append(makeRightCoalescingWindowMillis)
+          .append(makeRightCoalescingMaxDelaySeconds)
+          .append(serverStatusReadMaxConcurrency)
+          .append(clusterServiceCreationMaxConcurrency)
+          .append(exporterConfigurationMaxConcurrency)
+          .append(fiberTimerTickMillis)
+          .append(engineShardCount)
+          .append(fiberBreadCrumbCapacity)
+          .append(stuckFiberThresholdSeconds)
+          .append(stuckFiberLogCount)
+          .append(httpMaxRequests)
+          .append(httpMaxRequestsPerHost)
+          .append(apiRequestMaxConcurrency)
+          .append(circuitBreakerFailureRatePercent)
+          .append(restWorkerThreads)
+          .append(restRequestQueueSize)
           .toHashCode();
     }
 
@@ -136,6 +252,23 @@ public interface TuningParameters extends Map<String, String> {
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
           .append(weblogicCredentialsSecretRereadIntervalSeconds, mt.weblogicCredentialsSecretRereadIntervalSeconds)
+          .append(engineThreadMode, mt.engineThreadMode)
+          .append(makeRightCoalescingWindowMillis, mt.makeRightCoalescingWindowMillis)
+          .append(makeRightCoalescingMaxDelaySeconds, mt.makeRightCoalescingMaxDelaySeconds)
+          .append(serverStatusReadMaxConcurrency, mt.serverStatusReadMaxConcurrency)
+          .append(clusterServiceCreationMaxConcurrency, mt.clusterServiceCreationMaxConcurrency)
+          .append(exporterConfigurationMaxConcurrency, mt.exporterConfigurationMaxConcurrency)
+          .append(fiberTimerTickMillis, mt.fiberTimerTickMillis)
+          .append(engineShardCount, mt.engineShardCount)
+          .append(fiberBreadCrumbCapacity, mt.fiberBreadCrumbCapacity)
+          .append(stuckFiberThresholdSeconds, mt.stuckFiberThresholdSeconds)
+          .append(stuckFiberLogCount, mt.stuckFiberLogCount)
+          .append(httpMaxRequests, mt.httpMaxRequests)
+          .append(httpMaxRequestsPerHost, mt.httpMaxRequestsPerHost)
+          .append(apiRequestMaxConcurrency, mt.apiRequestMaxConcurrency)
+          .append(circuitBreakerFailureRatePercent, mt.circuitBreakerFailureRatePercent)
+          .append(restWorkerThreads, mt.restWorkerThreads)
+          .append(restRequestQueueSize, mt.restRequestQueueSize)
           .isEquals();
     }
   }
@@ -197,19 +330,28 @@ public interface TuningParameters extends Map<String, String> {
     public final int watchMinimumDelay;
     public final int watchBackstopRecheckDelay;
     public final int watchBackstopRecheckCount;
+    public final int watchEventCompactionMillis;
+    public final int watchEventDispatchThreads;
 
     /**
      * Create watch tuning.
      * @param watchLifetime Watch lifetime
      * @param watchMinimumDelay Minimum delay before accepting new events to prevent hot loops
      * @param watchBackstopRecheckDelay Recheck delay for get while waiting for a status to backstop missed watch events
+     * @param watchBackstopRecheckCount Number of rechecks before giving up on a status
+     * @param watchEventCompactionMillis Time for which to hold watch events for a resource, so that later events
+     *                                   may replace them, when watch event compaction is enabled
+     * @param watchEventDispatchThreads Number of threads which hand watch events to their listeners, or zero to
+     *                                  handle each event on the thread of the watcher which received it
      */
     public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay,
-                       int watchBackstopRecheckCount) {
+                       int watchBackstopRecheckCount, int watchEventCompactionMillis, int watchEventDispatchThreads) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
       this.watchBackstopRecheckDelay = watchBackstopRecheckDelay;
       this.watchBackstopRecheckCount = watchBackstopRecheckCount;
+      this.watchEventCompactionMillis = watchEventCompactionMillis;
+      this.watchEventDispatchThreads = watchEventDispatchThreads;
     }
 
     @Override
@@ -218,13 +360,16 @@ public interface TuningParameters extends Map<String, String> {
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
           .append("watchBackstopRecheckDelay", watchBackstopRecheckDelay)
+          .append("watchEventCompactionMillis", watchEventCompactionMillis)
+          .append("watchEventDispatchThreads", watchEventDispatchThreads)
           .toString();
     }
 
     @Override
     public int hashCode() {
       return new HashCodeBuilder()
-              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay).toHashCode();
+              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay)
+              .append(watchEventCompactionMillis).append(watchEventDispatchThreads).toHashCode();
     }
 
     @Override
@@ -240,6 +385,8 @@ public interface TuningParameters extends Map<String, String> {
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
           .append(watchBackstopRecheckDelay, wt.watchBackstopRecheckDelay)
+          .append(watchEventCompactionMillis, wt.watchEventCompactionMillis)
+          .append(watchEventDispatchThreads, wt.watchEventDispatchThreads)
           .isEquals();
     }
   }
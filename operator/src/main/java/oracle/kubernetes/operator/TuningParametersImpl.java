@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -20,6 +21,7 @@ import static oracle.kubernetes.operator.helpers.BasePodStepContext.KUBERNETES_P
 
 public class TuningParametersImpl extends ConfigMapConsumer implements TuningParameters {
   public static final int DEFAULT_CALL_LIMIT = 50;
+  public static final String DEFAULT_ENGINE_THREAD_MODE = "Platform";
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static TuningParameters INSTANCE = null;
@@ -54,6 +56,7 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   }
 
   private void update() {
+    final int httpMaxRequests = (int) readTuningParameter("httpMaxRequests", 64);
     MainTuning main =
         new MainTuning(
             (int) readTuningParameter("initializationRetryDelaySeconds", 5),
@@ -66,7 +69,24 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("stuckPodRecheckSeconds", 30),
             readTuningParameter("statusUpdateInitialShortDelay", 5),
             readTuningParameter("statusUpdateEventualLongDelay", 30),
-            (int) readTuningParameter("weblogicCredentialsSecretRereadIntervalSeconds", 120));
+            (int) readTuningParameter("weblogicCredentialsSecretRereadIntervalSeconds", 120),
+            Optional.ofNullable(get("engineThreadMode")).map(String::trim).orElse(DEFAULT_ENGINE_THREAD_MODE),
+            (int) readTuningParameter("makeRightCoalescingWindowMillis", 0),
+            (int) readTuningParameter("makeRightCoalescingMaxDelaySeconds", 60),
+            (int) readTuningParameter("serverStatusReadMaxConcurrency", 25),
+            (int) readTuningParameter("clusterServiceCreationMaxConcurrency", 10),
+            (int) readTuningParameter("exporterConfigurationMaxConcurrency", 10),
+            (int) readTuningParameter("fiberTimerTickMillis", 0),
+            (int) readTuningParameter("engineShardCount", 0),
+            (int) readTuningParameter("fiberBreadCrumbCapacity", 32),
+            (int) readTuningParameter("stuckFiberThresholdSeconds", 0),
+            (int) readTuningParameter("stuckFiberLogCount", 5),
+            httpMaxRequests,
+            (int) readTuningParameter("httpMaxRequestsPerHost", httpMaxRequests),
+            (int) readTuningParameter("apiRequestMaxConcurrency", httpMaxRequests),
+            (int) readTuningParameter("circuitBreakerFailureRatePercent", 50),
+            (int) readTuningParameter("restWorkerThreads", 8),
+            (int) readTuningParameter("restRequestQueueSize", 64));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
@@ -79,7 +99,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("watchLifetime", 300),
             (int) readTuningParameter("watchMinimumDelay", 5),
             (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5),
-            (int) readTuningParameter("watchBackstopRecheckCount", 60));
+            (int) readTuningParameter("watchBackstopRecheckCount", 60),
+            (int) readTuningParameter("watchEventCompactionMillis", 500),
+            (int) readTuningParameter("watchEventDispatchThreads", 0));
 
     PodTuning pod =
         new PodTuning(
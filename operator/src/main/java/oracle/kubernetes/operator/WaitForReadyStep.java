@@ -135,6 +135,14 @@ abstract class WaitForReadyStep<T> extends Step {
    */
   abstract Step createReadAsyncStep(String name, String namespace, String domainUid, ResponseStep<T> responseStep);
 
+  /**
+   * Returns the cache which holds copies of resources of this type. The default implementation returns null.
+   * @return the cache, or null if these resources are not cached
+   */
+  ResourceCache<T> getResourceCache() {
+    return null;
+  }
+
   /**
    * Updates the packet when the resource is declared ready. The default implementation does nothing.
    * @param packet the packet to update
@@ -206,12 +214,24 @@ abstract class WaitForReadyStep<T> extends Step {
 
   Step createReadAndIfReadyCheckStep(Callback callback) {
     if (initialResource != null) {
-      return createReadAsyncStep(getName(), getNamespace(), getDomainUid(), resumeIfReady(callback));
+      return createReadStep(getName(), getNamespace(), getDomainUid(), callback);
     } else {
-      return new ReadAndIfReadyCheckStep(getName(), resumeIfReady(callback), getNext());
+      return new ReadAndIfReadyCheckStep(getName(), callback, getNext());
     }
   }
 
+  // The first check may use a cached copy of the resource, since the cache is updated before any callback is made.
+  // Later checks are a backstop in case watch events have been missed, and so always read from Kubernetes.
+  @SuppressWarnings("unchecked")
+  private Step createReadStep(String name, String namespace, String domainUid, Callback callback) {
+    final ResponseStep<T> responseStep = resumeIfReady(callback);
+    final Step readStep = createReadAsyncStep(name, namespace, domainUid, responseStep);
+    return Optional.ofNullable(getResourceCache())
+          .filter(cache -> callback.getRecheckCount() == 0)
+          .map(cache -> cache.createReadStep(namespace, name, initialResource, responseStep, readStep))
+          .orElse(readStep);
+  }
+
   protected abstract ResponseStep resumeIfReady(Callback callback);
 
   private String getNamespace() {
@@ -229,19 +249,18 @@ abstract class WaitForReadyStep<T> extends Step {
 
   private class ReadAndIfReadyCheckStep extends Step {
     private final String resourceName;
-    private final ResponseStep responseStep;
+    private final Callback callback;
 
-    ReadAndIfReadyCheckStep(String resourceName, ResponseStep responseStep, Step next) {
+    ReadAndIfReadyCheckStep(String resourceName, Callback callback, Step next) {
       super(next);
       this.resourceName = resourceName;
-      this.responseStep = responseStep;
+      this.callback = callback;
     }
 
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      return doNext(createReadAsyncStep(resourceName, info.getNamespace(),
-              info.getDomainUid(), responseStep), packet);
+      return doNext(createReadStep(resourceName, info.getNamespace(), info.getDomainUid(), callback), packet);
     }
 
   }
@@ -0,0 +1,155 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+
+/**
+ * Holds the watch events for each resource briefly before handing them to a listener, so that a burst of changes
+ * to one resource, such as a pod whose readiness flaps, reaches the listener as a single event carrying the latest
+ * version of the resource. The events for each resource are handed over in the order received, except that:
+ * <ul>
+ *   <li>a MODIFIED event replaces a pending MODIFIED event for the same resource,</li>
+ *   <li>a MODIFIED event updates a pending ADDED event, which then carries the latest version, and</li>
+ *   <li>a DELETED event replaces any pending ADDED or MODIFIED events.</li>
+ * </ul>
+ * An ADDED event which follows a pending DELETED event, as when a pod is replaced, is queued after it, so that
+ * the listener sees both.
+ *
+ * <p>This is enabled by the "WatchEventCompaction" feature gate, for the watchers which allow it. The timer only
+ * hands the events over; the watcher passes them to a {@link WatchEventDispatcher}, so that its listener runs on a
+ * dispatch thread. Every event is delayed by up to the window, so a step waiting on a watched resource, such as a
+ * {@link WaitForReadyStep} waiting for a pod to become ready, resumes correspondingly later.
+ *
+ * @param <T> the type of resource watched
+ */
+class WatchEventCompactor<T> {
+
+  public static final String FEATURE_GATE = "WatchEventCompaction";
+
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String DELETED = "DELETED";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static Scheduler scheduler = WatchEventCompactor::scheduleOnTimer;
+  private static ScheduledExecutorService timer;
+
+  private final long windowMillis;
+  private final Consumer<Watch.Response<T>> listener;
+  private final Map<String, Deque<Watch.Response<T>>> pending = new HashMap<>();
+
+  /**
+   * Creates a compactor.
+   *
+   * @param windowMillis the time for which to hold the first pending event for a resource
+   * @param listener the listener to which to hand the events
+   */
+  WatchEventCompactor(long windowMillis, Consumer<Watch.Response<T>> listener) {
+    this.windowMillis = windowMillis;
+    this.listener = listener;
+  }
+
+  /**
+   * Returns true if watchers which allow it should compact their events.
+   *
+   * @return true if the feature gate is enabled
+   */
+  static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(FEATURE_GATE))
+          .orElse(false);
+  }
+
+  private static synchronized void scheduleOnTimer(Runnable command, long delayMillis) {
+    if (timer == null) {
+      timer = Executors.newSingleThreadScheduledExecutor(ThreadFactorySingleton.getInstance());
+    }
+    timer.schedule(command, delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Adds an event to those pending for its resource. The first pending event for a resource schedules the
+   * hand-over of all of them at the end of the window.
+   *
+   * @param item the event
+   */
+  void add(Watch.Response<T> item) {
+    final String key = getKey(item.object);
+    if (key == null) {
+      listener.accept(item);
+      return;
+    }
+
+    final boolean isFirst;
+    synchronized (pending) {
+      isFirst = !pending.containsKey(key);
+      compact(pending.computeIfAbsent(key, k -> new ArrayDeque<>()), item);
+    }
+    if (isFirst) {
+      scheduler.schedule(() -> flush(key), windowMillis);
+    }
+  }
+
+  private String getKey(T resource) {
+    return Watcher.getMetadata(resource)
+          .filter(metadata -> metadata.getName() != null)
+          .map(metadata -> metadata.getNamespace() + "/" + metadata.getName())
+          .orElse(null);
+  }
+
+  private void compact(Deque<Watch.Response<T>> events, Watch.Response<T> item) {
+    if (DELETED.equals(item.type)) {
+      while (isUpdate(events.peekLast())) {
+        events.removeLast();
+      }
+      events.addLast(item);
+    } else if (MODIFIED.equals(item.type) && isUpdate(events.peekLast())) {
+      events.addLast(new Watch.Response<>(events.removeLast().type, item.object));
+    } else {
+      events.addLast(item);
+    }
+  }
+
+  private boolean isUpdate(Watch.Response<T> item) {
+    return item != null && (ADDED.equals(item.type) || MODIFIED.equals(item.type));
+  }
+
+  // Hands over the pending events of a resource. Events which arrive meanwhile start a new window.
+  private void flush(String key) {
+    final Deque<Watch.Response<T>> events;
+    synchronized (pending) {
+      events = pending.remove(key);
+    }
+    Optional.ofNullable(events).ifPresent(e -> e.forEach(listener));
+  }
+
+  /**
+   * Returns the number of events waiting to be handed to the listener.
+   *
+   * @return the number of pending events
+   */
+  int getPendingCount() {
+    synchronized (pending) {
+      return pending.values().stream().mapToInt(Deque::size).sum();
+    }
+  }
+
+  // an interface to provide a hook for unit testing.
+  interface Scheduler {
+    void schedule(Runnable command, long delayMillis);
+  }
+}
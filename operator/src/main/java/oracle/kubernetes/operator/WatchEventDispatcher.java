@@ -0,0 +1,162 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Hands watch events to their listeners on a set of dispatch threads, so that a slow listener cannot delay a watcher
+ * from reading its next event. Each event is assigned to a stripe by a key, typically its namespace and domain UID.
+ * Every stripe runs its events one at a time, in the order submitted, so the events for a domain, and thus for each
+ * of its resources, are handled in order, while events for domains on other stripes are handled in parallel.
+ *
+ * <p>This is enabled by setting the watchEventDispatchThreads tuning parameter to the number of stripes. Events
+ * held by a {@link WatchEventCompactor} are always dispatched, so that its timer thread never runs a listener;
+ * if the parameter is not set, they use a dispatcher with a stripe per processor.
+ */
+class WatchEventDispatcher {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static WatchEventDispatcher instance;
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static WatchEventDispatcher compactedEventsInstance;
+
+  private final Stripe[] stripes;
+
+  /**
+   * Returns the dispatcher shared by all watchers, creating it if needed.
+   *
+   * @return the dispatcher, or null if watchers should hand events to their listeners on their own threads
+   */
+  static synchronized WatchEventDispatcher getInstance() {
+    if (instance == null && getConfiguredThreads() > 0) {
+      instance = new WatchEventDispatcher(getConfiguredThreads());
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the dispatcher for events held by a compactor: the shared dispatcher if one is configured, or else
+   * a dispatcher with a stripe per processor.
+   *
+   * @return a dispatcher
+   */
+  static synchronized WatchEventDispatcher getInstanceForCompactedEvents() {
+    if (getInstance() != null) {
+      return instance;
+    } else if (compactedEventsInstance == null) {
+      compactedEventsInstance = new WatchEventDispatcher(Runtime.getRuntime().availableProcessors());
+    }
+    return compactedEventsInstance;
+  }
+
+  /** Stops the dispatch threads of the shared dispatchers, once the watchers which use them have stopped. */
+  static synchronized void shutdownAll() {
+    Optional.ofNullable(instance).ifPresent(WatchEventDispatcher::shutdown);
+    Optional.ofNullable(compactedEventsInstance).ifPresent(WatchEventDispatcher::shutdown);
+    instance = null;
+    compactedEventsInstance = null;
+  }
+
+  private static int getConfiguredThreads() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getWatchTuning)
+          .map(t -> t.watchEventDispatchThreads)
+          .orElse(0);
+  }
+
+  private WatchEventDispatcher(int numThreads) {
+    this(numThreads, WatchEventDispatcher::createStripeExecutor);
+  }
+
+  /**
+   * Creates a dispatcher.
+   *
+   * @param numStripes the number of stripes
+   * @param executorFactory a function which returns an executor for the stripe with the specified index. Each
+   *                        executor must run its tasks one at a time, in the order submitted.
+   */
+  WatchEventDispatcher(int numStripes, IntFunction<Executor> executorFactory) {
+    stripes = new Stripe[Math.max(1, numStripes)];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe(executorFactory.apply(i));
+    }
+  }
+
+  private static Executor createStripeExecutor(int index) {
+    return Executors.newSingleThreadExecutor(r -> {
+      Thread thread = new Thread(r, "watch-dispatch-" + index);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  int getStripeCount() {
+    return stripes.length;
+  }
+
+  /**
+   * Returns the index of the stripe which runs events with the specified key.
+   *
+   * @param key a dispatch key, or null
+   * @return a stripe index
+   */
+  int getStripeIndex(String key) {
+    return key == null ? 0 : Math.floorMod(key.hashCode(), stripes.length);
+  }
+
+  /**
+   * Runs the handling of an event on the stripe for its key, after all events already submitted to that stripe.
+   * An exception thrown by the handler is logged, and does not affect later events.
+   *
+   * @param key the dispatch key of the event
+   * @param handler the code to handle the event
+   */
+  void dispatch(String key, Runnable handler) {
+    stripes[getStripeIndex(key)].submit(handler);
+  }
+
+  /** Stops the threads of the stripe executors, if they have any. Events still queued are discarded. */
+  void shutdown() {
+    for (Stripe stripe : stripes) {
+      stripe.shutdown();
+    }
+  }
+
+  private static class Stripe {
+    private final Executor executor;
+
+    Stripe(Executor executor) {
+      this.executor = executor;
+    }
+
+    void submit(Runnable handler) {
+      executor.execute(() -> run(handler));
+    }
+
+    void shutdown() {
+      if (executor instanceof ExecutorService) {
+        ((ExecutorService) executor).shutdownNow();
+      }
+    }
+
+    private void run(Runnable handler) {
+      try {
+        handler.run();
+      } catch (RuntimeException ex) {
+        LOGGER.warning(MessageKeys.EXCEPTION, ex);
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+
+/**
+ * Counts the watch events which each kind of watcher receives, and the events it hands to its listener. Where a
+ * watcher compacts its events, the difference between the two is the number of events saved. Where events are
+ * handed over on dispatch threads, also tracks the backlog of events which each kind of watcher has queued for them.
+ */
+class WatchEventMetrics implements MetricsSource {
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static WatchEventMetrics instance = new WatchEventMetrics();
+
+  private final Map<String, EventCounts> counts = new ConcurrentHashMap<>();
+
+  static {
+    OperatorMetrics.register(instance);
+  }
+
+  WatchEventMetrics() {
+  }
+
+  static WatchEventMetrics getInstance() {
+    return instance;
+  }
+
+  void recordReceived(String watcher) {
+    getOrCreateCounts(watcher).received.increment();
+  }
+
+  void recordDispatched(String watcher) {
+    getOrCreateCounts(watcher).dispatched.increment();
+  }
+
+  void recordQueued(String watcher) {
+    getOrCreateCounts(watcher).backlog.incrementAndGet();
+  }
+
+  void recordDequeued(String watcher) {
+    getOrCreateCounts(watcher).backlog.decrementAndGet();
+  }
+
+  private EventCounts getOrCreateCounts(String watcher) {
+    return counts.computeIfAbsent(watcher, w -> new EventCounts());
+  }
+
+  long getReceivedCount(String watcher) {
+    return Optional.ofNullable(counts.get(watcher)).map(c -> c.received.sum()).orElse(0L);
+  }
+
+  long getDispatchedCount(String watcher) {
+    return Optional.ofNullable(counts.get(watcher)).map(c -> c.dispatched.sum()).orElse(0L);
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    Map<String, EventCounts> sorted = new TreeMap<>(counts);
+
+    writer.family("operator_watch_events_received_total", COUNTER,
+          "Number of watch events received, by watcher.");
+    sorted.forEach((watcher, c) ->
+          writer.sample("operator_watch_events_received_total", c.received.sum(), "watcher", watcher));
+
+    writer.family("operator_watch_events_dispatched_total", COUNTER,
+          "Number of watch events handed to listeners, by watcher.");
+    sorted.forEach((watcher, c) ->
+          writer.sample("operator_watch_events_dispatched_total", c.dispatched.sum(), "watcher", watcher));
+
+    writer.family("operator_watch_events_backlog", GAUGE,
+          "Number of watch events waiting for a dispatch thread, by watcher.");
+    sorted.forEach((watcher, c) ->
+          writer.sample("operator_watch_events_backlog", c.backlog.get(), "watcher", watcher));
+  }
+
+  private static class EventCounts {
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final AtomicInteger backlog = new AtomicInteger();
+  }
+}
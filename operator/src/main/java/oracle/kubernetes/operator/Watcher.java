@@ -5,13 +5,21 @@ package oracle.kubernetes.operator;
 
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.kubernetes.client.common.KubernetesListObject;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.util.Watch;
@@ -42,14 +50,28 @@ abstract class Watcher<T> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED = "0";
   private static final Pattern RESOURCE_VERSION_PATTERN = Pattern.compile("\\((\\d+)\\)");
+  private static final String ADDED = "ADDED";
+  private static final String MODIFIED = "MODIFIED";
+  private static final String DELETED = "DELETED";
+  private static final String BOOKMARK = "BOOKMARK";
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
-  private String resourceVersion;
+  private volatile String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private final AtomicReference<String> restartVersion = new AtomicReference<>();
+  private volatile Watchable<T> currentWatch;
+  private String dispatchedVersion;
+  // For each resource known to exist, the minimal copy needed to report its deletion, unless the resources
+  // are cached. See toDeletionRecord.
+  private final Map<String, T> knownResources = new ConcurrentHashMap<>();
+  private volatile boolean trackingResources;
+  private boolean relistNeeded;
+  private WatchEventCompactor<T> compactor;
+  private WatchEventDispatcher dispatcher;
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -61,6 +83,7 @@ abstract class Watcher<T> {
    */
   Watcher(String resourceVersion, WatchTuning tuning, AtomicBoolean stopping) {
     this.resourceVersion = resourceVersion;
+    this.dispatchedVersion = resourceVersion;
     this.tuning = tuning;
     this.stopping = stopping;
   }
@@ -107,9 +130,37 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
-  /** Kick off the watcher processing that runs in a separate thread. */
+  /**
+   * Kick off the watcher processing that runs in a separate thread.
+   *
+   * @param factory the factory for the watch thread, or null if the watcher will instead receive its events
+   *     from a {@link ClusterWatcher}
+   */
   void start(ThreadFactory factory) {
-    thread = STARTER.startWatcher(factory, this::doWatch);
+    compactor = createCompactor();
+    dispatcher = selectDispatcher();
+    trackingResources = factory != null && getNamespace() != null;
+    if (factory != null) {
+      thread = STARTER.startWatcher(factory, this::doWatch);
+    }
+  }
+
+  private WatchEventCompactor<T> createCompactor() {
+    return mayCompactEvents() && WatchEventCompactor.isEnabled()
+          ? new WatchEventCompactor<>(getCompactionWindowMillis(), this::notifyListenerFromTimer)
+          : null;
+  }
+
+  // Compacted events are handed over when the compactor's timer fires. They are always dispatched, so that the
+  // listeners of all compacting watchers do not run one at a time on the timer thread.
+  private WatchEventDispatcher selectDispatcher() {
+    if (!mayDispatchEventsOnOtherThreads()) {
+      return null;
+    } else if (compactor != null) {
+      return WatchEventDispatcher.getInstanceForCompactedEvents();
+    } else {
+      return WatchEventDispatcher.getInstance();
+    }
   }
 
   public static Thread startAsynchronousWatch(ThreadFactory factory, Runnable doWatch) {
@@ -158,12 +209,18 @@ abstract class Watcher<T> {
     } else {
       lastInitialize = now;
     }
+    Optional.ofNullable(restartVersion.getAndSet(null)).ifPresent(v -> resourceVersion = v);
+    if (relistNeeded) {
+      relistNeeded = false;
+      relist();
+    }
     try (Watchable<T> watch =
         initiateWatch(
             new WatchBuilder()
                 .withResourceVersion(resourceVersion)
                 .withTimeoutSeconds(getWatchLifetime()))) {
-      while (hasNext(watch)) {
+      currentWatch = watch;
+      while (restartVersion.get() == null && hasNext(watch)) {
         Watch.Response<T> item = watch.next();
 
         if (isStopping()) {
@@ -184,6 +241,210 @@ abstract class Watcher<T> {
       }
     } catch (Throwable ex) {
       LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    } finally {
+      currentWatch = null;
+    }
+  }
+
+  /**
+   * Ends the current watch, if any, and starts the next one from the specified resource version, if that is older
+   * than the version from which it would otherwise start. Events already received may therefore be received again.
+   *
+   * @param olderResourceVersion the resource version from which to resume watching
+   */
+  synchronized void restartFrom(String olderResourceVersion) {
+    if (isNullOrEmpty(olderResourceVersion)) {
+      return;
+    }
+    restartVersion.accumulateAndGet(olderResourceVersion, Watcher::olderVersion);
+    if (isNewer(resourceVersion, olderResourceVersion)) {
+      Optional.ofNullable(currentWatch).ifPresent(this::closeWatch);
+    } else {
+      restartVersion.set(null);
+    }
+  }
+
+  private static String olderVersion(String first, String second) {
+    return first == null || isNewer(first, second) ? second : first;
+  }
+
+  private static boolean isNewer(String first, String second) {
+    return !isNullOrEmpty(first)
+          && KubernetesUtils.getResourceVersion(first).compareTo(KubernetesUtils.getResourceVersion(second)) > 0;
+  }
+
+  private void closeWatch(Watchable<T> watch) {
+    try {
+      watch.close();
+    } catch (Exception e) {
+      LOGGER.finer(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  /**
+   * Handles an event received by a {@link ClusterWatcher} for this watcher's namespace, as though this watcher had
+   * received it. Events no newer than the resource version from which this watcher started, or than the last
+   * event handled, are ignored, as are all events once the watcher is stopping.
+   *
+   * @param item the watch event
+   */
+  void dispatch(Watch.Response<T> item) {
+    final String itemVersion = getResourceVersionFromMetadata(item.object);
+    if (isStopping() || isAlreadyDispatched(itemVersion)) {
+      return;
+    }
+
+    dispatchedVersion = itemVersion;
+    try (LoggingContext ignored =
+             LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      handleRegularUpdate(item);
+    }
+  }
+
+  private boolean isAlreadyDispatched(String itemVersion) {
+    final BigInteger lastVersion = KubernetesUtils.getResourceVersion(dispatchedVersion);
+    return lastVersion.signum() > 0 && KubernetesUtils.getResourceVersion(itemVersion).compareTo(lastVersion) <= 0;
+  }
+
+  /**
+   * Records resources which existed when this watcher's initial resource version was read, so that it can tell
+   * which of them have changed or gone should it need to relist.
+   *
+   * @param resources the resources
+   */
+  void recordExisting(Collection<?> resources) {
+    resources.forEach(this::recordExisting);
+  }
+
+  // A resource already seen by the watch is newer than one from the initial list.
+  @SuppressWarnings("unchecked")
+  private void recordExisting(Object resource) {
+    if (isKeepingDeletionRecords()) {
+      getMetadata(resource).map(V1ObjectMeta::getName)
+            .ifPresent(name -> knownResources.computeIfAbsent(name, n -> toDeletionRecord((T) resource)));
+    }
+    updateCache(ADDED, (T) resource);
+  }
+
+  // Only watchers which run their own watch of a single namespace can relist, and so only they need to know
+  // which resources exist. The watchers fed by a ClusterWatcher never relist.
+  private boolean isTrackingResources() {
+    return trackingResources;
+  }
+
+  // When the resources are cached, the cache is the record of which of them exist.
+  private boolean isKeepingDeletionRecords() {
+    return isTrackingResources() && !isCachingResources();
+  }
+
+  private boolean isCachingResources() {
+    return getResourceCache() != null && ResourceCache.isEnabled();
+  }
+
+  private void recordKnown(Watch.Response<T> item) {
+    if (isKeepingDeletionRecords()) {
+      getMetadata(item.object).map(V1ObjectMeta::getName).ifPresent(name -> recordKnown(item.type, name, item.object));
+    }
+  }
+
+  private void recordKnown(String type, String name, T resource) {
+    if (DELETED.equals(type)) {
+      knownResources.remove(name);
+    } else {
+      knownResources.put(name, toDeletionRecord(resource));
+    }
+  }
+
+  // for test
+  int getKnownResourceCount() {
+    return knownResources.size();
+  }
+
+  /**
+   * Returns a copy of a resource which holds only what the listener needs to handle the deletion of the resource.
+   * A watcher which may relist, and whose resources are not cached, keeps such a copy of each resource it knows,
+   * so that it can report the deletion of one which is missing from the list. The default implementation returns
+   * the resource itself; each watcher which relists should return a smaller copy, typically one with only
+   * {@link #toDeletionMetadata metadata}.
+   *
+   * @param resource a resource
+   * @return a copy of the resource which can be reported as deleted
+   */
+  T toDeletionRecord(T resource) {
+    return resource;
+  }
+
+  /**
+   * Returns a copy of the metadata of a resource with only the fields needed to identify the resource, compare
+   * its version with another, and find the domain, server or cluster to which it belongs.
+   *
+   * @param metadata the metadata of a resource
+   * @return a copy of the identifying metadata, or null if there is none
+   */
+  static V1ObjectMeta toDeletionMetadata(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata)
+          .map(m -> new V1ObjectMeta()
+                .name(m.getName())
+                .namespace(m.getNamespace())
+                .uid(m.getUid())
+                .resourceVersion(m.getResourceVersion())
+                .creationTimestamp(m.getCreationTimestamp())
+                .labels(m.getLabels()))
+          .orElse(null);
+  }
+
+  // After the watch's resource version has expired, list the current resources and report only how they differ
+  // from those already known, then resume the watch from the list's resource version. If the list fails,
+  // the watch resumes from the version reported with the error.
+  private void relist() {
+    try {
+      Optional.ofNullable(listResources(new WatchBuilder())).ifPresent(this::reconcileWith);
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void reconcileWith(KubernetesListObject list) {
+    final Map<String, T> listed = new LinkedHashMap<>();
+    Optional.ofNullable(list.getItems()).ifPresent(items -> items.forEach(item ->
+          getMetadata(item).map(V1ObjectMeta::getName).ifPresent(name -> listed.put(name, (T) item))));
+
+    final Map<String, T> known = getKnownResources();
+    known.forEach((name, resource) -> {
+      if (!listed.containsKey(name)) {
+        reportChange(DELETED, resource);
+      }
+    });
+    listed.forEach((name, resource) -> reportChangeFrom(known.get(name), resource));
+
+    Optional.ofNullable(list.getMetadata()).map(V1ListMeta::getResourceVersion).ifPresent(v -> resourceVersion = v);
+  }
+
+  private Map<String, T> getKnownResources() {
+    if (!isCachingResources()) {
+      return new HashMap<>(knownResources);
+    }
+
+    final Map<String, T> known = new HashMap<>();
+    getResourceCache().getAll(getNamespace())
+          .forEach(resource -> getMetadata(resource).map(V1ObjectMeta::getName).ifPresent(n -> known.put(n, resource)));
+    return known;
+  }
+
+  private void reportChangeFrom(T known, T listed) {
+    if (known == null) {
+      reportChange(ADDED, listed);
+    } else if (!getResourceVersionFromMetadata(known).equals(getResourceVersionFromMetadata(listed))) {
+      reportChange(MODIFIED, listed);
+    }
+  }
+
+  private void reportChange(String type, T resource) {
+    final Watch.Response<T> item = new Watch.Response<>(type, resource);
+    try (LoggingContext ignored =
+             LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      handleRegularUpdate(item);
     }
   }
 
@@ -191,6 +452,10 @@ abstract class Watcher<T> {
     return Optional.ofNullable(tuning).map(t -> t.watchLifetime).orElse(5);
   }
 
+  private long getCompactionWindowMillis() {
+    return Optional.ofNullable(tuning).map(t -> t.watchEventCompactionMillis).orElse(500);
+  }
+
   private int getWatchMinimumDelay() {
     return Optional.ofNullable(tuning).map(t -> t.watchMinimumDelay).orElse(1);
   }
@@ -213,6 +478,61 @@ abstract class Watcher<T> {
    */
   public abstract Watchable<T> initiateWatch(WatchBuilder watchBuilder) throws ApiException;
 
+  /**
+   * Lists the resources which this watcher watches, so that it can resume after its resource version has expired
+   * without replaying every resource as added.
+   *
+   * @param watchBuilder a watch builder
+   * @return the list, or null if this watcher cannot list its resources
+   * @throws ApiException if there is an API error.
+   */
+  KubernetesListObject listResources(WatchBuilder watchBuilder) throws ApiException {
+    return null;
+  }
+
+  /**
+   * Returns true if this watcher's listener may be called on a dispatch thread, rather than on the thread which
+   * received the event. The default implementation returns true.
+   *
+   * @return true if events may be handed to the listener on other threads
+   */
+  boolean mayDispatchEventsOnOtherThreads() {
+    return true;
+  }
+
+  /**
+   * Returns true if bursts of changes to one resource may be reported to the listener as a single change.
+   * Compaction delays each change by up to the compaction window, so a watcher whose listener waits for
+   * resources to become ready should only allow it if the delay is acceptable. The default implementation
+   * returns false.
+   *
+   * @return true if events may be compacted
+   */
+  boolean mayCompactEvents() {
+    return false;
+  }
+
+  /**
+   * Returns the cache which holds copies of the resources this watcher watches.
+   *
+   * @return the cache, or null if these resources are not cached
+   */
+  ResourceCache<T> getResourceCache() {
+    return null;
+  }
+
+  // The cache is updated before the listener is told of the change, so that a step which registers a callback
+  // with the listener and then consults the cache will see any change which the callback might have missed.
+  private void updateCache(String type, T resource) {
+    Optional.ofNullable(getResourceCache()).ifPresent(cache -> {
+      if (DELETED.equals(type)) {
+        cache.remove(resource);
+      } else {
+        cache.update(resource);
+      }
+    });
+  }
+
   /**
    * Gets the Kubernetes namespace associated with the watcher.
    *
@@ -232,18 +552,85 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  // A bookmark carries only a resource version, which the next watch may resume from.
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
-    if (listener != null) {
-      listener.receivedResponse(item);
+    if (BOOKMARK.equals(item.type)) {
+      return;
+    }
+    updateCache(item.type, item.object);
+    recordKnown(item);
+    WatchEventMetrics.getInstance().recordReceived(getWatcherName());
+    if (compactor != null) {
+      compactor.add(item);
+    } else {
+      notifyListener(item);
     }
   }
 
-  private void handleErrorResponse(Watch.Response<T> item) {
-    if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) != HTTP_GONE) {
-      resourceVersion = IGNORED;
+  // Compacted events are handed over on the compactor's timer thread, which passes them on to a dispatch thread
+  // unless the watcher may not dispatch events; the listener then runs on the timer thread in its own logging
+  // context.
+  private void notifyListenerFromTimer(Watch.Response<T> item) {
+    if (dispatcher != null) {
+      notifyListener(item);
     } else {
+      notifyListenerInContext(item);
+    }
+  }
+
+  private void notifyListenerInContext(Watch.Response<T> item) {
+    try (LoggingContext ignored =
+             LoggingContext.setThreadContext().namespace(getNamespace()).domainUid(getDomainUid(item))) {
+      deliver(item);
+    }
+  }
+
+  // With a dispatcher, the listener runs on the dispatch thread for the event's domain, and the watcher
+  // goes straight back to reading events.
+  private void notifyListener(Watch.Response<T> item) {
+    if (listener == null) {
+      return;
+    } else if (dispatcher == null) {
+      deliver(item);
+    } else {
+      WatchEventMetrics.getInstance().recordQueued(getWatcherName());
+      dispatcher.dispatch(getDispatchKey(item), () -> deliverFromQueue(item));
+    }
+  }
+
+  private void deliverFromQueue(Watch.Response<T> item) {
+    WatchEventMetrics.getInstance().recordDequeued(getWatcherName());
+    notifyListenerInContext(item);
+  }
+
+  private void deliver(Watch.Response<T> item) {
+    WatchEventMetrics.getInstance().recordDispatched(getWatcherName());
+    listener.receivedResponse(item);
+  }
+
+  // Events for the same domain share a key, and so are handled in order. Events for resources which do not belong
+  // to a domain are keyed by the resource itself.
+  private String getDispatchKey(Watch.Response<T> item) {
+    final Optional<V1ObjectMeta> metadata = getMetadata(item.object);
+    final String namespace = metadata.map(V1ObjectMeta::getNamespace).orElse(getNamespace());
+    return Optional.ofNullable(getDomainUid(item))
+          .or(() -> metadata.map(V1ObjectMeta::getName))
+          .map(id -> namespace + "/" + id)
+          .orElse(null);
+  }
+
+  // The name of the watcher in metrics: for example, "pod" for a PodWatcher.
+  private String getWatcherName() {
+    return getClass().getSimpleName().replace("Watcher", "").toLowerCase();
+  }
+
+  // Most errors end the watch, and the next one resumes from the last resource version received. If that version
+  // has expired, the watcher relists its resources before resuming.
+  private void handleErrorResponse(Watch.Response<T> item) {
+    if (Optional.ofNullable(item.status).map(V1Status::getCode).orElse(0) == HTTP_GONE) {
+      relistNeeded = isTrackingResources();
       resourceVersion = Optional.of(item.status).map(V1Status::getMessage).map(this::resourceVersion).orElse(IGNORED);
     }
   }
@@ -277,13 +664,22 @@ abstract class Watcher<T> {
   }
 
   private String getResourceVersionFromMetadata(Object object) {
+    return getMetadata(object).map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+  }
+
+  /**
+   * Returns the metadata of a watched object.
+   *
+   * @param object a Kubernetes resource
+   * @return the metadata, or empty if it has none
+   */
+  static Optional<V1ObjectMeta> getMetadata(Object object) {
     try {
       Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED);
+      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object));
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED;
+      return Optional.empty();
     }
   }
 
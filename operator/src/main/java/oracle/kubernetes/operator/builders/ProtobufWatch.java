@@ -0,0 +1,110 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.util.Iterator;
+import javax.annotation.Nonnull;
+
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import okhttp3.Call;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
+
+/**
+ * A watch which reads a protobuf-encoded stream of events. Each event in such a stream is preceded by its length
+ * as a four-byte big-endian integer.
+ *
+ * @param <T> the type of the watched resource
+ */
+class ProtobufWatch<T> implements Watchable<T> {
+
+  private final Class<T> modelClass;
+  private final ResponseBody body;
+
+  private ProtobufWatch(Class<T> modelClass, ResponseBody body) {
+    this.modelClass = modelClass;
+    this.body = body;
+  }
+
+  /**
+   * Starts a watch which requests events as protobuf. If the server nonetheless responds with JSON, returns
+   * a standard watch to read them.
+   *
+   * @param client the client which created the call
+   * @param call a watch call created by the Kubernetes client, which has not been executed
+   * @param modelClass the class of the watched resource
+   * @param <T> the type of the watched resource
+   * @return a watch reading the events
+   * @throws ApiException if the call fails
+   */
+  static <T> Watchable<T> createWatch(ApiClient client, Call call, Class<T> modelClass) throws ApiException {
+    final Call protobufCall = client.getHttpClient().newCall(ProtobufCodec.acceptProtobuf(call.request()));
+    final Response response;
+    try {
+      response = protobufCall.execute();
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+
+    if (!response.isSuccessful()) {
+      throw toApiException(client, response);
+    } else if (!ProtobufCodec.isProtobuf(response)) {
+      return new Watch<T>(client.getJSON(), response.body(), WatchImpl.getType(modelClass), protobufCall) {
+      };
+    } else {
+      return new ProtobufWatch<>(modelClass, response.body());
+    }
+  }
+
+  private static ApiException toApiException(ApiClient client, Response response) {
+    try (ResponseBody body = response.body()) {
+      String responseBody = null;
+      if (body != null && ProtobufCodec.isProtobuf(response)) {
+        responseBody = client.getJSON().serialize(ProtobufCodec.decode(body.bytes(), V1Status.class));
+      } else if (body != null) {
+        responseBody = body.string();
+      }
+      return new ApiException(response.message(), response.code(), response.headers().toMultimap(), responseBody);
+    } catch (IOException e) {
+      return new ApiException(response.message(), e, response.code(), response.headers().toMultimap());
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return !body.source().exhausted();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public Watch.Response<T> next() {
+    try {
+      final BufferedSource source = body.source();
+      return ProtobufCodec.decodeWatchEvent(source.readByteArray(source.readInt() & 0xffffffffL), modelClass);
+    } catch (IOException e) {
+      throw new RuntimeException("IO Exception during next method.", e);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Watch.Response<T>> iterator() {
+    return this;
+  }
+
+  @Override
+  public void close() throws IOException {
+    body.close();
+  }
+}
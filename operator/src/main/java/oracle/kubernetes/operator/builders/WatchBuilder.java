@@ -12,16 +12,23 @@ import io.kubernetes.client.openapi.apis.BatchV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.PolicyV1beta1Api;
 import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventList;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
+import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudgetList;
 import io.kubernetes.client.util.Watchable;
 import okhttp3.Call;
 import oracle.kubernetes.weblogic.domain.api.WeblogicApi;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
 
 import static oracle.kubernetes.utils.OperatorUtils.isNullOrEmpty;
 
@@ -29,6 +36,9 @@ public class WatchBuilder {
   /** Always true for watches. */
   private static final boolean WATCH = true;
 
+  /** Lists are read in a single response. */
+  private static final boolean LIST = false;
+
   /** Ignored for watches. */
   private static final String START_LIST = null;
 
@@ -47,78 +57,78 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track service calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Service> createServiceWatch(String namespace) throws ApiException {
-    return FACTORY.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(namespace));
+    return FACTORY.createWatch(callParams, V1Service.class, new ListNamespacedServiceCall(namespace, WATCH));
   }
 
   /**
    * Creates a web hook object to track pod disruption budgets.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1beta1PodDisruptionBudget> createPodDisruptionBudgetWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(callParams, V1beta1PodDisruptionBudget.class,
-        new ListPodDisruptionBudgetCall(namespace));
+        new ListPodDisruptionBudgetCall(namespace, WATCH));
   }
 
   /**
    * Creates a web hook object to track pods.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Pod> createPodWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, V1Pod.class, new ListPodCall(namespace));
+        callParams, V1Pod.class, new ListPodCall(namespace, WATCH));
   }
 
   /**
    * Creates a web hook object to track jobs.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<V1Job> createJobWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, V1Job.class, new ListJobCall(namespace));
+        callParams, V1Job.class, new ListJobCall(namespace, WATCH));
   }
 
   /**
    * Creates a web hook object to track events.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<CoreV1Event> createEventWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, CoreV1Event.class, new ListEventCall(namespace));
+        callParams, CoreV1Event.class, new ListEventCall(namespace, WATCH));
   }
 
   /**
    * Creates a web hook object to track changes to WebLogic domains in one namespaces.
    *
-   * @param namespace the namespace in which to track domains
+   * @param namespace the namespace in which to track domains, or null to track them in all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
   public Watchable<Domain> createDomainWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        callParams, Domain.class, new ListDomainsCall(namespace));
+        callParams, Domain.class, new ListDomainsCall(namespace, WATCH));
   }
 
   /**
    * Creates a web hook object to track config map calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or null to watch all namespaces
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -126,7 +136,7 @@ public class WatchBuilder {
     return FACTORY.createWatch(
         callParams,
         V1ConfigMap.class,
-        new ListNamespacedConfigMapCall(namespace));
+        new ListNamespacedConfigMapCall(namespace, WATCH));
   }
 
   /**
@@ -142,6 +152,89 @@ public class WatchBuilder {
         new ListNamespaceCall());
   }
 
+  /**
+   * Lists the services selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public V1ServiceList listServices(String namespace) throws ApiException {
+    return createList(V1ServiceList.class, new ListNamespacedServiceCall(namespace, LIST));
+  }
+
+  /**
+   * Lists the pod disruption budgets selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public V1beta1PodDisruptionBudgetList listPodDisruptionBudgets(String namespace) throws ApiException {
+    return createList(V1beta1PodDisruptionBudgetList.class, new ListPodDisruptionBudgetCall(namespace, LIST));
+  }
+
+  /**
+   * Lists the pods selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public V1PodList listPods(String namespace) throws ApiException {
+    return createList(V1PodList.class, new ListPodCall(namespace, LIST));
+  }
+
+  /**
+   * Lists the jobs selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public V1JobList listJobs(String namespace) throws ApiException {
+    return createList(V1JobList.class, new ListJobCall(namespace, LIST));
+  }
+
+  /**
+   * Lists the events selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public CoreV1EventList listEvents(String namespace) throws ApiException {
+    return createList(CoreV1EventList.class, new ListEventCall(namespace, LIST));
+  }
+
+  /**
+   * Lists the domains selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public DomainList listDomains(String namespace) throws ApiException {
+    return createList(DomainList.class, new ListDomainsCall(namespace, LIST));
+  }
+
+  /**
+   * Lists the config maps selected by this builder in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the list
+   * @throws ApiException if there is an error on the call
+   */
+  public V1ConfigMapList listConfigMaps(String namespace) throws ApiException {
+    return createList(V1ConfigMapList.class, new ListNamespacedConfigMapCall(namespace, LIST));
+  }
+
+  // A list made to resume a watch is read in a single response, rather than a page at a time.
+  private <L> L createList(Class<L> listType, BiFunction<ApiClient, CallParams, Call> function) throws ApiException {
+    callParams.setLimit(null);
+    return FACTORY.createList(callParams, listType, function);
+  }
+
   /**
    * Sets a value for the fieldSelector parameter for the call that will set up this watch. Defaults
    * to null.
@@ -186,6 +279,9 @@ public class WatchBuilder {
         Class<?> responseBodyType,
         BiFunction<ApiClient, CallParams, Call> function)
         throws ApiException;
+
+    <L> L createList(CallParams callParams, Class<L> listType, BiFunction<ApiClient, CallParams, Call> function)
+        throws ApiException;
   }
 
   static class WatchFactoryImpl implements WatchFactory {
@@ -201,13 +297,26 @@ public class WatchBuilder {
         throw e.getCause();
       }
     }
+
+    @Override
+    public <L> L createList(
+        CallParams callParams, Class<L> listType, BiFunction<ApiClient, CallParams, Call> function)
+        throws ApiException {
+      try {
+        return WatchImpl.createList(callParams, listType, function);
+      } catch (UncheckedApiException e) {
+        throw e.getCause();
+      }
+    }
   }
 
   private static class ListNamespacedServiceCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListNamespacedServiceCall(String namespace) {
+    ListNamespacedServiceCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -215,6 +324,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listServiceForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
                 namespace,
@@ -227,7 +351,7 @@ public class WatchBuilder {
                 callParams.getResourceVersion(),
                 RESOURCE_VERSION_MATCH_UNSET,
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -242,9 +366,11 @@ public class WatchBuilder {
 
   private static class ListPodCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListPodCall(String namespace) {
+    ListPodCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -252,6 +378,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listPodForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedPodCall(
                 namespace,
@@ -264,7 +405,7 @@ public class WatchBuilder {
                 callParams.getResourceVersion(),
                 RESOURCE_VERSION_MATCH_UNSET,
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -274,9 +415,11 @@ public class WatchBuilder {
 
   private static class ListJobCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListJobCall(String namespace) {
+    ListJobCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -284,6 +427,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new BatchV1Api(client)
+              .listJobForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new BatchV1Api(client)
             .listNamespacedJobCall(
                 namespace,
@@ -296,7 +454,7 @@ public class WatchBuilder {
                 callParams.getResourceVersion(),
                 RESOURCE_VERSION_MATCH_UNSET,
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -306,9 +464,11 @@ public class WatchBuilder {
 
   private static class ListEventCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListEventCall(String namespace) {
+    ListEventCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -316,6 +476,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listEventForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedEventCall(
                 namespace,
@@ -328,7 +503,7 @@ public class WatchBuilder {
                 callParams.getResourceVersion(),
                 RESOURCE_VERSION_MATCH_UNSET,
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -338,9 +513,11 @@ public class WatchBuilder {
 
   private static class ListPodDisruptionBudgetCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListPodDisruptionBudgetCall(String namespace) {
+    ListPodDisruptionBudgetCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -348,6 +525,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new PolicyV1beta1Api(client)
+              .listPodDisruptionBudgetForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new PolicyV1beta1Api(client)
             .listNamespacedPodDisruptionBudgetCall(
                 namespace,
@@ -360,7 +552,7 @@ public class WatchBuilder {
                 callParams.getResourceVersion(),
                 RESOURCE_VERSION_MATCH_UNSET,
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -370,9 +562,11 @@ public class WatchBuilder {
 
   private static class ListDomainsCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListDomainsCall(String namespace) {
+    ListDomainsCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -380,17 +574,32 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new WeblogicApi(client)
+              .listDomainForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new WeblogicApi(client)
             .listNamespacedDomainCall(
                 namespace,
                 callParams.getPretty(),
+                ALLOW_BOOKMARKS,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
                 callParams.getLimit(),
                 callParams.getResourceVersion(),
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -400,9 +609,11 @@ public class WatchBuilder {
 
   private static class ListNamespacedConfigMapCall implements BiFunction<ApiClient, CallParams, Call> {
     private final String namespace;
+    private final boolean watch;
 
-    ListNamespacedConfigMapCall(String namespace) {
+    ListNamespacedConfigMapCall(String namespace, boolean watch) {
       this.namespace = namespace;
+      this.watch = watch;
     }
 
     @Override
@@ -410,6 +621,21 @@ public class WatchBuilder {
       configureClient(client);
 
       try {
+        if (namespace == null) {
+          return new CoreV1Api(client)
+              .listConfigMapForAllNamespacesCall(
+                  ALLOW_BOOKMARKS,
+                  START_LIST,
+                  callParams.getFieldSelector(),
+                  callParams.getLabelSelector(),
+                  callParams.getLimit(),
+                  callParams.getPretty(),
+                  callParams.getResourceVersion(),
+                  RESOURCE_VERSION_MATCH_UNSET,
+                  callParams.getTimeoutSeconds(),
+                  watch,
+                  null);
+        }
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
                 namespace,
@@ -422,7 +648,7 @@ public class WatchBuilder {
                 callParams.getResourceVersion(),
                 RESOURCE_VERSION_MATCH_UNSET,
                 callParams.getTimeoutSeconds(),
-                WATCH,
+                watch,
                 null);
       } catch (ApiException e) {
         throw new UncheckedApiException(e);
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.builders;
 import java.lang.reflect.Type;
 
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.util.Watchable;
 import okhttp3.Call;
 
@@ -17,4 +18,18 @@ import okhttp3.Call;
 @FunctionalInterface
 public interface WatchFactory<T> {
   Watchable<T> createWatch(ApiClient client, Call call, Type type);
+
+  /**
+   * Executes a list call, such as one made to resume a watch.
+   *
+   * @param client the client which created the call
+   * @param call the call
+   * @param listType the type of the list returned
+   * @param <L> the type of the list returned
+   * @return the list
+   * @throws ApiException if the call fails
+   */
+  default <L> L executeList(ApiClient client, Call call, Type listType) throws ApiException {
+    return client.<L>execute(call, listType).getData();
+  }
 }
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import javax.annotation.Nonnull;
 
@@ -15,6 +16,7 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
 import okhttp3.Call;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
 import oracle.kubernetes.operator.helpers.ClientPool;
 
 /**
@@ -26,6 +28,7 @@ public class WatchImpl<T> implements Watchable<T> {
 
   private ApiClient client;
   private final Watchable<T> impl;
+  private final AtomicBoolean closed = new AtomicBoolean();
 
   @SuppressWarnings("unchecked")
   WatchImpl(CallParams callParams, Class<?> responseBodyType, BiFunction<ApiClient, CallParams, Call> function) {
@@ -33,14 +36,39 @@ public class WatchImpl<T> implements Watchable<T> {
     impl = (Watchable<T>) FACTORY.createWatch(client, function.apply(client, callParams), getType(responseBodyType));
   }
 
+  @SuppressWarnings("unchecked")
   private static <W> Watchable<W> createWatch(ApiClient client, Call call, Type type) {
+    final Class<W> resourceType = (Class<W>) ((ParameterizedType) type).getActualTypeArguments()[0];
     try {
+      if (ProtobufCodec.isEnabled() && ProtobufCodec.supports(resourceType)) {
+        return ProtobufWatch.createWatch(client, call, resourceType);
+      }
       return Watch.createWatch(client, call, type);
     } catch (ApiException e) {
       throw new UncheckedApiException(e);
     }
   }
 
+  /**
+   * Makes a list call with a client from the pool.
+   *
+   * @param callParams the parameters of the call
+   * @param listType the type of the list returned
+   * @param function a function which creates the call
+   * @param <L> the type of the list returned
+   * @return the list
+   * @throws ApiException if the call fails
+   */
+  static <L> L createList(CallParams callParams, Class<L> listType, BiFunction<ApiClient, CallParams, Call> function)
+      throws ApiException {
+    final ApiClient client = ClientPool.getInstance().take();
+    try {
+      return FACTORY.executeList(client, function.apply(client, callParams), listType);
+    } finally {
+      ClientPool.getInstance().recycle(client);
+    }
+  }
+
   static Type getType(Class<?> responseBodyType) {
     return new ParameterizedType() {
       @Override
@@ -60,8 +88,12 @@ public class WatchImpl<T> implements Watchable<T> {
     };
   }
 
+  // A watch may be closed by another thread to end it early, and then again by its owner.
   @Override
   public void close() throws IOException {
+    if (closed.getAndSet(true)) {
+      return;
+    }
     impl.close();
     if (client != null) {
       ClientPool.getInstance().recycle(client);
@@ -0,0 +1,239 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.HISTOGRAM;
+
+/**
+ * Records the calls which the operator makes to the Kubernetes API, labeled by verb, resource type and namespace:
+ * their latency and outcome, the size of their responses, and how often they time out or are retried. Calls which
+ * are not namespaced are recorded with an empty namespace. Only calls actually sent are recorded; a read which
+ * joins an identical read already in flight is not. The size of a response is the number of body bytes received,
+ * as reported by {@link ReceivedResponse}; its declared length is only used if that is not known.
+ */
+public class ApiCallMetrics implements MetricsSource {
+
+  /** The status of a completed call whose response was not seen, such as a synchronous call on an unshared client. */
+  public static final int UNKNOWN_STATUS = -1;
+
+  static final String CONTENT_LENGTH = "Content-Length";
+  static final String UNKNOWN_OUTCOME = "";
+  private static final String ERROR_OUTCOME = "error";
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static ApiCallMetrics instance = new ApiCallMetrics();
+
+  private final Map<CallKey, CallStatistics> calls = new ConcurrentHashMap<>();
+
+  static {
+    OperatorMetrics.register(instance);
+  }
+
+  ApiCallMetrics() {
+  }
+
+  public static ApiCallMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records the completion of a call.
+   *
+   * @param requestParams the parameters of the call
+   * @param statusCode the HTTP status of the response, zero if there was no response, or {@link #UNKNOWN_STATUS}
+   *                   if there was a response, but its status is not known. Such calls are counted without a status.
+   * @param elapsedNanos the time from sending the request to receiving the response
+   * @param responseHeaders the headers of the response, if any
+   */
+  public void recordCall(RequestParams requestParams, int statusCode, long elapsedNanos,
+                         Map<String, List<String>> responseHeaders) {
+    final CallStatistics statistics = getOrCreateStatistics(requestParams);
+    statistics.latency.observeNanos(elapsedNanos);
+    statistics.outcomes.computeIfAbsent(toOutcome(statusCode), o -> new LongAdder()).increment();
+    getResponseSize(statusCode, responseHeaders).ifPresent(statistics.responseSize::observe);
+  }
+
+  // This is called on the thread which read the response, so the bytes received for it are known.
+  private static Optional<Long> getResponseSize(int statusCode, Map<String, List<String>> responseHeaders) {
+    final OptionalLong bodyBytes = ReceivedResponse.takeBodyBytes(statusCode);
+    return bodyBytes.isPresent() ? Optional.of(bodyBytes.getAsLong()) : getContentLength(responseHeaders);
+  }
+
+  /**
+   * Records a call abandoned because no response arrived in time.
+   *
+   * @param requestParams the parameters of the call
+   */
+  public void recordTimeout(RequestParams requestParams) {
+    getOrCreateStatistics(requestParams).timeouts.increment();
+  }
+
+  /**
+   * Records that a failed call is to be retried.
+   *
+   * @param requestParams the parameters of the call
+   */
+  public void recordRetry(RequestParams requestParams) {
+    getOrCreateStatistics(requestParams).retries.increment();
+  }
+
+  private CallStatistics getOrCreateStatistics(RequestParams requestParams) {
+    return calls.computeIfAbsent(new CallKey(requestParams), k -> new CallStatistics());
+  }
+
+  private static String toOutcome(int statusCode) {
+    if (statusCode == UNKNOWN_STATUS) {
+      return UNKNOWN_OUTCOME;
+    }
+    return statusCode > 0 ? Integer.toString(statusCode) : ERROR_OUTCOME;
+  }
+
+  // Chunked and unzipped responses have no declared length.
+  private static Optional<Long> getContentLength(Map<String, List<String>> responseHeaders) {
+    return Optional.ofNullable(responseHeaders).flatMap(headers -> headers.entrySet().stream()
+          .filter(e -> CONTENT_LENGTH.equalsIgnoreCase(e.getKey()))
+          .map(Map.Entry::getValue)
+          .filter(values -> values != null && !values.isEmpty())
+          .map(values -> values.get(0))
+          .findFirst())
+          .flatMap(ApiCallMetrics::parseLength);
+  }
+
+  private static Optional<Long> parseLength(String value) {
+    try {
+      return Optional.of(Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  CallStatistics getStatistics(String verb, String resource, String namespace) {
+    return calls.get(new CallKey(verb, resource, namespace));
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    Map<CallKey, CallStatistics> sorted = new TreeMap<>(calls);
+
+    writer.family("operator_k8s_requests_total", COUNTER,
+          "Number of Kubernetes API calls completed, by verb, resource, namespace and HTTP status.");
+    sorted.forEach((key, stats) -> new TreeMap<>(stats.outcomes).forEach((code, count) ->
+          writer.sample("operator_k8s_requests_total", count.sum(), key.withOutcomeLabel(code))));
+
+    writer.family("operator_k8s_request_duration_seconds", HISTOGRAM,
+          "Latency of Kubernetes API calls, by verb, resource and namespace.");
+    sorted.forEach((key, stats) ->
+          writer.histogram("operator_k8s_request_duration_seconds", stats.latency, key.getLabels()));
+
+    writer.family("operator_k8s_response_size_bytes", HISTOGRAM,
+          "Size of Kubernetes API responses, by verb, resource and namespace.");
+    sorted.forEach((key, stats) ->
+          writer.histogram("operator_k8s_response_size_bytes", stats.responseSize, key.getLabels()));
+
+    writer.family("operator_k8s_request_timeouts_total", COUNTER,
+          "Number of Kubernetes API calls abandoned for lack of a response, by verb, resource and namespace.");
+    sorted.forEach((key, stats) ->
+          writer.sample("operator_k8s_request_timeouts_total", stats.timeouts.sum(), key.getLabels()));
+
+    writer.family("operator_k8s_request_retries_total", COUNTER,
+          "Number of retries of failed Kubernetes API calls, by verb, resource and namespace.");
+    sorted.forEach((key, stats) ->
+          writer.sample("operator_k8s_request_retries_total", stats.retries.sum(), key.getLabels()));
+  }
+
+  /** The statistics recorded for one combination of verb, resource and namespace. */
+  static class CallStatistics {
+    private final Histogram latency = new Histogram(Histogram.LATENCY_BUCKETS);
+    private final Histogram responseSize = new Histogram(Histogram.BYTE_BUCKETS);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    Histogram getLatency() {
+      return latency;
+    }
+
+    Histogram getResponseSize() {
+      return responseSize;
+    }
+
+    long getCount(String outcome) {
+      return Optional.ofNullable(outcomes.get(outcome)).map(LongAdder::sum).orElse(0L);
+    }
+
+    long getTimeoutCount() {
+      return timeouts.sum();
+    }
+
+    long getRetryCount() {
+      return retries.sum();
+    }
+  }
+
+  private static class CallKey implements Comparable<CallKey> {
+    private static final Comparator<CallKey> ORDER = Comparator.<CallKey, String>comparing(k -> k.verb)
+          .thenComparing(k -> k.resource)
+          .thenComparing(k -> k.namespace);
+
+    private final String verb;
+    private final String resource;
+    private final String namespace;
+
+    CallKey(RequestParams requestParams) {
+      this(requestParams.getVerb(), requestParams.getResourceType().toLowerCase(), requestParams.namespace);
+    }
+
+    CallKey(String verb, String resource, String namespace) {
+      this.verb = verb;
+      this.resource = resource;
+      this.namespace = Optional.ofNullable(namespace).orElse("");
+    }
+
+    String[] getLabels() {
+      return new String[] {"verb", verb, "resource", resource, "namespace", namespace};
+    }
+
+    String[] withOutcomeLabel(String code) {
+      return UNKNOWN_OUTCOME.equals(code)
+            ? getLabels() : new String[] {"verb", verb, "resource", resource, "namespace", namespace, "code", code};
+    }
+
+    @Override
+    public int compareTo(CallKey o) {
+      return ORDER.compare(this, o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      } else if (!(o instanceof CallKey)) {
+        return false;
+      }
+      CallKey that = (CallKey) o;
+      return verb.equals(that.verb) && resource.equals(that.resource) && namespace.equals(that.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(verb, resource, namespace);
+    }
+  }
+}
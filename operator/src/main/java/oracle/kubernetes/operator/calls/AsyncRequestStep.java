@@ -25,6 +25,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -55,10 +56,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   public static final int FIBER_TIMEOUT = 0;
 
   private static final Random R = new Random();
-  private static final int HIGH = 200;
-  private static final int LOW = 10;
-  private static final int SCALE = 100;
-  private static final int MAX = 10000;
+  private static final int RETRY_BASE_MILLIS = 200;
+  private static final int RETRY_MAX_MILLIS = 10000;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final ClientPool helper;
@@ -69,6 +68,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private final String fieldSelector;
   private final String labelSelector;
   private final String resourceVersion;
+  private final RequestRateLimiter.Lane lane;
   private int timeoutSeconds;
   private DomainCondition recordedFailure;
 
@@ -136,6 +136,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     this.fieldSelector = fieldSelector;
     this.labelSelector = labelSelector;
     this.resourceVersion = resourceVersion;
+    this.lane = RequestRateLimiter.Lane.forCall(requestParams.call);
 
     // TODO, RJE: consider reimplementing the connection between the response and request steps using just
     // elements in the packet so that all step implementations are stateless.
@@ -173,7 +174,16 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final RetryStrategy retryStrategy;
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
+    final RequestRateLimiter limiter = RequestRateLimiter.getInstance();
+    final ReadCoalescer coalescer = ReadCoalescer.getInstance();
+    final CircuitBreaker breaker = CircuitBreakers.getInstance().getBreaker(requestParams);
+    final ApiCallMetrics metrics = ApiCallMetrics.getInstance();
+    final AtomicBoolean holdsPermit = new AtomicBoolean(false);
     final ApiClient client;
+    ApiCallback<T> callCallback;
+    CircuitBreaker.Admission admission;
+    volatile Cancellable timeoutCheck;
+    long callStartNanos;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
@@ -183,20 +193,73 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       client = helper.take();
     }
 
+    // While the circuit breaker for this kind of call is open, park the fiber. Then join an identical read
+    // already in flight, if there is one. Otherwise, wait for a permit to make the call.
+    void start(AsyncFiber fiber) {
+      admission = Optional.ofNullable(breaker).map(CircuitBreaker::admit).orElse(null);
+      if (admission != null && admission.getWaitNanos() > 0) {
+        fiber.scheduleOnce(admission.getWaitNanos(), TimeUnit.NANOSECONDS, () -> start(fiber));
+        return;
+      }
+
+      callCallback = coalescer.joinOrStart(requestParams, new ApiCallbackImpl(this, fiber), this::copyResult);
+      if (callCallback == null) {
+        timeoutCheck = scheduleTimeoutCheck(fiber, timeoutSeconds, () -> handleTimeout(fiber, null));
+      } else {
+        limiter.acquire(lane, () -> startCall(fiber));
+      }
+    }
+
+    // Gives a request which joined another's call its own copy of the response, which it may then modify.
+    private T copyResult(T result) {
+      try {
+        return result == null
+              ? null : client.getJSON().deserialize(client.getJSON().serialize(result), result.getClass());
+      } catch (RuntimeException e) {
+        return result;
+      }
+    }
+
     // Create a call to Kubernetes that we can cancel if it doesn't succeed in time.
-    private CancellableCall createCall(AsyncFiber fiber) throws ApiException {
-      return factory.generate(requestParams, client, cont, new ApiCallbackImpl(this, fiber));
+    private CancellableCall createCall() throws ApiException {
+      return factory.generate(requestParams, client, cont, callCallback);
+    }
+
+    // Called once the limiter has granted a permit. If the server has asked us to back off, hold the permit
+    // and try again once the requested time has passed.
+    private void startCall(AsyncFiber fiber) {
+      holdsPermit.set(true);
+      final long pauseNanos = limiter.getPauseNanos();
+      if (pauseNanos > 0) {
+        fiber.scheduleOnce(pauseNanos, TimeUnit.NANOSECONDS, () -> startCall(fiber));
+        return;
+      }
+
+      try {
+        callStartNanos = System.nanoTime();
+        CancellableCall cc = createCall();
+        timeoutCheck = scheduleTimeoutCheck(fiber, timeoutSeconds, () -> handleTimeout(fiber, cc));
+      } catch (ApiException t) {
+        logAsyncFailure(t, t.getResponseBody());
+        resumeAfterThrowable(fiber);
+      } catch (Throwable t) {
+        logAsyncFailure(t, "");
+        resumeAfterThrowable(fiber);
+      }
     }
 
     // The Kubernetes request succeeded. Recycle the client, add the response to the packet, and proceed.
     void onSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
       removeExistingFailureCondition();
       if (firstTimeResumed()) {
+        cancelTimeoutCheck();
         if (LOGGER.isFinerEnabled()) {
           logSuccess(result, statusCode, responseHeaders);
         }
 
         helper.recycle(client);
+        releasePermit(statusCode, responseHeaders);
+        recordOutcome(statusCode, responseHeaders);
         addResponseComponent(Component.createFor(
             createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
         fiber.resume(packet);
@@ -214,6 +277,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // add the failure into the packet and prepare to try again.
     void onFailure(AsyncFiber fiber, ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        cancelTimeoutCheck();
         if (statusCode != HTTP_NOT_FOUND) {
           addDomainFailureStatus(ae);
           if (LOGGER.isFineEnabled()) {
@@ -226,6 +290,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         } else {
           helper.recycle(client);
         }
+        releasePermit(statusCode, responseHeaders);
+        recordOutcome(statusCode, responseHeaders);
 
         addResponseComponent(Component.createFor(
               RetryStrategy.class, retryStrategy,
@@ -264,8 +330,11 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     private void handleTimeout(AsyncFiber fiber, CancellableCall cc) {
       if (firstTimeResumed()) {
         try {
-          cc.cancel();
+          coalescer.abandon(requestParams, callCallback);
+          Optional.ofNullable(cc).ifPresent(CancellableCall::cancel);
         } finally {
+          releasePermit(FIBER_TIMEOUT, null);
+          recordTimeout();
           if (LOGGER.isFinerEnabled()) {
             logTimeout();
           }
@@ -278,11 +347,40 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // A throwable occurred while attempting to set up the call. So prepare to try again.
     private void resumeAfterThrowable(AsyncFiber fiber) {
       if (firstTimeResumed()) {
+        coalescer.abandon(requestParams, callCallback);
+        releasePermit(FIBER_TIMEOUT, null);
         addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
         fiber.resume(packet);
       }
     }
 
+    // Frees the timer of a call which completed in time, rather than leaving it to expire.
+    private void cancelTimeoutCheck() {
+      Optional.ofNullable(timeoutCheck).ifPresent(Cancellable::cancel);
+    }
+
+    // Requests which joined another's call never took a permit.
+    private void releasePermit(int statusCode, Map<String, List<String>> responseHeaders) {
+      if (holdsPermit.getAndSet(false)) {
+        limiter.release(lane, statusCode, responseHeaders);
+      }
+    }
+
+    // Only the request which actually made the call reports its outcome to the circuit breaker and metrics.
+    private void recordOutcome(int statusCode, Map<String, List<String>> responseHeaders) {
+      if (callCallback != null) {
+        Optional.ofNullable(breaker).ifPresent(b -> b.recordOutcome(admission, statusCode));
+        metrics.recordCall(requestParams, statusCode, System.nanoTime() - callStartNanos, responseHeaders);
+      }
+    }
+
+    private void recordTimeout() {
+      if (callCallback != null) {
+        Optional.ofNullable(breaker).ifPresent(b -> b.recordOutcome(admission, FIBER_TIMEOUT));
+        metrics.recordTimeout(requestParams);
+      }
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
@@ -334,24 +432,12 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     AsyncRequestStepProcessing processing = new AsyncRequestStepProcessing(packet, retry, cont);
-    return doSuspend(
-        (fiber) -> {
-          try {
-            CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(fiber, cc));
-          } catch (ApiException t) {
-            logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
-          } catch (Throwable t) {
-            logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
-          }
-        });
+    return doSuspend(processing::start);
   }
 
   // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
-  private void scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
-    fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
+  private Cancellable scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
+    return fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
   }
 
   private void logAsyncRequest() {
@@ -459,6 +545,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
 
   private final class DefaultRetryStrategy implements RetryStrategy {
     private long retryCount = 0;
+    private final DecorrelatedJitterBackoff backoff
+          = new DecorrelatedJitterBackoff(RETRY_BASE_MILLIS, RETRY_MAX_MILLIS, R::nextDouble);
     private final int maxRetryCount;
     private final Step retryStep;
     private final RetryStrategyListener listener;
@@ -500,6 +588,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     @Nonnull
     private NextAction backOffAndRetry(Packet packet, Step nextStep) {
       final long waitTime = getNextWaitTime();
+      ApiCallMetrics.getInstance().recordRetry(requestParams);
       LOGGER.finer(MessageKeys.ASYNC_RETRY, identityHash(), String.valueOf(waitTime),
             requestParams.call, requestParams.namespace, requestParams.name);
 
@@ -508,9 +597,11 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       return na;
     }
 
-    // Compute wait time, increasing exponentially
-    private int getNextWaitTime() {
-      return Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
+    // Compute wait time, increasing roughly exponentially, with decorrelated jitter so that fibers
+    // which failed together do not retry together
+    private long getNextWaitTime() {
+      retryCount++;
+      return backoff.nextDelayMillis();
     }
 
     // Conflict is an optimistic locking failure.  Therefore, we can't
@@ -527,6 +618,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     @Override
     public void reset() {
       retryCount = 0;
+      backoff.reset();
     }
   }
 
@@ -0,0 +1,233 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_GATEWAY_TIMEOUT;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.calls.AsyncRequestStep.FIBER_TIMEOUT;
+import static oracle.kubernetes.operator.logging.MessageKeys.CIRCUIT_BREAKER_CLOSED;
+import static oracle.kubernetes.operator.logging.MessageKeys.CIRCUIT_BREAKER_OPENED;
+
+/**
+ * Tracks the outcomes of the recent calls of one kind, such as "list pod", and stops callers from making such calls
+ * while too many of them are failing. Once the failure rate over the last calls reaches a threshold, the breaker
+ * opens: callers are told to wait rather than call, for a time which grows with each consecutive opening. It then
+ * lets a single call through at a time as a probe. A successful probe closes the breaker; a failed one opens it
+ * again. Each probe is identified by a token in the {@link Admission} which let it through, so that the outcomes
+ * of other calls, such as those started before the breaker opened, or an earlier probe which is slow to complete,
+ * cannot change the state of a half-open breaker.
+ *
+ * <p>Only failures which suggest that the server is overloaded or unavailable count: timeouts, throttling and
+ * server errors. A call which is rejected for any other reason shows that the server is responding.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    HALF_OPEN,
+    OPEN
+  }
+
+  static final int WINDOW_SIZE = 20;
+  static final int MINIMUM_CALLS = 10;
+  static final long BASE_OPEN_MILLIS = 1000;
+  static final long MAX_OPEN_MILLIS = 60_000;
+  static final long PROBE_INTERVAL_MILLIS = 1000;
+
+  private static final long NO_PROBE = 0;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String verb;
+  private final String resource;
+  private final int failureRatePercent;
+  private final LongSupplier nanoClock;
+  private final DecorrelatedJitterBackoff openTimes;
+  private final boolean[] failures = new boolean[WINDOW_SIZE];
+  private int numCalls;
+  private int numFailures;
+  private int nextSlot;
+  private State state = State.CLOSED;
+  private long openUntil;
+  private long nextProbeTime;
+  private long probeToken = NO_PROBE;
+  private long lastProbeToken = NO_PROBE;
+  private long openedCount;
+  private long rejectedCount;
+
+  CircuitBreaker(String verb, String resource, int failureRatePercent, LongSupplier nanoClock) {
+    this(verb, resource, failureRatePercent, nanoClock, new DecorrelatedJitterBackoff(
+          BASE_OPEN_MILLIS, MAX_OPEN_MILLIS, () -> ThreadLocalRandom.current().nextDouble()));
+  }
+
+  CircuitBreaker(String verb, String resource, int failureRatePercent, LongSupplier nanoClock,
+                 DecorrelatedJitterBackoff openTimes) {
+    this.verb = verb;
+    this.resource = resource;
+    this.failureRatePercent = failureRatePercent;
+    this.nanoClock = nanoClock;
+    this.openTimes = openTimes;
+  }
+
+  public String getVerb() {
+    return verb;
+  }
+
+  public String getResource() {
+    return resource;
+  }
+
+  public String getName() {
+    return verb + " " + resource;
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public synchronized long getOpenedCount() {
+    return openedCount;
+  }
+
+  public synchronized long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  /**
+   * Asks whether a call may be made now. While the breaker is closed, it may. While it is open, the caller must
+   * wait. When it is half-open, one caller at a time may make a probe call.
+   *
+   * @return the admission, which the caller must pass to {@link #recordOutcome(Admission, int)} if it makes the call
+   */
+  public synchronized Admission admit() {
+    final long now = nanoClock.getAsLong();
+    if (state == State.OPEN && now - openUntil >= 0) {
+      state = State.HALF_OPEN;
+      nextProbeTime = now;
+    }
+
+    if (state == State.CLOSED) {
+      return new Admission(0, NO_PROBE);
+    } else if (state == State.HALF_OPEN && now - nextProbeTime >= 0) {
+      nextProbeTime = now + TimeUnit.MILLISECONDS.toNanos(PROBE_INTERVAL_MILLIS);
+      probeToken = ++lastProbeToken;
+      return new Admission(0, probeToken);
+    } else {
+      rejectedCount++;
+      return new Admission(Math.max(1, (state == State.OPEN ? openUntil : nextProbeTime) - now), NO_PROBE);
+    }
+  }
+
+  /**
+   * Records the outcome of a call which was not made as a probe.
+   *
+   * @param statusCode the HTTP status of the response, or zero if the call timed out
+   */
+  public void recordOutcome(int statusCode) {
+    recordOutcome(new Admission(0, NO_PROBE), statusCode);
+  }
+
+  /**
+   * Records the outcome of a call. While the breaker is half-open, only the outcome of the latest probe counts.
+   *
+   * @param admission the admission which let the call through
+   * @param statusCode the HTTP status of the response, or zero if the call timed out
+   */
+  public synchronized void recordOutcome(Admission admission, int statusCode) {
+    final boolean failed = isOverloadFailure(statusCode);
+    if (state == State.HALF_OPEN) {
+      if (admission.probeToken != NO_PROBE && admission.probeToken == probeToken) {
+        probeToken = NO_PROBE;
+        if (failed) {
+          open();
+        } else {
+          close();
+        }
+      }
+    } else if (state == State.CLOSED) {
+      record(failed);
+      if (numCalls >= MINIMUM_CALLS && numFailures * 100 >= failureRatePercent * numCalls) {
+        open();
+      }
+    }
+  }
+
+  private static boolean isOverloadFailure(int statusCode) {
+    return statusCode == FIBER_TIMEOUT
+          || statusCode == HTTP_TOO_MANY_REQUESTS
+          || statusCode == HTTP_INTERNAL_ERROR
+          || statusCode == HTTP_UNAVAILABLE
+          || statusCode == HTTP_GATEWAY_TIMEOUT;
+  }
+
+  private void record(boolean failed) {
+    if (numCalls == WINDOW_SIZE && failures[nextSlot]) {
+      numFailures--;
+    }
+    numCalls = Math.min(WINDOW_SIZE, numCalls + 1);
+    failures[nextSlot] = failed;
+    if (failed) {
+      numFailures++;
+    }
+    nextSlot = (nextSlot + 1) % WINDOW_SIZE;
+  }
+
+  private void open() {
+    final long openMillis = openTimes.nextDelayMillis();
+    if (state == State.CLOSED) {
+      LOGGER.warning(CIRCUIT_BREAKER_OPENED, Integer.toString(numFailures), Integer.toString(numCalls), getName(),
+            Long.toString(openMillis));
+    }
+    state = State.OPEN;
+    openUntil = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(openMillis);
+    openedCount++;
+  }
+
+  private void close() {
+    LOGGER.info(CIRCUIT_BREAKER_CLOSED, getName());
+    state = State.CLOSED;
+    openTimes.reset();
+    numCalls = 0;
+    numFailures = 0;
+    nextSlot = 0;
+  }
+
+  /** The answer of a breaker to a request to make a call. */
+  public static class Admission {
+    private final long waitNanos;
+    private final long probeToken;
+
+    Admission(long waitNanos, long probeToken) {
+      this.waitNanos = waitNanos;
+      this.probeToken = probeToken;
+    }
+
+    /**
+     * Returns the time to wait before asking again.
+     *
+     * @return zero if the call may be made, otherwise the time in nanoseconds to wait
+     */
+    public long getWaitNanos() {
+      return waitNanos;
+    }
+
+    /**
+     * Returns true if the call is to be made as the probe of a half-open breaker.
+     *
+     * @return true for a probe call
+     */
+    public boolean isProbe() {
+      return probeToken != NO_PROBE;
+    }
+  }
+}
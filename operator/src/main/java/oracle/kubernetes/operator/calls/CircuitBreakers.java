@@ -0,0 +1,108 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+
+/**
+ * The circuit breakers for the operator's calls to Kubernetes, one for each combination of operation and resource
+ * type, shared by all fibers.
+ */
+public class CircuitBreakers implements MetricsSource {
+
+  private static final int DEFAULT_FAILURE_RATE_PERCENT = 50;
+
+  private static volatile CircuitBreakers instance;
+
+  private final int failureRatePercent;
+  private final LongSupplier nanoClock;
+  private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the breakers used for all calls made by the operator, creating them if needed.
+   *
+   * @return the shared circuit breakers
+   */
+  public static CircuitBreakers getInstance() {
+    CircuitBreakers result = instance;
+    if (result == null) {
+      synchronized (CircuitBreakers.class) {
+        if (instance == null) {
+          instance = new CircuitBreakers(getConfiguredFailureRatePercent());
+        }
+        result = instance;
+      }
+    }
+    return result;
+  }
+
+  private static int getConfiguredFailureRatePercent() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.circuitBreakerFailureRatePercent)
+          .orElse(DEFAULT_FAILURE_RATE_PERCENT);
+  }
+
+  /**
+   * Creates a set of circuit breakers.
+   *
+   * @param failureRatePercent the percentage of failed recent calls at which a breaker opens, or zero to let all
+   *                           calls through
+   */
+  public CircuitBreakers(int failureRatePercent) {
+    this(failureRatePercent, System::nanoTime);
+  }
+
+  CircuitBreakers(int failureRatePercent, LongSupplier nanoClock) {
+    this.failureRatePercent = failureRatePercent;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Returns the breaker for the kind of call described by the specified parameters.
+   *
+   * @param requestParams the parameters of a call
+   * @return a circuit breaker, or null if the breakers are disabled
+   */
+  public CircuitBreaker getBreaker(RequestParams requestParams) {
+    if (failureRatePercent <= 0) {
+      return null;
+    }
+    final String verb = requestParams.getOperationName();
+    final String resource = requestParams.getResourceType().toLowerCase();
+    return breakers.computeIfAbsent(verb + " " + resource,
+          n -> new CircuitBreaker(verb, resource, failureRatePercent, nanoClock));
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    final Map<String, CircuitBreaker> sorted = new TreeMap<>(breakers);
+
+    writer.family("operator_k8s_circuit_breaker_state", GAUGE,
+          "State of the circuit breaker for each kind of call: 0 closed, 1 half-open, 2 open.");
+    sorted.values().forEach(b -> writer.sample("operator_k8s_circuit_breaker_state", b.getState().ordinal(),
+          "verb", b.getVerb(), "resource", b.getResource()));
+
+    writer.family("operator_k8s_circuit_breaker_opened_total", COUNTER,
+          "Number of times the circuit breaker for each kind of call has opened.");
+    sorted.values().forEach(b -> writer.sample("operator_k8s_circuit_breaker_opened_total", b.getOpenedCount(),
+          "verb", b.getVerb(), "resource", b.getResource()));
+
+    writer.family("operator_k8s_circuit_breaker_rejected_total", COUNTER,
+          "Number of times a call was held back by an open circuit breaker.");
+    sorted.values().forEach(b -> writer.sample("operator_k8s_circuit_breaker_rejected_total", b.getRejectedCount(),
+          "verb", b.getVerb(), "resource", b.getResource()));
+  }
+}
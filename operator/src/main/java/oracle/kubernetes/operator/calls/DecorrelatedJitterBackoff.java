@@ -0,0 +1,40 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Computes successive delays using "decorrelated jitter": each delay is chosen at random between the base delay and
+ * three times the previous one, up to a maximum. The delays grow roughly exponentially, but since each depends on
+ * the random choices made before it, callers which started backing off together quickly spread out.
+ */
+class DecorrelatedJitterBackoff {
+  private final long baseMillis;
+  private final long maxMillis;
+  private final DoubleSupplier random;
+  private long previousMillis;
+
+  DecorrelatedJitterBackoff(long baseMillis, long maxMillis, DoubleSupplier random) {
+    this.baseMillis = baseMillis;
+    this.maxMillis = maxMillis;
+    this.random = random;
+    this.previousMillis = baseMillis;
+  }
+
+  /**
+   * Returns the next delay in the sequence.
+   * @return a delay in milliseconds
+   */
+  long nextDelayMillis() {
+    final long upper = Math.max(baseMillis, Math.min(maxMillis, previousMillis * 3));
+    previousMillis = baseMillis + (long) (random.getAsDouble() * (upper - baseMillis));
+    return previousMillis;
+  }
+
+  /** Restarts the sequence from the base delay. */
+  void reset() {
+    previousMillis = baseMillis;
+  }
+}
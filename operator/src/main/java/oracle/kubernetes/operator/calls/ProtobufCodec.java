@@ -0,0 +1,369 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.CoreV1Event;
+import io.kubernetes.client.openapi.models.CoreV1EventList;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.proto.V1Batch;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Request;
+import okhttp3.Response;
+import oracle.kubernetes.operator.TuningParameters;
+
+/**
+ * Support for reading built-in Kubernetes resources in the Kubernetes protobuf encoding, rather than JSON. Decoding
+ * protobuf is cheaper than parsing JSON, which matters when listing or watching namespaces with many pods.
+ * This is enabled by the "ProtobufCoreResources" feature gate, and applies only to the resource types listed here;
+ * custom resources, such as domains, have no protobuf encoding and always use JSON.
+ *
+ * <p>Requests accept JSON as well as protobuf, so a server which cannot encode a response as protobuf may still
+ * send it as JSON, which is decoded as usual.
+ */
+public final class ProtobufCodec {
+
+  public static final String FEATURE_GATE = "ProtobufCoreResources";
+  public static final String PROTOBUF_MEDIA_TYPE = "application/vnd.kubernetes.protobuf";
+  static final String ACCEPT_PROTOBUF = PROTOBUF_MEDIA_TYPE + ", application/json";
+
+  /** The prefix of every protobuf-encoded object, ahead of its envelope. */
+  private static final byte[] MAGIC = {'k', '8', 's', 0};
+
+  private static final String STATUS_KIND = "Status";
+
+  private static final Map<Class<?>, Descriptor> DESCRIPTORS = new HashMap<>();
+
+  static {
+    DESCRIPTORS.put(V1Pod.class, V1.Pod.getDescriptor());
+    DESCRIPTORS.put(V1PodList.class, V1.PodList.getDescriptor());
+    DESCRIPTORS.put(V1Service.class, V1.Service.getDescriptor());
+    DESCRIPTORS.put(V1ServiceList.class, V1.ServiceList.getDescriptor());
+    DESCRIPTORS.put(V1ConfigMap.class, V1.ConfigMap.getDescriptor());
+    DESCRIPTORS.put(V1ConfigMapList.class, V1.ConfigMapList.getDescriptor());
+    DESCRIPTORS.put(V1Job.class, V1Batch.Job.getDescriptor());
+    DESCRIPTORS.put(V1JobList.class, V1Batch.JobList.getDescriptor());
+    DESCRIPTORS.put(CoreV1Event.class, V1.Event.getDescriptor());
+    DESCRIPTORS.put(CoreV1EventList.class, V1.EventList.getDescriptor());
+    DESCRIPTORS.put(V1Status.class, Meta.Status.getDescriptor());
+  }
+
+  private ProtobufCodec() {
+  }
+
+  /**
+   * Returns true if the operator should request built-in resources as protobuf.
+   *
+   * @return true if the feature gate is enabled
+   */
+  public static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(FEATURE_GATE))
+          .orElse(false);
+  }
+
+  /**
+   * Returns true if the specified model class may be read as protobuf.
+   *
+   * @param modelClass a Kubernetes model class, such as V1PodList
+   * @return true if a protobuf encoding is known for the class
+   */
+  public static boolean supports(Class<?> modelClass) {
+    return DESCRIPTORS.containsKey(modelClass);
+  }
+
+  /**
+   * Returns a copy of a request which asks for a protobuf response.
+   *
+   * @param request a request built by the Kubernetes client
+   * @return a request with an updated Accept header
+   */
+  public static Request acceptProtobuf(Request request) {
+    return request.newBuilder().header("Accept", ACCEPT_PROTOBUF).build();
+  }
+
+  /**
+   * Returns true if the body of the specified response is encoded as protobuf.
+   *
+   * @param response a response from the Kubernetes API server
+   * @return true if the content type is the Kubernetes protobuf type
+   */
+  public static boolean isProtobuf(Response response) {
+    return Optional.ofNullable(response.header("Content-Type"))
+          .map(type -> type.startsWith(PROTOBUF_MEDIA_TYPE))
+          .orElse(false);
+  }
+
+  /**
+   * Runs a call asynchronously, as {@link ApiClient#executeAsync(Call, java.lang.reflect.Type, ApiCallback)} would,
+   * but requesting a protobuf response if the feature gate is enabled and the response type supports it.
+   *
+   * @param client the client which created the call
+   * @param call a call created by the Kubernetes client, which has not been executed
+   * @param modelClass the class of the expected response
+   * @param callback the callback to receive the response
+   * @param <T> the type of the response
+   * @return the call actually made
+   */
+  public static <T> Call executeAsync(ApiClient client, Call call, Class<T> modelClass, ApiCallback<T> callback) {
+    if (!isEnabled() || !supports(modelClass)) {
+      client.executeAsync(call, modelClass, callback);
+      return call;
+    }
+
+    final Call protobufCall = client.getHttpClient().newCall(acceptProtobuf(call.request()));
+    protobufCall.enqueue(new Callback() {
+      @Override
+      public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+        callback.onFailure(new ApiException(e), 0, null);
+      }
+
+      @Override
+      public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+        final T result;
+        try {
+          result = handleResponse(client, response, modelClass);
+        } catch (ApiException e) {
+          callback.onFailure(e, response.code(), response.headers().toMultimap());
+          return;
+        } catch (RuntimeException e) {
+          // e.g. a malformed response body; the fiber must not wait for a callback which never comes
+          callback.onFailure(new ApiException(e), response.code(), response.headers().toMultimap());
+          return;
+        }
+        callback.onSuccess(result, response.code(), response.headers().toMultimap());
+      }
+    });
+    return protobufCall;
+  }
+
+  static <T> T handleResponse(ApiClient client, Response response, Class<T> modelClass)
+        throws ApiException {
+    if (!isProtobuf(response)) {
+      return client.handleResponse(response, modelClass);
+    }
+
+    try (Response closeable = response) {
+      final byte[] body = closeable.body().bytes();
+      if (closeable.isSuccessful()) {
+        return decode(body, modelClass);
+      }
+      throw new ApiException(closeable.message(), closeable.code(), closeable.headers().toMultimap(),
+            client.getJSON().serialize(decode(body, V1Status.class)));
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+
+  /**
+   * Decodes a protobuf-encoded object into a model. The object's envelope provides its API version and kind,
+   * which are set in the model if it has such fields, as they would be when reading JSON.
+   *
+   * @param bytes the encoded object, starting with the Kubernetes protobuf prefix
+   * @param modelClass the class of the model
+   * @param <T> the type of the model
+   * @return the decoded model
+   * @throws IOException if the bytes are not a valid encoding
+   */
+  public static <T> T decode(byte[] bytes, Class<T> modelClass) throws IOException {
+    final CodedInputStream input = CodedInputStream.newInstance(bytes);
+    input.enableAliasing(true);
+    return modelClass.cast(readEnvelope(input, modelClass, null));
+  }
+
+  /**
+   * Decodes a protobuf-encoded list, handing each item to a consumer as soon as it is decoded rather than
+   * adding it to the list. Only the encoded bytes and one decoded item are then held at once.
+   *
+   * @param bytes the encoded list, starting with the Kubernetes protobuf prefix
+   * @param listClass the class of the list model
+   * @param itemConsumer the consumer of each item
+   * @param <T> the type of the list model
+   * @return the decoded list, with its metadata but no items
+   * @throws IOException if the bytes are not a valid encoding
+   */
+  static <T> T decodeList(byte[] bytes, Class<T> listClass, Consumer<Object> itemConsumer) throws IOException {
+    final CodedInputStream input = CodedInputStream.newInstance(bytes);
+    input.enableAliasing(true);
+    return listClass.cast(readEnvelope(input, listClass, itemConsumer));
+  }
+
+  /**
+   * Decodes one event from a protobuf-encoded watch stream.
+   *
+   * @param frame the bytes of one frame of the stream, without its length prefix
+   * @param modelClass the class of the watched resource
+   * @param <T> the type of the watched resource
+   * @return the decoded event, with a status rather than an object if it reports an error
+   * @throws IOException if the bytes are not a valid encoding
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Watch.Response<T> decodeWatchEvent(byte[] frame, Class<T> modelClass) throws IOException {
+    final CodedInputStream input = CodedInputStream.newInstance(frame);
+    input.enableAliasing(true);
+    if (hasMagicPrefix(frame)) {
+      input.skipRawBytes(MAGIC.length);
+      skipToRaw(input);
+    }
+
+    String type = null;
+    Object object = null;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (WireFormat.getTagFieldNumber(tag) == 1) {
+        type = input.readStringRequireUtf8();
+      } else if (WireFormat.getTagFieldNumber(tag) == 2) {
+        object = readRawExtension(input, modelClass);
+      } else {
+        input.skipField(tag);
+      }
+    }
+
+    if (object instanceof V1Status && modelClass != V1Status.class) {
+      return new Watch.Response<>(type, (V1Status) object);
+    }
+    return new Watch.Response<>(type, (T) object);
+  }
+
+  private static boolean hasMagicPrefix(byte[] bytes) {
+    if (bytes.length < MAGIC.length) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (bytes[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Positions the stream at the start of the raw bytes held by an envelope, limited to their length.
+  private static void skipToRaw(CodedInputStream input) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (WireFormat.getTagFieldNumber(tag) == 2) {
+        input.pushLimit(input.readRawVarint32());
+        return;
+      }
+      input.skipField(tag);
+    }
+  }
+
+  private static Object readRawExtension(CodedInputStream input, Class<?> modelClass) throws IOException {
+    Object result = null;
+    final int oldLimit = input.pushLimit(input.readRawVarint32());
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (WireFormat.getTagFieldNumber(tag) == 1) {
+        final int rawLimit = input.pushLimit(input.readRawVarint32());
+        result = readEnvelope(input, modelClass, null);
+        input.popLimit(rawLimit);
+      } else {
+        input.skipField(tag);
+      }
+    }
+    input.popLimit(oldLimit);
+    return result;
+  }
+
+  // Reads an object with its prefix and envelope, which may hold a status in place of the expected object.
+  // Given an item consumer, reads a list object by streaming its items to the consumer.
+  private static Object readEnvelope(CodedInputStream input, Class<?> modelClass, Consumer<Object> itemConsumer)
+        throws IOException {
+    final byte[] prefix = input.readRawBytes(MAGIC.length);
+    if (!hasMagicPrefix(prefix)) {
+      throw new InvalidProtocolBufferException("Missing Kubernetes protobuf prefix");
+    }
+
+    String apiVersion = null;
+    String kind = null;
+    Object result = null;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (WireFormat.getTagFieldNumber(tag) == 1) {
+        final String[] typeMeta = readTypeMeta(input);
+        apiVersion = typeMeta[0];
+        kind = typeMeta[1];
+      } else if (WireFormat.getTagFieldNumber(tag) == 2) {
+        final Class<?> targetClass = STATUS_KIND.equals(kind) ? V1Status.class : modelClass;
+        final int oldLimit = input.pushLimit(input.readRawVarint32());
+        result = itemConsumer == null || targetClass == V1Status.class
+              ? ProtobufDecoder.decode(input, getDescriptor(targetClass), targetClass)
+              : ProtobufDecoder.decodeList(input, getDescriptor(targetClass), targetClass, itemConsumer);
+        input.popLimit(oldLimit);
+      } else {
+        input.skipField(tag);
+      }
+    }
+
+    setTypeMeta(result, apiVersion, kind);
+    return result;
+  }
+
+  private static Descriptor getDescriptor(Class<?> modelClass) throws InvalidProtocolBufferException {
+    return Optional.ofNullable(DESCRIPTORS.get(modelClass))
+          .orElseThrow(() -> new InvalidProtocolBufferException("No protobuf encoding for " + modelClass));
+  }
+
+  private static String[] readTypeMeta(CodedInputStream input) throws IOException {
+    final String[] result = new String[2];
+    final int oldLimit = input.pushLimit(input.readRawVarint32());
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      final int fieldNumber = WireFormat.getTagFieldNumber(tag);
+      if (fieldNumber == 1 || fieldNumber == 2) {
+        result[fieldNumber - 1] = input.readStringRequireUtf8();
+      } else {
+        input.skipField(tag);
+      }
+    }
+    input.popLimit(oldLimit);
+    return result;
+  }
+
+  // The generated models all have setters for their type fields, when they have them at all.
+  private static void setTypeMeta(Object model, String apiVersion, String kind) throws IOException {
+    if (model == null) {
+      return;
+    }
+    try {
+      if (apiVersion != null && !apiVersion.isEmpty()) {
+        model.getClass().getMethod("setApiVersion", String.class).invoke(model, apiVersion);
+      }
+      if (kind != null && !kind.isEmpty()) {
+        model.getClass().getMethod("setKind", String.class).invoke(model, kind);
+      }
+    } catch (NoSuchMethodException e) {
+      // the model has no type fields
+    } catch (ReflectiveOperationException e) {
+      throw new IOException("Unable to set type of " + model.getClass(), e);
+    }
+  }
+}
@@ -0,0 +1,473 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.google.gson.annotations.SerializedName;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+
+/**
+ * Decodes Kubernetes protobuf messages directly into the OpenAPI model classes used elsewhere in the operator,
+ * such as {@link io.kubernetes.client.openapi.models.V1Pod}. Kubernetes names each protobuf field after the JSON
+ * property it represents, so the descriptors of the generated protobuf classes identify the model field to set for
+ * each field number. The generated message classes themselves are never instantiated.
+ *
+ * <p>Fields which the descriptors do not know, such as those added in newer Kubernetes versions, are skipped.
+ * Kubernetes always writes scalar fields which are not pointers, even when empty; this decoder leaves a model
+ * string unset when its value is empty, as JSON would, but keeps zero numbers and false booleans.
+ */
+final class ProtobufDecoder {
+
+  private static final String TIME = "k8s.io.apimachinery.pkg.apis.meta.v1.Time";
+  private static final String MICRO_TIME = "k8s.io.apimachinery.pkg.apis.meta.v1.MicroTime";
+  private static final String INT_OR_STRING = "k8s.io.apimachinery.pkg.util.intstr.IntOrString";
+  private static final String QUANTITY = "k8s.io.apimachinery.pkg.api.resource.Quantity";
+  private static final String ITEMS = "items";
+
+  private static final Map<Class<?>, ModelMapping> MAPPINGS = new ConcurrentHashMap<>();
+
+  private ProtobufDecoder() {
+  }
+
+  /**
+   * Reads a message from the stream, up to its current limit, into a new instance of a model class.
+   *
+   * @param input the stream positioned at the first field of the message
+   * @param descriptor the descriptor of the message
+   * @param modelClass the model class to create
+   * @param <T> the type of the model
+   * @return the new model
+   * @throws IOException if the message cannot be read
+   */
+  static <T> T decode(CodedInputStream input, Descriptor descriptor, Class<T> modelClass) throws IOException {
+    return modelClass.cast(readModel(input, getMapping(modelClass, descriptor)));
+  }
+
+  /**
+   * Reads a list message from the stream, up to its current limit, handing each of its items to a consumer as soon
+   * as it is read, rather than adding it to the list. The returned list has its metadata, but no items.
+   *
+   * @param input the stream positioned at the first field of the message
+   * @param descriptor the descriptor of the list message
+   * @param listClass the list model class to create
+   * @param itemConsumer the consumer of each item read
+   * @param <T> the type of the list model
+   * @return the new list model, without items
+   * @throws IOException if the message cannot be read
+   */
+  static <T> T decodeList(CodedInputStream input, Descriptor descriptor, Class<T> listClass,
+                          Consumer<Object> itemConsumer) throws IOException {
+    final ModelMapping mapping = getMapping(listClass, descriptor);
+    final Object list = mapping.newInstance();
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      final FieldMapping field = mapping.getField(WireFormat.getTagFieldNumber(tag));
+      if (field != null && ITEMS.equals(field.descriptor.getName())) {
+        itemConsumer.accept(readValue(input, field.descriptor, field.valueClass));
+      } else {
+        readField(input, tag, field, list);
+      }
+    }
+    return listClass.cast(list);
+  }
+
+  private static ModelMapping getMapping(Class<?> modelClass, Descriptor descriptor) {
+    ModelMapping mapping = MAPPINGS.get(modelClass);
+    if (mapping == null) {
+      mapping = new ModelMapping(modelClass, descriptor);
+      MAPPINGS.putIfAbsent(modelClass, mapping);
+    }
+    return mapping;
+  }
+
+  private static Object readModel(CodedInputStream input, ModelMapping mapping) throws IOException {
+    final Object model = mapping.newInstance();
+    readFields(input, mapping, model);
+    return model;
+  }
+
+  private static void readFields(CodedInputStream input, ModelMapping mapping, Object model) throws IOException {
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      readField(input, tag, mapping.getField(WireFormat.getTagFieldNumber(tag)), model);
+    }
+  }
+
+  private static void readField(CodedInputStream input, int tag, FieldMapping field, Object model)
+        throws IOException {
+    if (field == null) {
+      input.skipField(tag);
+    } else if (field.inlineMapping != null) {
+      final int oldLimit = input.pushLimit(input.readRawVarint32());
+      readFields(input, field.inlineMapping, model);
+      input.popLimit(oldLimit);
+    } else if (field.isMap()) {
+      field.putEntry(model, readMapEntry(input, field));
+    } else if (field.descriptor.isRepeated()) {
+      readRepeated(input, tag, field, model);
+    } else {
+      field.set(model, readSingular(input, field.descriptor, field.valueClass));
+    }
+  }
+
+  private static void readRepeated(CodedInputStream input, int tag, FieldMapping field, Object model)
+        throws IOException {
+    if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED && isPackable(field.descriptor)) {
+      final int oldLimit = input.pushLimit(input.readRawVarint32());
+      while (input.getBytesUntilLimit() > 0) {
+        field.addElement(model, readValue(input, field.descriptor, field.valueClass));
+      }
+      input.popLimit(oldLimit);
+    } else {
+      field.addElement(model, readValue(input, field.descriptor, field.valueClass));
+    }
+  }
+
+  private static boolean isPackable(FieldDescriptor descriptor) {
+    return descriptor.getType() != FieldDescriptor.Type.STRING
+          && descriptor.getType() != FieldDescriptor.Type.BYTES
+          && descriptor.getType() != FieldDescriptor.Type.MESSAGE;
+  }
+
+  // Empty strings are how Kubernetes writes unset string fields, which JSON would have omitted.
+  private static Object readSingular(CodedInputStream input, FieldDescriptor descriptor, Class<?> valueClass)
+        throws IOException {
+    final Object value = readValue(input, descriptor, valueClass);
+    return "".equals(value) ? null : value;
+  }
+
+  private static Object[] readMapEntry(CodedInputStream input, FieldMapping field) throws IOException {
+    final Object[] entry = new Object[2];
+    final int oldLimit = input.pushLimit(input.readRawVarint32());
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case 1:
+          entry[0] = input.readStringRequireUtf8();
+          break;
+        case 2:
+          entry[1] = readValue(input, field.mapValueDescriptor, field.valueClass);
+          break;
+        default:
+          input.skipField(tag);
+      }
+    }
+    input.popLimit(oldLimit);
+    return entry;
+  }
+
+  private static Object readValue(CodedInputStream input, FieldDescriptor descriptor, Class<?> valueClass)
+        throws IOException {
+    switch (descriptor.getType()) {
+      case STRING:
+        return input.readStringRequireUtf8();
+      case BYTES:
+        return input.readByteArray();
+      case BOOL:
+        return input.readBool();
+      case INT32:
+      case UINT32:
+      case ENUM:
+        return toNumber(input.readRawVarint32(), valueClass);
+      case SINT32:
+        return toNumber(input.readSInt32(), valueClass);
+      case INT64:
+      case UINT64:
+        return toNumber(input.readRawVarint64(), valueClass);
+      case SINT64:
+        return toNumber(input.readSInt64(), valueClass);
+      case FIXED32:
+      case SFIXED32:
+        return toNumber(input.readRawLittleEndian32(), valueClass);
+      case FIXED64:
+      case SFIXED64:
+        return toNumber(input.readRawLittleEndian64(), valueClass);
+      case DOUBLE:
+        return toNumber(input.readDouble(), valueClass);
+      case FLOAT:
+        return toNumber(input.readFloat(), valueClass);
+      case MESSAGE:
+        return readMessage(input, descriptor.getMessageType(), valueClass);
+      default:
+        throw new InvalidProtocolBufferException("Unsupported field type " + descriptor.getType());
+    }
+  }
+
+  private static Object toNumber(Number value, Class<?> valueClass) {
+    if (valueClass == Long.class) {
+      return value.longValue();
+    } else if (valueClass == Double.class) {
+      return value.doubleValue();
+    } else if (valueClass == Float.class) {
+      return value.floatValue();
+    } else {
+      return value.intValue();
+    }
+  }
+
+  private static Object readMessage(CodedInputStream input, Descriptor descriptor, Class<?> valueClass)
+        throws IOException {
+    final int oldLimit = input.pushLimit(input.readRawVarint32());
+    final Object result = readMessageContents(input, descriptor, valueClass);
+    input.popLimit(oldLimit);
+    return result;
+  }
+
+  private static Object readMessageContents(CodedInputStream input, Descriptor descriptor, Class<?> valueClass)
+        throws IOException {
+    switch (descriptor.getFullName()) {
+      case TIME:
+      case MICRO_TIME:
+        return readTime(input);
+      case INT_OR_STRING:
+        return readIntOrString(input);
+      case QUANTITY:
+        return readQuantity(input);
+      default:
+        if (valueClass == null || valueClass == Object.class) {
+          input.skipMessage();
+          return null;
+        }
+        return readModel(input, getMapping(valueClass, descriptor));
+    }
+  }
+
+  // A time with neither field set is Go's zero time, which JSON represents as null.
+  private static OffsetDateTime readTime(CodedInputStream input) throws IOException {
+    long seconds = 0;
+    int nanos = 0;
+    boolean isSet = false;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (WireFormat.getTagFieldNumber(tag) == 1) {
+        seconds = input.readInt64();
+        isSet = true;
+      } else if (WireFormat.getTagFieldNumber(tag) == 2) {
+        nanos = input.readInt32();
+        isSet = true;
+      } else {
+        input.skipField(tag);
+      }
+    }
+    return isSet ? OffsetDateTime.ofInstant(Instant.ofEpochSecond(seconds, nanos), ZoneOffset.UTC) : null;
+  }
+
+  private static IntOrString readIntOrString(CodedInputStream input) throws IOException {
+    long type = 0;
+    int intValue = 0;
+    String stringValue = "";
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      switch (WireFormat.getTagFieldNumber(tag)) {
+        case 1:
+          type = input.readInt64();
+          break;
+        case 2:
+          intValue = input.readInt32();
+          break;
+        case 3:
+          stringValue = input.readStringRequireUtf8();
+          break;
+        default:
+          input.skipField(tag);
+      }
+    }
+    return type == 0 ? new IntOrString(intValue) : new IntOrString(stringValue);
+  }
+
+  private static Quantity readQuantity(CodedInputStream input) throws IOException {
+    String value = null;
+    int tag;
+    while ((tag = input.readTag()) != 0) {
+      if (WireFormat.getTagFieldNumber(tag) == 1) {
+        value = input.readStringRequireUtf8();
+      } else {
+        input.skipField(tag);
+      }
+    }
+    return value == null ? null : Quantity.fromString(value);
+  }
+
+  /** The correspondence between the fields of a protobuf message and those of a model class. */
+  private static class ModelMapping {
+    private final Constructor<?> constructor;
+    private final FieldMapping[] fields;
+
+    ModelMapping(Class<?> modelClass, Descriptor descriptor) {
+      this(getDefaultConstructor(modelClass), modelClass, descriptor, getSerializedFields(modelClass));
+    }
+
+    // A message field with no model counterpart may be a Go struct embedded inline, whose fields JSON would
+    // place in the enclosing object, such as the handler of a probe. Its mapping has no constructor.
+    private ModelMapping(Constructor<?> constructor, Class<?> modelClass, Descriptor descriptor,
+                         Map<String, Field> modelFields) {
+      this.constructor = constructor;
+      int maxFieldNumber = 0;
+      for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+        maxFieldNumber = Math.max(maxFieldNumber, fieldDescriptor.getNumber());
+      }
+      fields = new FieldMapping[maxFieldNumber + 1];
+      for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+        final Field field = modelFields.get(fieldDescriptor.getName());
+        if (field != null) {
+          fields[fieldDescriptor.getNumber()] = new FieldMapping(fieldDescriptor, field);
+        } else if (isInlineCandidate(fieldDescriptor)) {
+          final ModelMapping inline
+                = new ModelMapping(null, modelClass, fieldDescriptor.getMessageType(), modelFields);
+          if (inline.hasFields()) {
+            fields[fieldDescriptor.getNumber()] = new FieldMapping(fieldDescriptor, inline);
+          }
+        }
+      }
+    }
+
+    private static boolean isInlineCandidate(FieldDescriptor fieldDescriptor) {
+      return fieldDescriptor.getType() == FieldDescriptor.Type.MESSAGE
+            && !fieldDescriptor.isRepeated()
+            && fieldDescriptor.getMessageType().getFullName().startsWith("k8s.io.api.");
+    }
+
+    private boolean hasFields() {
+      for (FieldMapping field : fields) {
+        if (field != null) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static Constructor<?> getDefaultConstructor(Class<?> modelClass) {
+      try {
+        final Constructor<?> constructor = modelClass.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor;
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(modelClass + " has no default constructor", e);
+      }
+    }
+
+    private static Map<String, Field> getSerializedFields(Class<?> modelClass) {
+      final Map<String, Field> result = new HashMap<>();
+      for (Class<?> c = modelClass; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          final SerializedName name = field.getAnnotation(SerializedName.class);
+          if (name != null) {
+            field.setAccessible(true);
+            result.putIfAbsent(name.value(), field);
+          }
+        }
+      }
+      return result;
+    }
+
+    FieldMapping getField(int number) {
+      return number < fields.length ? fields[number] : null;
+    }
+
+    Object newInstance() throws IOException {
+      try {
+        return constructor.newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new IOException("Unable to create " + constructor.getDeclaringClass(), e);
+      }
+    }
+  }
+
+  /** The model field which receives the value of one protobuf field. */
+  private static class FieldMapping {
+    private final FieldDescriptor descriptor;
+    private final FieldDescriptor mapValueDescriptor;
+    private final Field field;
+    private final Class<?> valueClass;
+    private final ModelMapping inlineMapping;
+
+    FieldMapping(FieldDescriptor descriptor, Field field) {
+      this.descriptor = descriptor;
+      this.field = field;
+      this.mapValueDescriptor = descriptor.isMapField() ? descriptor.getMessageType().findFieldByNumber(2) : null;
+      this.valueClass = getValueClass(field.getGenericType(), descriptor.isMapField() ? 1 : 0);
+      this.inlineMapping = null;
+    }
+
+    FieldMapping(FieldDescriptor descriptor, ModelMapping inlineMapping) {
+      this.descriptor = descriptor;
+      this.field = null;
+      this.mapValueDescriptor = null;
+      this.valueClass = null;
+      this.inlineMapping = inlineMapping;
+    }
+
+    // For collections, the class of the elements or map values; otherwise, the class of the field itself.
+    private static Class<?> getValueClass(Type type, int typeArgument) {
+      if (!(type instanceof ParameterizedType)) {
+        return type instanceof Class ? (Class<?>) type : null;
+      }
+      final Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+      return arguments.length > typeArgument ? getValueClass(arguments[typeArgument], 0) : null;
+    }
+
+    boolean isMap() {
+      return mapValueDescriptor != null;
+    }
+
+    void set(Object model, Object value) throws IOException {
+      if (value != null) {
+        try {
+          field.set(model, value);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+          throw new IOException("Unable to set " + field, e);
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    void addElement(Object model, Object value) throws IOException {
+      try {
+        List<Object> list = (List<Object>) field.get(model);
+        if (list == null) {
+          list = new ArrayList<>();
+          field.set(model, list);
+        }
+        list.add(value);
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        throw new IOException("Unable to add to " + field, e);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    void putEntry(Object model, Object[] entry) throws IOException {
+      try {
+        Map<Object, Object> map = (Map<Object, Object>) field.get(model);
+        if (map == null) {
+          map = new LinkedHashMap<>();
+          field.set(model, map);
+        }
+        map.put(entry[0] == null ? "" : entry[0], entry[1]);
+      } catch (IllegalAccessException | IllegalArgumentException e) {
+        throw new IOException("Unable to add to " + field, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,228 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+
+/**
+ * Lets identical reads which are in flight at the same time share a single call to Kubernetes. The first request
+ * to read a resource starts the call; any request to read the same resource before the response arrives joins it,
+ * and receives its own copy of the response when it does. A request which joins a call therefore sees the
+ * resource as it was when that call was made, which may be slightly earlier than its own request; this is why
+ * coalescing is enabled only for selected calls.
+ */
+public class ReadCoalescer implements MetricsSource {
+
+  static final String COALESCED_CALLS_PARAMETER = "coalescedReadCalls";
+  static final String DEFAULT_COALESCED_CALLS = "readSecret,readPod,readDomain";
+
+  private static volatile ReadCoalescer instance;
+
+  private final Set<String> coalescedCalls;
+  private final Map<String, Flight<?>> flights = new ConcurrentHashMap<>();
+  private final Map<String, CallCounts> counts = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the coalescer used for all calls made by the operator, creating it if needed. The calls to coalesce
+   * are listed, separated by commas, in the "coalescedReadCalls" tuning parameter.
+   *
+   * @return the shared coalescer
+   */
+  public static ReadCoalescer getInstance() {
+    ReadCoalescer result = instance;
+    if (result == null) {
+      synchronized (ReadCoalescer.class) {
+        if (instance == null) {
+          instance = new ReadCoalescer(Arrays.asList(getConfiguredCalls().split(",")));
+        }
+        result = instance;
+      }
+    }
+    return result;
+  }
+
+  private static String getConfiguredCalls() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(t -> t.get(COALESCED_CALLS_PARAMETER))
+          .orElse(DEFAULT_COALESCED_CALLS);
+  }
+
+  /**
+   * Creates a coalescer.
+   *
+   * @param coalescedCalls the names of the calls to coalesce, such as "readSecret"
+   */
+  public ReadCoalescer(Collection<String> coalescedCalls) {
+    this.coalescedCalls = new HashSet<>();
+    coalescedCalls.stream().map(String::trim).filter(call -> !call.isEmpty()).forEach(this.coalescedCalls::add);
+  }
+
+  // Only reads of a single named resource are coalesced.
+  private String getKey(RequestParams requestParams) {
+    if (requestParams.name == null || !coalescedCalls.contains(requestParams.call)) {
+      return null;
+    }
+    return requestParams.call + '/' + requestParams.namespace + '/' + requestParams.name;
+  }
+
+  /**
+   * Joins an identical read already in flight, or starts a new one.
+   *
+   * @param requestParams the parameters of the read
+   * @param callback the callback which should receive the response
+   * @param copier a function which copies a response, so that each request which joined a call gets its own
+   * @param <T> the type of the response
+   * @return null if the request joined a call in flight, which will deliver the response to its callback.
+   *     Otherwise, the callback to pass to the new call, which will deliver the response to every request.
+   */
+  public <T> ApiCallback<T> joinOrStart(RequestParams requestParams, ApiCallback<T> callback, UnaryOperator<T> copier) {
+    final String key = getKey(requestParams);
+    if (key == null) {
+      return callback;
+    }
+
+    final CallCounts callCounts = counts.computeIfAbsent(requestParams.call, c -> new CallCounts());
+    while (true) {
+      @SuppressWarnings("unchecked")
+      Flight<T> flight = (Flight<T>) flights.computeIfAbsent(key, k -> new Flight<>(k, callback, copier));
+      if (flight.leader == callback) {
+        callCounts.started.increment();
+        return flight;
+      } else if (flight.addFollower(callback)) {
+        callCounts.joined.increment();
+        return null;
+      }
+      flights.remove(key, flight);
+    }
+  }
+
+  /**
+   * Stops other requests from joining a call which will not complete normally, such as one which timed out.
+   *
+   * @param requestParams the parameters of the read
+   * @param callback the callback returned by {@link #joinOrStart(RequestParams, ApiCallback, UnaryOperator)}
+   */
+  public void abandon(RequestParams requestParams, ApiCallback<?> callback) {
+    Optional.ofNullable(getKey(requestParams)).ifPresent(key -> flights.remove(key, callback));
+  }
+
+  /**
+   * Returns the number of calls of the specified kind which have been started.
+   *
+   * @param call the name of a call
+   * @return a count of calls
+   */
+  public long getStartedCount(String call) {
+    return Optional.ofNullable(counts.get(call)).map(c -> c.started.sum()).orElse(0L);
+  }
+
+  /**
+   * Returns the number of requests of the specified kind which joined a call already in flight.
+   *
+   * @param call the name of a call
+   * @return a count of requests
+   */
+  public long getJoinedCount(String call) {
+    return Optional.ofNullable(counts.get(call)).map(c -> c.joined.sum()).orElse(0L);
+  }
+
+  /**
+   * Returns the fraction of the requests of the specified kind which joined a call already in flight.
+   *
+   * @param call the name of a call
+   * @return a value between 0 and 1
+   */
+  public double getHitRate(String call) {
+    final long joined = getJoinedCount(call);
+    final long total = joined + getStartedCount(call);
+    return total == 0 ? 0 : joined / (double) total;
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    final Map<String, CallCounts> sorted = new TreeMap<>(counts);
+
+    writer.family("operator_k8s_coalesced_reads_total", COUNTER,
+          "Number of coalescable reads, by call and whether they started a call or joined one in flight.");
+    sorted.forEach((call, callCounts) -> {
+      writer.sample("operator_k8s_coalesced_reads_total", callCounts.started.sum(), "call", call, "result", "started");
+      writer.sample("operator_k8s_coalesced_reads_total", callCounts.joined.sum(), "call", call, "result", "joined");
+    });
+  }
+
+  private static class CallCounts {
+    private final LongAdder started = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+  }
+
+  private class Flight<T> implements ApiCallback<T> {
+    private final String key;
+    private final ApiCallback<T> leader;
+    private final UnaryOperator<T> copier;
+    private final List<ApiCallback<T>> followers = new ArrayList<>();
+    private boolean completed;
+
+    Flight(String key, ApiCallback<T> leader, UnaryOperator<T> copier) {
+      this.key = key;
+      this.leader = leader;
+      this.copier = copier;
+    }
+
+    synchronized boolean addFollower(ApiCallback<T> follower) {
+      if (!completed) {
+        followers.add(follower);
+      }
+      return !completed;
+    }
+
+    private synchronized List<ApiCallback<T>> complete() {
+      flights.remove(key, this);
+      completed = true;
+      return new ArrayList<>(followers);
+    }
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      final List<ApiCallback<T>> toNotify = complete();
+      leader.onFailure(e, statusCode, responseHeaders);
+      toNotify.forEach(follower -> follower.onFailure(e, statusCode, responseHeaders));
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      final List<ApiCallback<T>> toNotify = complete();
+      toNotify.forEach(follower -> follower.onSuccess(copier.apply(result), statusCode, responseHeaders));
+      leader.onSuccess(result, statusCode, responseHeaders);
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+      leader.onUploadProgress(bytesWritten, contentLength, done);
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+      leader.onDownloadProgress(bytesRead, contentLength, done);
+    }
+  }
+}
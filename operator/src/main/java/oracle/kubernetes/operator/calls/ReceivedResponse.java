@@ -0,0 +1,88 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import okhttp3.Headers;
+import okhttp3.Response;
+
+/**
+ * The status, headers and size of the last HTTP response received on the current thread, as reported by the event
+ * listener of the shared HTTP client. The Kubernetes client reads a response and hands its result to the caller on
+ * the same thread, whether the call is synchronous or asynchronous, so the caller can find here what the generated
+ * API methods do not return: the actual status of a successful synchronous call, and the number of bytes in the
+ * body. The latter is known even when the response declares no length, as is the case for large lists, which the
+ * API server sends in chunks, and for compressed responses, whose declared length OkHttp drops once it unzips them.
+ */
+public final class ReceivedResponse {
+
+  private static final ThreadLocal<ReceivedResponse> CURRENT = new ThreadLocal<>();
+
+  private final int statusCode;
+  private final Headers headers;
+  private long bodyBytes = -1;
+
+  private ReceivedResponse(int statusCode, Headers headers) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+  }
+
+  /** Forgets any response received earlier on the current thread, as a new request is about to be sent. */
+  public static void clear() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Records that the status and headers of a response have been received on the current thread.
+   *
+   * @param response the response, whose body has not yet been read
+   */
+  public static void recordHeaders(Response response) {
+    CURRENT.set(new ReceivedResponse(response.code(), response.headers()));
+  }
+
+  /**
+   * Records that the body of the current thread's response has been read or closed.
+   *
+   * @param byteCount the number of bytes of the body received from the server
+   */
+  public static void recordBodyEnd(long byteCount) {
+    Optional.ofNullable(CURRENT.get()).ifPresent(r -> r.bodyBytes = byteCount);
+  }
+
+  /**
+   * Returns the last response received on the current thread.
+   *
+   * @return the response, if any
+   */
+  public static Optional<ReceivedResponse> getCurrent() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Returns the number of body bytes of the last response received on the current thread, if it has the specified
+   * status, and forgets that response.
+   *
+   * @param statusCode the status of the response whose outcome is being recorded
+   * @return the number of bytes received, if known
+   */
+  static OptionalLong takeBodyBytes(int statusCode) {
+    final ReceivedResponse response = CURRENT.get();
+    CURRENT.remove();
+    return response == null || response.statusCode != statusCode || response.bodyBytes < 0
+          ? OptionalLong.empty() : OptionalLong.of(response.bodyBytes);
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public Map<String, List<String>> getHeaders() {
+    return headers.toMultimap();
+  }
+}
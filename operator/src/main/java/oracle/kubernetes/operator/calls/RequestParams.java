@@ -122,6 +122,15 @@ public final class RequestParams {
     throw new RuntimeException(call + " is not a valid call name");
   }
 
+  /**
+   * Returns the verb of the call, such as "list" or "patch".
+   * @return the part of the call name before the resource type
+   */
+  @Nonnull
+  public String getVerb() {
+    return call.substring(0, indexOfFirstCapitalInCallName());
+  }
+
   @Nonnull
   public String getOperationName() {
     return call.substring(0, indexOfFirstCapitalInCallName()) + (call.endsWith("Status") ? "Status" : "");
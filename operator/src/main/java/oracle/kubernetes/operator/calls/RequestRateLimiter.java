@@ -0,0 +1,292 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+
+/**
+ * Limits the number of Kubernetes API calls which the operator has in flight at once. The limit adapts to the
+ * server's responses: it halves whenever the server rejects a call as too many requests, and grows by one for
+ * each window of other completed calls, up to a configured maximum. Only a rejection by the server reduces the
+ * limit, so a call which times out, and thus has no response, counts toward growing it again. A
+ * {@code Retry-After} header on a rejection stops any new call from starting until the requested time has passed.
+ *
+ * <p>Calls waiting for a permit are queued in separate lanes by kind, and whenever a permit is freed, the lanes
+ * take turns at it. A burst of status updates or events therefore waits behind other status updates or events,
+ * rather than in front of the reads and resource creation which the operator needs in order to make progress.
+ */
+public class RequestRateLimiter implements MetricsSource {
+
+  /** The kinds of calls, each of which waits for a permit in its own queue. */
+  public enum Lane {
+    READ,
+    WRITE,
+    STATUS,
+    EVENT;
+
+    private final String label = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Returns the lane for a call to the Kubernetes API.
+     *
+     * @param call the name of the call, such as "createPod"
+     * @return the lane in which the call should wait
+     */
+    public static Lane forCall(String call) {
+      if (call == null || call.startsWith("read") || call.startsWith("list") || call.startsWith("get")) {
+        return READ;
+      } else if (call.endsWith("Status")) {
+        return STATUS;
+      } else if (call.endsWith("Event")) {
+        return EVENT;
+      } else {
+        return WRITE;
+      }
+    }
+  }
+
+  static final String RETRY_AFTER_HEADER = "Retry-After";
+  private static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+  private static volatile RequestRateLimiter instance;
+
+  private final int maxConcurrency;
+  private final LongSupplier nanoClock;
+  private final LaneState[] lanes = new LaneState[Lane.values().length];
+  private double limit;
+  private int inFlight;
+  private int nextLane;
+  private long pausedUntil;
+
+  /**
+   * Returns the limiter used for all calls made by the operator, creating it if needed. Its maximum concurrency is
+   * set by the apiRequestMaxConcurrency tuning parameter.
+   *
+   * @return the shared limiter
+   */
+  public static RequestRateLimiter getInstance() {
+    RequestRateLimiter result = instance;
+    if (result == null) {
+      synchronized (RequestRateLimiter.class) {
+        if (instance == null) {
+          instance = new RequestRateLimiter(getConfiguredMaxConcurrency());
+        }
+        result = instance;
+      }
+    }
+    return result;
+  }
+
+  private static int getConfiguredMaxConcurrency() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.apiRequestMaxConcurrency)
+          .orElse(DEFAULT_MAX_CONCURRENCY);
+  }
+
+  public RequestRateLimiter(int maxConcurrency) {
+    this(maxConcurrency, System::nanoTime);
+  }
+
+  RequestRateLimiter(int maxConcurrency, LongSupplier nanoClock) {
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.nanoClock = nanoClock;
+    this.limit = this.maxConcurrency;
+    for (Lane lane : Lane.values()) {
+      lanes[lane.ordinal()] = new LaneState();
+    }
+  }
+
+  /**
+   * Requests a permit to start a call. If one is available, takes it and runs the specified action on the calling
+   * thread. Otherwise queues the action in the call's lane, to be run on the thread which frees a permit for it.
+   * The action must eventually lead to a call to {@link #release(Lane, int, Map)}.
+   *
+   * @param lane the lane of the call
+   * @param onGranted the action which starts the call
+   */
+  public void acquire(Lane lane, Runnable onGranted) {
+    synchronized (this) {
+      if (!hasPermitFor(lane)) {
+        lanes[lane.ordinal()].waiting.add(onGranted);
+        return;
+      }
+      grant(lane);
+    }
+    onGranted.run();
+  }
+
+  /**
+   * Waits for a permit to start a call, and for any pause requested by the server to pass.
+   *
+   * @param lane the lane of the call
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public synchronized void acquireBlocking(Lane lane) throws InterruptedException {
+    while (!hasPermitFor(lane) || getPauseNanos() > 0) {
+      wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(getPauseNanos())));
+    }
+    grant(lane);
+  }
+
+  // A queued call keeps its place: a new call may only take a permit if no call in its lane is waiting.
+  private boolean hasPermitFor(Lane lane) {
+    return inFlight < getLimit() && lanes[lane.ordinal()].waiting.isEmpty();
+  }
+
+  private void grant(Lane lane) {
+    inFlight++;
+    lanes[lane.ordinal()].inFlight++;
+  }
+
+  /**
+   * Returns a permit after a call completes, adjusting the limit according to its outcome, and hands any freed
+   * permits to queued calls, taking the lanes in turn.
+   *
+   * @param lane the lane of the call
+   * @param statusCode the HTTP status of the response, or zero if there was none
+   * @param responseHeaders the headers of the response, or null if there were none
+   */
+  public void release(Lane lane, int statusCode, Map<String, List<String>> responseHeaders) {
+    List<Runnable> granted = new ArrayList<>();
+    synchronized (this) {
+      inFlight--;
+      lanes[lane.ordinal()].inFlight--;
+      recordOutcome(lane, statusCode, responseHeaders);
+      while (inFlight < getLimit()) {
+        Lane next = nextWaitingLane();
+        if (next == null) {
+          break;
+        }
+        granted.add(lanes[next.ordinal()].waiting.poll());
+        grant(next);
+      }
+      notifyAll();
+    }
+    granted.forEach(Runnable::run);
+  }
+
+  private void recordOutcome(Lane lane, int statusCode, Map<String, List<String>> responseHeaders) {
+    if (statusCode == HTTP_TOO_MANY_REQUESTS) {
+      lanes[lane.ordinal()].throttled++;
+      if (getPauseNanos() == 0) {
+        limit = Math.max(1, limit / 2);
+      }
+      final long retryAfterNanos = getRetryAfterNanos(responseHeaders);
+      if (retryAfterNanos > 0) {
+        pausedUntil = Math.max(pausedUntil, nanoClock.getAsLong() + retryAfterNanos);
+      }
+    } else if (limit < maxConcurrency) {
+      limit = Math.min(maxConcurrency, limit + 1 / limit);
+    }
+  }
+
+  private Lane nextWaitingLane() {
+    for (int i = 0; i < lanes.length; i++) {
+      int candidate = (nextLane + i) % lanes.length;
+      if (!lanes[candidate].waiting.isEmpty()) {
+        nextLane = (candidate + 1) % lanes.length;
+        return Lane.values()[candidate];
+      }
+    }
+    return null;
+  }
+
+  private static long getRetryAfterNanos(Map<String, List<String>> responseHeaders) {
+    if (responseHeaders == null) {
+      return 0;
+    }
+    for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+      if (RETRY_AFTER_HEADER.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+        return parseSeconds(header.getValue().get(0));
+      }
+    }
+    return 0;
+  }
+
+  // The header may also hold an HTTP date, but the Kubernetes API server only sends a number of seconds.
+  private static long parseSeconds(String value) {
+    try {
+      return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Returns the time remaining before new calls may start, following a {@code Retry-After} response.
+   *
+   * @return a time in nanoseconds, or zero if calls may start now
+   */
+  public synchronized long getPauseNanos() {
+    return Math.max(0, pausedUntil - nanoClock.getAsLong());
+  }
+
+  /**
+   * Returns the number of calls which may currently be in flight at once.
+   *
+   * @return a number between one and the configured maximum
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlightCount(Lane lane) {
+    return lanes[lane.ordinal()].inFlight;
+  }
+
+  public synchronized int getQueuedCount(Lane lane) {
+    return lanes[lane.ordinal()].waiting.size();
+  }
+
+  public synchronized long getThrottledCount(Lane lane) {
+    return lanes[lane.ordinal()].throttled;
+  }
+
+  @Override
+  public synchronized void writeMetrics(PrometheusTextWriter writer) {
+    writer.family("operator_k8s_request_concurrency_limit", GAUGE,
+          "Number of Kubernetes API calls which may currently be in flight at once.");
+    writer.sample("operator_k8s_request_concurrency_limit", getLimit());
+
+    writer.family("operator_k8s_requests_in_flight", GAUGE, "Number of Kubernetes API calls in flight, by lane.");
+    for (Lane lane : Lane.values()) {
+      writer.sample("operator_k8s_requests_in_flight", lanes[lane.ordinal()].inFlight, "lane", lane.label);
+    }
+
+    writer.family("operator_k8s_requests_queued", GAUGE,
+          "Number of Kubernetes API calls waiting for the client-side limiter, by lane.");
+    for (Lane lane : Lane.values()) {
+      writer.sample("operator_k8s_requests_queued", lanes[lane.ordinal()].waiting.size(), "lane", lane.label);
+    }
+
+    writer.family("operator_k8s_requests_throttled_total", COUNTER,
+          "Number of Kubernetes API calls rejected by the server as too many requests, by lane.");
+    for (Lane lane : Lane.values()) {
+      writer.sample("operator_k8s_requests_throttled_total", lanes[lane.ordinal()].throttled, "lane", lane.label);
+    }
+  }
+
+  private static class LaneState {
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+    private long throttled;
+  }
+}
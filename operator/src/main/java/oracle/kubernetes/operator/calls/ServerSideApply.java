@@ -0,0 +1,130 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Optional;
+
+import io.kubernetes.client.custom.V1Patch;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import oracle.kubernetes.operator.TuningParameters;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
+
+/**
+ * Support for reconciling operator-owned resources with server-side apply. A single apply request sends the
+ * complete desired state of a resource; the API server creates the resource if it does not exist, or updates
+ * the fields owned by the operator's field manager if it does. No prior read is needed, and since the operator
+ * forces its ownership of the fields it applies, there are no conflicts to retry.
+ * This is enabled by the "ServerSideApply" feature gate.
+ */
+public final class ServerSideApply {
+
+  public static final String FEATURE_GATE = "ServerSideApply";
+
+  /** The field manager which owns the fields applied by the operator. */
+  public static final String FIELD_MANAGER = "weblogic-operator";
+
+  /** The operation recorded in the managed fields of a resource for fields owned by an apply request. */
+  public static final String APPLY_OPERATION = "Apply";
+
+  static final String APPLY_PATCH_MEDIA_TYPE = "application/apply-patch+yaml";
+
+  private ServerSideApply() {
+  }
+
+  /**
+   * Returns true if the operator should apply its resources, rather than reading and then creating,
+   * replacing or patching them.
+   *
+   * @return true if the feature gate is enabled
+   */
+  public static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(FEATURE_GATE))
+          .orElse(false);
+  }
+
+  /**
+   * Returns true if the operator has already applied the described resource. An apply request only removes
+   * fields which its field manager owns, so a resource created or replaced in the usual way, whose fields are owned
+   * by an update manager, would keep fields dropped from the operator's model. Such a resource should be
+   * reconciled in the usual way until it is recreated by an apply request.
+   *
+   * @param metadata the metadata of an existing resource
+   * @return true if the operator's field manager has an apply entry in the resource's managed fields
+   */
+  public static boolean isManagedByApply(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata)
+          .map(V1ObjectMeta::getManagedFields)
+          .map(entries -> entries.stream()
+                .anyMatch(e -> FIELD_MANAGER.equals(e.getManager()) && APPLY_OPERATION.equals(e.getOperation())))
+          .orElse(false);
+  }
+
+  /**
+   * Creates the body of an apply request. As JSON is a subset of YAML, the resource is sent as JSON. It must
+   * include its API version and kind.
+   *
+   * @param client the client which will make the request
+   * @param resource the desired state of the resource
+   * @return the patch to send
+   */
+  public static V1Patch toPatch(ApiClient client, Object resource) {
+    return new V1Patch(client.getJSON().serialize(resource));
+  }
+
+  /**
+   * Runs a patch call asynchronously as an apply request. The Kubernetes client sends patches as JSON patches,
+   * so the call's body is resent with the apply content type.
+   *
+   * @param client the client which created the call
+   * @param patchCall a patch call created by the Kubernetes client, whose body was created by
+   *     {@link #toPatch(ApiClient, Object)}, and which has not been executed
+   * @param modelClass the class of the patched resource
+   * @param callback the callback to receive the response
+   * @param <T> the type of the patched resource
+   * @return the call actually made
+   * @throws ApiException if the request cannot be rewritten
+   */
+  public static <T> Call executeAsync(ApiClient client, Call patchCall, Class<T> modelClass, ApiCallback<T> callback)
+        throws ApiException {
+    final Call applyCall = client.getHttpClient().newCall(toApplyRequest(patchCall.request()));
+    client.executeAsync(applyCall, modelClass, callback);
+    return applyCall;
+  }
+
+  /**
+   * Returns true if an apply request failed in a way which the operator's usual read, replace and patch
+   * processing may handle: the server does not support apply, or rejected a change to an immutable field.
+   *
+   * @param callResponse the response to an apply request
+   * @return true if the resource should be reconciled without apply
+   */
+  public static boolean mustFallBack(CallResponse<?> callResponse) {
+    return callResponse.getStatusCode() == HTTP_UNPROCESSABLE_ENTITY
+          || callResponse.getStatusCode() == HttpURLConnection.HTTP_UNSUPPORTED_TYPE;
+  }
+
+  static Request toApplyRequest(Request request) throws ApiException {
+    try (Buffer buffer = new Buffer()) {
+      Optional.ofNullable(request.body()).orElseThrow(() -> new ApiException("Apply request has no body"))
+            .writeTo(buffer);
+      final RequestBody body = RequestBody.create(buffer.readByteArray(), MediaType.get(APPLY_PATCH_MEDIA_TYPE));
+      return request.newBuilder().header("Content-Type", APPLY_PATCH_MEDIA_TYPE).patch(body).build();
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+}
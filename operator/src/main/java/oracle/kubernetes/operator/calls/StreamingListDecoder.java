@@ -0,0 +1,168 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import oracle.kubernetes.operator.TuningParameters;
+
+/**
+ * Support for reading a page of a list response one item at a time. Rather than building the complete list
+ * and only then handing it to its callback, the response body is read incrementally, each item is handed to a
+ * consumer as soon as it is decoded, and the list passed to the callback holds only its metadata, such as the
+ * continue token. The items of a page are therefore never all in memory at once.
+ *
+ * <p>The consumer is called on the thread which reads the response, while the fiber which made the request is
+ * suspended. A call which fails part of the way through its body, or which times out, may already have handed
+ * some items to the consumer; those will be handed to it again when the call is retried. A timed-out call is
+ * canceled, and no item is handed to the consumer after its call is canceled, so the items of an abandoned
+ * response are not processed alongside those of its retry.
+ * This is enabled by the "StreamingListProcessing" feature gate.
+ */
+public final class StreamingListDecoder {
+
+  public static final String FEATURE_GATE = "StreamingListProcessing";
+
+  private static final String ITEMS = "items";
+
+  private StreamingListDecoder() {
+  }
+
+  /**
+   * Returns true if the operator should stream the items of lists to their processors.
+   *
+   * @return true if the feature gate is enabled
+   */
+  public static boolean isEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(FEATURE_GATE))
+          .orElse(false);
+  }
+
+  /**
+   * Runs a list call asynchronously, handing each item of the response to a consumer as it is decoded. The
+   * response is requested as protobuf if {@link ProtobufCodec} is enabled and supports the list type.
+   *
+   * @param client the client which created the call
+   * @param call a list call created by the Kubernetes client, which has not been executed
+   * @param listClass the class of the expected list
+   * @param itemClass the class of the items in the list
+   * @param itemConsumer the consumer of each item
+   * @param callback the callback to receive the list, without its items
+   * @param <L> the type of the list
+   * @param <I> the type of the items
+   * @return the call actually made
+   */
+  public static <L, I> Call executeAsync(ApiClient client, Call call, Class<L> listClass, Class<I> itemClass,
+                                         Consumer<I> itemConsumer, ApiCallback<L> callback) {
+    final Call streamingCall = ProtobufCodec.isEnabled() && ProtobufCodec.supports(listClass)
+          ? client.getHttpClient().newCall(ProtobufCodec.acceptProtobuf(call.request()))
+          : call;
+    streamingCall.enqueue(new Callback() {
+      @Override
+      public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+        callback.onFailure(new ApiException(e), 0, null);
+      }
+
+      @Override
+      public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+        final Consumer<I> consumer = item -> acceptUnlessCanceled(call, item, itemConsumer);
+        final L result;
+        try {
+          result = handleResponse(client, response, listClass, itemClass, consumer);
+        } catch (CancellationException e) {
+          callback.onFailure(new ApiException(e), 0, null);
+          return;
+        } catch (ApiException e) {
+          callback.onFailure(e, response.code(), response.headers().toMultimap());
+          return;
+        } catch (RuntimeException e) {
+          // e.g. a malformed response body; the fiber must not wait for a callback which never comes
+          callback.onFailure(new ApiException(e), response.code(), response.headers().toMultimap());
+          return;
+        }
+        callback.onSuccess(result, response.code(), response.headers().toMultimap());
+      }
+    });
+    return streamingCall;
+  }
+
+  // Stops reading the response once the call has been canceled, e.g. after the requesting fiber has timed out.
+  private static <I> void acceptUnlessCanceled(Call call, I item, Consumer<I> itemConsumer) {
+    if (call.isCanceled()) {
+      throw new CancellationException("List call canceled");
+    }
+    itemConsumer.accept(item);
+  }
+
+  private static <L, I> L handleResponse(ApiClient client, Response response, Class<L> listClass,
+                                         Class<I> itemClass, Consumer<I> itemConsumer) throws ApiException {
+    if (!response.isSuccessful()) {
+      return ProtobufCodec.handleResponse(client, response, listClass);
+    }
+
+    try (Response closeable = response) {
+      if (ProtobufCodec.isProtobuf(closeable)) {
+        return ProtobufCodec.decodeList(closeable.body().bytes(), listClass,
+              item -> itemConsumer.accept(itemClass.cast(item)));
+      } else {
+        return readJson(client.getJSON().getGson(), new JsonReader(closeable.body().charStream()),
+              listClass, itemClass, itemConsumer);
+      }
+    } catch (IOException | JsonParseException e) {
+      throw new ApiException(e);
+    }
+  }
+
+  /**
+   * Reads a JSON list, handing each item to a consumer as soon as it is parsed. The other properties of the list
+   * are collected and returned as a list model without items.
+   *
+   * @param gson the Gson instance configured for the Kubernetes models
+   * @param reader a reader positioned at the start of the list object
+   * @param listClass the class of the list
+   * @param itemClass the class of the items in the list
+   * @param itemConsumer the consumer of each item
+   * @param <L> the type of the list
+   * @param <I> the type of the items
+   * @return the list, without its items
+   * @throws IOException if the list cannot be read
+   */
+  static <L, I> L readJson(Gson gson, JsonReader reader, Class<L> listClass, Class<I> itemClass,
+                           Consumer<I> itemConsumer) throws IOException {
+    final JsonObject header = new JsonObject();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      final String name = reader.nextName();
+      if (ITEMS.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          itemConsumer.accept(gson.fromJson(reader, itemClass));
+        }
+        reader.endArray();
+      } else {
+        header.add(name, gson.fromJson(reader, JsonElement.class));
+      }
+    }
+    reader.endObject();
+    return gson.fromJson(header, listClass);
+  }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 
 import com.google.gson.reflect.TypeToken;
@@ -57,12 +58,18 @@ import okhttp3.Call;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.TuningParameters.CallBuilderTuning;
 import oracle.kubernetes.operator.builders.CallParamsImpl;
+import oracle.kubernetes.operator.calls.ApiCallMetrics;
 import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
+import oracle.kubernetes.operator.calls.ReceivedResponse;
 import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.calls.RetryStrategy;
+import oracle.kubernetes.operator.calls.ServerSideApply;
+import oracle.kubernetes.operator.calls.StreamingListDecoder;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -90,11 +97,37 @@ public class CallBuilder {
         public <T> T execute(
             SynchronousCallFactory<T> factory, RequestParams params, Pool<ApiClient> pool)
             throws ApiException {
+          final RequestRateLimiter.Lane lane = RequestRateLimiter.Lane.forCall(params.call);
+          acquirePermit(lane);
           ApiClient client = pool.take();
+          int statusCode = 0;
+          Map<String, List<String>> responseHeaders = null;
+          final long startNanos = System.nanoTime();
           try {
-            return factory.execute(client, params);
+            ReceivedResponse.clear();
+            T result = factory.execute(client, params);
+            final Optional<ReceivedResponse> response = ReceivedResponse.getCurrent();
+            statusCode = response.map(ReceivedResponse::getStatusCode).orElse(ApiCallMetrics.UNKNOWN_STATUS);
+            responseHeaders = response.map(ReceivedResponse::getHeaders).orElse(null);
+            return result;
+          } catch (ApiException e) {
+            statusCode = e.getCode();
+            responseHeaders = e.getResponseHeaders();
+            throw e;
           } finally {
             pool.recycle(client);
+            RequestRateLimiter.getInstance().release(lane, statusCode, responseHeaders);
+            ApiCallMetrics.getInstance()
+                .recordCall(params, statusCode, System.nanoTime() - startNanos, responseHeaders);
+          }
+        }
+
+        private void acquirePermit(RequestRateLimiter.Lane lane) throws ApiException {
+          try {
+            RequestRateLimiter.getInstance().acquireBlocking(lane);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(e);
           }
         }
       };
@@ -218,6 +251,15 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> applyService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Service) requestParams.body,
+                  callback));
   private final CallFactory<V1SubjectAccessReview> createSubjectaccessreview =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -283,6 +325,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1Patch) requestParams.body,
                   callback));
+  private final CallFactory<V1beta1PodDisruptionBudget> applyPodDisruptionBudget =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyPodDisruptionBudgetAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1beta1PodDisruptionBudget) requestParams.body,
+                  callback));
   private final CallFactory<V1Status> deletePodDisruptionBudget =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -298,6 +349,8 @@ public class CallBuilder {
   private String fieldSelector;
   private String labelSelector;
 
+  private Consumer<?> itemConsumer;
+
   private Integer limit = 50;
   private Integer timeoutSeconds = 5;
   private final CallParamsImpl callParams = new CallParamsImpl();
@@ -521,6 +574,18 @@ public class CallBuilder {
     return this;
   }
 
+  /**
+   * Set a consumer to which list calls which support it hand each item as it is read, rather than adding it
+   * to the list passed to the response step. Currently applies to lists of pods, services and events.
+   * @param itemConsumer the consumer of each item of the list
+   * @param <I> the type of the items
+   * @return this CallBuilder
+   */
+  public <I> CallBuilder withItemConsumer(Consumer<I> itemConsumer) {
+    this.itemConsumer = itemConsumer;
+    return this;
+  }
+
   public CallBuilder withRetryStrategy(RetryStrategy retryStrategy) {
     this.retryStrategy = retryStrategy;
     return this;
@@ -927,8 +992,8 @@ public class CallBuilder {
   private Call listConfigMapsAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1ConfigMapList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedConfigMapAsync(
+    return ProtobufCodec.executeAsync(client, new CoreV1Api(client)
+        .listNamespacedConfigMapCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -940,7 +1005,7 @@ public class CallBuilder {
             RESOURCE_VERSION_MATCH_UNSET,
             timeoutSeconds,
             watch,
-            callback);
+            null), V1ConfigMapList.class, callback);
   }
 
   /**
@@ -1147,11 +1212,21 @@ public class CallBuilder {
             .replaceNamespacedSecretAsync(name, namespace, body, pretty, dryRun, null, callback);
   }
 
+  // Streams the items of the list to the item consumer, if there is one.
+  @SuppressWarnings("unchecked")
+  private <L, I> Call executeListAsync(
+      ApiClient client, Call call, Class<L> listClass, Class<I> itemClass, ApiCallback<L> callback) {
+    if (itemConsumer == null) {
+      return ProtobufCodec.executeAsync(client, call, listClass, callback);
+    }
+    return StreamingListDecoder.executeAsync(client, call, listClass, itemClass, (Consumer<I>) itemConsumer, callback);
+  }
+
   private Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedPodAsync(
+    return executeListAsync(client, new CoreV1Api(client)
+        .listNamespacedPodCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1163,7 +1238,7 @@ public class CallBuilder {
             RESOURCE_VERSION_MATCH_UNSET,
             timeoutSeconds,
             watch,
-            callback);
+            null), V1PodList.class, V1Pod.class, callback);
   }
 
   /**
@@ -1403,8 +1478,8 @@ public class CallBuilder {
   private Call listJobAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1JobList> callback)
       throws ApiException {
-    return new BatchV1Api(client)
-        .listNamespacedJobAsync(
+    return ProtobufCodec.executeAsync(client, new BatchV1Api(client)
+        .listNamespacedJobCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1416,7 +1491,7 @@ public class CallBuilder {
             RESOURCE_VERSION_MATCH_UNSET,
             timeoutSeconds,
             watch,
-            callback);
+            null), V1JobList.class, callback);
   }
 
   private final CallFactory<V1JobList> listJob =
@@ -1524,8 +1599,8 @@ public class CallBuilder {
   private Call listServiceAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1ServiceList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedServiceAsync(
+    return executeListAsync(client, new CoreV1Api(client)
+        .listNamespacedServiceCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1537,7 +1612,7 @@ public class CallBuilder {
             RESOURCE_VERSION_MATCH_UNSET,
             timeoutSeconds,
             watch,
-            callback);
+            null), V1ServiceList.class, V1Service.class, callback);
   }
 
   /**
@@ -1598,6 +1673,31 @@ public class CallBuilder {
         createService);
   }
 
+  private Call applyServiceAsync(
+      ApiClient client, String name, String namespace, V1Service body, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return ServerSideApply.executeAsync(client, new CoreV1Api(client)
+        .patchNamespacedServiceCall(name, namespace, ServerSideApply.toPatch(client, body), pretty, null,
+            ServerSideApply.FIELD_MANAGER, true, null), V1Service.class, callback);
+  }
+
+  /**
+   * Asynchronous step for applying a service with server-side apply, creating it if it does not exist.
+   *
+   * @param namespace Namespace
+   * @param body the desired service, including its API version and kind
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyServiceAsync(
+      String namespace, V1Service body, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyService", namespace, KubernetesUtils.getResourceName(body), body,
+            getDomainUidLabel(Optional.ofNullable(body).map(V1Service::getMetadata).orElse(null))),
+        applyService);
+  }
+
   private Call deleteServiceAsync(
       ApiClient client,
       String name,
@@ -1720,6 +1820,33 @@ public class CallBuilder {
         createPodDisruptionBudget);
   }
 
+  private Call applyPodDisruptionBudgetAsync(
+      ApiClient client, String name, String namespace, V1beta1PodDisruptionBudget body,
+      ApiCallback<V1beta1PodDisruptionBudget> callback)
+      throws ApiException {
+    return ServerSideApply.executeAsync(client, new PolicyV1beta1Api(client)
+        .patchNamespacedPodDisruptionBudgetCall(name, namespace, ServerSideApply.toPatch(client, body), pretty, null,
+            ServerSideApply.FIELD_MANAGER, true, null), V1beta1PodDisruptionBudget.class, callback);
+  }
+
+  /**
+   * Asynchronous step for applying a PodDisruptionBudget with server-side apply, creating it if it does not exist.
+   *
+   * @param namespace Namespace
+   * @param body the desired PodDisruptionBudget, including its API version and kind
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyPodDisruptionBudgetAsync(
+      String namespace, V1beta1PodDisruptionBudget body, ResponseStep<V1beta1PodDisruptionBudget> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("applyPodDisruptionBudget", namespace, KubernetesUtils.getResourceName(body), body,
+            getDomainUidLabel(Optional.ofNullable(body)
+                .map(V1beta1PodDisruptionBudget::getMetadata).orElse(null))),
+        applyPodDisruptionBudget);
+  }
+
   private Call patchPodDisruptionBudgetAsync(
       ApiClient client, String name, String namespace, V1Patch patch,
       ApiCallback<V1beta1PodDisruptionBudget> callback)
@@ -1794,8 +1921,8 @@ public class CallBuilder {
   private Call listEventAsync(
       ApiClient client, String namespace, String cont, ApiCallback<CoreV1EventList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedEventAsync(
+    return executeListAsync(client, new CoreV1Api(client)
+        .listNamespacedEventCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1807,7 +1934,7 @@ public class CallBuilder {
             RESOURCE_VERSION_MATCH_UNSET,
             timeoutSeconds,
             watch,
-            callback);
+            null), CoreV1EventList.class, CoreV1Event.class, callback);
   }
 
   /**
@@ -4,19 +4,15 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.SynchronousQueue;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
-import okhttp3.Dispatcher;
-import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -24,32 +20,32 @@ import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 
 public class ClientPool extends Pool<ApiClient> {
+  /** The feature gate which multiplexes Kubernetes API calls over HTTP/2 connections. */
+  public static final String HTTP2_FEATURE_GATE = "Http2Transport";
+  /**
+   * The feature gate which, with {@link #HTTP2_FEATURE_GATE}, uses HTTP/2 without negotiation for an API server
+   * reached over cleartext. Without it, cleartext connections use HTTP/1.1.
+   */
+  public static final String HTTP2_CLEARTEXT_FEATURE_GATE = "Http2Cleartext";
+
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_MAX_REQUESTS = 64;
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static ClientFactory FACTORY = new DefaultClientFactory();
   @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"})
   private static ClientPool SINGLETON = new ClientPool();
   private static ThreadFactory threadFactory;
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
+  private final AtomicReference<SharedHttpResources> httpResources = new AtomicReference<>();
 
-  // With OKHttp3, each client has it's own connection pool, so instance will be shared
+  // With OKHttp3, each client has it's own connection pool, so instance will be shared;
+  // any replacement instance uses the same shared connection pool and dispatcher
   private final AtomicReference<ApiClient> instance = new AtomicReference<>();
 
   public static void initialize(ThreadFactory threadFactory) {
     ClientPool.threadFactory = threadFactory;
   }
 
-  private static Runnable wrapRunnable(Runnable r) {
-    return () -> {
-      try {
-        r.run();
-      } catch (Throwable t) {
-        // These will almost always be spurious exceptions
-        LOGGER.finer(MessageKeys.EXCEPTION, t);
-      }
-    };
-  }
-
   public static ClientPool getInstance() {
     return SINGLETON;
   }
@@ -86,6 +82,7 @@ public class ClientPool extends Pool<ApiClient> {
       }
 
       client = factory.get();
+      client.setHttpClient(getHttpResources().share(client.getHttpClient(), client.getBasePath()));
     } catch (Throwable e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
     }
@@ -98,6 +95,33 @@ public class ClientPool extends Pool<ApiClient> {
     return client;
   }
 
+  /**
+   * Returns the connection pool, dispatcher and TLS context shared by all clients created by this pool. They are
+   * created on first use, so that the tuning parameters which size them have been read.
+   *
+   * @return the shared HTTP resources
+   */
+  public SharedHttpResources getHttpResources() {
+    return httpResources.updateAndGet(prev -> prev != null ? prev : createHttpResources());
+  }
+
+  private static SharedHttpResources createHttpResources() {
+    Optional<TuningParameters.MainTuning> tuning
+          = Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getMainTuning);
+    return new SharedHttpResources(threadFactory,
+          tuning.map(t -> t.httpMaxRequests).orElse(DEFAULT_MAX_REQUESTS),
+          tuning.map(t -> t.httpMaxRequestsPerHost).orElse(DEFAULT_MAX_REQUESTS),
+          isFeatureEnabled(HTTP2_FEATURE_GATE),
+          isFeatureEnabled(HTTP2_CLEARTEXT_FEATURE_GATE));
+  }
+
+  private static boolean isFeatureEnabled(String featureGate) {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getFeatureGates)
+          .map(gates -> gates.isFeatureEnabled(featureGate))
+          .orElse(false);
+  }
+
   public ClientPool withApiClient(ApiClient apiClient) {
     instance.getAndSet(apiClient);
     return this;
@@ -115,25 +139,6 @@ public class ClientPool extends Pool<ApiClient> {
           Configuration.setDefaultApiClient(client);
         }
 
-        if (threadFactory != null) {
-          ExecutorService exec =
-              new ThreadPoolExecutor(
-                  0,
-                  Integer.MAX_VALUE,
-                  60,
-                  TimeUnit.SECONDS,
-                  new SynchronousQueue<>(),
-                  threadFactory) {
-                @Override
-                public void execute(Runnable command) {
-                  super.execute(wrapRunnable(command));
-                }
-              };
-          OkHttpClient httpClient =
-              client.getHttpClient().newBuilder().dispatcher(new Dispatcher(exec)).build();
-          client.setHttpClient(httpClient);
-        }
-
         return client;
       } catch (IOException e) {
         throw new RuntimeException(e);
@@ -25,6 +25,7 @@ import oracle.kubernetes.operator.JobWatcher;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ResourceCache;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -739,9 +740,38 @@ public class JobHelper {
             currentIntrospectFailureRetryCount);
       }
 
+      final Optional<String> cachedPodName = getCachedJobPodName(packet, namespace, domainUid);
+      if (cachedPodName.isPresent()) {
+        packet.put(ProcessingConstants.JOB_POD_NAME, cachedPodName.get());
+        return doNext(packet);
+      }
+
       return doNext(readDomainIntrospectorPod(domainUid, namespace, getNext()), packet);
     }
 
+    // A cached pod may be used only if it belongs to the job which has just completed, rather than to an earlier one.
+    private Optional<String> getCachedJobPodName(Packet packet, String namespace, String domainUid) {
+      final String jobUid = Optional.ofNullable((V1Job) packet.get(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB))
+            .map(V1Job::getMetadata)
+            .map(V1ObjectMeta::getUid)
+            .orElse(null);
+      if (jobUid == null) {
+        return Optional.empty();
+      }
+
+      return ResourceCache.getPods().getByDomainUid(namespace, domainUid).stream()
+            .map(V1Pod::getMetadata)
+            .filter(metadata -> isOwnedBy(metadata, jobUid))
+            .map(V1ObjectMeta::getName)
+            .filter(name -> name.startsWith(createJobName(domainUid)))
+            .findFirst();
+    }
+
+    private boolean isOwnedBy(V1ObjectMeta metadata, String ownerUid) {
+      return Optional.ofNullable(metadata.getOwnerReferences()).orElse(Collections.emptyList()).stream()
+            .anyMatch(reference -> ownerUid.equals(reference.getUid()));
+    }
+
     private Step readDomainIntrospectorPod(String domainUid, String namespace, Step next) {
       return new CallBuilder()
             .withLabelSelectors(LabelConstants.JOBNAME_LABEL)
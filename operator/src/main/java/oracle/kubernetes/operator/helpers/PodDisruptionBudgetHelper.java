@@ -20,6 +20,7 @@ import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.ServerSideApply;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -156,6 +157,35 @@ public class PodDisruptionBudgetHelper {
       }
     }
 
+    private class ApplyResponseStep extends ResponseStep<V1beta1PodDisruptionBudget> {
+      private final Runnable logSuccess;
+      private final Step fallbackStep;
+
+      ApplyResponseStep(Runnable logSuccess, Step fallbackStep, Step next) {
+        super(next);
+        this.logSuccess = logSuccess;
+        this.fallbackStep = fallbackStep;
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1beta1PodDisruptionBudget> callResponse) {
+        if (ServerSideApply.mustFallBack(callResponse)) {
+          return doNext(fallbackStep, packet);
+        } else if (UnrecoverableErrorBuilder.isAsyncCallUnrecoverableFailure(callResponse)) {
+          return doNext(DomainStatusUpdater.createFailureRelatedSteps(callResponse), packet);
+        } else {
+          return super.onFailure(packet, callResponse);
+        }
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1beta1PodDisruptionBudget> callResponse) {
+        logSuccess.run();
+        addPodDisruptionBudgetToRecord(callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     private class ConflictStep extends Step {
       @Override
       public NextAction apply(Packet packet) {
@@ -185,15 +215,31 @@ public class PodDisruptionBudgetHelper {
     Step verifyPodDisruptionBudget(Step next) {
       V1beta1PodDisruptionBudget podDisruptionBudget = getPodDisruptionBudgetFromRecord();
       if (podDisruptionBudget == null) {
-        return createNewPodDisruptionBudget(next);
+        return ServerSideApply.isEnabled()
+                ? applyPodDisruptionBudget(
+                        () -> logPodDisruptionBudgetCreated(getPDBCreatedMessageKey()),
+                        createNewPodDisruptionBudget(next), next)
+                : createNewPodDisruptionBudget(next);
       } else if (mustPatch(podDisruptionBudget)) {
-        return patchPodDisruptionBudgetStep(next);
+        return ServerSideApply.isEnabled() && ServerSideApply.isManagedByApply(podDisruptionBudget.getMetadata())
+                ? applyPodDisruptionBudget(
+                        this::logPodDisruptionBudgetPatched, patchPodDisruptionBudgetStep(next), next)
+                : patchPodDisruptionBudgetStep(next);
       } else {
         logPodDisruptionBudgetExists();
         return next;
       }
     }
 
+    // A single request creates the pod disruption budget, or updates it in place.
+    private Step applyPodDisruptionBudget(Runnable logSuccess, Step fallbackStep, Step next) {
+      return new CallBuilder()
+              .applyPodDisruptionBudgetAsync(
+                      info.getNamespace(),
+                      createModel().kind("PodDisruptionBudget"),
+                      new ApplyResponseStep(logSuccess, fallbackStep, next));
+    }
+
     private Step patchPodDisruptionBudgetStep(Step next) {
       return new CallBuilder()
                       .patchPodDisruptionBudgetAsync(
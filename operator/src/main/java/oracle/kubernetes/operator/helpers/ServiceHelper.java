@@ -24,6 +24,7 @@ import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.ServerSideApply;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -559,14 +560,18 @@ public class ServiceHelper {
         return next;
       } else {
         removeServiceFromRecord();
-        return deleteAndReplaceService(next);
+        return ServerSideApply.isEnabled() && ServerSideApply.isManagedByApply(service.getMetadata())
+            ? applyService(getServiceReplaceMessageKey(), next, deleteAndReplaceService(next))
+            : deleteAndReplaceService(next);
       }
     }
 
     protected abstract void logServiceExists();
 
     private Step createNewService(Step next) {
-      return createService(getServiceCreatedMessageKey(), next);
+      return ServerSideApply.isEnabled()
+          ? applyService(getServiceCreatedMessageKey(), next, createService(getServiceCreatedMessageKey(), next))
+          : createService(getServiceCreatedMessageKey(), next);
     }
 
     protected abstract String getServiceCreatedMessageKey();
@@ -608,6 +613,14 @@ public class ServiceHelper {
           .createServiceAsync(getNamespace(), createModel(), new CreateResponse(messageKey, next));
     }
 
+    // A single request creates the service, or updates it in place. If the server rejects the request,
+    // the fallback step reconciles the service as it would without apply.
+    private Step applyService(String messageKey, Step next, Step fallback) {
+      return new CallBuilder()
+          .applyServiceAsync(getNamespace(), createModel().apiVersion("v1").kind("Service"),
+              new ApplyResponse(messageKey, next, fallback));
+    }
+
     private class ConflictStep extends Step {
       @Override
       public NextAction apply(Packet packet) {
@@ -705,6 +718,22 @@ public class ServiceHelper {
         return doNext(packet);
       }
     }
+
+    private class ApplyResponse extends CreateResponse {
+      private final Step fallback;
+
+      ApplyResponse(String messageKey, Step next, Step fallback) {
+        super(messageKey, next);
+        this.fallback = fallback;
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        return ServerSideApply.mustFallBack(callResponse)
+            ? doNext(fallback, packet)
+            : super.onFailure(packet, callResponse);
+      }
+    }
   }
 
   private static class DeleteServiceStep extends Step {
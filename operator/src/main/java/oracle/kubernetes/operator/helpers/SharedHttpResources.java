@@ -0,0 +1,354 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.security.cert.X509Certificate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.X509TrustManager;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import oracle.kubernetes.operator.calls.ReceivedResponse;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+
+/**
+ * The HTTP resources shared by every API client which the operator creates: one connection pool, one dispatcher
+ * with a bounded number of concurrent calls, and one TLS context for each set of trusted certificates, so that TLS
+ * sessions negotiated by one client can be resumed by the others. OkHttp only reuses a pooled connection for a client
+ * with the same TLS socket factory and hostname verifier as the one which opened it, so sharing the pool alone would
+ * not be enough. Replacing a client therefore no longer opens a new set of connections and a new thread pool alongside
+ * the old ones.
+ *
+ * <p>If HTTP/2 is enabled, the clients multiplex their calls, including long-lived watches, as streams over a few
+ * connections. Over TLS, HTTP/2 is offered when the connection is negotiated, and the server may still choose
+ * HTTP/1.1. A cleartext connection cannot negotiate, so it uses HTTP/1.1 unless HTTP/2 over cleartext is also
+ * enabled, in which case the API server is assumed to speak HTTP/2 without negotiation, and calls fail if it does not.
+ * Multiplexed connections are pinged periodically, so that a connection which dies silently is detected before it
+ * stalls every watch which it carries.
+ *
+ * <p>All calls go to the one API server, so the dispatcher's limit on calls per host still bounds how many run at
+ * once. Multiplexing saves connections, but gives no more concurrency unless that limit is raised as well.
+ */
+public class SharedHttpResources implements MetricsSource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int HTTP2_PING_INTERVAL_SECONDS = 30;
+  private static final List<Protocol> HTTP2_PROTOCOLS = List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+  private static final List<Protocol> HTTP2_CLEARTEXT_PROTOCOLS = List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+  private static final List<Protocol> CLEARTEXT_PROTOCOLS = List.of(Protocol.HTTP_1_1);
+
+  private final ConnectionPool connectionPool = new ConnectionPool();
+  private final Dispatcher dispatcher;
+  private final Map<List<X509Certificate>, TlsSettings> tlsSettings = new ConcurrentHashMap<>();
+  private final LongAdder clientsCreated = new LongAdder();
+  private final boolean http2;
+  private final boolean http2Cleartext;
+  private final ConnectionStatistics connectionStatistics = new ConnectionStatistics();
+
+  /**
+   * Creates the shared resources, using the connection protocols configured for each client.
+   *
+   * @param threadFactory the factory for the threads which run asynchronous calls, or null to use OkHttp's default
+   * @param maxRequests the maximum number of calls to run at once
+   * @param maxRequestsPerHost the maximum number of calls to run at once against any single host
+   */
+  public SharedHttpResources(ThreadFactory threadFactory, int maxRequests, int maxRequestsPerHost) {
+    this(threadFactory, maxRequests, maxRequestsPerHost, false);
+  }
+
+  /**
+   * Creates the shared resources.
+   *
+   * @param threadFactory the factory for the threads which run asynchronous calls, or null to use OkHttp's default
+   * @param maxRequests the maximum number of calls to run at once
+   * @param maxRequestsPerHost the maximum number of calls to run at once against any single host
+   * @param http2 true if calls should be multiplexed over HTTP/2 connections
+   */
+  public SharedHttpResources(ThreadFactory threadFactory, int maxRequests, int maxRequestsPerHost, boolean http2) {
+    this(threadFactory, maxRequests, maxRequestsPerHost, http2, false);
+  }
+
+  /**
+   * Creates the shared resources.
+   *
+   * @param threadFactory the factory for the threads which run asynchronous calls, or null to use OkHttp's default
+   * @param maxRequests the maximum number of calls to run at once
+   * @param maxRequestsPerHost the maximum number of calls to run at once against any single host
+   * @param http2 true if calls should be multiplexed over HTTP/2 connections
+   * @param http2Cleartext true if, when HTTP/2 is enabled, a cleartext API server should be assumed to speak HTTP/2
+   */
+  public SharedHttpResources(ThreadFactory threadFactory, int maxRequests, int maxRequestsPerHost,
+                             boolean http2, boolean http2Cleartext) {
+    this.http2 = http2;
+    this.http2Cleartext = http2 && http2Cleartext;
+    dispatcher = threadFactory == null ? new Dispatcher() : new Dispatcher(createExecutor(threadFactory));
+    dispatcher.setMaxRequests(Math.max(1, maxRequests));
+    dispatcher.setMaxRequestsPerHost(Math.max(1, maxRequestsPerHost));
+  }
+
+  // The dispatcher limits how many calls run at once, so this pool never needs more threads than that.
+  private static ExecutorService createExecutor(ThreadFactory threadFactory) {
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory) {
+      @Override
+      public void execute(Runnable command) {
+        super.execute(wrapRunnable(command));
+      }
+    };
+  }
+
+  private static Runnable wrapRunnable(Runnable r) {
+    return () -> {
+      try {
+        r.run();
+      } catch (Throwable t) {
+        // These will almost always be spurious exceptions
+        LOGGER.finer(MessageKeys.EXCEPTION, t);
+      }
+    };
+  }
+
+  /**
+   * Returns a copy of the specified HTTP client which uses the shared resources. The first client which trusts
+   * a given set of certificates supplies the TLS settings for all later ones which trust the same set, so a client
+   * created after the API server's CA changes gets a new TLS context and session cache.
+   *
+   * @param httpClient a client created for a new API client
+   * @return an equivalent client using the shared connection pool, dispatcher and TLS context
+   */
+  public OkHttpClient share(OkHttpClient httpClient) {
+    return share(httpClient, null);
+  }
+
+  /**
+   * Returns a copy of the specified HTTP client which uses the shared resources. The first client which trusts
+   * a given set of certificates supplies the TLS settings for all later ones which trust the same set, so a client
+   * created after the API server's CA changes gets a new TLS context and session cache.
+   *
+   * @param httpClient a client created for a new API client
+   * @param basePath the URL of the API server which the client calls, or null if not known
+   * @return an equivalent client using the shared connection pool, dispatcher and TLS context
+   */
+  public OkHttpClient share(OkHttpClient httpClient, String basePath) {
+    clientsCreated.increment();
+    OkHttpClient.Builder builder = httpClient.newBuilder()
+          .connectionPool(connectionPool)
+          .dispatcher(dispatcher)
+          .eventListener(connectionStatistics);
+    Optional.ofNullable(httpClient.x509TrustManager())
+          .map(trustManager -> tlsSettings.computeIfAbsent(getTrustedCertificates(trustManager),
+              k -> new TlsSettings(httpClient)))
+          .ifPresent(tls -> builder.sslSocketFactory(tls.socketFactory, tls.trustManager)
+              .hostnameVerifier(tls.hostnameVerifier));
+    if (!http2) {
+      return builder.build();
+    } else if (!isCleartext(basePath)) {
+      return builder.protocols(HTTP2_PROTOCOLS).pingInterval(HTTP2_PING_INTERVAL_SECONDS, TimeUnit.SECONDS).build();
+    } else if (http2Cleartext) {
+      return builder.protocols(HTTP2_CLEARTEXT_PROTOCOLS)
+            .pingInterval(HTTP2_PING_INTERVAL_SECONDS, TimeUnit.SECONDS).build();
+    } else {
+      return builder.protocols(CLEARTEXT_PROTOCOLS).build();
+    }
+  }
+
+  private static boolean isCleartext(String basePath) {
+    return basePath != null && basePath.regionMatches(true, 0, "http:", 0, "http:".length());
+  }
+
+  public boolean isHttp2Enabled() {
+    return http2;
+  }
+
+  public boolean isHttp2CleartextEnabled() {
+    return http2Cleartext;
+  }
+
+  public ConnectionPool getConnectionPool() {
+    return connectionPool;
+  }
+
+  public Dispatcher getDispatcher() {
+    return dispatcher;
+  }
+
+  public int getIdleConnectionCount() {
+    return connectionPool.idleConnectionCount();
+  }
+
+  public int getActiveConnectionCount() {
+    return Math.max(0, connectionPool.connectionCount() - connectionPool.idleConnectionCount());
+  }
+
+  public int getQueuedCallCount() {
+    return dispatcher.queuedCallsCount();
+  }
+
+  public int getRunningCallCount() {
+    return dispatcher.runningCallsCount();
+  }
+
+  public long getClientsCreatedCount() {
+    return clientsCreated.sum();
+  }
+
+  /**
+   * Returns the number of connections opened with the specified protocol since the resources were created.
+   *
+   * @param protocol a connection protocol
+   * @return the number of connections opened
+   */
+  public long getConnectionsOpenedCount(Protocol protocol) {
+    return connectionStatistics.getConnectionsOpened(protocol);
+  }
+
+  /**
+   * Returns the number of calls now using a connection with the specified protocol. For HTTP/2 connections, this
+   * is the number of open streams.
+   *
+   * @param protocol a connection protocol
+   * @return the number of calls in progress
+   */
+  public int getStreamCount(Protocol protocol) {
+    return connectionStatistics.getStreams(protocol);
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    final int total = connectionPool.connectionCount();
+    final int idle = connectionPool.idleConnectionCount();
+
+    writer.family("operator_k8s_client_connections", GAUGE,
+          "Number of pooled connections to the Kubernetes API server, by state.");
+    writer.sample("operator_k8s_client_connections", idle, "state", "idle");
+    writer.sample("operator_k8s_client_connections", Math.max(0, total - idle), "state", "active");
+
+    writer.family("operator_k8s_client_calls", GAUGE, "Number of asynchronous Kubernetes API calls, by state.");
+    writer.sample("operator_k8s_client_calls", dispatcher.queuedCallsCount(), "state", "queued");
+    writer.sample("operator_k8s_client_calls", dispatcher.runningCallsCount(), "state", "running");
+
+    writer.family("operator_k8s_clients_created_total", COUNTER, "Number of API clients created by the operator.");
+    writer.sample("operator_k8s_clients_created_total", clientsCreated.sum());
+
+    final Map<Protocol, Long> opened = connectionStatistics.getConnectionsOpenedByProtocol();
+    writer.family("operator_k8s_client_connections_opened_total", COUNTER,
+          "Number of connections opened to the Kubernetes API server, by protocol.");
+    opened.forEach((protocol, count) ->
+          writer.sample("operator_k8s_client_connections_opened_total", count, "protocol", protocol.toString()));
+
+    final Map<Protocol, Integer> streams = connectionStatistics.getStreamsByProtocol();
+    writer.family("operator_k8s_client_streams", GAUGE,
+          "Number of Kubernetes API calls using a connection, by connection protocol. "
+                + "Calls on HTTP/2 connections are multiplexed as streams.");
+    streams.forEach((protocol, count) ->
+          writer.sample("operator_k8s_client_streams", count, "protocol", protocol.toString()));
+  }
+
+  // Tracks connections by protocol. OkHttp reports a connection's protocol when it is established, and reports
+  // each call which acquires and later releases a connection. Also records each response received, for the
+  // callers which report the outcomes of their calls.
+  private static class ConnectionStatistics extends EventListener {
+    private final Map<Protocol, LongAdder> opened = new ConcurrentHashMap<>();
+    private final Map<Protocol, AtomicInteger> streams = new ConcurrentHashMap<>();
+
+    @Override
+    public void connectEnd(@Nonnull Call call, @Nonnull InetSocketAddress address, @Nonnull Proxy proxy,
+                           Protocol protocol) {
+      if (protocol != null) {
+        opened.computeIfAbsent(protocol, p -> new LongAdder()).increment();
+      }
+    }
+
+    @Override
+    public void connectionAcquired(@Nonnull Call call, @Nonnull Connection connection) {
+      streams.computeIfAbsent(connection.protocol(), p -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Override
+    public void connectionReleased(@Nonnull Call call, @Nonnull Connection connection) {
+      streams.computeIfAbsent(connection.protocol(), p -> new AtomicInteger()).decrementAndGet();
+    }
+
+    @Override
+    public void requestHeadersStart(@Nonnull Call call) {
+      ReceivedResponse.clear();
+    }
+
+    @Override
+    public void responseHeadersEnd(@Nonnull Call call, @Nonnull Response response) {
+      ReceivedResponse.recordHeaders(response);
+    }
+
+    @Override
+    public void responseBodyEnd(@Nonnull Call call, long byteCount) {
+      ReceivedResponse.recordBodyEnd(byteCount);
+    }
+
+    long getConnectionsOpened(Protocol protocol) {
+      return Optional.ofNullable(opened.get(protocol)).map(LongAdder::sum).orElse(0L);
+    }
+
+    int getStreams(Protocol protocol) {
+      return Optional.ofNullable(streams.get(protocol)).map(AtomicInteger::get).orElse(0);
+    }
+
+    Map<Protocol, Long> getConnectionsOpenedByProtocol() {
+      final Map<Protocol, Long> result = new EnumMap<>(Protocol.class);
+      opened.forEach((protocol, count) -> result.put(protocol, count.sum()));
+      return result;
+    }
+
+    Map<Protocol, Integer> getStreamsByProtocol() {
+      final Map<Protocol, Integer> result = new EnumMap<>(Protocol.class);
+      streams.forEach((protocol, count) -> result.put(protocol, count.get()));
+      return result;
+    }
+  }
+
+  // Each API client builds its own trust manager, so clients are grouped by the certificates which they trust.
+  private static List<X509Certificate> getTrustedCertificates(X509TrustManager trustManager) {
+    return List.of(trustManager.getAcceptedIssuers());
+  }
+
+  private static class TlsSettings {
+    private final SSLSocketFactory socketFactory;
+    private final X509TrustManager trustManager;
+    private final HostnameVerifier hostnameVerifier;
+
+    private TlsSettings(OkHttpClient httpClient) {
+      this.socketFactory = httpClient.sslSocketFactory();
+      this.trustManager = httpClient.x509TrustManager();
+      this.hostnameVerifier = httpClient.hostnameVerifier();
+    }
+  }
+}
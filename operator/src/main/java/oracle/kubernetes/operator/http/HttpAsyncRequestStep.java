@@ -17,6 +17,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -103,8 +104,11 @@ public class HttpAsyncRequestStep extends Step {
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
       future = factory.createFuture(request);
-      future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
-      fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      final Cancellable timeoutCheck = fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      future.whenComplete((response, throwable) -> {
+        timeoutCheck.cancel();
+        resume(fiber, response, throwable);
+      });
     }
 
     private void checkTimeout(AsyncFiber fiber) {
@@ -143,6 +143,12 @@ public class MessageKeys {
   public static final String EXECUTE_MAKE_RIGHT_DOMAIN = "WLSKO-0192";
   public static final String LOG_WAITING_COUNT = "WLSKO-0193";
   public static final String INTERNAL_IDENTITY_INITIALIZATION_FAILED = "WLSKO-0194";
+  public static final String ENGINE_THREAD_MODE = "WLSKO-0195";
+  public static final String FIBER_SUSPENDED_TOO_LONG = "WLSKO-0196";
+  public static final String CIRCUIT_BREAKER_OPENED = "WLSKO-0197";
+  public static final String CIRCUIT_BREAKER_CLOSED = "WLSKO-0198";
+  public static final String ENGINE_SHARDS_IGNORED = "WLSKO-0199";
+  public static final String ENGINE_THREAD_MODE_UNSUPPORTED = "WLSKO-0200";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
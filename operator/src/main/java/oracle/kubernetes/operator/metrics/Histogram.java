@@ -0,0 +1,121 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram with fixed bucket boundaries. Observations may be recorded concurrently from any thread.
+ */
+public class Histogram {
+
+  /** Bucket boundaries, in seconds, suitable for the duration of steps, calls and fibers. */
+  public static final double[] LATENCY_BUCKETS
+      = {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 300};
+
+  /** Bucket boundaries suitable for counts of items, such as the number of children of a fork. */
+  public static final double[] SIZE_BUCKETS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+  /** Bucket boundaries, in bytes, suitable for the size of request and response bodies. */
+  public static final double[] BYTE_BUCKETS
+      = {256, 1024, 4096, 16384, 65536, 262144, 1048576, 4194304, 16777216, 67108864};
+
+  private final double[] bounds;
+  private final AtomicLongArray counts;
+  private final LongAdder count = new LongAdder();
+  private final DoubleAdder sum = new DoubleAdder();
+
+  /**
+   * Creates a histogram with the specified bucket upper bounds, which must be in increasing order.
+   * An implicit final bucket collects all observations greater than the last bound.
+   *
+   * @param bounds the upper bounds of the buckets
+   */
+  public Histogram(double... bounds) {
+    this.bounds = bounds.clone();
+    this.counts = new AtomicLongArray(bounds.length + 1);
+  }
+
+  /**
+   * Records a single observation.
+   *
+   * @param value the value observed
+   */
+  public void observe(double value) {
+    counts.incrementAndGet(getBucketIndex(value));
+    count.increment();
+    sum.add(value);
+  }
+
+  /**
+   * Records an elapsed time in nanoseconds, converted to seconds.
+   *
+   * @param nanos the elapsed time
+   */
+  public void observeNanos(long nanos) {
+    observe(nanos / 1.0e9);
+  }
+
+  private int getBucketIndex(double value) {
+    for (int i = 0; i < bounds.length; i++) {
+      if (value <= bounds[i]) {
+        return i;
+      }
+    }
+    return bounds.length;
+  }
+
+  double[] getBounds() {
+    return bounds;
+  }
+
+  /**
+   * Returns the cumulative counts of the buckets, with the total count as the last element.
+   *
+   * @return an array with one more element than there are bounds
+   */
+  long[] getCumulativeCounts() {
+    long[] result = new long[counts.length()];
+    long total = 0;
+    for (int i = 0; i < result.length; i++) {
+      total += counts.get(i);
+      result[i] = total;
+    }
+    return result;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public double getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * Returns an estimate of the value below which the specified fraction of observations fall, based on the
+   * upper bound of the bucket in which that observation lies. Returns zero if there are no observations,
+   * and positive infinity if the quantile lies in the overflow bucket.
+   *
+   * @param quantile a value between 0 and 1
+   * @return the estimated value
+   */
+  public double getQuantile(double quantile) {
+    long[] cumulative = getCumulativeCounts();
+    long total = cumulative[cumulative.length - 1];
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = (long) Math.ceil(quantile * total);
+    for (int i = 0; i < bounds.length; i++) {
+      if (cumulative[i] >= rank) {
+        return bounds[i];
+      }
+    }
+    return Double.POSITIVE_INFINITY;
+  }
+}
@@ -0,0 +1,17 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+/**
+ * An object which can report its metrics to a {@link PrometheusTextWriter}.
+ */
+public interface MetricsSource {
+
+  /**
+   * Writes the current values of this source's metrics.
+   *
+   * @param writer the object to receive the metrics
+   */
+  void writeMetrics(PrometheusTextWriter writer);
+}
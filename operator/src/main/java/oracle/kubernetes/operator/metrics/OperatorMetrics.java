@@ -0,0 +1,49 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The registry of the sources of the operator's internal metrics.
+ */
+public class OperatorMetrics {
+
+  private static final List<MetricsSource> sources = new CopyOnWriteArrayList<>();
+
+  private OperatorMetrics() {
+  }
+
+  /**
+   * Adds a source of metrics to the registry, if it has not already been added.
+   *
+   * @param source the source to add
+   */
+  public static void register(MetricsSource source) {
+    if (!sources.contains(source)) {
+      sources.add(source);
+    }
+  }
+
+  /**
+   * Removes a source of metrics from the registry.
+   *
+   * @param source the source to remove
+   */
+  public static void unregister(MetricsSource source) {
+    sources.remove(source);
+  }
+
+  /**
+   * Returns the current values of all registered metrics, in the Prometheus text exposition format.
+   *
+   * @return a multi-line string
+   */
+  public static String getPrometheusText() {
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    sources.forEach(source -> source.writeMetrics(writer));
+    return writer.toString();
+  }
+}
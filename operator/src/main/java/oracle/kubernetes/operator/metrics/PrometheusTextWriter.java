@@ -0,0 +1,117 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+/**
+ * Formats metrics in the Prometheus text exposition format. Each metric family must be introduced by a call to
+ * {@link #family(String, String, String)} before its samples are written. Labels are passed as alternating
+ * names and values.
+ */
+public class PrometheusTextWriter {
+
+  public static final String COUNTER = "counter";
+  public static final String GAUGE = "gauge";
+  public static final String HISTOGRAM = "histogram";
+  public static final String SUMMARY = "summary";
+
+  private final StringBuilder sb = new StringBuilder();
+
+  /**
+   * Introduces a metric family.
+   *
+   * @param name the name of the metric
+   * @param type one of {@link #COUNTER}, {@link #GAUGE}, {@link #HISTOGRAM} or {@link #SUMMARY}
+   * @param help a description of the metric
+   * @return this writer
+   */
+  public PrometheusTextWriter family(String name, String type, String help) {
+    sb.append("# HELP ").append(name).append(' ').append(escapeHelp(help)).append('\n');
+    sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    return this;
+  }
+
+  /**
+   * Writes a single sample.
+   *
+   * @param name the name of the metric
+   * @param value the value of the sample
+   * @param labels alternating label names and values
+   * @return this writer
+   */
+  public PrometheusTextWriter sample(String name, double value, String... labels) {
+    sb.append(name);
+    appendLabels(labels, null);
+    sb.append(' ').append(formatValue(value)).append('\n');
+    return this;
+  }
+
+  /**
+   * Writes the buckets, sum and count of a histogram.
+   *
+   * @param name the name of the metric
+   * @param histogram the histogram to write
+   * @param labels alternating label names and values
+   * @return this writer
+   */
+  public PrometheusTextWriter histogram(String name, Histogram histogram, String... labels) {
+    double[] bounds = histogram.getBounds();
+    long[] cumulative = histogram.getCumulativeCounts();
+    for (int i = 0; i < cumulative.length; i++) {
+      sb.append(name).append("_bucket");
+      appendLabels(labels, i < bounds.length ? formatValue(bounds[i]) : "+Inf");
+      sb.append(' ').append(cumulative[i]).append('\n');
+    }
+    sample(name + "_sum", histogram.getSum(), labels);
+    sample(name + "_count", cumulative[cumulative.length - 1], labels);
+    return this;
+  }
+
+  private void appendLabels(String[] labels, String bucketBound) {
+    if (labels.length == 0 && bucketBound == null) {
+      return;
+    }
+
+    sb.append('{');
+    for (int i = 0; i + 1 < labels.length; i += 2) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      appendLabel(labels[i], labels[i + 1]);
+    }
+    if (bucketBound != null) {
+      if (labels.length > 1) {
+        sb.append(',');
+      }
+      appendLabel("le", bucketBound);
+    }
+    sb.append('}');
+  }
+
+  private void appendLabel(String name, String value) {
+    sb.append(name).append("=\"").append(escapeLabelValue(value)).append('"');
+  }
+
+  private static String escapeHelp(String help) {
+    return help.replace("\\", "\\\\").replace("\n", "\\n");
+  }
+
+  private static String escapeLabelValue(String value) {
+    return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  private static String formatValue(double value) {
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    } else if (value == Math.rint(value) && Math.abs(value) < 1.0e15) {
+      return Long.toString((long) value);
+    } else {
+      return Double.toString(value);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return sb.toString();
+  }
+}
@@ -32,7 +32,8 @@ import org.glassfish.jersey.server.ResourceConfig;
  *
  * <p>The backend impl is responsible for authenticating the token (if it can't then it throws a
  * WebApplicationException) and storing info about the authenticated user so that it can do access
- * checks for this request later.
+ * checks for this request later. For a request which will be suspended, the backend is only created
+ * when first used, so that the token is authenticated on a REST worker thread.
  */
 @Provider
 @PreMatching // so that it's called before the subresource locators are called since they need to
@@ -57,7 +58,9 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
       ResourceConfig rc = (ResourceConfig) application;
       RestConfig r = (RestConfig) rc.getProperty(RestConfig.REST_CONFIG_PROPERTY);
       String t = getAccessToken(req);
-      RestBackend be = r.getBackend(t);
+      RestBackend be = RestRequestExecutor.isSuspended(req)
+          ? new DeferredRestBackend(() -> authenticate(r, t))
+          : r.getBackend(t);
       req.setProperty(REST_BACKEND_PROPERTY, be);
     } catch (RuntimeException | Error re) {
       authenticationFailure(re);
@@ -98,6 +101,15 @@ public class AuthenticationFilter extends BaseDebugLoggingFilter implements Cont
     throw new AssertionError("Could not find the resource bundle");
   }
 
+  private RestBackend authenticate(RestConfig r, String t) {
+    try {
+      return r.getBackend(t);
+    } catch (RuntimeException | Error re) {
+      authenticationFailure(re);
+      throw re;
+    }
+  }
+
   private void authenticationFailure(Throwable cause) {
     LOGGER.fine("Unexpected throwable ", cause);
   }
@@ -0,0 +1,62 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.DomainAction;
+
+/**
+ * A backend which is only created when first used. Creating the real backend authenticates the request, which may
+ * require a token review by the Kubernetes API server; a suspended request uses this class so that the review runs
+ * on a REST worker thread, rather than on one of the server's few request threads.
+ */
+class DeferredRestBackend implements RestBackend {
+
+  private final Supplier<RestBackend> factory;
+  private RestBackend backend;
+
+  DeferredRestBackend(Supplier<RestBackend> factory) {
+    this.factory = factory;
+  }
+
+  private synchronized RestBackend getBackend() {
+    if (backend == null) {
+      backend = factory.get();
+    }
+    return backend;
+  }
+
+  @Override
+  public Set<String> getDomainUids() {
+    return getBackend().getDomainUids();
+  }
+
+  @Override
+  public boolean isDomainUid(String domainUid) {
+    return getBackend().isDomainUid(domainUid);
+  }
+
+  @Override
+  public void performDomainAction(String domainUid, DomainAction params) {
+    getBackend().performDomainAction(domainUid, params);
+  }
+
+  @Override
+  public Set<String> getClusters(String domainUid) {
+    return getBackend().getClusters(domainUid);
+  }
+
+  @Override
+  public boolean isCluster(String domainUid, String cluster) {
+    return getBackend().isCluster(domainUid, cluster);
+  }
+
+  @Override
+  public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+    getBackend().scaleCluster(domainUid, cluster, managedServerCount);
+  }
+}
@@ -0,0 +1,187 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+
+/**
+ * Runs the work of suspended REST requests. The Grizzly worker threads which accept REST requests are few, and
+ * the operations which change domains wait on calls to Kubernetes. Such an operation therefore suspends its request,
+ * hands its work to this executor and returns its thread to Grizzly at once, so that slow requests, such as a burst
+ * of scale requests from an autoscaler, cannot stall the rest of the REST server.
+ *
+ * <p>The executor runs a bounded number of requests at once, and queues a bounded number more. A request which
+ * arrives when the queue is full is rejected with 503 Service Unavailable and a Retry-After header, rather than
+ * being held indefinitely.
+ *
+ * <p>Every POST request is suspended. For such a request, the token review which authenticates it and the lookups
+ * which check that the domain and cluster in its path exist are deferred until its work runs, so they too are done
+ * on a worker thread. The request threads still read and parse the request, and still do the authentication,
+ * authorization checks and lookups of GET requests, which are not suspended; a burst of slow GET requests can
+ * therefore still stall the server.
+ */
+public class RestRequestExecutor implements MetricsSource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int RETRY_AFTER_SECONDS = 1;
+  private static final int DEFAULT_WORKER_THREADS = 8;
+  private static final int DEFAULT_QUEUE_SIZE = 64;
+
+  private static volatile RestRequestExecutor instance;
+
+  private final ThreadPoolExecutor executor;
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+
+  /**
+   * Returns the executor used for all REST requests, creating it if needed.
+   *
+   * @return the shared executor
+   */
+  public static RestRequestExecutor getInstance() {
+    RestRequestExecutor result = instance;
+    if (result == null) {
+      synchronized (RestRequestExecutor.class) {
+        if (instance == null) {
+          instance = new RestRequestExecutor(getConfiguredWorkerThreads(), getConfiguredQueueSize());
+        }
+        result = instance;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if the specified request will be suspended and its work run by this executor.
+   *
+   * @param request a REST request
+   * @return true for a POST request
+   */
+  public static boolean isSuspended(ContainerRequestContext request) {
+    return HttpMethod.POST.equals(request.getMethod());
+  }
+
+  private static int getConfiguredWorkerThreads() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.restWorkerThreads)
+          .orElse(DEFAULT_WORKER_THREADS);
+  }
+
+  private static int getConfiguredQueueSize() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(t -> t.restRequestQueueSize)
+          .orElse(DEFAULT_QUEUE_SIZE);
+  }
+
+  /**
+   * Creates an executor.
+   *
+   * @param workerThreads the maximum number of requests to run at once
+   * @param queueSize the maximum number of requests waiting to run
+   */
+  public RestRequestExecutor(int workerThreads, int queueSize) {
+    final int numThreads = Math.max(1, workerThreads);
+    final AtomicInteger threadCount = new AtomicInteger();
+    executor = new ThreadPoolExecutor(numThreads, numThreads, 60, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+          r -> {
+            Thread thread = new Thread(r, "rest-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Runs the work of a suspended request on a worker thread, and resumes the request when it is done: with an
+   * empty response if the work completes normally, or with the exception it throws. If too many requests are
+   * already waiting, resumes the request at once with 503 Service Unavailable.
+   *
+   * @param asyncResponse the suspended request
+   * @param work the work to do, which must not use request-scoped objects
+   */
+  public void execute(AsyncResponse asyncResponse, Runnable work) {
+    final Container container = ContainerResolver.getInstance().getContainer();
+    try {
+      executor.execute(() -> runRequest(asyncResponse, container, work));
+    } catch (RejectedExecutionException e) {
+      rejected.incrementAndGet();
+      LOGGER.fine("Rejected REST request: too many requests waiting");
+      asyncResponse.resume(Response.status(Status.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+            .build());
+    }
+  }
+
+  private void runRequest(AsyncResponse asyncResponse, Container container, Runnable work) {
+    final Container previous = ContainerResolver.getDefault().enterContainer(container);
+    active.incrementAndGet();
+    try {
+      work.run();
+      asyncResponse.resume(Response.noContent().build());
+    } catch (RuntimeException | Error e) {
+      asyncResponse.resume(e);
+    } finally {
+      active.decrementAndGet();
+      completed.incrementAndGet();
+      ContainerResolver.getDefault().exitContainer(previous);
+    }
+  }
+
+  int getActiveCount() {
+    return active.get();
+  }
+
+  int getQueuedCount() {
+    return executor.getQueue().size();
+  }
+
+  long getRejectedCount() {
+    return rejected.get();
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    writer.family("operator_rest_requests_active", GAUGE, "Number of REST requests running on REST workers.");
+    writer.sample("operator_rest_requests_active", getActiveCount());
+
+    writer.family("operator_rest_requests_queued", GAUGE, "Number of REST requests waiting for a REST worker.");
+    writer.sample("operator_rest_requests_queued", getQueuedCount());
+
+    writer.family("operator_rest_requests_completed_total", COUNTER,
+          "Number of REST requests completed by REST workers.");
+    writer.sample("operator_rest_requests_completed_total", completed.get());
+
+    writer.family("operator_rest_requests_rejected_total", COUNTER,
+          "Number of REST requests rejected because too many were waiting.");
+    writer.sample("operator_rest_requests_rejected_total", getRejectedCount());
+  }
+}
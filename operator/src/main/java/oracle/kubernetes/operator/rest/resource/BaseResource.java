@@ -14,6 +14,7 @@ import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
+import oracle.kubernetes.operator.rest.RestRequestExecutor;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
 
@@ -47,6 +48,16 @@ public class BaseResource {
         getContainerRequestContext().getProperty(AuthenticationFilter.REST_BACKEND_PROPERTY);
   }
 
+  /**
+   * Returns true if this request will be suspended. A subresource locator does not check that the path of such a
+   * request exists, since doing so calls Kubernetes; the resource method checks it on a REST worker thread instead.
+   *
+   * @return true if the request will be suspended
+   */
+  protected boolean isSuspendedRequest() {
+    return RestRequestExecutor.isSuspended(getContainerRequestContext());
+  }
+
   protected UriInfo getUriInfo() {
     return getRoot().uriInfo;
   }
@@ -76,7 +87,10 @@ public class BaseResource {
   }
 
   protected WebApplicationException notFound(String pathSegment) {
-    String notFoundHref = href(pathSegment);
+    return notFoundAt(href(pathSegment));
+  }
+
+  protected static WebApplicationException notFoundAt(String notFoundHref) {
     return new WebApplicationException(
         Response.status(Status.NOT_FOUND).entity(notFoundHref).build());
   }
@@ -62,7 +62,7 @@ public class ClustersResource extends BaseResource {
    */
   @Path("{clusters}")
   public ClusterResource getClusterResource(@PathParam("clusters") String cluster) {
-    if (!getBackend().isCluster(getDomainUid(), cluster)) {
+    if (!isSuspendedRequest() && !getBackend().isCluster(getDomainUid(), cluster)) {
       WebApplicationException e = notFound(cluster);
       LOGGER.throwing(e);
       throw e;
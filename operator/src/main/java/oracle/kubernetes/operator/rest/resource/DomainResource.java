@@ -8,9 +8,13 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.RestRequestExecutor;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainModel;
 
@@ -53,11 +57,20 @@ public class DomainResource extends BaseResource {
    * Apply changes to this domain. The changes depend on the details of the specified instructions
    *
    * @param params - an update command, including a command type and optional parameters
+   * @param asyncResponse - the suspended response, resumed when the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final DomainAction params) {
-    getBackend().performDomainAction(getDomainUid(), params);
+  public void post(final DomainAction params, @Suspended final AsyncResponse asyncResponse) {
+    final RestBackend backend = getBackend();
+    final String domainUid = getDomainUid();
+    final String domainHref = href();
+    RestRequestExecutor.getInstance().execute(asyncResponse, () -> {
+      if (!backend.isDomainUid(domainUid)) {
+        throw notFoundAt(domainHref);
+      }
+      backend.performDomainAction(domainUid, params);
+    });
   }
 
   /**
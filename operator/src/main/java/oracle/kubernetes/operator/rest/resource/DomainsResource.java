@@ -63,7 +63,7 @@ public class DomainsResource extends BaseResource {
    */
   @Path("{domainUID}")
   public DomainResource getDomainResource(@PathParam("domainUID") String domainUid) {
-    if (!getBackend().isDomainUid(domainUid)) {
+    if (!isSuspendedRequest() && !getBackend().isDomainUid(domainUid)) {
       WebApplicationException e = notFound(domainUid);
       LOGGER.throwing(e);
       throw e;
@@ -5,9 +5,13 @@ package oracle.kubernetes.operator.rest.resource;
 
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.RestRequestExecutor;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 
 /**
@@ -32,16 +36,31 @@ public class ScaleClusterResource extends BaseResource {
   /**
    * Scale this WebLogic cluster up or down. This method configures the specified numer of managed
    * servers at both the Kubernetes and WebLogic levels, then returns. It does not wait for the new
-   * managed servers to start or removed managed servers to stop.
+   * managed servers to start or removed managed servers to stop. The request is suspended while the
+   * backend checks that the cluster exists and updates the domain, so that it does not hold one of
+   * the server's few request threads.
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param asyncResponse - the suspended response, resumed when the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  public void post(final ScaleClusterParamsModel params, @Suspended final AsyncResponse asyncResponse) {
     LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
+    final RestBackend backend = getBackend();
+    final String domainUid = getDomainUid();
+    final String cluster = getCluster();
+    final String domainHref = getParent().getParent().getParent().href();
+    final String clusterHref = getParent().href();
+    RestRequestExecutor.getInstance().execute(asyncResponse, () -> {
+      if (!backend.isDomainUid(domainUid)) {
+        throw notFoundAt(domainHref);
+      } else if (!backend.isCluster(domainUid, cluster)) {
+        throw notFoundAt(clusterHref);
+      }
+      backend.scaleCluster(domainUid, cluster, params.getManagedServerCount());
+    });
     LOGGER.exiting();
   }
 
@@ -66,6 +66,19 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'metrics' jaxrs child resource.
+   *
+   * @return the metrics sub resource.
+   */
+  @Path("metrics")
+  public MetricsResource getMetricsResource() {
+    LOGGER.entering(href());
+    MetricsResource result = new MetricsResource(this, "metrics");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /**
    * Construct and return the 'swagger' jaxrs child resource.
    *
@@ -6,8 +6,10 @@ package oracle.kubernetes.operator.steps;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.PodDisruptionBudgetHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -42,6 +44,13 @@ public class ClusterServicesStep extends Step {
     if (startDetails.isEmpty()) {
       return doNext(packet);
     }
-    return doForkJoin(getNext(), packet, startDetails);
+    return doForkJoin(getNext(), packet, startDetails, getMaxConcurrency());
+  }
+
+  private int getMaxConcurrency() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getMainTuning)
+        .map(tuning -> tuning.clusterServiceCreationMaxConcurrency)
+        .orElse(0);
   }
 }
@@ -21,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
@@ -355,10 +356,17 @@ public class MonitoringExporterSteps {
             startDetails.add(new StepAndPacket(stepFactory.apply(serverName), packet.copy()));
           }
         }
-        return doForkJoin(getNext(), packet, startDetails);
+        return doForkJoin(getNext(), packet, startDetails, getMaxConcurrency());
       }
     }
 
+    private int getMaxConcurrency() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(tuning -> tuning.exporterConfigurationMaxConcurrency)
+          .orElse(0);
+    }
+
     private String getNamespace(Packet packet) {
       return DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getNamespace).orElseThrow();
     }
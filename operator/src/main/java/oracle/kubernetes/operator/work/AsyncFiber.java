@@ -31,8 +31,9 @@ public interface AsyncFiber {
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle with which to cancel the operation
    */
-  void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
+  Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
 
   /**
    * Creates a child Fiber. If this Fiber is cancelled, so will all of the children.
@@ -0,0 +1,97 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import oracle.kubernetes.operator.work.NextAction.Kind;
+
+/**
+ * The most recent actions taken by a fiber, kept in preallocated parallel arrays so that recording an action
+ * allocates nothing. Each slot holds the kind of action, its subject (the step invoked, the throwable thrown
+ * or the child fiber started), the packet and the time it was recorded. When the ring is full, the oldest
+ * entries are overwritten.
+ *
+ * <p>Only the thread currently running the fiber records actions. Readers may run on any thread; they see
+ * every entry written before the count was last updated, but an entry overwritten while they read may
+ * appear in place of an older one. That is acceptable for a diagnostic aid.
+ */
+class BreadCrumbRing {
+  private static final byte CHILD = -1;
+
+  private final byte[] kinds;
+  private final Object[] subjects;
+  private final Packet[] packets;
+  private final long[] times;
+  private volatile long count;
+
+  BreadCrumbRing(int capacity) {
+    kinds = new byte[capacity];
+    subjects = new Object[capacity];
+    packets = new Packet[capacity];
+    times = new long[capacity];
+  }
+
+  void add(NextAction na, long nanoTime) {
+    record((byte) na.kind.ordinal(), na.kind == Kind.THROW ? na.throwable : na.next, na.packet, nanoTime);
+  }
+
+  void add(Fiber child, long nanoTime) {
+    record(CHILD, child, null, nanoTime);
+  }
+
+  private void record(byte kind, Object subject, Packet packet, long nanoTime) {
+    final long current = count;
+    final int slot = (int) (current % kinds.length);
+    kinds[slot] = kind;
+    subjects[slot] = subject;
+    packets[slot] = packet;
+    times[slot] = nanoTime;
+    count = current + 1;
+  }
+
+  /**
+   * Returns the number of actions which have been overwritten by more recent ones.
+   * @return a count of actions
+   */
+  long getDroppedCount() {
+    return Math.max(0, count - kinds.length);
+  }
+
+  /**
+   * Returns the time at which the most recent action was recorded, as reported by {@link System#nanoTime()}.
+   * @return a time in nanoseconds, or zero if nothing has been recorded
+   */
+  long getLastRecordedTime() {
+    final long current = count;
+    return current == 0 ? 0 : times[(int) ((current - 1) % times.length)];
+  }
+
+  /**
+   * Creates bread crumbs for the actions currently in the ring, oldest first.
+   * @return a list of bread crumbs
+   */
+  List<BreadCrumb> getBreadCrumbs() {
+    final long end = count;
+    final long start = Math.max(0, end - kinds.length);
+    List<BreadCrumb> result = new ArrayList<>((int) (end - start));
+    for (long i = start; i < end; i++) {
+      result.add(createBreadCrumb((int) (i % kinds.length)));
+    }
+    return result;
+  }
+
+  private BreadCrumb createBreadCrumb(int slot) {
+    if (kinds[slot] == CHILD) {
+      return ((Fiber) subjects[slot]).createBreadCrumb();
+    }
+
+    Kind kind = Kind.values()[kinds[slot]];
+    if (kind == Kind.THROW) {
+      return new NextAction.NextActionBreadCrumb(kind, null, (Throwable) subjects[slot], packets[slot]);
+    }
+    return new NextAction.NextActionBreadCrumb(kind, (Step) subjects[slot], null, packets[slot]);
+  }
+}
@@ -0,0 +1,15 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/** A handle to a scheduled operation, with which it may be cancelled before it runs. */
+public interface Cancellable {
+
+  /**
+   * Prevents the operation from running, if it has not already started.
+   *
+   * @return true if the operation was cancelled by this call
+   */
+  boolean cancel();
+}
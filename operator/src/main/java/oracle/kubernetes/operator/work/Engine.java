@@ -3,20 +3,44 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
 /**
- * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
+ * Collection of {@link Fiber}s. Owns an {@link Executor} to run them, and a {@link ScheduledExecutorService}
+ * for timers. Unless a separate fiber executor is specified, the fibers also run on the scheduled executor.
  */
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
+  private static final int TIMING_WHEEL_BUCKETS = 512;
+  private static final int DEFAULT_BREAD_CRUMB_CAPACITY = 32;
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal"}) // keep non-final for unit test
+  private static Supplier<ExecutorService> virtualThreadExecutorFactory = Engine::createVirtualThreadExecutor;
+
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference<>();
+  private final Executor fiberExecutor;
+  private final ThreadMode threadMode;
+  private volatile TimingWheel timingWheel;
+  private volatile int breadCrumbCapacity = DEFAULT_BREAD_CRUMB_CAPACITY;
+  private volatile FiberWatchdog watchdog;
 
   /**
    * Creates engine with the specified executor.
@@ -24,7 +48,28 @@ public class Engine {
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, null, ThreadMode.PLATFORM);
+  }
+
+  /**
+   * Creates engine which runs fibers on a different executor than the one used to schedule timers.
+   *
+   * @param threadPool executor used for timers and delayed actions
+   * @param fiberExecutor executor used to run fibers; if null, the fibers will run on the thread pool
+   * @param threadMode the mode which describes the fiber executor
+   */
+  public Engine(ScheduledExecutorService threadPool, Executor fiberExecutor, ThreadMode threadMode) {
     this.threadPool.set(threadPool);
+    this.fiberExecutor = fiberExecutor;
+    this.threadMode = threadMode;
+  }
+
+  // Creates an engine which runs fibers on its own executor, but shares the timers of the specified engine.
+  Engine(Engine base, Executor fiberExecutor) {
+    this(base.getExecutor(), fiberExecutor, ThreadMode.SHARDED);
+    this.timingWheel = base.timingWheel;
+    this.breadCrumbCapacity = base.breadCrumbCapacity;
+    this.watchdog = base.watchdog;
   }
 
   /**
@@ -53,6 +98,46 @@ public class Engine {
     return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
   }
 
+  private static Executor wrap(Container container, Executor ex) {
+    return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
+  }
+
+  /**
+   * Creates an engine whose fibers run as selected by the specified mode. Timers always use the specified
+   * scheduled executor. In {@link ThreadMode#VIRTUAL} mode, each fiber execution gets its own virtual thread,
+   * if the runtime supports them; otherwise, an elastic pool of daemon platform threads is used instead.
+   *
+   * @param id Engine id
+   * @param container container in which fibers will run
+   * @param threadPool executor for timers and delayed actions
+   * @param threadMode the requested mode
+   * @return a new engine
+   */
+  public static Engine createEngine(
+        String id, Container container, ScheduledExecutorService threadPool, ThreadMode threadMode) {
+    if (threadMode != ThreadMode.VIRTUAL) {
+      return new Engine(threadPool);
+    }
+
+    return Optional.ofNullable(virtualThreadExecutorFactory.get())
+          .map(ex -> new Engine(threadPool, wrap(container, ex), ThreadMode.VIRTUAL))
+          .orElseGet(() -> new Engine(threadPool, wrap(container, createElasticExecutor(id)), ThreadMode.ELASTIC));
+  }
+
+  // Virtual threads are not available at the language level supported by this build, so look them up at runtime.
+  private static ExecutorService createVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return null;
+    }
+  }
+
+  private static ExecutorService createElasticExecutor(String id) {
+    return Executors.newCachedThreadPool(new DaemonThreadFactory(id + "-fiber"));
+  }
+
   /**
    * Returns the executor.
    *
@@ -62,8 +147,97 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Directs this engine to keep fiber timers in a timing wheel rather than on the scheduled executor's queue.
+   * Timers may then fire up to one tick late, but scheduling them takes constant time.
+   *
+   * @param tickMillis the resolution of the timers, in milliseconds
+   * @return this engine
+   */
+  public Engine withTimingWheel(long tickMillis) {
+    timingWheel = new TimingWheel(getExecutor(), tickMillis, TimeUnit.MILLISECONDS, TIMING_WHEEL_BUCKETS);
+    getExecutor().scheduleWithFixedDelay(timingWheel::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  /**
+   * Returns true if fiber timers are kept in a timing wheel.
+   *
+   * @return true if a timing wheel is in use
+   */
+  public boolean isUsingTimingWheel() {
+    return timingWheel != null;
+  }
+
+  Cancellable scheduleOnce(long delay, TimeUnit unit, Runnable runnable) {
+    if (timingWheel != null) {
+      return timingWheel.schedule(runnable, delay, unit)::cancel;
+    } else {
+      final ScheduledFuture<?> future = getExecutor().schedule(runnable, delay, unit);
+      return () -> future.cancel(false);
+    }
+  }
+
+  /**
+   * Sets the number of recent actions each fiber started after this call will keep for diagnostics.
+   * Zero disables bread crumbs entirely.
+   *
+   * @param capacity the maximum number of bread crumbs per fiber
+   * @return this engine
+   */
+  public Engine withBreadCrumbCapacity(int capacity) {
+    breadCrumbCapacity = Math.max(0, capacity);
+    return this;
+  }
+
+  public int getBreadCrumbCapacity() {
+    return breadCrumbCapacity;
+  }
+
+  BreadCrumbRing createBreadCrumbRing() {
+    final int capacity = breadCrumbCapacity;
+    return capacity > 0 ? new BreadCrumbRing(capacity) : null;
+  }
+
+  /**
+   * Directs this engine to report its suspended fibers to the specified watchdog, and schedules the watchdog's
+   * periodic checks on this engine's executor.
+   *
+   * @param watchdog the watchdog which tracks suspended fibers
+   * @return this engine
+   */
+  public Engine withWatchdog(FiberWatchdog watchdog) {
+    this.watchdog = watchdog;
+    final long interval = watchdog.getCheckIntervalMillis();
+    getExecutor().scheduleWithFixedDelay(watchdog::check, interval, interval, TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  void fiberSuspended(Fiber fiber, Step step, long nanoTime) {
+    final FiberWatchdog current = watchdog;
+    if (current != null) {
+      current.fiberSuspended(fiber, step, nanoTime);
+    }
+  }
+
+  void fiberResumed(Fiber fiber) {
+    final FiberWatchdog current = watchdog;
+    if (current != null) {
+      current.fiberResumed(fiber);
+    }
+  }
+
+  /**
+   * Returns the mode used to run fibers.
+   *
+   * @return thread mode
+   */
+  public ThreadMode getThreadMode() {
+    return threadMode;
+  }
+
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    Optional.ofNullable(fiberExecutor).orElse(getExecutor()).execute(fiber);
   }
 
   /**
@@ -82,6 +256,35 @@ public class Engine {
     return new Fiber(this, parent);
   }
 
+  /** The way in which an engine runs its fibers. */
+  public enum ThreadMode {
+    /** Fibers share the fixed-size scheduled thread pool. */
+    PLATFORM,
+    /** Each fiber execution runs on its own virtual thread. */
+    VIRTUAL,
+    /** Virtual threads were requested but are not supported; fibers run on an elastic platform thread pool. */
+    ELASTIC,
+    /** Fibers for each namespace run on one shard of a work-stealing pool. */
+    SHARDED;
+
+    /**
+     * Returns the mode requested by the specified name, ignoring case. Only {@link #PLATFORM} and {@link #VIRTUAL}
+     * may be requested; the other modes describe how an engine ended up running. Any other name is logged
+     * and {@link #PLATFORM} is returned.
+     *
+     * @param name the name of a mode
+     * @return a thread mode
+     */
+    public static ThreadMode fromString(String name) {
+      if (VIRTUAL.name().equalsIgnoreCase(name)) {
+        return VIRTUAL;
+      } else if (!PLATFORM.name().equalsIgnoreCase(name)) {
+        LOGGER.warning(MessageKeys.ENGINE_THREAD_MODE_UNSUPPORTED, name, PLATFORM);
+      }
+      return PLATFORM;
+    }
+  }
+
   private static class DaemonThreadFactory implements ThreadFactory {
     final AtomicInteger threadNumber = new AtomicInteger(1);
     final String namePrefix;
@@ -0,0 +1,316 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+
+/**
+ * A set of engines, each of which runs its fibers on its own partition of a work-stealing thread pool. Each namespace
+ * is pinned to one shard by the hash of its name, so a namespace with a flood of work can only fill its own queue;
+ * namespaces on other shards keep their own threads. A shard whose queue is empty takes work from the busiest
+ * other shard, so no thread stays idle while work is waiting.
+ *
+ * <p>All shards share the timers of the engine from which they were created. Shards cannot be created from an
+ * engine which runs its fibers on virtual threads, since such an engine has no threads to partition.
+ */
+public class EngineShards implements MetricsSource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private final Shard[] shards;
+  private final LongSupplier nanoClock;
+  private volatile boolean shutdown;
+
+  /**
+   * Creates the shards and starts a worker thread for each.
+   *
+   * @param base the engine whose timers the shards will share
+   * @param id a name used for the worker threads
+   * @param container container in which fibers will run
+   * @param numShards the number of shards to create
+   * @throws IllegalArgumentException if the base engine runs its fibers on virtual threads
+   */
+  public EngineShards(Engine base, String id, Container container, int numShards) {
+    this(base, id, container, numShards, System::nanoTime);
+  }
+
+  EngineShards(Engine base, String id, Container container, int numShards, LongSupplier nanoClock) {
+    if (base.getThreadMode() == Engine.ThreadMode.VIRTUAL) {
+      throw new IllegalArgumentException("Engine shards cannot be used with virtual threads");
+    }
+    this.nanoClock = nanoClock;
+    this.shards = new Shard[Math.max(1, numShards)];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new Shard(i);
+      shards[i].engine = new Engine(base, wrap(container, shards[i]::submit));
+    }
+    for (Shard shard : shards) {
+      shard.start(id);
+    }
+  }
+
+  private static Executor wrap(Container container, Executor ex) {
+    return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
+  }
+
+  public int getShardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Returns the index of the shard to which the specified namespace is pinned.
+   *
+   * @param namespace a namespace name
+   * @return a shard index
+   */
+  public int getShardIndex(String namespace) {
+    return Math.floorMod(namespace.hashCode(), shards.length);
+  }
+
+  /**
+   * Returns the engine which runs fibers for the specified namespace.
+   *
+   * @param namespace a namespace name
+   * @return the engine of the shard to which the namespace is pinned
+   */
+  public Engine getEngine(String namespace) {
+    return shards[getShardIndex(namespace)].engine;
+  }
+
+  /**
+   * Returns the number of tasks waiting in the queue of the specified shard.
+   *
+   * @param shard a shard index
+   * @return the queue depth
+   */
+  public int getQueueDepth(int shard) {
+    return shards[shard].queueDepth.get();
+  }
+
+  /**
+   * Returns the number of tasks submitted to the specified shard which were run by another shard's worker.
+   *
+   * @param shard a shard index
+   * @return the number of stolen tasks
+   */
+  public long getStolenCount(int shard) {
+    return shards[shard].stolen.sum();
+  }
+
+  /**
+   * Returns the fraction of the time since the previous call for the same shard during which its worker was
+   * running tasks, whether its own or stolen ones.
+   *
+   * @param shard a shard index
+   * @return a value between 0 and 1
+   */
+  public double getUtilization(int shard) {
+    return shards[shard].sampleUtilization();
+  }
+
+  // for test
+  void execute(String namespace, Runnable task) {
+    shards[getShardIndex(namespace)].submit(task);
+  }
+
+  /** Stops the worker threads. Tasks still queued are discarded. */
+  public void shutdown() {
+    shutdown = true;
+    for (Shard shard : shards) {
+      LockSupport.unpark(shard.worker);
+    }
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    writer.family("operator_engine_shard_queue_depth", GAUGE, "Number of fiber tasks waiting in each engine shard.");
+    for (Shard shard : shards) {
+      writer.sample("operator_engine_shard_queue_depth", shard.queueDepth.get(), "shard", shard.label);
+    }
+
+    writer.family("operator_engine_shard_utilization", GAUGE,
+          "Fraction of the time since the previous scrape that each shard's worker was busy.");
+    for (Shard shard : shards) {
+      writer.sample("operator_engine_shard_utilization", shard.sampleUtilization(), "shard", shard.label);
+    }
+
+    writer.family("operator_engine_shard_busy_seconds_total", COUNTER,
+          "Time each shard's worker has spent running tasks.");
+    for (Shard shard : shards) {
+      writer.sample("operator_engine_shard_busy_seconds_total",
+            shard.busyNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1), "shard", shard.label);
+    }
+
+    writer.family("operator_engine_shard_tasks_total", COUNTER, "Number of fiber tasks submitted to each shard.");
+    for (Shard shard : shards) {
+      writer.sample("operator_engine_shard_tasks_total", shard.submitted.sum(), "shard", shard.label);
+    }
+
+    writer.family("operator_engine_shard_stolen_total", COUNTER,
+          "Number of tasks submitted to each shard which were run by another shard's worker.");
+    for (Shard shard : shards) {
+      writer.sample("operator_engine_shard_stolen_total", shard.stolen.sum(), "shard", shard.label);
+    }
+  }
+
+  // Takes the oldest task from this shard, or failing that, the newest task from the shard with the longest queue.
+  private Runnable nextTask(Shard shard) {
+    Runnable task = shard.poll(true);
+    if (task != null) {
+      return task;
+    }
+
+    Shard victim = null;
+    for (Shard candidate : shards) {
+      if (candidate != shard && candidate.queueDepth.get() > 0
+            && (victim == null || candidate.queueDepth.get() > victim.queueDepth.get())) {
+        victim = candidate;
+      }
+    }
+    if (victim == null) {
+      return null;
+    }
+
+    task = victim.poll(false);
+    if (task != null) {
+      victim.stolen.increment();
+    }
+    return task;
+  }
+
+  private void wakeIdleShard() {
+    for (Shard shard : shards) {
+      if (shard.idle) {
+        LockSupport.unpark(shard.worker);
+        return;
+      }
+    }
+  }
+
+  private class Shard {
+    private final int index;
+    private final String label;
+    private final Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder stolen = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private Engine engine;
+    private String threadName;
+    private volatile Thread worker;
+    private volatile boolean idle;
+    private long lastSampleTime;
+    private long lastSampleBusyNanos;
+
+    Shard(int index) {
+      this.index = index;
+      this.label = Integer.toString(index);
+      this.lastSampleTime = nanoClock.getAsLong();
+    }
+
+    void start(String id) {
+      threadName = "engine-" + id + "-shard-" + index;
+      startWorker();
+    }
+
+    private void startWorker() {
+      worker = new Thread(this::runWorker, threadName);
+      worker.setDaemon(true);
+      worker.start();
+    }
+
+    // The worker sets its idle flag before checking the queues one last time, and a submitter checks the flag
+    // after queueing its task, so at least one of them sees the other.
+    void submit(Runnable task) {
+      submitted.increment();
+      queueDepth.incrementAndGet();
+      queue.add(task);
+      if (idle) {
+        LockSupport.unpark(worker);
+      } else {
+        wakeIdleShard();
+      }
+    }
+
+    Runnable poll(boolean oldest) {
+      Runnable task = oldest ? queue.pollFirst() : queue.pollLast();
+      if (task != null) {
+        queueDepth.decrementAndGet();
+      }
+      return task;
+    }
+
+    // An error thrown by a task ends this worker, so a replacement takes over the shard's queue.
+    private void runWorker() {
+      try {
+        processTasks();
+      } catch (Error e) {
+        if (shutdown) {
+          throw e;
+        }
+        LOGGER.severe(MessageKeys.EXCEPTION, e);
+        startWorker();
+      }
+    }
+
+    private void processTasks() {
+      while (!shutdown) {
+        Runnable task = nextTask(this);
+        if (task != null) {
+          run(task);
+        } else {
+          idle = true;
+          task = nextTask(this);
+          if (task == null && !shutdown) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+          }
+          idle = false;
+          if (task != null) {
+            run(task);
+          }
+        }
+      }
+    }
+
+    private void run(Runnable task) {
+      final long start = nanoClock.getAsLong();
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        // fibers handle their own failures; a stray exception must not kill the shard's worker
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      } finally {
+        busyNanos.add(nanoClock.getAsLong() - start);
+      }
+    }
+
+    synchronized double sampleUtilization() {
+      final long now = nanoClock.getAsLong();
+      final long busy = busyNanos.sum();
+      final long elapsed = now - lastSampleTime;
+      final double utilization = elapsed <= 0 ? 0 : Math.min(1.0, (busy - lastSampleBusyNanos) / (double) elapsed);
+      lastSampleTime = now;
+      lastSampleBusyNanos = busy;
+      return utilization;
+    }
+  }
+}
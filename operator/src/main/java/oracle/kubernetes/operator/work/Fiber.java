@@ -5,15 +5,16 @@ package oracle.kubernetes.operator.work;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -76,8 +77,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   private volatile Thread currentThread;
   private ExitCallback exitCallback;
   private Collection<Fiber> children = null;
-  // Will only be populated if log level is at least FINE
-  private List<BreadCrumbFactory> breadCrumbs = null;
+  /** The most recent actions taken by this fiber, or null if bread crumbs are disabled. */
+  private BreadCrumbRing breadCrumbs = null;
+  /** The step which most recently suspended this fiber, and when, if the fiber has not yet resumed. */
+  private Step suspendingStep;
+  private long suspendedAt;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -108,10 +112,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle with which to cancel the operation
    */
   @Override
-  public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
-    this.owner.getExecutor().schedule(runnable, timeout, unit);
+  public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    return this.owner.scheduleOnce(timeout, unit, runnable);
   }
 
   /**
@@ -130,7 +135,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
 
     if (status.get() == NOT_COMPLETE) {
       LOGGER.finer("{0} started", getName());
-      breadCrumbs = new ArrayList<>();
+      breadCrumbs = owner.createBreadCrumbRing();
 
       owner.addRunnable(this);
     }
@@ -208,7 +213,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
       }
       na.terminate(t, packet);
 
-      addBreadCrumb(na);
+      addBreadCrumb(na, System.nanoTime());
       completionCheck();
     } finally {
       lock.unlock();
@@ -424,6 +429,7 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
   private boolean doRunInternal(Holder<Boolean> isRequireUnlock) {
     assert (lock.isHeldByCurrentThread());
 
+    recordSuspensionEnded();
     while (isReady()) {
       if (status.get() != NOT_COMPLETE) {
         na = new NextAction();
@@ -446,18 +452,21 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
             na.packet != null ? "Packet@" + Integer.toHexString(na.packet.hashCode()) : "null");
       }
 
-      addBreadCrumb(na);
-
       NextAction result;
+      final Step step = na.next;
+      final long startTime = System.nanoTime();
+      addBreadCrumb(na, startTime);
       try {
-        result = na.next.apply(na.packet);
+        result = step.apply(na.packet);
       } catch (Throwable t) {
         Packet p = na.packet;
         na = new NextAction();
         na.terminate(t, p);
 
-        addBreadCrumb(na);
+        addBreadCrumb(na, System.nanoTime());
         return false;
+      } finally {
+        FiberMetrics.getInstance().recordStepInvocation(step, System.nanoTime() - startTime);
       }
 
       if (LOGGER.isFinerEnabled()) {
@@ -476,13 +485,14 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
         case INVOKE:
           break;
         case SUSPEND:
-          addBreadCrumb(result);
+          recordSuspensionStarted(step);
+          addBreadCrumb(result, suspendedAt);
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
           }
           break;
         case THROW:
-          addBreadCrumb(result);
+          addBreadCrumb(result, System.nanoTime());
           return false;
         default:
           throw new AssertionError();
@@ -495,6 +505,24 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     return false;
   }
 
+  private void recordSuspensionStarted(Step step) {
+    suspendingStep = step;
+    suspendedAt = System.nanoTime();
+    owner.fiberSuspended(this, step, suspendedAt);
+  }
+
+  private void recordSuspensionEnded() {
+    if (suspendingStep != null) {
+      FiberMetrics.getInstance().recordSuspension(suspendingStep, System.nanoTime() - suspendedAt);
+      owner.fiberResumed(this);
+      suspendingStep = null;
+    }
+  }
+
+  boolean isDone() {
+    return status.get() != NOT_COMPLETE;
+  }
+
   private boolean isReady() {
     return na.kind != Kind.SUSPEND;
   }
@@ -590,16 +618,26 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     }
   }
 
-  private synchronized void addBreadCrumb(NextAction na) {
-    breadCrumbs.add(na);
+  // Actions are recorded only by the thread currently running this fiber, so no lock is needed.
+  private void addBreadCrumb(NextAction na, long nanoTime) {
+    if (breadCrumbs != null) {
+      breadCrumbs.add(na, nanoTime);
+    }
   }
 
-  private synchronized void addBreadCrumb(Fiber child) {
-    breadCrumbs.add(child);
+  private void addBreadCrumb(Fiber child) {
+    if (breadCrumbs != null) {
+      breadCrumbs.add(child, System.nanoTime());
+    }
   }
 
+  /**
+   * Returns the bread crumbs for the most recent actions of this fiber, oldest first. The list is empty if
+   * bread crumbs are disabled for the engine which owns this fiber.
+   * @return a list of bread crumbs
+   */
   public List<BreadCrumb> getBreadCrumbs() {
-    return breadCrumbs.stream().map(BreadCrumbFactory::createBreadCrumb).collect(Collectors.toList());
+    return Optional.ofNullable(breadCrumbs).map(BreadCrumbRing::getBreadCrumbs).orElse(Collections.emptyList());
   }
 
   public String getBreadCrumbString() {
@@ -622,8 +660,11 @@ public final class Fiber implements Runnable, ComponentRegistry, AsyncFiber, Bre
     }
   }
 
-  private synchronized void writeBreadCrumbs(StringBuilder sb, PacketDumper dumper) {
+  private void writeBreadCrumbs(StringBuilder sb, PacketDumper dumper) {
     sb.append('[');
+    if (breadCrumbs != null && breadCrumbs.getDroppedCount() > 0) {
+      sb.append("...");
+    }
     BreadCrumb previous = null;
     for (BreadCrumb bc : getBreadCrumbs()) {
       bc.writeTo(sb, previous, dumper);
@@ -3,12 +3,18 @@
 
 package oracle.kubernetes.operator.work;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -18,10 +24,21 @@ import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
  * in-flight.
+ *
+ * <p>A gate may instead be configured to coalesce interrupting requests. Requests for a key which arrive
+ * within the coalescing window replace one another, and the last of them starts once the window has
+ * elapsed and any running Fiber for the key has completed. A running Fiber is cancelled only if it is
+ * still running when the maximum delay has elapsed. The completion callback of a replaced request is
+ * called when the Fiber of the request which replaced it completes.
  */
 public class FiberGate {
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<>();
+  private final Map<String, PendingFiber> pendingFibers = new HashMap<>();
+  private final LongAdder cancelledCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+  private long coalescingWindowMillis;
+  private long maxCoalescingDelayMillis;
 
   private final Fiber placeholder;
 
@@ -47,9 +64,45 @@ public class FiberGate {
     return engine.getExecutor();
   }
 
+  /**
+   * Configures this gate to coalesce interrupting requests rather than cancelling running Fibers.
+   *
+   * @param window the time during which requests for the same key replace one another
+   * @param maxDelay the maximum time to wait for a running Fiber to complete before cancelling it
+   * @param unit the unit of both times
+   * @return this gate
+   */
+  public FiberGate withCoalescing(long window, long maxDelay, TimeUnit unit) {
+    coalescingWindowMillis = unit.toMillis(window);
+    maxCoalescingDelayMillis = Math.max(coalescingWindowMillis, unit.toMillis(maxDelay));
+    return this;
+  }
+
+  private boolean isCoalescing() {
+    return coalescingWindowMillis > 0;
+  }
+
+  /**
+   * Returns the number of running Fibers which this gate has cancelled in order to start later ones.
+   * @return a count of cancelled fibers
+   */
+  public long getCancelledCount() {
+    return cancelledCount.sum();
+  }
+
+  /**
+   * Returns the number of requests which this gate has replaced with later requests for the same key
+   * without ever starting them.
+   * @return a count of coalesced requests
+   */
+  public long getCoalescedCount() {
+    return coalescedCount.sum();
+  }
+
   /**
    * Starts Fiber that cancels any earlier running Fibers with the same key. Fiber map is not
-   * updated if no Fiber is started.
+   * updated if no Fiber is started. If this gate is coalescing, the Fiber starts only after the
+   * coalescing window, and only if no later request for the same key replaces it.
    *
    * @param key Key
    * @param strategy Step for Fiber to begin with
@@ -58,6 +111,9 @@ public class FiberGate {
    * @return started Fiber
    */
   public Fiber startFiber(String key, Step strategy, Packet packet, CompletionCallback callback) {
+    if (isCoalescing()) {
+      return coalesceFiber(key, strategy, packet, callback);
+    }
     return startFiberIfLastFiberMatches(key, null, strategy, packet, callback);
   }
 
@@ -71,13 +127,17 @@ public class FiberGate {
    * @param callback Completion callback
    * @return started Fiber
    */
-  public Fiber startFiberIfNoCurrentFiber(
+  public synchronized Fiber startFiberIfNoCurrentFiber(
       String key, Step strategy, Packet packet, CompletionCallback callback) {
+    if (pendingFibers.containsKey(key)) {
+      return null;
+    }
     return startFiberIfLastFiberMatches(key, placeholder, strategy, packet, callback);
   }
 
   /**
-   * Starts Fiber only if the last started Fiber matches the given old Fiber.
+   * Starts Fiber only if the last started Fiber matches the given old Fiber, and no coalesced request
+   * for the same key is waiting to start. Fiber map is not updated if no Fiber is started.
    *
    * @param key Key
    * @param old Expected last Fiber
@@ -88,7 +148,14 @@ public class FiberGate {
    */
   public synchronized Fiber startFiberIfLastFiberMatches(
       String key, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
-    Fiber f = engine.createFiber();
+    if (pendingFibers.containsKey(key)) {
+      return null;
+    }
+    return startFiberIfLastFiberMatches(engine.createFiber(), key, old, strategy, packet, callback);
+  }
+
+  private Fiber startFiberIfLastFiberMatches(
+      Fiber f, String key, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
     WaitForOldFiberStep wfofs;
     if (old != null) {
       if (old == placeholder) {
@@ -100,9 +167,13 @@ public class FiberGate {
       }
     } else {
       old = gateMap.put(key, f);
+      if (old != null) {
+        cancelledCount.increment();
+      }
     }
     wfofs = new WaitForOldFiberStep(old, strategy);
     f.getComponents().put(ProcessingConstants.FIBER_COMPONENT_NAME, Component.createFor(wfofs));
+    final long startTime = System.nanoTime();
     f.start(
         wfofs,
         packet,
@@ -110,18 +181,111 @@ public class FiberGate {
           @Override
           public void onCompletion(Packet packet) {
             gateMap.remove(key, f);
+            FiberMetrics.getInstance().recordGateFiberDuration(key, System.nanoTime() - startTime);
             callback.onCompletion(packet);
+            startReadyPendingFiber(key);
           }
 
           @Override
           public void onThrowable(Packet packet, Throwable throwable) {
             gateMap.remove(key, f);
+            FiberMetrics.getInstance().recordGateFiberDuration(key, System.nanoTime() - startTime);
             callback.onThrowable(packet, throwable);
+            startReadyPendingFiber(key);
           }
         });
     return f;
   }
 
+  private synchronized Fiber coalesceFiber(String key, Step strategy, Packet packet, CompletionCallback callback) {
+    PendingFiber pending = pendingFibers.get(key);
+    if (pending != null) {
+      coalescedCount.increment();
+      pending.update(strategy, packet, callback);
+    } else {
+      pending = new PendingFiber(key, strategy, packet, callback);
+      pendingFibers.put(key, pending);
+      schedule(pending, this::onCoalescingWindowElapsed, coalescingWindowMillis);
+    }
+    return pending.fiber;
+  }
+
+  private void schedule(PendingFiber pending, Consumer<PendingFiber> action, long delayMillis) {
+    getExecutor().schedule(() -> action.accept(pending), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized void onCoalescingWindowElapsed(PendingFiber pending) {
+    if (pendingFibers.get(pending.key) == pending) {
+      pending.ready = true;
+      if (!gateMap.containsKey(pending.key)) {
+        startPendingFiber(pending);
+      } else {
+        schedule(pending, this::onMaxCoalescingDelayElapsed, maxCoalescingDelayMillis - coalescingWindowMillis);
+      }
+    }
+  }
+
+  private synchronized void onMaxCoalescingDelayElapsed(PendingFiber pending) {
+    if (pendingFibers.get(pending.key) == pending) {
+      startPendingFiber(pending);
+    }
+  }
+
+  private synchronized void startReadyPendingFiber(String key) {
+    Optional.ofNullable(pendingFibers.get(key))
+          .filter(pending -> pending.ready && !gateMap.containsKey(key))
+          .ifPresent(this::startPendingFiber);
+  }
+
+  private void startPendingFiber(PendingFiber pending) {
+    pendingFibers.remove(pending.key);
+    startFiberIfLastFiberMatches(
+          pending.fiber, pending.key, null, pending.strategy, pending.packet, pending.getCallback());
+  }
+
+  private class PendingFiber {
+    private final String key;
+    private final Fiber fiber = engine.createFiber();
+    private Step strategy;
+    private Packet packet;
+    private CompletionCallback callback;
+    private final List<CompletionCallback> replacedCallbacks = new ArrayList<>();
+    private boolean ready;
+
+    PendingFiber(String key, Step strategy, Packet packet, CompletionCallback callback) {
+      this.key = key;
+      update(strategy, packet, callback);
+    }
+
+    void update(Step strategy, Packet packet, CompletionCallback callback) {
+      Optional.ofNullable(this.callback).ifPresent(replacedCallbacks::add);
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+    }
+
+    // The replaced requests are done when the request which replaced them is.
+    CompletionCallback getCallback() {
+      if (replacedCallbacks.isEmpty()) {
+        return callback;
+      }
+
+      final List<CompletionCallback> callbacks = new ArrayList<>(replacedCallbacks);
+      callbacks.add(callback);
+      return new CompletionCallback() {
+        @Override
+        public void onCompletion(Packet packet) {
+          callbacks.forEach(c -> c.onCompletion(packet));
+        }
+
+        @Override
+        public void onThrowable(Packet packet, Throwable throwable) {
+          callbacks.forEach(c -> c.onThrowable(packet, throwable));
+        }
+      };
+    }
+  }
+
   private static class WaitForOldFiberStep extends Step {
     private final AtomicReference<Fiber> old;
     private final AtomicReference<WaitForOldFiberStep> current;
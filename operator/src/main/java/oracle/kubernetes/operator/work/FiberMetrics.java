@@ -0,0 +1,158 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import oracle.kubernetes.operator.metrics.Histogram;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.HISTOGRAM;
+
+/**
+ * Records the time spent by fibers in each kind of step, and the shape of fiber processing. Steps are identified
+ * by the name derived from their class, so that all instances of a step class share statistics.
+ */
+public class FiberMetrics implements MetricsSource {
+
+  private static final FiberMetrics INSTANCE = new FiberMetrics();
+
+  private final Map<String, StepStatistics> steps = new ConcurrentHashMap<>();
+  private final Map<String, Histogram> gateFiberDurations = new ConcurrentHashMap<>();
+  private final Histogram forkJoinFanOut = new Histogram(Histogram.SIZE_BUCKETS);
+
+  static {
+    OperatorMetrics.register(INSTANCE);
+  }
+
+  FiberMetrics() {
+  }
+
+  public static FiberMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the statistics recorded for the specified step name, or null if none have been recorded.
+   *
+   * @param stepName the class-derived name of a step
+   * @return the statistics for the named step
+   */
+  public StepStatistics getStepStatistics(String stepName) {
+    return steps.get(stepName);
+  }
+
+  /**
+   * Returns the statistics for all steps recorded so far, sorted by name.
+   *
+   * @return an unmodifiable map of step names to statistics
+   */
+  public Map<String, StepStatistics> getAllStepStatistics() {
+    return Collections.unmodifiableMap(new TreeMap<>(steps));
+  }
+
+  /**
+   * Returns the histogram of end-to-end durations for fibers started by fiber gates with the specified key.
+   *
+   * @param key a fiber gate key, typically a domain UID
+   * @return the histogram, or null if no fiber with that key has completed
+   */
+  public Histogram getGateFiberDuration(String key) {
+    return gateFiberDurations.get(key);
+  }
+
+  public Histogram getForkJoinFanOut() {
+    return forkJoinFanOut;
+  }
+
+  void recordStepInvocation(Step step, long wallNanos) {
+    getOrCreateStatistics(step).recordInvocation(wallNanos);
+  }
+
+  void recordSuspension(Step step, long suspendedNanos) {
+    getOrCreateStatistics(step).recordSuspension(suspendedNanos);
+  }
+
+  void recordForkJoin(int numChildren) {
+    forkJoinFanOut.observe(numChildren);
+  }
+
+  void recordGateFiberDuration(String key, long durationNanos) {
+    gateFiberDurations.computeIfAbsent(key, k -> new Histogram(Histogram.LATENCY_BUCKETS)).observeNanos(durationNanos);
+  }
+
+  /**
+   * Discards the statistics recorded for the specified fiber gate key, typically when its domain is removed.
+   *
+   * @param key a fiber gate key
+   */
+  public void removeGateKey(String key) {
+    gateFiberDurations.remove(key);
+  }
+
+  private StepStatistics getOrCreateStatistics(Step step) {
+    return steps.computeIfAbsent(step.getBaseName(), n -> new StepStatistics());
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    Map<String, StepStatistics> sortedSteps = getAllStepStatistics();
+
+    writer.family("operator_step_invocations_total", COUNTER, "Number of times each kind of step has run.");
+    sortedSteps.forEach((name, stats) ->
+          writer.sample("operator_step_invocations_total", stats.getInvocationCount(), "step", name));
+
+    writer.family("operator_step_duration_seconds", HISTOGRAM, "Time spent running each kind of step.");
+    sortedSteps.forEach((name, stats) ->
+          writer.histogram("operator_step_duration_seconds", stats.getWallTime(), "step", name));
+
+    writer.family("operator_step_suspended_seconds", HISTOGRAM,
+          "Time fibers remained suspended by each kind of step.");
+    sortedSteps.forEach((name, stats) ->
+          writer.histogram("operator_step_suspended_seconds", stats.getSuspendedTime(), "step", name));
+
+    writer.family("operator_fork_join_children", HISTOGRAM, "Number of child fibers started by each fork.");
+    writer.histogram("operator_fork_join_children", forkJoinFanOut);
+
+    writer.family("operator_gate_fiber_duration_seconds", HISTOGRAM,
+          "End-to-end duration of fibers started by a fiber gate, by key.");
+    new TreeMap<>(gateFiberDurations).forEach((key, histogram) ->
+          writer.histogram("operator_gate_fiber_duration_seconds", histogram, "key", key));
+  }
+
+  /** The statistics recorded for one kind of step. */
+  public static class StepStatistics {
+    private final LongAdder invocations = new LongAdder();
+    private final Histogram wallTime = new Histogram(Histogram.LATENCY_BUCKETS);
+    private final Histogram suspendedTime = new Histogram(Histogram.LATENCY_BUCKETS);
+
+    void recordInvocation(long wallNanos) {
+      invocations.increment();
+      wallTime.observeNanos(wallNanos);
+    }
+
+    void recordSuspension(long suspendedNanos) {
+      suspendedTime.observeNanos(suspendedNanos);
+    }
+
+    public long getInvocationCount() {
+      return invocations.sum();
+    }
+
+    public Histogram getWallTime() {
+      return wallTime;
+    }
+
+    public Histogram getSuspendedTime() {
+      return suspendedTime;
+    }
+  }
+}
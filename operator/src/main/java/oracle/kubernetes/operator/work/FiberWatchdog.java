@@ -0,0 +1,205 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.MetricsSource;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.FIBER_SUSPENDED_TOO_LONG;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.GAUGE;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.SUMMARY;
+
+/**
+ * Tracks the fibers of an engine which are currently suspended, and periodically reports those which have been
+ * suspended longer than a threshold. For each kind of suspending step, it records how many fibers are stuck
+ * there and the distribution of how long they have been waiting. Optionally, it logs the bread crumbs of the
+ * fibers which have been stuck the longest, once per suspension.
+ */
+public class FiberWatchdog implements MetricsSource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final long thresholdNanos;
+  private final int numFibersToLog;
+  private final LongSupplier nanoClock;
+  private final Map<Fiber, Suspension> suspensions = new ConcurrentHashMap<>();
+  private volatile Map<String, long[]> stuckDwellTimes = Collections.emptyMap();
+
+  /**
+   * Creates a watchdog.
+   *
+   * @param threshold the time after which a suspended fiber is considered stuck
+   * @param unit the unit of the threshold
+   * @param numFibersToLog the number of longest-stuck fibers whose bread crumbs are logged on each check
+   */
+  public FiberWatchdog(long threshold, TimeUnit unit, int numFibersToLog) {
+    this(threshold, unit, numFibersToLog, System::nanoTime);
+  }
+
+  FiberWatchdog(long threshold, TimeUnit unit, int numFibersToLog, LongSupplier nanoClock) {
+    this.thresholdNanos = unit.toNanos(threshold);
+    this.numFibersToLog = numFibersToLog;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Returns the interval at which {@link #check()} should run: half the threshold, but at least one second.
+   *
+   * @return an interval in milliseconds
+   */
+  public long getCheckIntervalMillis() {
+    return Math.max(TimeUnit.SECONDS.toMillis(1), TimeUnit.NANOSECONDS.toMillis(thresholdNanos / 2));
+  }
+
+  void fiberSuspended(Fiber fiber, Step step, long nanoTime) {
+    suspensions.put(fiber, new Suspension(step, nanoTime));
+  }
+
+  void fiberResumed(Fiber fiber) {
+    suspensions.remove(fiber);
+  }
+
+  /**
+   * Returns the number of fibers currently tracked as suspended.
+   *
+   * @return a count of fibers
+   */
+  public int getSuspendedCount() {
+    return suspensions.size();
+  }
+
+  /**
+   * Returns the number of fibers found stuck at each kind of step by the last check.
+   *
+   * @return a map of step names to counts
+   */
+  public Map<String, Integer> getStuckCounts() {
+    Map<String, Integer> result = new TreeMap<>();
+    stuckDwellTimes.forEach((step, dwellTimes) -> result.put(step, dwellTimes.length));
+    return result;
+  }
+
+  /**
+   * Returns the specified quantile of the time that the fibers found stuck at a kind of step by the last check
+   * had been suspended.
+   *
+   * @param stepName the class-derived name of a step
+   * @param quantile a value between 0 and 1
+   * @return the dwell time in seconds, or zero if no fibers are stuck at that step
+   */
+  public double getDwellTimeQuantile(String stepName, double quantile) {
+    return toSeconds(quantileOf(stuckDwellTimes.get(stepName), quantile));
+  }
+
+  /** Finds the fibers which have been suspended longer than the threshold and updates the statistics. */
+  public void check() {
+    final long now = nanoClock.getAsLong();
+    suspensions.keySet().removeIf(Fiber::isDone);
+
+    List<Map.Entry<Fiber, Suspension>> stuck = new ArrayList<>();
+    for (Map.Entry<Fiber, Suspension> entry : suspensions.entrySet()) {
+      if (now - entry.getValue().since >= thresholdNanos) {
+        stuck.add(entry);
+      }
+    }
+
+    stuckDwellTimes = collectDwellTimes(stuck, now);
+    logLongestStuck(stuck, now);
+  }
+
+  private Map<String, long[]> collectDwellTimes(List<Map.Entry<Fiber, Suspension>> stuck, long now) {
+    Map<String, List<Long>> byStep = new TreeMap<>();
+    for (Map.Entry<Fiber, Suspension> entry : stuck) {
+      byStep.computeIfAbsent(entry.getValue().step.getBaseName(), k -> new ArrayList<>())
+            .add(now - entry.getValue().since);
+    }
+
+    Map<String, long[]> result = new TreeMap<>();
+    byStep.forEach((step, times) -> result.put(step, times.stream().mapToLong(Long::longValue).sorted().toArray()));
+    return Collections.unmodifiableMap(result);
+  }
+
+  private void logLongestStuck(List<Map.Entry<Fiber, Suspension>> stuck, long now) {
+    if (numFibersToLog <= 0) {
+      return;
+    }
+
+    stuck.stream()
+          .sorted(Comparator.comparingLong(e -> e.getValue().since))
+          .limit(numFibersToLog)
+          .filter(e -> !e.getValue().logged)
+          .forEach(e -> logStuckFiber(e.getKey(), e.getValue(), now));
+  }
+
+  private void logStuckFiber(Fiber fiber, Suspension suspension, long now) {
+    suspension.logged = true;
+    LOGGER.warning(FIBER_SUSPENDED_TOO_LONG, fiber, suspension.step.getName(),
+          Long.toString(TimeUnit.NANOSECONDS.toSeconds(now - suspension.since)), fiber.getBreadCrumbString());
+  }
+
+  private static long quantileOf(long[] sortedValues, double quantile) {
+    if (sortedValues == null || sortedValues.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(quantile * sortedValues.length) - 1;
+    return sortedValues[Math.max(0, Math.min(sortedValues.length - 1, index))];
+  }
+
+  private static double toSeconds(long nanos) {
+    return nanos / NANOS_PER_SECOND;
+  }
+
+  @Override
+  public void writeMetrics(PrometheusTextWriter writer) {
+    final Map<String, long[]> dwellTimes = stuckDwellTimes;
+
+    writer.family("operator_fibers_suspended", GAUGE, "Number of fibers currently suspended.");
+    writer.sample("operator_fibers_suspended", suspensions.size());
+
+    writer.family("operator_fibers_stuck", GAUGE,
+          "Number of fibers suspended longer than the watchdog threshold, by suspending step.");
+    dwellTimes.forEach((step, times) -> writer.sample("operator_fibers_stuck", times.length, "step", step));
+
+    writer.family("operator_fiber_stuck_dwell_seconds", SUMMARY,
+          "How long stuck fibers have been suspended, by suspending step.");
+    dwellTimes.forEach((step, times) -> writeDwellSummary(writer, step, times));
+  }
+
+  private void writeDwellSummary(PrometheusTextWriter writer, String step, long[] times) {
+    for (double quantile : QUANTILES) {
+      writer.sample("operator_fiber_stuck_dwell_seconds", toSeconds(quantileOf(times, quantile)),
+            "step", step, "quantile", Double.toString(quantile));
+    }
+    writer.sample("operator_fiber_stuck_dwell_seconds", toSeconds(quantileOf(times, 1.0)),
+          "step", step, "quantile", "1.0");
+    writer.sample("operator_fiber_stuck_dwell_seconds_sum", toSeconds(Arrays.stream(times).sum()), "step", step);
+    writer.sample("operator_fiber_stuck_dwell_seconds_count", times.length, "step", step);
+  }
+
+  private static class Suspension {
+    private final Step step;
+    private final long since;
+    private volatile boolean logged;
+
+    Suspension(Step step, long since) {
+      this.step = step;
+      this.since = since;
+    }
+  }
+}
@@ -0,0 +1,287 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * A map which can be forked without copying its entries. Forking freezes the entries written since the last fork
+ * into an immutable layer, which is then shared by the original map and the fork. Each of them records only
+ * its own subsequent changes, so that neither can see changes made by the other. Null values are not supported.
+ *
+ * @param <V> the type of the values in the map
+ */
+class LayeredMap<V> extends AbstractMap<String, V> {
+
+  /** The maximum number of frozen layers before a fork collapses them into one. */
+  static final int MAX_DEPTH = 8;
+
+  /** Marks an entry removed from this map while still present in a frozen layer. */
+  private static final Object REMOVED = new Object();
+
+  private volatile State state;
+
+  LayeredMap() {
+    this(null);
+  }
+
+  private LayeredMap(Layer base) {
+    state = new State(base);
+  }
+
+  /**
+   * Returns a new map which starts with the same entries as this one. Neither map will see
+   * changes made to the other.
+   * @return a new map
+   */
+  synchronized LayeredMap<V> fork() {
+    return new LayeredMap<>(freeze());
+  }
+
+  // Must be called while holding the lock, so that no writer is still using the overrides being frozen.
+  private Layer freeze() {
+    final State current = state;
+    if (current.overrides.isEmpty()) {
+      return current.base;
+    }
+
+    Layer layer = new Layer(current.overrides, current.base);
+    if (layer.depth > MAX_DEPTH) {
+      layer = new Layer(layer.flatten(), null);
+    }
+    state = new State(layer);
+    return layer;
+  }
+
+  /**
+   * Returns the number of frozen layers below this map's own changes.
+   * @return the layer depth
+   */
+  int getDepth() {
+    return state.getDepth();
+  }
+
+  @Override
+  public V get(Object key) {
+    return state.get(key);
+  }
+
+  /**
+   * Applies a function to the values of this map, in no particular order, until it returns a non-null result.
+   * Unlike iterating over {@link #values()}, this does not merge the frozen layers into a new map, so it is cheap
+   * enough for frequent lookups, such as those of a packet's components. The argument is passed to the function
+   * along with each value, so that callers need not allocate a capturing lambda.
+   *
+   * @param function the function to apply
+   * @param argument the second argument to the function
+   * @param <A> the type of the argument
+   * @param <R> the type of the result
+   * @return the first non-null result, or null if the function returned null for every value
+   */
+  <A, R> R findFirst(BiFunction<? super V, A, R> function, A argument) {
+    final State current = state;
+    R result = findFirst(current, current.overrides, function, argument);
+    for (Layer layer = current.base; result == null && layer != null; layer = layer.parent) {
+      result = findFirst(current, layer.entries, function, argument);
+    }
+    return result;
+  }
+
+  // Only entries which are not hidden by a higher layer, or by this map's own changes, are visible.
+  private <A, R> R findFirst(State current, Map<String, Object> entries,
+                             BiFunction<? super V, A, R> function, A argument) {
+    for (Entry<String, Object> entry : entries.entrySet()) {
+      if (entry.getValue() != REMOVED && current.get(entry.getKey()) == entry.getValue()) {
+        final R result = function.apply(cast(entry.getValue()), argument);
+        if (result != null) {
+          return result;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized V put(String key, V value) {
+    final State current = state;
+    final V oldValue = current.get(key);
+    current.overrides.put(key, value);
+    return oldValue;
+  }
+
+  @Override
+  public synchronized V remove(Object key) {
+    final State current = state;
+    final V oldValue = current.get(key);
+    if (oldValue != null) {
+      if (current.isInBase(key)) {
+        current.overrides.put((String) key, REMOVED);
+      } else {
+        current.overrides.remove(key);
+      }
+    }
+    return oldValue;
+  }
+
+  @Override
+  public synchronized void clear() {
+    state = new State(null);
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, V>> {
+
+    @Override
+    public Iterator<Entry<String, V>> iterator() {
+      final Iterator<Entry<String, Object>> snapshot = state.snapshot().entrySet().iterator();
+      return new Iterator<>() {
+        private String lastKey;
+
+        @Override
+        public boolean hasNext() {
+          return snapshot.hasNext();
+        }
+
+        @Override
+        public Entry<String, V> next() {
+          final Entry<String, Object> entry = snapshot.next();
+          lastKey = entry.getKey();
+          return new LayeredEntry(entry.getKey(), cast(entry.getValue()));
+        }
+
+        @Override
+        public void remove() {
+          if (lastKey == null) {
+            throw new IllegalStateException();
+          }
+          LayeredMap.this.remove(lastKey);
+          lastKey = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return state.snapshot().size();
+    }
+  }
+
+  private class LayeredEntry extends SimpleEntry<String, V> {
+
+    LayeredEntry(String key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V cast(Object value) {
+    return value == REMOVED ? null : (V) value;
+  }
+
+  /** The changes made to a map since it was last forked, along with the frozen layers below them. */
+  private class State {
+    private final Layer base;
+    private final ConcurrentMap<String, Object> overrides = new ConcurrentHashMap<>();
+
+    State(Layer base) {
+      this.base = base;
+    }
+
+    V get(Object key) {
+      Object value = overrides.get(key);
+      if (value == null && base != null) {
+        value = base.get(key);
+      }
+      return cast(value);
+    }
+
+    boolean isInBase(Object key) {
+      return base != null && cast(base.get(key)) != null;
+    }
+
+    int getDepth() {
+      return base == null ? 0 : base.depth;
+    }
+
+    // For a map which has never been forked, the overrides are the complete contents and need no merging.
+    Map<String, Object> snapshot() {
+      if (base == null) {
+        return overrides;
+      }
+
+      Map<String, Object> result = base.flatten();
+      merge(result, overrides);
+      return result;
+    }
+  }
+
+  /** An immutable set of changes, applied on top of an optional parent layer. */
+  private static class Layer {
+    private final Map<String, Object> entries;
+    private final Layer parent;
+    private final int depth;
+
+    Layer(Map<String, Object> entries, Layer parent) {
+      this.entries = entries;
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+
+    Object get(Object key) {
+      for (Layer layer = this; layer != null; layer = layer.parent) {
+        Object value = layer.entries.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+
+    Map<String, Object> flatten() {
+      Deque<Layer> layers = new ArrayDeque<>();
+      for (Layer layer = this; layer != null; layer = layer.parent) {
+        layers.push(layer);
+      }
+
+      Map<String, Object> result = new HashMap<>();
+      layers.forEach(layer -> merge(result, layer.entries));
+      return result;
+    }
+  }
+
+  private static void merge(Map<String, Object> result, Map<String, Object> changes) {
+    changes.forEach((key, value) -> {
+      if (value == REMOVED) {
+        result.remove(key);
+      } else {
+        result.put(key, value);
+      }
+    });
+  }
+}
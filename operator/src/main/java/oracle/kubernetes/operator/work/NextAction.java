@@ -89,7 +89,7 @@ public final class NextAction implements BreadCrumbFactory {
 
   @Override
   public BreadCrumb createBreadCrumb() {
-    return new NextActionBreadCrumb(this);
+    return new NextActionBreadCrumb(kind, next, throwable, packet);
   }
 
   /** Dumps the contents to assist debugging. */
@@ -107,28 +107,34 @@ public final class NextAction implements BreadCrumbFactory {
     SUSPEND,
     THROW;
     Kind getPreviousKind(BreadCrumb previous) {
-      return (previous instanceof NextActionBreadCrumb) ? ((NextActionBreadCrumb) previous).na.kind : null;
+      return (previous instanceof NextActionBreadCrumb) ? ((NextActionBreadCrumb) previous).kind : null;
     }
   }
 
   static class NextActionBreadCrumb implements BreadCrumb {
-    private final NextAction na;
+    private final Kind kind;
+    private final Step next;
+    private final Throwable throwable;
+    private final Packet packet;
 
-    NextActionBreadCrumb(NextAction na) {
-      this.na = na;
+    NextActionBreadCrumb(Kind kind, Step next, Throwable throwable, Packet packet) {
+      this.kind = kind;
+      this.next = next;
+      this.throwable = throwable;
+      this.packet = packet;
     }
 
     @Override
     public void writeTo(StringBuilder sb, BreadCrumb previous, PacketDumper dumper) {
-      Kind previousKind = na.kind.getPreviousKind(previous);
-      switch (na.kind) {
+      Kind previousKind = kind.getPreviousKind(previous);
+      switch (kind) {
         case INVOKE:
-          if (na.next != null) {
+          if (next != null) {
             if (previousKind == Kind.INVOKE) {
               sb.append(",");
             }
-            sb.append(na.next.getName());
-            dumper.dump(sb, na.packet);
+            sb.append(next.getName());
+            dumper.dump(sb, packet);
           }
           break;
         case SUSPEND:
@@ -137,12 +143,12 @@ public final class NextAction implements BreadCrumbFactory {
           }
           break;
         case THROW:
-          if (na.throwable != null) {
+          if (throwable != null) {
             if (previousKind == Kind.INVOKE) {
               sb.append(",");
             }
             sb.append('(');
-            sb.append(na.throwable.getClass().getSimpleName());
+            sb.append(throwable.getClass().getSimpleName());
             sb.append(')');
           }
           break;
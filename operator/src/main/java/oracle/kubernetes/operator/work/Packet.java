@@ -7,16 +7,18 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components. Copies share
+ * the entries of the packet from which they were made, and store only their own changes.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<>();
+  private final LayeredMap<Component> components;
+  private final LayeredMap<Object> delegate;
 
   public Packet() {
+    components = new LayeredMap<>();
+    delegate = new LayeredMap<>();
   }
 
   /**
@@ -29,8 +31,8 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = that.components.fork();
+    delegate = that.delegate.fork();
   }
 
   /**
@@ -42,6 +44,11 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return new Packet(this);
   }
 
+  // Returns the number of shared layers below this packet's own values.
+  int getDepth() {
+    return delegate.getDepth();
+  }
+
   /**
    * Get SPI by class.
    * @param spiType SPI class
@@ -49,13 +56,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.findFirst(Component::getSpi, spiType);
   }
 
   @Override
@@ -77,11 +78,26 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
   @Override
   public Object put(String key, Object value) {
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
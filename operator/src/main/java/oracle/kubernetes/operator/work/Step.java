@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -16,6 +18,18 @@ import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 
 /** Individual step in a processing flow. */
 public abstract class Step {
+  private static final ClassValue<String> BASE_NAMES = new ClassValue<>() {
+    @Override
+    protected String computeValue(Class<?> type) {
+      String name = type.getName();
+      int idx = name.lastIndexOf('.');
+      if (idx >= 0) {
+        name = name.substring(idx + 1);
+      }
+      return name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
+    }
+  };
+
   private Step next;
 
   /** Create a step with no next step. */
@@ -107,15 +121,13 @@ public abstract class Step {
     return getBaseName() + getNameSuffix();
   }
 
+  /**
+   * The name of the step, derived from its class and without any detail.
+   * @return The base name of the step
+   */
   @Nonnull
-  private String getBaseName() {
-    String name = getClass().getName();
-    int idx = name.lastIndexOf('.');
-    if (idx >= 0) {
-      name = name.substring(idx + 1);
-    }
-    name = name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
-    return name;
+  String getBaseName() {
+    return BASE_NAMES.get(getClass());
   }
 
   @Nonnull
@@ -268,30 +280,29 @@ public abstract class Step {
    */
   protected NextAction doForkJoin(
       Step step, Packet packet, Collection<StepAndPacket> startDetails) {
+    return doForkJoin(step, packet, startDetails, 0);
+  }
+
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
+   * fibers for the step and packet pairs, running no more than the specified number of them at once.
+   * As each child fiber completes, the next pending pair is started. When all of the child fibers
+   * complete, then this fiber is resumed with the indicated step and packet.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param maxParallel the maximum number of child fibers to run at once, or zero for no limit
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, int maxParallel) {
     return doSuspend(
         step,
         (fiber) -> {
-          CompletionCallback callback =
-              new JoinCompletionCallback(fiber, packet, startDetails.size()) {
-                @Override
-                public void onCompletion(Packet p) {
-                  int current = count.decrementAndGet();
-                  if (current == 0) {
-                    // no need to synchronize throwables as all fibers are done
-                    if (throwables.isEmpty()) {
-                      fiber.resume(packet);
-                    } else if (throwables.size() == 1) {
-                      fiber.terminate(throwables.get(0), packet);
-                    } else {
-                      fiber.terminate(new MultiThrowable(throwables), packet);
-                    }
-                  }
-                }
-              };
-          // start forked fibers
-          for (StepAndPacket sp : startDetails) {
-            fiber.createChildFiber().start(sp.step, sp.packet, callback);
-          }
+          FiberMetrics.getInstance().recordForkJoin(startDetails.size());
+          new JoinCompletionCallback(fiber, packet, startDetails)
+              .startChildren(maxParallel > 0 ? Math.min(maxParallel, startDetails.size()) : startDetails.size());
         });
   }
 
@@ -315,16 +326,35 @@ public abstract class Step {
     }
   }
 
-  private abstract static class JoinCompletionCallback implements CompletionCallback {
-    protected final AsyncFiber fiber;
-    protected final Packet packet;
-    protected final AtomicInteger count;
-    protected final List<Throwable> throwables = new ArrayList<>();
+  private static class JoinCompletionCallback implements CompletionCallback {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+    private final Queue<StepAndPacket> pending;
+    private final AtomicInteger count;
+    private final List<Throwable> throwables = new ArrayList<>();
 
-    JoinCompletionCallback(AsyncFiber fiber, Packet packet, int initialCount) {
+    JoinCompletionCallback(AsyncFiber fiber, Packet packet, Collection<StepAndPacket> startDetails) {
       this.fiber = fiber;
       this.packet = packet;
-      this.count = new AtomicInteger(initialCount);
+      this.pending = new ConcurrentLinkedQueue<>(startDetails);
+      this.count = new AtomicInteger(startDetails.size());
+    }
+
+    void startChildren(int numChildren) {
+      for (int i = 0; i < numChildren; i++) {
+        startNextChild();
+      }
+    }
+
+    // A child may complete, and so start its successor, before all of the initial children have been started
+    private void startNextChild() {
+      Optional.ofNullable(pending.poll()).ifPresent(sp -> fiber.createChildFiber().start(sp.step, sp.packet, this));
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      startNextChild();
+      childFiberDone();
     }
 
     @Override
@@ -332,11 +362,17 @@ public abstract class Step {
       synchronized (throwables) {
         throwables.add(throwable);
       }
-      int current = count.decrementAndGet();
-      if (current == 0) {
+      startNextChild();
+      childFiberDone();
+    }
+
+    private void childFiberDone() {
+      if (count.decrementAndGet() == 0) {
         // no need to synchronize throwables as all fibers are done
-        if (throwables.size() == 1) {
-          fiber.terminate(throwable, packet);
+        if (throwables.isEmpty()) {
+          fiber.resume(packet);
+        } else if (throwables.size() == 1) {
+          fiber.terminate(throwables.get(0), packet);
         } else {
           fiber.terminate(new MultiThrowable(throwables), packet);
         }
@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -68,6 +69,24 @@ public class ThreadLocalContainerResolver extends ContainerResolver {
     containerThreadLocal.set(old);
   }
 
+  Executor wrapExecutor(final Container container, final Executor ex) {
+    if (ex == null) {
+      return null;
+    }
+
+    return command -> ex.execute(() -> {
+      Container old = enterContainer(container);
+      try {
+        command.run();
+      } catch (RuntimeException | Error runtime) {
+        LOGGER.severe(MessageKeys.EXCEPTION, runtime);
+        throw runtime;
+      } finally {
+        exitContainer(old);
+      }
+    });
+  }
+
   ScheduledExecutorService wrapExecutor(
       final Container container, final ScheduledExecutorService ex) {
     if (ex == null) {
@@ -0,0 +1,210 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * A hashed timing wheel. Timers are kept in a ring of buckets, each covering one tick, so that scheduling
+ * and cancelling a timer take constant time no matter how many timers are pending. Timers more than one
+ * revolution away stay in their bucket until enough revolutions have passed. The price is precision:
+ * a timer may run up to one tick later than requested.
+ *
+ * <p>The wheel does not own a thread. Something must call {@link #advance()} at least once per tick;
+ * expired tasks are then handed to the executor.
+ */
+class TimingWheel {
+  private static final int PENDING = 0;
+  private static final int CANCELLED = 1;
+  private static final int EXPIRED = 2;
+
+  private final Executor executor;
+  private final LongSupplier nanoClock;
+  private final long tickNanos;
+  private final Bucket[] buckets;
+  private final int mask;
+  private final long startTime;
+  private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private long nextTick;
+
+  /**
+   * Creates a wheel which reads the system clock.
+   * @param executor the executor on which to run expired tasks
+   * @param tick the duration of each tick
+   * @param unit the unit of the tick duration
+   * @param numBuckets the number of buckets in the wheel, rounded up to a power of two
+   */
+  TimingWheel(Executor executor, long tick, TimeUnit unit, int numBuckets) {
+    this(executor, tick, unit, numBuckets, System::nanoTime);
+  }
+
+  TimingWheel(Executor executor, long tick, TimeUnit unit, int numBuckets, LongSupplier nanoClock) {
+    this.executor = executor;
+    this.nanoClock = nanoClock;
+    this.tickNanos = Math.max(1, unit.toNanos(tick));
+    this.buckets = createBuckets(numBuckets);
+    this.mask = buckets.length - 1;
+    this.startTime = nanoClock.getAsLong();
+  }
+
+  private static Bucket[] createBuckets(int numBuckets) {
+    int size = Integer.highestOneBit(Math.max(1, numBuckets - 1)) << 1;
+    Bucket[] result = new Bucket[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = new Bucket();
+    }
+    return result;
+  }
+
+  /**
+   * Schedules a task to run once the specified delay has passed.
+   * @param task the task to run
+   * @param delay the delay before running it
+   * @param unit the unit of the delay
+   * @return a handle with which to cancel the task
+   */
+  Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    Timeout timeout = new Timeout(task, getElapsedNanos() + unit.toNanos(Math.max(0, delay)));
+    pendingCount.incrementAndGet();
+    newTimeouts.add(timeout);
+    return timeout;
+  }
+
+  private long getElapsedNanos() {
+    return nanoClock.getAsLong() - startTime;
+  }
+
+  /**
+   * Returns the number of scheduled tasks which have neither run nor been cancelled.
+   * @return a count of tasks
+   */
+  int getPendingCount() {
+    return pendingCount.get();
+  }
+
+  /** Runs the tasks in every bucket whose tick has completed since the last call. */
+  synchronized void advance() {
+    final long elapsed = getElapsedNanos();
+    removeCancelledTimeouts();
+    while ((nextTick + 1) * tickNanos <= elapsed) {
+      transferNewTimeouts();
+      buckets[(int) (nextTick & mask)].expireTimeouts(nextTick);
+      nextTick++;
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    Timeout timeout;
+    while ((timeout = cancelledTimeouts.poll()) != null) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  // A timeout whose tick has already passed goes into the bucket about to be processed.
+  private void transferNewTimeouts() {
+    Timeout timeout;
+    while ((timeout = newTimeouts.poll()) != null) {
+      if (timeout.state.get() == PENDING) {
+        timeout.tick = Math.max(nextTick, timeout.deadline / tickNanos);
+        buckets[(int) (timeout.tick & mask)].add(timeout);
+      }
+    }
+  }
+
+  /** A scheduled task. */
+  class Timeout {
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private long tick;
+    private Bucket bucket;
+    private Timeout previous;
+    private Timeout next;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Prevents the task from running, if it has not already done so.
+     * @return true if the task was cancelled by this call
+     */
+    boolean cancel() {
+      if (!state.compareAndSet(PENDING, CANCELLED)) {
+        return false;
+      }
+      pendingCount.decrementAndGet();
+      cancelledTimeouts.add(this);
+      return true;
+    }
+
+    boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    private void expire() {
+      if (state.compareAndSet(PENDING, EXPIRED)) {
+        pendingCount.decrementAndGet();
+        executor.execute(task);
+      }
+    }
+  }
+
+  /** A doubly-linked list of the timeouts which fall into one slot of the wheel. Used only under the wheel lock. */
+  private static class Bucket {
+    private Timeout head;
+    private Timeout tail;
+
+    void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.previous = tail;
+        tail = timeout;
+      }
+    }
+
+    void expireTimeouts(long tick) {
+      Timeout timeout = head;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        if (timeout.tick <= tick) {
+          remove(timeout);
+          timeout.expire();
+        }
+        timeout = next;
+      }
+    }
+
+    void remove(Timeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.previous != null) {
+        timeout.previous.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.previous = timeout.previous;
+      } else {
+        tail = timeout.previous;
+      }
+      timeout.previous = timeout.next = null;
+      timeout.bucket = null;
+    }
+  }
+}
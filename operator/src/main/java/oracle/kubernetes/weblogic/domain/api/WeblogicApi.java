@@ -20,6 +20,7 @@ import okhttp3.Call;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static oracle.kubernetes.operator.KubernetesConstants.ALL_NAMESPACES_DOMAIN_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_SPECIFIC_PATH;
 import static oracle.kubernetes.operator.KubernetesConstants.DOMAIN_STATUS_PATH;
@@ -124,15 +125,103 @@ public class WeblogicApi {
       Boolean watch,
       ApiCallback callback)
       throws ApiException {
+    return listNamespacedDomainCall(namespace, pretty, null, cont, fieldSelector, labelSelector, limit,
+        resourceVersion, timeoutSeconds, watch, callback);
+  }
+
+  /**
+   * Generate call to list domains, which may request bookmark events if it is a watch.
+   * @param namespace namespace
+   * @param pretty pretty flag
+   * @param allowWatchBookmarks if a watch should receive bookmark events
+   * @param cont continuation
+   * @param fieldSelector field selector
+   * @param labelSelector label selector
+   * @param limit limit
+   * @param resourceVersion resource version
+   * @param timeoutSeconds timeout
+   * @param watch if watch
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listNamespacedDomainCall(
+      String namespace,
+      String pretty,
+      Boolean allowWatchBookmarks,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
+    return listDomainCall(
+        DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace)),
+        pretty, allowWatchBookmarks, cont, fieldSelector, labelSelector, limit, resourceVersion, timeoutSeconds,
+        watch, callback);
+  }
+
+  /**
+   * Generate call to list domains in all namespaces.
+   * @param allowWatchBookmarks if a watch should receive bookmark events
+   * @param cont continuation
+   * @param fieldSelector field selector
+   * @param labelSelector label selector
+   * @param limit limit
+   * @param pretty pretty flag
+   * @param resourceVersion resource version
+   * @param timeoutSeconds timeout
+   * @param watch if watch
+   * @param callback callback
+   * @return call
+   * @throws ApiException on failure
+   */
+  public Call listDomainForAllNamespacesCall(
+      Boolean allowWatchBookmarks,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String pretty,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
+    return listDomainCall(
+        ALL_NAMESPACES_DOMAIN_PATH,
+        pretty, allowWatchBookmarks, cont, fieldSelector, labelSelector, limit, resourceVersion, timeoutSeconds,
+        watch, callback);
+  }
+
+  private Call listDomainCall(
+      String localVarPath,
+      String pretty,
+      Boolean allowWatchBookmarks,
+      String cont,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      ApiCallback callback)
+      throws ApiException {
     final Object localVarPostBody = null;
-    final String localVarPath =
-        DOMAIN_PATH.replaceAll("\\{namespace\\}", this.localVarApiClient.escapeString(namespace));
     final List<Pair> localVarQueryParams = new ArrayList<>();
     final List<Pair> localVarCollectionQueryParams = new ArrayList<>();
     if (pretty != null) {
       localVarQueryParams.addAll(this.localVarApiClient.parameterToPair("pretty", pretty));
     }
 
+    if (allowWatchBookmarks != null) {
+      localVarQueryParams.addAll(
+          this.localVarApiClient.parameterToPair("allowWatchBookmarks", allowWatchBookmarks));
+    }
+
     if (cont != null) {
       localVarQueryParams.addAll(this.localVarApiClient.parameterToPair("continue", cont));
     }
@@ -0,0 +1,201 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.EventMatcher;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+
+class ClusterWatcherTest extends ThreadFactoryTestBase implements AllWatchesClosedListener {
+
+  private static final String NS1 = "ns1";
+  private static final String NS2 = "ns2";
+  private static final String UNMANAGED_NS = "other";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final AtomicBoolean stopping = new AtomicBoolean(false);
+  private final WatchTuning tuning = new WatchTuning(30, 0, 5, 24, 0, 0);
+  private final Map<String, PodWatcher> namespaceWatchers = new HashMap<>();
+  private final List<Watch.Response<V1Pod>> ns1Events = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> ns2Events = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StubWatchFactory.install());
+    mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
+    StubWatchFactory.setListener(this);
+
+    namespaceWatchers.put(NS1, PodWatcher.create(null, NS1, "100", tuning, ns1Events::add, stopping));
+    namespaceWatchers.put(NS2, PodWatcher.create(null, NS2, "200", tuning, ns2Events::add, stopping));
+  }
+
+  @AfterEach
+  void tearDown() {
+    shutDownThreads();
+    mementos.forEach(Memento::revert);
+  }
+
+  @Override
+  public void allWatchesClosed() {
+    stopping.set(true);
+  }
+
+  private ClusterWatcher<V1Pod> createClusterWatcher(String resourceVersion) {
+    return new ClusterWatcher<>(resourceVersion, tuning, stopping, PodWatcher::createWatch, namespaceWatchers::get);
+  }
+
+  private void runClusterWatcher(ClusterWatcher<V1Pod> watcher) {
+    watcher.start(this);
+    watcher.waitForExit();
+  }
+
+  private V1Pod createPod(String namespace, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().name("pod").namespace(namespace).resourceVersion(resourceVersion));
+  }
+
+  private Watch.Response<V1Pod> createAddResponse(V1Pod pod) {
+    return WatchEvent.createAddedEvent(pod).toWatchResponse();
+  }
+
+  @Test
+  void whenNamespaceWatchersCreatedWithoutThreadFactory_theyMakeNoWatchRequests() {
+    assertThat(StubWatchFactory.getRequestParameters(), empty());
+  }
+
+  @Test
+  void eventsAreHandedToWatcherForTheirNamespace() {
+    V1Pod pod1 = createPod(NS1, "201");
+    V1Pod pod2 = createPod(NS2, "202");
+    StubWatchFactory.addCallResponses(createAddResponse(pod1), createAddResponse(pod2));
+
+    runClusterWatcher(createClusterWatcher("100"));
+
+    assertThat(ns1Events, contains(addEvent(pod1)));
+    assertThat(ns2Events, contains(addEvent(pod2)));
+  }
+
+  @Test
+  void eventsForUnmanagedNamespace_areIgnored() {
+    StubWatchFactory.addCallResponses(createAddResponse(createPod(UNMANAGED_NS, "201")));
+
+    runClusterWatcher(createClusterWatcher("100"));
+
+    assertThat(ns1Events, empty());
+    assertThat(ns2Events, empty());
+  }
+
+  @Test
+  void eventsNoNewerThanNamespaceListVersion_areIgnored() {
+    V1Pod pod = createPod(NS2, "201");
+    StubWatchFactory.addCallResponses(createAddResponse(createPod(NS2, "150")), createAddResponse(pod));
+
+    runClusterWatcher(createClusterWatcher("100"));
+
+    assertThat(ns2Events, contains(addEvent(pod)));
+  }
+
+  @Test
+  void eventsAlreadyHandled_areIgnored() {
+    V1Pod pod = createPod(NS1, "201");
+    StubWatchFactory.addCallResponses(createAddResponse(pod));
+    StubWatchFactory.addCallResponses(createAddResponse(pod));
+
+    runClusterWatcher(createClusterWatcher("100"));
+
+    assertThat(ns1Events, contains(addEvent(pod)));
+  }
+
+  @Test
+  void withClusterWatchAndDispatchThreads_namespaceWatchersDropNoEvents() throws NoSuchFieldException {
+    TuningParametersStub.setParameter("featureGates", ClusterWatcher.FEATURE_GATE);
+    final List<List<Runnable>> stripeTasks = new ArrayList<>();
+    mementos.add(StaticStubSupport.install(WatchEventDispatcher.class, "instance",
+          new WatchEventDispatcher(4, stripe -> addStripe(stripeTasks))));
+    namespaceWatchers.put(NS1, PodWatcher.create(null, NS1, "100", tuning, ns1Events::add, stopping));
+    final List<V1Pod> pods = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      pods.add(createNamedPod(NS1, "pod" + i, Integer.toString(201 + i)));
+      StubWatchFactory.addCallResponses(createAddResponse(pods.get(i)));
+    }
+
+    runClusterWatcher(createClusterWatcher("100"));
+    for (int i = stripeTasks.size() - 1; i >= 0; i--) {
+      stripeTasks.get(i).forEach(Runnable::run);
+    }
+
+    assertThat(ns1Events, containsInAnyOrder(pods.stream().map(EventMatcher::addEvent).collect(Collectors.toList())));
+  }
+
+  private Executor addStripe(List<List<Runnable>> stripeTasks) {
+    final List<Runnable> tasks = new ArrayList<>();
+    stripeTasks.add(tasks);
+    return tasks::add;
+  }
+
+  private V1Pod createNamedPod(String namespace, String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().name(name).namespace(namespace).resourceVersion(resourceVersion));
+  }
+
+  @Test
+  void clusterWatch_startsFromInitialResourceVersion() {
+    StubWatchFactory.addCallResponses(createAddResponse(createPod(NS1, "201")));
+
+    runClusterWatcher(createClusterWatcher("100"));
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("resourceVersion", "100"));
+  }
+
+  @Test
+  void whenRestartedFromOlderVersion_watchResumesFromThatVersion() {
+    ClusterWatcher<V1Pod> watcher = createClusterWatcher("200");
+    StubWatchFactory.addCallResponses(createAddResponse(createPod(NS1, "201")));
+
+    watcher.restartFrom("100");
+    runClusterWatcher(watcher);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("resourceVersion", "100"));
+  }
+
+  @Test
+  void whenRestartedFromNewerVersion_watchResumesFromCurrentVersion() {
+    ClusterWatcher<V1Pod> watcher = createClusterWatcher("100");
+    StubWatchFactory.addCallResponses(createAddResponse(createPod(NS1, "201")));
+
+    watcher.restartFrom("200");
+    runClusterWatcher(watcher);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("resourceVersion", "100"));
+    assertThat(StubWatchFactory.getRequestParameters().size(), equalTo(1));
+  }
+}
@@ -63,6 +63,11 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return testSupport.createFiberGate();
   }
 
+  @Override
+  public FiberGate createFiberGate(String namespace) {
+    return createFiberGate();
+  }
+
   @Override
   public ScheduledFuture<?> scheduleWithFixedDelay(
       Runnable command, long initialDelay, long delay, TimeUnit unit) {
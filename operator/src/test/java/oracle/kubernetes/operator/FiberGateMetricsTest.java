@@ -0,0 +1,44 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import oracle.kubernetes.operator.work.DelayStep;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NullCompletionCallback;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class FiberGateMetricsTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate makeRightGate = testSupport.createFiberGate();
+  private final FiberGate statusGate = testSupport.createFiberGate();
+  private final FiberGateMetrics metrics
+        = new FiberGateMetrics(Map.of("ns1", makeRightGate), Map.of("ns1", statusGate));
+
+  @Test
+  void reportCancelledFibersPerNamespaceAndGate() {
+    makeRightGate.startFiber("uid1", new DelayStep(new TerminalStep(), 10), new Packet(), new NullCompletionCallback());
+    makeRightGate.startFiber("uid1", new TerminalStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(getMetrics(),
+          containsString("operator_fiber_gate_cancelled_total{namespace=\"ns1\",gate=\"makeRight\"} 1\n"));
+    assertThat(getMetrics(),
+          containsString("operator_fiber_gate_coalesced_total{namespace=\"ns1\",gate=\"status\"} 0\n"));
+  }
+
+  private String getMetrics() {
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    metrics.writeMetrics(writer);
+    return writer.toString();
+  }
+}
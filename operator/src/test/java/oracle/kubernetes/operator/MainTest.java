@@ -15,6 +15,8 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
@@ -40,6 +42,8 @@ import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Engine.ThreadMode;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -82,6 +86,8 @@ import static oracle.kubernetes.operator.helpers.EventHelper.EventItem.STOP_MANA
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.NamespaceHelper.getOperatorNamespace;
 import static oracle.kubernetes.operator.logging.MessageKeys.CRD_NOT_INSTALLED;
+import static oracle.kubernetes.operator.logging.MessageKeys.ENGINE_THREAD_MODE;
+import static oracle.kubernetes.operator.logging.MessageKeys.ENGINE_THREAD_MODE_UNSUPPORTED;
 import static oracle.kubernetes.operator.logging.MessageKeys.OPERATOR_STARTED;
 import static oracle.kubernetes.operator.logging.MessageKeys.OP_CONFIG_DOMAIN_NAMESPACES;
 import static oracle.kubernetes.operator.logging.MessageKeys.OP_CONFIG_NAMESPACE;
@@ -211,6 +217,39 @@ class MainTest extends ThreadFactoryTestBase {
     assertThat(logRecords, containsInfo(OPERATOR_STARTED, GIT_BUILD_VERSION, IMPL, GIT_BUILD_TIME));
   }
 
+  @Test
+  void whenOperatorCreated_logEngineThreadMode() {
+    loggerControl.withLogLevel(Level.INFO).collectLogMessages(logRecords, ENGINE_THREAD_MODE);
+
+    Main.createMain(buildProperties);
+
+    assertThat(logRecords, containsInfo(ENGINE_THREAD_MODE, ThreadMode.PLATFORM));
+  }
+
+  @Test
+  void whenVirtualThreadsRequestedButUnavailable_logElasticThreadMode() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(Engine.class, "virtualThreadExecutorFactory",
+          (Supplier<ExecutorService>) () -> null));
+    TuningParametersStub.setParameter("engineThreadMode", "Virtual");
+    loggerControl.withLogLevel(Level.INFO).collectLogMessages(logRecords, ENGINE_THREAD_MODE);
+
+    Main.createMain(buildProperties);
+
+    assertThat(logRecords, containsInfo(ENGINE_THREAD_MODE, ThreadMode.ELASTIC, ThreadMode.VIRTUAL));
+  }
+
+  @Test
+  void whenElasticThreadModeRequested_warnAndUsePlatformThreads() {
+    TuningParametersStub.setParameter("engineThreadMode", "Elastic");
+    loggerControl.withLogLevel(Level.INFO)
+          .collectLogMessages(logRecords, ENGINE_THREAD_MODE, ENGINE_THREAD_MODE_UNSUPPORTED);
+
+    Main.createMain(buildProperties);
+
+    assertThat(logRecords, containsWarning(ENGINE_THREAD_MODE_UNSUPPORTED));
+    assertThat(logRecords, containsInfo(ENGINE_THREAD_MODE, ThreadMode.PLATFORM, ThreadMode.PLATFORM));
+  }
+
   @Test
   void whenOperatorCreated_logOperatorNamespace() {
     loggerControl.withLogLevel(Level.INFO).collectLogMessages(logRecords, OP_CONFIG_NAMESPACE);
@@ -611,6 +650,22 @@ class MainTest extends ThreadFactoryTestBase {
     assertThat(domainNamespaces.getPodDisruptionBudgetWatcher(NS), notNullValue());
   }
 
+  @Test
+  void withClusterWideWatches_afterReadingExistingResourcesForNamespace_WatchersAreDefined() {
+    TuningParametersStub.setParameter("featureGates", ClusterWatcher.FEATURE_GATE);
+    DomainNamespaces domainNamespaces = new DomainNamespaces(null);
+
+    testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
+
+    assertThat(domainNamespaces.getConfigMapWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getDomainWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getEventWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getDomainEventWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getPodWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getServiceWatcher(NS), notNullValue());
+    assertThat(domainNamespaces.getPodDisruptionBudgetWatcher(NS), notNullValue());
+  }
+
   @Test
   void afterReadingExistingResourcesForNamespace_ScriptConfigMapIsDefined() {
     testSupport.runSteps(domainNamespaces.readExistingResources(NS, createStrictStub(DomainProcessor.class)));
@@ -0,0 +1,112 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.calls.StreamingListDecoder;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+
+class NamespacedResourcesTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<String> podNames = new ArrayList<>();
+  private final List<String> serviceNames = new ArrayList<>();
+  private int numPodPages;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+
+    testSupport.defineResources(
+          createPod("admin-server"), createPod("managed-server1"), createService("managed-server1"));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    testSupport.throwOnCompletionFailure();
+
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String serverName) {
+    return new V1Pod().metadata(createMetadata(serverName));
+  }
+
+  private V1Service createService(String serverName) {
+    return new V1Service().metadata(createMetadata(serverName));
+  }
+
+  private V1ObjectMeta createMetadata(String serverName) {
+    return new V1ObjectMeta().namespace(NS).name(UID + "-" + serverName)
+          .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID);
+  }
+
+  private void listResources() {
+    NamespacedResources resources = new NamespacedResources(NS, UID);
+    resources.addProcessing(new NamespacedResources.Processors() {
+      @Override
+      Consumer<V1Pod> getPodProcessing() {
+        return pod -> podNames.add(pod.getMetadata().getName());
+      }
+
+      @Override
+      Consumer<V1PodList> getPodListProcessing() {
+        return list -> numPodPages++;
+      }
+
+      @Override
+      Consumer<V1Service> getServiceProcessing() {
+        return service -> serviceNames.add(service.getMetadata().getName());
+      }
+    });
+
+    testSupport.runSteps(resources.createListSteps());
+  }
+
+  @Test
+  void handEachItemToItemProcessing() {
+    listResources();
+
+    assertThat(podNames, containsInAnyOrder("domain1-admin-server", "domain1-managed-server1"));
+    assertThat(serviceNames, containsInAnyOrder("domain1-managed-server1"));
+  }
+
+  @Test
+  void handEachPageToListProcessing() {
+    listResources();
+
+    assertThat(numPodPages, equalTo(1));
+  }
+
+  @Test
+  void whenStreamingEnabledAndPageHasItems_handEachItemToItemProcessingOnce() {
+    TuningParametersStub.setParameter("featureGates", StreamingListDecoder.FEATURE_GATE);
+
+    listResources();
+
+    assertThat(podNames, containsInAnyOrder("domain1-admin-server", "domain1-managed-server1"));
+  }
+}
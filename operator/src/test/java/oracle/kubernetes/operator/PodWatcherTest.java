@@ -4,36 +4,53 @@
 package oracle.kubernetes.operator;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.logging.LogRecord;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.net.HttpURLConnection.HTTP_GONE;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.helpers.LegalNames.DEFAULT_INTROSPECTOR_JOB_NAME_SUFFIX;
 import static oracle.kubernetes.operator.logging.MessageKeys.EXECUTE_MAKE_RIGHT_DOMAIN;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_POD_FAILED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -48,6 +65,10 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final TerminalStep terminalStep = new TerminalStep();
   private final List<LogRecord> logRecords = new java.util.ArrayList<>();
+  private final List<Memento> watcherMementos = new java.util.ArrayList<>();
+  private final List<Runnable> scheduledFlushes = new java.util.ArrayList<>();
+  private final WatchEventMetrics eventMetrics = new WatchEventMetrics();
+  private final List<Runnable> dispatchTasks = new java.util.ArrayList<>();
 
   @Override
   protected TestUtils.ConsoleHandlerMemento configureOperatorLogger() {
@@ -62,6 +83,18 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
   public void setUp() throws Exception {
     super.setUp();
     addMemento(testSupport.install());
+    watcherMementos.add(StaticStubSupport.install(
+          ResourceCache.class, "pods", new ResourceCache<>("Pod", V1Pod::getMetadata)));
+    watcherMementos.add(StaticStubSupport.install(WatchEventCompactor.class, "scheduler",
+          (WatchEventCompactor.Scheduler) (command, delayMillis) -> scheduledFlushes.add(command)));
+    watcherMementos.add(StaticStubSupport.install(WatchEventMetrics.class, "instance", eventMetrics));
+  }
+
+  @Override
+  @AfterEach
+  public void tearDown() throws Exception {
+    watcherMementos.forEach(Memento::revert);
+    super.tearDown();
   }
 
   private String[] getMessageKeys() {
@@ -113,6 +146,183 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     return PodWatcher.create(this, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, this, stopping);
   }
 
+  @Test
+  void afterResourceVersionExpires_reportOnlyChangesFoundByRelist() {
+    V1Pod unchanged = createNamedPod("unchanged", "300");
+    V1Pod removed = createNamedPod("removed", "301");
+    V1Pod changed = createNamedPod("changed", "302");
+    V1Pod changedLater = createNamedPod("changed", "305");
+    V1Pod added = createNamedPod("added", "306");
+    V1Pod watched = createNamedPod("watched", "311");
+    StubWatchFactory.addCallResponses(createAddResponse(unchanged), createAddResponse(removed),
+          createAddResponse(changed), createGoneResponse());
+    StubWatchFactory.addListResponse(createPodList("310", unchanged, changedLater, added));
+    StubWatchFactory.addCallResponses(createAddResponse(watched));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks(), contains(addEvent(unchanged), addEvent(removed), addEvent(changed),
+          deleteEvent(removed), modifyEvent(changedLater), addEvent(added), addEvent(watched)));
+  }
+
+  @Test
+  void afterRelist_resumeWatchFromListResourceVersion() {
+    StubWatchFactory.addCallResponses(createGoneResponse());
+    StubWatchFactory.addListResponse(createPodList("310"));
+    StubWatchFactory.addCallResponses(createAddResponse(createNamedPod("watched", "311")));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("watch", "false"));
+    assertThat(StubWatchFactory.getRequestParameters().get(2), hasEntry("resourceVersion", "310"));
+  }
+
+  @Test
+  void afterRelist_reportDeletionWithIdentifyingMetadataOnly() {
+    V1Pod removed = createNamedPod("removed", "301");
+    removed.getMetadata().putLabelsItem(DOMAINUID_LABEL, "uid1").putAnnotationsItem("annotation", "value");
+    removed.spec(new V1PodSpec().nodeName("node1"));
+    V1Pod watched = createNamedPod("watched", "311");
+    StubWatchFactory.addCallResponses(createAddResponse(removed), createGoneResponse());
+    StubWatchFactory.addListResponse(createPodList("310"));
+    StubWatchFactory.addCallResponses(createAddResponse(watched));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    V1Pod deletionRecord = createNamedPod("removed", "301");
+    deletionRecord.getMetadata().putLabelsItem(DOMAINUID_LABEL, "uid1");
+    assertThat(getCallBacks(), contains(addEvent(removed), deleteEvent(deletionRecord), addEvent(watched)));
+  }
+
+  @Test
+  void whenPodsCached_afterRelistReportDeletionOfCachedPodWithoutKeepingDeletionRecords() {
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+    V1Pod removed = createNamedPod("removed", "301");
+    removed.spec(new V1PodSpec().nodeName("node1"));
+    V1Pod watched = createNamedPod("watched", "311");
+    StubWatchFactory.addCallResponses(createAddResponse(removed), createGoneResponse());
+    StubWatchFactory.addListResponse(createPodList("310"));
+    StubWatchFactory.addCallResponses(createAddResponse(watched));
+
+    Watcher<?> watcher = createAndRunWatcher(NS, INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks(), contains(addEvent(removed), deleteEvent(removed), addEvent(watched)));
+    assertThat(watcher.getKnownResourceCount(), equalTo(0));
+  }
+
+  @Test
+  void whenWatcherFedByClusterWatcher_dontKeepKnownResources() {
+    PodWatcher watcher
+          = PodWatcher.create(null, NS, INITIAL_RESOURCE_VERSION.toString(), tuning, this, new AtomicBoolean(false));
+
+    watcher.recordExisting(List.of(createNamedPod("existing", "300")));
+    watcher.dispatch(createAddResponse(createNamedPod("added", "301")));
+
+    assertThat(watcher.getKnownResourceCount(), equalTo(0));
+  }
+
+  @Test
+  void whenEventCompactionEnabled_reportOnlyLatestOfRepeatedModifications() throws NoSuchFieldException {
+    TuningParametersStub.setParameter("featureGates", WatchEventCompactor.FEATURE_GATE);
+    installDispatcher();
+    V1Pod latest = createNamedPod("flapping", "302");
+    StubWatchFactory.addCallResponses(createModifyResponse(createNamedPod("flapping", "300")),
+          createModifyResponse(createNamedPod("flapping", "301")), createModifyResponse(latest));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+    scheduledFlushes.forEach(Runnable::run);
+    dispatchTasks.forEach(Runnable::run);
+
+    assertThat(getCallBacks(), contains(modifyEvent(latest)));
+  }
+
+  @Test
+  void whenEventCompactionEnabled_countEventsReceivedAndDispatched() throws NoSuchFieldException {
+    TuningParametersStub.setParameter("featureGates", WatchEventCompactor.FEATURE_GATE);
+    installDispatcher();
+    StubWatchFactory.addCallResponses(createModifyResponse(createNamedPod("flapping", "300")),
+          createModifyResponse(createNamedPod("flapping", "301")));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+    scheduledFlushes.forEach(Runnable::run);
+    dispatchTasks.forEach(Runnable::run);
+
+    assertThat(eventMetrics.getReceivedCount("pod"), equalTo(2L));
+    assertThat(eventMetrics.getDispatchedCount("pod"), equalTo(1L));
+  }
+
+  @Test
+  void whenEventCompactionEnabled_dontNotifyListenerFromTimer() throws NoSuchFieldException {
+    TuningParametersStub.setParameter("featureGates", WatchEventCompactor.FEATURE_GATE);
+    installDispatcher();
+    V1Pod pod = createNamedPod("pod1", "300");
+    StubWatchFactory.addCallResponses(createModifyResponse(pod));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+    scheduledFlushes.forEach(Runnable::run);
+
+    assertThat(getCallBacks(), Matchers.empty());
+    dispatchTasks.forEach(Runnable::run);
+    assertThat(getCallBacks(), contains(modifyEvent(pod)));
+  }
+
+  @Test
+  void whenDispatchThreadsConfigured_notifyListenerOnlyFromDispatchThread() throws NoSuchFieldException {
+    installDispatcher();
+    V1Pod pod = createNamedPod("pod1", "300");
+    StubWatchFactory.addCallResponses(createAddResponse(pod));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(getCallBacks(), Matchers.empty());
+    dispatchTasks.forEach(Runnable::run);
+    assertThat(getCallBacks(), contains(addEvent(pod)));
+  }
+
+  private void installDispatcher() throws NoSuchFieldException {
+    watcherMementos.add(StaticStubSupport.install(WatchEventDispatcher.class, "instance",
+          new WatchEventDispatcher(2, stripe -> dispatchTasks::add)));
+  }
+
+  @Test
+  void whenDispatchThreadsConfigured_reportBacklogUntilEventsDispatched() throws NoSuchFieldException {
+    installDispatcher();
+    StubWatchFactory.addCallResponses(createAddResponse(createNamedPod("pod1", "300")),
+          createModifyResponse(createNamedPod("pod2", "301")));
+
+    createAndRunWatcher(INITIAL_RESOURCE_VERSION);
+
+    assertThat(getExportedMetrics(), containsString("operator_watch_events_backlog{watcher=\"pod\"} 2"));
+    dispatchTasks.forEach(Runnable::run);
+    assertThat(getExportedMetrics(), containsString("operator_watch_events_backlog{watcher=\"pod\"} 0"));
+  }
+
+  private String getExportedMetrics() {
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    eventMetrics.writeMetrics(writer);
+    return writer.toString();
+  }
+
+  private Watch.Response<V1Pod> createModifyResponse(V1Pod pod) {
+    return WatchEvent.createModifiedEvent(pod).toWatchResponse();
+  }
+
+  private V1Pod createNamedPod(String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion));
+  }
+
+  private V1PodList createPodList(String resourceVersion, V1Pod... pods) {
+    return new V1PodList().metadata(new V1ListMeta().resourceVersion(resourceVersion)).items(Arrays.asList(pods));
+  }
+
+  private Watch.Response<V1Pod> createAddResponse(V1Pod pod) {
+    return WatchEvent.createAddedEvent(pod).toWatchResponse();
+  }
+
+  private Watch.Response<Object> createGoneResponse() {
+    return WatchEvent.createErrorEvent(HTTP_GONE, new BigInteger("400")).toWatchResponse();
+  }
+
   @Test
   void waitForReady_returnsAStep() {
     AtomicBoolean stopping = new AtomicBoolean(true);
@@ -215,6 +425,45 @@ class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
     }
   }
 
+  @Test
+  void whenCachedPodReady_runNextStepWithoutReadingPod() {
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    watcher.recordExisting(List.of(markPodReady(createPod())));
+
+    try {
+      testSupport.runSteps(watcher.waitForReady(createPod(), terminalStep));
+
+      assertThat(terminalStep.wasRun(), is(true));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  @Test
+  void whenCachedPodOlderThanPodAwaited_readPod() {
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+    AtomicBoolean stopping = new AtomicBoolean(false);
+    PodWatcher watcher = createWatcher(stopping);
+    watcher.recordExisting(List.of(markPodReady(createPodWithResourceVersion("100"))));
+    testSupport.defineResources(createPodWithResourceVersion("200"));
+
+    try {
+      testSupport.runSteps(watcher.waitForReady(createPodWithResourceVersion("200"), terminalStep));
+
+      assertThat(terminalStep.wasRun(), is(false));
+    } finally {
+      stopping.set(true);
+    }
+  }
+
+  private V1Pod createPodWithResourceVersion(String resourceVersion) {
+    final V1Pod pod = createPod();
+    pod.getMetadata().resourceVersion(resourceVersion);
+    return pod;
+  }
+
   @Test
   void whenPodReadyLater_runNextStep() {
     sendPodModifiedWatchAfterWaitForReady(this::markPodReady);
@@ -0,0 +1,160 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ResourceCacheTest {
+
+  private static final String NS = "ns1";
+  private static final String UID = "domain1";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final ResourceCache<V1Pod> cache = new ResourceCache<>("Pod", V1Pod::getMetadata);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(ResourceCache.class, "pods", cache));
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion)
+          .putLabelsItem(DOMAINUID_LABEL, UID));
+  }
+
+  private V1Pod createServerPod(String name, String resourceVersion, String clusterName) {
+    final V1Pod pod = createPod(name, resourceVersion);
+    pod.getMetadata().putLabelsItem(SERVERNAME_LABEL, name).putLabelsItem(CLUSTERNAME_LABEL, clusterName);
+    return pod;
+  }
+
+  @Test
+  void whenFeatureGateDisabled_dontCacheResources() {
+    TuningParametersStub.setParameter("featureGates", "");
+
+    cache.update(createPod("pod1", "10"));
+
+    assertThat(cache.get(NS, "pod1").isPresent(), is(false));
+  }
+
+  @Test
+  void afterUpdate_returnCachedResource() {
+    final V1Pod pod = createPod("pod1", "10");
+
+    cache.update(pod);
+
+    assertThat(cache.get(NS, "pod1").orElse(null), sameInstance(pod));
+  }
+
+  @Test
+  void whenUpdateOlderThanCachedResource_keepCachedResource() {
+    final V1Pod pod = createPod("pod1", "20");
+    cache.update(pod);
+
+    cache.update(createPod("pod1", "10"));
+
+    assertThat(cache.get(NS, "pod1").orElse(null), sameInstance(pod));
+  }
+
+  @Test
+  void afterRemove_resourceIsNoLongerCached() {
+    cache.update(createPod("pod1", "10"));
+
+    cache.remove(createPod("pod1", "11"));
+
+    assertThat(cache.get(NS, "pod1").isPresent(), is(false));
+    assertThat(cache.getByDomainUid(NS, UID), empty());
+  }
+
+  @Test
+  void whenCachedResourceNewerThanDeletion_keepIt() {
+    cache.update(createPod("pod1", "20"));
+
+    cache.remove(createPod("pod1", "10"));
+
+    assertThat(cache.get(NS, "pod1").isPresent(), is(true));
+  }
+
+  @Test
+  void whenCachedResourceOlderThanKnownVersion_dontReturnIt() {
+    cache.update(createPod("pod1", "10"));
+
+    assertThat(cache.getIfCurrent(NS, "pod1", createPod("pod1", "20")).isPresent(), is(false));
+    assertThat(cache.getIfCurrent(NS, "pod1", createPod("pod1", "10")).isPresent(), is(true));
+    assertThat(cache.getIfCurrent(NS, "pod1", null).isPresent(), is(true));
+  }
+
+  @Test
+  void resourcesAreIndexedByDomainServerAndCluster() {
+    final V1Pod admin = createServerPod("admin", "10", null);
+    final V1Pod ms1 = createServerPod("ms1", "11", "cluster1");
+    final V1Pod ms2 = createServerPod("ms2", "12", "cluster1");
+    cache.update(admin);
+    cache.update(ms1);
+    cache.update(ms2);
+
+    assertThat(cache.getByDomainUid(NS, UID), containsInAnyOrder(admin, ms1, ms2));
+    assertThat(cache.getByServerName(NS, UID, "ms1"), contains(ms1));
+    assertThat(cache.getByClusterName(NS, UID, "cluster1"), containsInAnyOrder(ms1, ms2));
+  }
+
+  @Test
+  void whenLabelsChange_updateIndexes() {
+    cache.update(createServerPod("ms1", "10", "cluster1"));
+    final V1Pod moved = createServerPod("ms1", "11", "cluster2");
+
+    cache.update(moved);
+
+    assertThat(cache.getByClusterName(NS, UID, "cluster1"), empty());
+    assertThat(cache.getByClusterName(NS, UID, "cluster2"), contains(moved));
+  }
+
+  @Test
+  void namespaceIsCompleteOnlyAfterMarked() {
+    cache.update(createPod("pod1", "10"));
+    assertThat(cache.isComplete(NS), is(false));
+
+    ResourceCache.markComplete(NS);
+
+    assertThat(cache.isComplete(NS), is(true));
+  }
+
+  @Test
+  void afterNamespaceRemoved_discardItsResources() {
+    cache.update(createPod("pod1", "10"));
+    ResourceCache.markComplete(NS);
+
+    ResourceCache.removeNamespace(NS);
+
+    assertThat(cache.getAll(NS), empty());
+    assertThat(cache.isComplete(NS), is(false));
+  }
+}
@@ -13,6 +13,7 @@ import java.util.logging.LogRecord;
 import java.util.stream.Stream;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -65,6 +66,8 @@ class StuckPodTest {
     mementos.add(SystemClockTestSupport.installClock());
     mementos.add(TuningParametersStub.install());
     mementos.add(NoopWatcherStarter.install());
+    mementos.add(StaticStubSupport.install(
+          ResourceCache.class, "pods", new ResourceCache<>("Pod", V1Pod::getMetadata)));
 
     testSupport.defineResources(domain, managedPod1, managedPod2, foreignPod);
   }
@@ -142,6 +145,50 @@ class StuckPodTest {
     assertThat(mainDelegate.makeRightInvoked(domain), is(true));
   }
 
+  @Test
+  void whenPodsCached_findStuckPodsInCache() {
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+    V1Pod cachedPod = defineManagedPod(SERVER_POD_1);
+    markAsDelete(cachedPod);
+    ResourceCache.getPods().update(cachedPod);
+    ResourceCache.markComplete(NS);
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkStuckPods(NS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenPodsCached_stillListPodsEveryFewChecks() {
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+    ResourceCache.getPods().update(defineManagedPod(SERVER_POD_1));
+    ResourceCache.markComplete(NS);
+    markAsDelete(getSelectedPod(SERVER_POD_1));
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    for (int i = 1; i < StuckPodProcessing.CHECKS_PER_LIST; i++) {
+      processing.checkStuckPods(NS);
+    }
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+
+    processing.checkStuckPods(NS);
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  void whenPodCacheIncomplete_listPods() {
+    TuningParametersStub.setParameter("featureGates", ResourceCache.FEATURE_GATE);
+    V1Pod cachedPod = defineManagedPod(SERVER_POD_1);
+    markAsDelete(cachedPod);
+    ResourceCache.getPods().update(cachedPod);
+    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    processing.checkStuckPods(NS);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
   @Test
   void whenForeignPodStuck_ignoreIt() {
     markAsDelete(getSelectedPod(FOREIGN_POD));
@@ -0,0 +1,163 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.builders.EventMatcher.addEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.deleteEvent;
+import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class WatchEventCompactorTest {
+
+  private static final long WINDOW_MILLIS = 250;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Runnable> scheduled = new ArrayList<>();
+  private final List<Long> delays = new ArrayList<>();
+  private final List<Watch.Response<V1Pod>> dispatched = new ArrayList<>();
+  private final WatchEventCompactor<V1Pod> compactor = new WatchEventCompactor<>(WINDOW_MILLIS, dispatched::add);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(StaticStubSupport.install(WatchEventCompactor.class, "scheduler",
+          (WatchEventCompactor.Scheduler) this::schedule));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void schedule(Runnable command, long delayMillis) {
+    scheduled.add(command);
+    delays.add(delayMillis);
+  }
+
+  private void endWindow() {
+    final List<Runnable> commands = new ArrayList<>(scheduled);
+    scheduled.clear();
+    commands.forEach(Runnable::run);
+  }
+
+  private V1Pod createPod(String name, String resourceVersion) {
+    return new V1Pod().metadata(new V1ObjectMeta().namespace("ns").name(name).resourceVersion(resourceVersion));
+  }
+
+  private Watch.Response<V1Pod> added(V1Pod pod) {
+    return new Watch.Response<>("ADDED", pod);
+  }
+
+  private Watch.Response<V1Pod> modified(V1Pod pod) {
+    return new Watch.Response<>("MODIFIED", pod);
+  }
+
+  private Watch.Response<V1Pod> deleted(V1Pod pod) {
+    return new Watch.Response<>("DELETED", pod);
+  }
+
+  @Test
+  void beforeWindowEnds_dontDispatchEvents() {
+    compactor.add(modified(createPod("pod1", "10")));
+
+    assertThat(dispatched, empty());
+    assertThat(compactor.getPendingCount(), equalTo(1));
+  }
+
+  @Test
+  void firstEventForResource_schedulesDispatchAfterWindow() {
+    compactor.add(modified(createPod("pod1", "10")));
+    compactor.add(modified(createPod("pod1", "11")));
+
+    assertThat(delays, contains(WINDOW_MILLIS));
+  }
+
+  @Test
+  void repeatedModifications_dispatchOnlyLatest() {
+    final V1Pod latest = createPod("pod1", "12");
+    compactor.add(modified(createPod("pod1", "10")));
+    compactor.add(modified(createPod("pod1", "11")));
+    compactor.add(modified(latest));
+
+    endWindow();
+
+    assertThat(dispatched, contains(modifyEvent(latest)));
+  }
+
+  @Test
+  void modificationsAfterAdd_dispatchAddWithLatestVersion() {
+    final V1Pod latest = createPod("pod1", "11");
+    compactor.add(added(createPod("pod1", "10")));
+    compactor.add(modified(latest));
+
+    endWindow();
+
+    assertThat(dispatched, contains(addEvent(latest)));
+  }
+
+  @Test
+  void deletion_supersedesPendingUpdates() {
+    final V1Pod deletedPod = createPod("pod1", "12");
+    compactor.add(added(createPod("pod1", "10")));
+    compactor.add(modified(createPod("pod1", "11")));
+    compactor.add(deleted(deletedPod));
+
+    endWindow();
+
+    assertThat(dispatched, contains(deleteEvent(deletedPod)));
+  }
+
+  @Test
+  void whenResourceReplaced_dispatchDeletionBeforeAddition() {
+    final V1Pod oldPod = createPod("pod1", "10");
+    final V1Pod newPod = createPod("pod1", "12");
+    compactor.add(deleted(oldPod));
+    compactor.add(added(createPod("pod1", "11")));
+    compactor.add(modified(newPod));
+
+    endWindow();
+
+    assertThat(dispatched, contains(deleteEvent(oldPod), addEvent(newPod)));
+  }
+
+  @Test
+  void eventsForDifferentResources_areNotCompacted() {
+    final V1Pod pod1 = createPod("pod1", "10");
+    final V1Pod pod2 = createPod("pod2", "11");
+    compactor.add(modified(pod1));
+    compactor.add(modified(pod2));
+
+    endWindow();
+
+    assertThat(dispatched, contains(modifyEvent(pod1), modifyEvent(pod2)));
+  }
+
+  @Test
+  void eventsAfterDispatch_startNewWindow() {
+    final V1Pod first = createPod("pod1", "10");
+    final V1Pod second = createPod("pod1", "11");
+    compactor.add(modified(first));
+    endWindow();
+
+    compactor.add(modified(second));
+
+    assertThat(dispatched, contains(modifyEvent(first)));
+    endWindow();
+    assertThat(dispatched, contains(modifyEvent(first), modifyEvent(second)));
+  }
+}
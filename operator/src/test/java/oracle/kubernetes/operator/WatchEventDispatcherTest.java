@@ -0,0 +1,176 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+class WatchEventDispatcherTest {
+
+  private static final int NUM_STRIPES = 4;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<List<Runnable>> stripeTasks = new ArrayList<>();
+  private final List<ExecutorService> executors = new ArrayList<>();
+  private final List<String> handled = new ArrayList<>();
+  private final WatchEventDispatcher dispatcher = new WatchEventDispatcher(NUM_STRIPES, this::createManualExecutor);
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(IllegalStateException.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.forEach(ExecutorService::shutdownNow);
+    mementos.forEach(Memento::revert);
+  }
+
+  private Executor createManualExecutor(int stripe) {
+    final List<Runnable> tasks = new ArrayList<>();
+    stripeTasks.add(tasks);
+    return tasks::add;
+  }
+
+  private void runStripe(int stripe) {
+    final List<Runnable> tasks = new ArrayList<>(stripeTasks.get(stripe));
+    stripeTasks.get(stripe).clear();
+    tasks.forEach(Runnable::run);
+  }
+
+  @Test
+  void eventsWithSameKey_areHandledOnOneStripeInOrder() {
+    final int stripe = dispatcher.getStripeIndex("ns/uid1");
+    dispatcher.dispatch("ns/uid1", () -> handled.add("first"));
+    dispatcher.dispatch("ns/uid1", () -> handled.add("second"));
+    dispatcher.dispatch("ns/uid1", () -> handled.add("third"));
+
+    runStripe(stripe);
+
+    assertThat(handled, contains("first", "second", "third"));
+  }
+
+  @Test
+  void eventsWithNullKey_areHandledOnFirstStripe() {
+    dispatcher.dispatch(null, () -> handled.add("unkeyed"));
+
+    runStripe(0);
+
+    assertThat(handled, contains("unkeyed"));
+  }
+
+  @Test
+  void whenHandlerThrowsException_laterEventsAreStillHandled() {
+    final int stripe = dispatcher.getStripeIndex("ns/uid1");
+    dispatcher.dispatch("ns/uid1", () -> {
+      throw new IllegalStateException("bad handler");
+    });
+    dispatcher.dispatch("ns/uid1", () -> handled.add("next"));
+
+    runStripe(stripe);
+
+    assertThat(handled, contains("next"));
+  }
+
+  @Test
+  void whenOneDomainsHandlerIsBlocked_otherDomainsAreStillHandled() throws InterruptedException {
+    final WatchEventDispatcher threaded = new WatchEventDispatcher(NUM_STRIPES, this::createSingleThreadExecutor);
+    final String blockedKey = "ns/uid1";
+    final String otherKey = findKeyOnOtherStripe(threaded, blockedKey);
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch otherHandled = new CountDownLatch(1);
+
+    threaded.dispatch(blockedKey, () -> await(release));
+    threaded.dispatch(blockedKey, () -> handled.add("blocked"));
+    threaded.dispatch(otherKey, otherHandled::countDown);
+
+    try {
+      assertThat(otherHandled.await(5, TimeUnit.SECONDS), is(true));
+      assertThat(handled, empty());
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private Executor createSingleThreadExecutor(int stripe) {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    executors.add(executor);
+    return executor;
+  }
+
+  private String findKeyOnOtherStripe(WatchEventDispatcher threaded, String key) {
+    for (int i = 2; ; i++) {
+      final String candidate = "ns/uid" + i;
+      if (threaded.getStripeIndex(candidate) != threaded.getStripeIndex(key)) {
+        return candidate;
+      }
+    }
+  }
+
+  private void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  void afterShutdown_stripeThreadsAreStopped() {
+    final WatchEventDispatcher threaded = new WatchEventDispatcher(NUM_STRIPES, this::createSingleThreadExecutor);
+
+    threaded.shutdown();
+
+    assertThat(executors.stream().allMatch(ExecutorService::isShutdown), is(true));
+  }
+
+  @Test
+  void afterShutdownAll_sharedDispatchersAreStoppedAndReleased() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(WatchEventDispatcher.class, "instance", null));
+    mementos.add(StaticStubSupport.install(WatchEventDispatcher.class, "compactedEventsInstance",
+          new WatchEventDispatcher(NUM_STRIPES, this::createSingleThreadExecutor)));
+
+    WatchEventDispatcher.shutdownAll();
+
+    assertThat(executors.stream().allMatch(ExecutorService::isShutdown), is(true));
+    assertThat(WatchEventDispatcher.getInstance(), nullValue());
+  }
+
+  @Test
+  void whenNoDispatchThreadsConfigured_compactedEventsUseStripePerProcessor() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(WatchEventDispatcher.class, "instance", null));
+    mementos.add(StaticStubSupport.install(WatchEventDispatcher.class, "compactedEventsInstance", null));
+
+    final WatchEventDispatcher compacted = WatchEventDispatcher.getInstanceForCompactedEvents();
+    try {
+      assertThat(compacted.getStripeCount(), equalTo(Runtime.getRuntime().availableProcessors()));
+    } finally {
+      compacted.shutdown();
+    }
+  }
+
+  @Test
+  void stripeCount_isAtLeastOne() {
+    assertThat(new WatchEventDispatcher(0, this::createManualExecutor).getStripeCount(), equalTo(1));
+  }
+}
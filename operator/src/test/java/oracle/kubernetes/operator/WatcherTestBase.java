@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.meterware.simplestub.Memento;
@@ -30,6 +31,7 @@ import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 
@@ -44,7 +46,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private final List<Memento> mementos = new ArrayList<>();
   private final List<Watch.Response<?>> callBacks = new ArrayList<>();
   private final AtomicBoolean stopping = new AtomicBoolean(false);
-  final WatchTuning tuning = new WatchTuning(30, 0, 5, 24);
+  final WatchTuning tuning = new WatchTuning(30, 0, 5, 24, 0, 0);
   private BigInteger resourceVersion = INITIAL_RESOURCE_VERSION;
 
   private V1ObjectMeta createMetaData() {
@@ -72,6 +74,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     callBacks.add(response);
   }
 
+  List<Watch.Response<?>> getCallBacks() {
+    return callBacks;
+  }
+
   @BeforeEach
   public void setUp() throws Exception {
     mementos.add(configureOperatorLogger());
@@ -180,36 +186,51 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", resourceVersion.subtract(BigInteger.TWO).toString()));
   }
 
+  // The stub returns no list, so the watcher cannot relist; the list request precedes the next watch.
   @Test
-  void afterHttpGoneError_nextRequestSendsIncludedResourceVersion() {
+  void afterHttpGoneError_whenRelistFails_nextWatchSendsIncludedResourceVersion() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorResponse(NEXT_RESOURCE_VERSION));
     scheduleDeleteResponse(createObjectWithMetaData());
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
 
     assertThat(
-        StubWatchFactory.getRequestParameters().get(1),
+        getLastRequestParameters(),
         hasEntry("resourceVersion", NEXT_RESOURCE_VERSION.toString()));
   }
 
+  private Map<String, String> getLastRequestParameters() {
+    final List<Map<String, String>> requestParameters = StubWatchFactory.getRequestParameters();
+    return requestParameters.get(requestParameters.size() - 1);
+  }
+
   @Test
-  void afterHttpGoneErrorWithoutResourceVersion_nextRequestSendsResourceVersionZero() {
+  void afterHttpGoneErrorWithoutResourceVersion_whenRelistFails_nextWatchSendsResourceVersionZero() {
     StubWatchFactory.addCallResponses(createHttpGoneErrorWithoutResourceVersionResponse());
     scheduleDeleteResponse(createObjectWithMetaData());
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
 
-    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+    assertThat(getLastRequestParameters(), hasEntry("resourceVersion", "0"));
   }
 
   @Test
-  void afterErrorWithoutStatus_nextRequestSendsResourceVersionZero() {
+  void afterErrorWithoutStatus_nextRequestResumesFromLastResourceVersion() {
     StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
     scheduleDeleteResponse(createObjectWithMetaData());
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
 
-    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.toString()));
+  }
+
+  @Test
+  void bookmarkEvents_areNotSentToListeners() {
+    sendBookmarkRequest(INITIAL_RESOURCE_VERSION, NEXT_RESOURCE_VERSION.toString());
+
+    assertThat(callBacks, empty());
   }
 
   @Test
@@ -252,6 +273,14 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return res;
   }
 
+  Watcher<?> createAndRunWatcher(BigInteger resourceVersion) {
+    return createAndRunWatcher(NAMESPACE, stopping, resourceVersion);
+  }
+
+  Watcher<?> createAndRunWatcher(String nameSpace, BigInteger resourceVersion) {
+    return createAndRunWatcher(nameSpace, stopping, resourceVersion);
+  }
+
   private Watcher<?> createAndRunWatcher(String nameSpace, AtomicBoolean stopping, BigInteger resourceVersion) {
     Watcher<?> watcher = createWatcher(nameSpace, stopping, resourceVersion);
     watcher.waitForExit();
@@ -0,0 +1,120 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import okhttp3.Call;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+
+class ProtobufWatchTest {
+
+  private HttpServer server;
+  private ApiClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.start();
+    client = new ApiClient().setBasePath("http://localhost:" + server.getAddress().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  private void respondWith(String contentType, byte[] body) {
+    server.createContext("/api/v1/namespaces/ns1/pods", exchange -> {
+      exchange.getResponseHeaders().add("Content-Type", contentType);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+  }
+
+  private Call createWatchCall() throws ApiException {
+    return new CoreV1Api(client).listNamespacedPodCall(
+          "ns1", null, null, null, null, null, null, null, null, null, true, null);
+  }
+
+  private static byte[] createFrames(String... typesAndNames) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    for (int i = 0; i < typesAndNames.length; i += 2) {
+      byte[] frame = Meta.WatchEvent.newBuilder()
+            .setType(typesAndNames[i])
+            .setObject(Runtime.RawExtension.newBuilder().setRaw(encodePod(typesAndNames[i + 1])))
+            .build().toByteArray();
+      out.writeInt(frame.length);
+      out.write(frame);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static ByteString encodePod(String name) throws IOException {
+    ByteString.Output out = ByteString.newOutput();
+    out.write(new byte[] {'k', '8', 's', 0});
+    Runtime.Unknown.newBuilder()
+          .setTypeMeta(Runtime.TypeMeta.newBuilder().setApiVersion("v1").setKind("Pod"))
+          .setRaw(V1.Pod.newBuilder().setMetadata(Meta.ObjectMeta.newBuilder().setName(name)).build().toByteString())
+          .build()
+          .writeTo(out);
+    return out.toByteString();
+  }
+
+  private List<String> readEvents(Watchable<V1Pod> watch) throws IOException {
+    List<String> events = new ArrayList<>();
+    try (watch) {
+      for (Watch.Response<V1Pod> response : watch) {
+        events.add(response.type + " " + response.object.getMetadata().getName());
+      }
+    }
+    return events;
+  }
+
+  @Test
+  void readLengthPrefixedEvents() throws Exception {
+    respondWith(ProtobufCodec.PROTOBUF_MEDIA_TYPE, createFrames("ADDED", "ms1", "MODIFIED", "ms1", "DELETED", "ms2"));
+
+    Watchable<V1Pod> watch = ProtobufWatch.createWatch(client, createWatchCall(), V1Pod.class);
+
+    assertThat(watch, instanceOf(ProtobufWatch.class));
+    assertThat(readEvents(watch), contains("ADDED ms1", "MODIFIED ms1", "DELETED ms2"));
+  }
+
+  @Test
+  void whenServerRespondsWithJson_readJsonEvents() throws Exception {
+    respondWith("application/json", ("{\"type\":\"ADDED\",\"object\":{\"metadata\":{\"name\":\"ms3\"}}}\n").getBytes());
+
+    Watchable<V1Pod> watch = ProtobufWatch.createWatch(client, createWatchCall(), V1Pod.class);
+
+    assertThat(readEvents(watch), contains("ADDED ms3"));
+  }
+}
@@ -41,6 +41,7 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
   private static AllWatchesClosedListener listener;
 
   private final List<List<Watch.Response<?>>> calls = new ArrayList<>();
+  private final List<Object> lists = new ArrayList<>();
   private int numCloseCalls;
 
   private StubWatchFactory() {
@@ -68,6 +69,15 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
     factory.calls.add(Arrays.asList(events));
   }
 
+  /**
+   * Adds a list to be returned from a list call. List calls for which no list has been added return null.
+   *
+   * @param list the list
+   */
+  public static void addListResponse(Object list) {
+    factory.lists.add(list);
+  }
+
   public static int getNumCloseCalls() {
     return factory.numCloseCalls;
   }
@@ -119,6 +129,13 @@ public class StubWatchFactory<T> implements WatchFactory<T> {
     }
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public <L> L executeList(ApiClient client, Call call, Type listType) {
+    addRecordedParameters(getParameters(call));
+    return lists.isEmpty() ? null : (L) lists.remove(0);
+  }
+
   @NotNull
   private Map<String, String> getParameters(Call call) {
     final Matcher matcher = URL_PARAMETERS.matcher(call.request().url().toString());
@@ -15,6 +15,7 @@ import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import io.kubernetes.client.util.Watchable;
@@ -41,8 +42,10 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.fail;
 
 /**
@@ -220,6 +223,27 @@ class WatchBuilderTest {
           allOf(hasEntry("fieldSelector", "thisValue"), hasEntry("limit", "25")));
   }
 
+  @Test
+  void whenDomainWatchCreated_requestBookmarks() throws Exception {
+    new WatchBuilder().createDomainWatch(NAMESPACE);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(0), hasEntry("allowWatchBookmarks", "true"));
+  }
+
+  @Test
+  void whenPodsListed_returnListFromSingleRequest() throws Exception {
+    V1PodList list = new V1PodList().addItemsItem(new V1Pod().metadata(createMetaData("pod1", NAMESPACE)));
+    StubWatchFactory.addListResponse(list);
+
+    V1PodList result = new WatchBuilder()
+          .withLabelSelector(DOMAINUID_LABEL)
+          .listPods(NAMESPACE);
+
+    assertThat(result, sameInstance(list));
+    assertThat(StubWatchFactory.getRequestParameters().get(0),
+          allOf(hasEntry("labelSelector", DOMAINUID_LABEL), hasEntry("watch", "false"), not(hasKey("limit"))));
+  }
+
   @Test
   void whenPodWatchFindsNoData_hasNextReturnsFalse() throws Exception {
 
@@ -0,0 +1,189 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import oracle.kubernetes.operator.helpers.SharedHttpResources;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class ApiCallMetricsTest {
+
+  private static final String NS = "ns1";
+
+  private final ApiCallMetrics metrics = new ApiCallMetrics();
+  private final RequestParams listPods = new RequestParams("listPod", NS, null, null, (String) null);
+  private final RequestParams readNamespace = new RequestParams("readNamespace", null, "ns1", null, (String) null);
+  private HttpServer server;
+
+  @AfterEach
+  void tearDown() {
+    ReceivedResponse.clear();
+    if (server != null) {
+      server.stop(0);
+    }
+  }
+
+  private Map<String, List<String>> contentLength(String value) {
+    return Collections.singletonMap("content-length", Collections.singletonList(value));
+  }
+
+  @Test
+  void whenCallsRecorded_countThemByStatus() {
+    metrics.recordCall(listPods, 200, 0, null);
+    metrics.recordCall(listPods, 200, 0, null);
+    metrics.recordCall(listPods, 500, 0, null);
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getCount("200"), equalTo(2L));
+    assertThat(metrics.getStatistics("list", "pod", NS).getCount("500"), equalTo(1L));
+  }
+
+  @Test
+  void whenCallHasNoResponse_countItAsError() {
+    metrics.recordCall(listPods, 0, 0, null);
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getCount("error"), equalTo(1L));
+  }
+
+  @Test
+  void whenStatusUnknown_countCallWithoutCodeLabel() {
+    metrics.recordCall(listPods, ApiCallMetrics.UNKNOWN_STATUS, 0, null);
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    metrics.writeMetrics(writer);
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getCount(ApiCallMetrics.UNKNOWN_OUTCOME), equalTo(1L));
+    assertThat(writer.toString(), containsString(
+          "operator_k8s_requests_total{verb=\"list\",resource=\"pod\",namespace=\"ns1\"} 1"));
+  }
+
+  @Test
+  void whenCallRecorded_observeLatency() {
+    metrics.recordCall(listPods, 200, TimeUnit.MILLISECONDS.toNanos(250), null);
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getLatency().getCount(), equalTo(1L));
+    assertThat(metrics.getStatistics("list", "pod", NS).getLatency().getSum(), equalTo(0.25));
+  }
+
+  @Test
+  void whenResponseDeclaresLength_observeResponseSize() {
+    metrics.recordCall(listPods, 200, 0, contentLength("1024"));
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getResponseSize().getSum(), equalTo(1024.0));
+  }
+
+  @Test
+  void whenResponseLengthNotDeclared_dontObserveResponseSize() {
+    metrics.recordCall(listPods, 200, 0, Collections.emptyMap());
+    metrics.recordCall(listPods, 200, 0, contentLength("chunked"));
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getResponseSize().getCount(), equalTo(0L));
+  }
+
+  @Test
+  void whenCompressedResponseIsChunked_observeBytesReceived() throws IOException {
+    final byte[] body = gzip("{\"kind\":\"PodList\",\"items\":[]}".repeat(100));
+    startServerSendingChunks(body);
+
+    final Map<String, List<String>> responseHeaders = readResponseOnSharedClient();
+    metrics.recordCall(listPods, 200, 0, responseHeaders);
+
+    assertThat(getHeader(responseHeaders, "Content-Length"), nullValue());
+    assertThat(metrics.getStatistics("list", "pod", NS).getResponseSize().getSum(), equalTo((double) body.length));
+  }
+
+  @Test
+  void whenResponseStatusDiffersFromRecordedStatus_dontUseItsSize() throws IOException {
+    startServerSendingChunks(gzip("{}"));
+
+    metrics.recordCall(listPods, 0, 0, readResponseOnSharedClient());
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getResponseSize().getCount(), equalTo(0L));
+  }
+
+  private static byte[] gzip(String text) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(text.getBytes());
+    }
+    return bytes.toByteArray();
+  }
+
+  // A zero length tells the server to send the body in chunks, without a Content-Length header.
+  private void startServerSendingChunks(byte[] gzippedBody) throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/api/v1/namespaces/ns1/pods", exchange -> {
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(gzippedBody);
+      }
+    });
+    server.start();
+  }
+
+  // OkHttp asks for a compressed response, and unzips it as it is read.
+  private Map<String, List<String>> readResponseOnSharedClient() throws IOException {
+    final OkHttpClient client = new SharedHttpResources(null, 10, 10).share(new OkHttpClient());
+    final Request request = new Request.Builder()
+          .url("http://localhost:" + server.getAddress().getPort() + "/api/v1/namespaces/ns1/pods").build();
+    try (Response response = client.newCall(request).execute()) {
+      response.body().string();
+      return response.headers().toMultimap();
+    }
+  }
+
+  private static String getHeader(Map<String, List<String>> headers, String name) {
+    return headers.entrySet().stream()
+          .filter(e -> name.equalsIgnoreCase(e.getKey()))
+          .map(e -> e.getValue().get(0))
+          .findFirst().orElse(null);
+  }
+
+  @Test
+  void whenTimeoutsAndRetriesRecorded_countThem() {
+    metrics.recordTimeout(listPods);
+    metrics.recordRetry(listPods);
+    metrics.recordRetry(listPods);
+
+    assertThat(metrics.getStatistics("list", "pod", NS).getTimeoutCount(), equalTo(1L));
+    assertThat(metrics.getStatistics("list", "pod", NS).getRetryCount(), equalTo(2L));
+  }
+
+  @Test
+  void metricsAreLabeledByVerbResourceAndNamespace() {
+    metrics.recordCall(listPods, 200, 0, null);
+    metrics.recordCall(readNamespace, 404, 0, null);
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    metrics.writeMetrics(writer);
+
+    assertThat(writer.toString(), containsString(
+          "operator_k8s_requests_total{verb=\"list\",resource=\"pod\",namespace=\"ns1\",code=\"200\"} 1"));
+    assertThat(writer.toString(), containsString(
+          "operator_k8s_requests_total{verb=\"read\",resource=\"namespace\",namespace=\"\",code=\"404\"} 1"));
+    assertThat(writer.toString(), containsString(
+          "operator_k8s_request_duration_seconds_count{verb=\"list\",resource=\"pod\",namespace=\"ns1\"} 1"));
+  }
+}
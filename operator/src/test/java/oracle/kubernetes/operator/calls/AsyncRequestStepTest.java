@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiCallback;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
@@ -92,6 +93,11 @@ class AsyncRequestStepTest {
       = generateDomainList(50).withMetadata(new V1ListMeta()._continue(CONTINUE));
   private final Domain domain = DomainProcessorTestSetup.createTestDomain();
   private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final RequestRateLimiter limiter = new RequestRateLimiter(1);
+  private final ReadCoalescer coalescer = new ReadCoalescer(Collections.singletonList(CALL_STRING));
+  private long breakerTime = 0;
+  private final CircuitBreakers breakers = new CircuitBreakers(50, () -> breakerTime);
+  private final ApiCallMetrics metrics = new ApiCallMetrics();
 
   private static DomainList generateDomainList(int size) {
     List<Domain> domains = new ArrayList<>();
@@ -106,6 +112,10 @@ class AsyncRequestStepTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
     mementos.add(SystemClockTestSupport.installClock());
+    mementos.add(StaticStubSupport.install(RequestRateLimiter.class, "instance", limiter));
+    mementos.add(StaticStubSupport.install(ReadCoalescer.class, "instance", coalescer));
+    mementos.add(StaticStubSupport.install(CircuitBreakers.class, "instance", breakers));
+    mementos.add(StaticStubSupport.install(ApiCallMetrics.class, "instance", metrics));
 
     testSupport.runSteps(asyncRequestStep);
   }
@@ -127,6 +137,13 @@ class AsyncRequestStepTest {
     assertThat(testSupport.hasItemScheduledAt(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
   }
 
+  @Test
+  void afterSuccessfulCallback_timeoutCheckCancelled() {
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(testSupport.hasItemScheduledAt(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(false));
+  }
+
   @Test
   void afterTimeout_newRequestSent() {
     callFactory.clearRequest();
@@ -136,6 +153,124 @@ class AsyncRequestStepTest {
     assertThat(callFactory.invokedWith(requestParams), is(true));
   }
 
+  @Test
+  void afterFiberStarted_requestHoldsLimiterPermit() {
+    assertThat(limiter.getInFlightCount(RequestRateLimiter.Lane.READ), equalTo(1));
+  }
+
+  @Test
+  void afterSuccessfulCallback_limiterPermitReleased() {
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(limiter.getInFlightCount(RequestRateLimiter.Lane.READ), equalTo(0));
+  }
+
+  @Test
+  void afterTimeout_limiterPermitReleasedBeforeRetry() {
+    testSupport.setTime(TIMEOUT_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(limiter.getInFlightCount(RequestRateLimiter.Lane.READ), equalTo(1));
+    assertThat(limiter.getQueuedCount(RequestRateLimiter.Lane.READ), equalTo(0));
+  }
+
+  @Test
+  void whenIdenticalReadInFlight_joinItWithoutNewRequest() {
+    callFactory.clearRequest();
+    TestStep otherNextStep = new TestStep();
+    testSupport.runSteps(createReadStep(otherNextStep, requestParams));
+
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+    assertThat(coalescer.getJoinedCount(CALL_STRING), equalTo(1L));
+  }
+
+  @Test
+  void afterSuccessfulCallback_joinedReadReceivesOwnCopyOfValue() {
+    TestStep otherNextStep = new TestStep();
+    testSupport.runSteps(createReadStep(otherNextStep, requestParams));
+
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(nextStep.result, sameInstance(smallList));
+    assertThat(otherNextStep.result, equalTo(smallList));
+    assertThat(otherNextStep.result, not(sameInstance(smallList)));
+  }
+
+  @Test
+  void afterCallCompletes_nextIdenticalReadSendsNewRequest() {
+    callFactory.sendSuccessfulCallback(smallList);
+    callFactory.clearRequest();
+
+    testSupport.runSteps(createReadStep(new TestStep(), requestParams));
+
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+  }
+
+  private AsyncRequestStep<DomainList> createReadStep(TestStep next, RequestParams params) {
+    return new AsyncRequestStep<>(next, params, callFactory, helper,
+          TIMEOUT_SECONDS, MAX_RETRY_COUNT, null, null, null);
+  }
+
+  @Test
+  void whenCircuitBreakerOpen_parkRequestUntilBreakerAllowsProbe() {
+    RequestParams otherParams = new RequestParams(CALL_STRING, NS, "bar", "body", callParams);
+    callFactory.sendSuccessfulCallback(smallList);
+    openCircuitBreaker();
+
+    testSupport.runSteps(createReadStep(new TestStep(), otherParams));
+    assertThat(callFactory.invokedWith(otherParams), is(false));
+
+    breakerTime += TimeUnit.MILLISECONDS.toNanos(CircuitBreaker.MAX_OPEN_MILLIS);
+    testSupport.setTime(TIMEOUT_SECONDS - 1, TimeUnit.SECONDS);
+    assertThat(callFactory.invokedWith(otherParams), is(true));
+  }
+
+  private void openCircuitBreaker() {
+    CircuitBreaker breaker = breakers.getBreaker(requestParams);
+    for (int i = 0; i < CircuitBreaker.MINIMUM_CALLS; i++) {
+      breaker.recordOutcome(HttpURLConnection.HTTP_UNAVAILABLE);
+    }
+  }
+
+  @Test
+  void whenNoPermitAvailable_requestNotSentUntilPermitReleased() {
+    RequestParams otherParams = new RequestParams(CALL_STRING, NS, "bar", "body", callParams);
+    testSupport.runSteps(createReadStep(new TestStep(), otherParams));
+
+    assertThat(callFactory.invokedWith(otherParams), is(false));
+    assertThat(limiter.getQueuedCount(RequestRateLimiter.Lane.READ), equalTo(1));
+
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(callFactory.invokedWith(otherParams), is(true));
+  }
+
+  @Test
+  void afterSuccessfulCallback_recordCallMetrics() {
+    callFactory.sendSuccessfulCallback(smallList);
+
+    assertThat(getCallStatistics().getCount("200"), equalTo(1L));
+    assertThat(getCallStatistics().getLatency().getCount(), equalTo(1L));
+  }
+
+  @Test
+  void afterFailedCallback_recordRetryMetrics() {
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    assertThat(getCallStatistics().getCount("503"), equalTo(1L));
+    assertThat(getCallStatistics().getRetryCount(), equalTo(1L));
+  }
+
+  @Test
+  void afterTimeout_recordTimeoutMetrics() {
+    testSupport.setTime(TIMEOUT_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(getCallStatistics().getTimeoutCount(), equalTo(1L));
+  }
+
+  private ApiCallMetrics.CallStatistics getCallStatistics() {
+    return metrics.getStatistics(OP_NAME, RESOURCE_TYPE, NS);
+  }
+
   @Test
   void afterSuccessfulCallback_nextStepAppliedWithValue() {
     callFactory.sendSuccessfulCallback(smallList);
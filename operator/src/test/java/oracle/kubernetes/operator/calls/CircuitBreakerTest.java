@@ -0,0 +1,244 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.calls.AsyncRequestStep.FIBER_TIMEOUT;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.BASE_OPEN_MILLIS;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.MINIMUM_CALLS;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.PROBE_INTERVAL_MILLIS;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.State.CLOSED;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.State.HALF_OPEN;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.State.OPEN;
+import static oracle.kubernetes.operator.logging.MessageKeys.CIRCUIT_BREAKER_CLOSED;
+import static oracle.kubernetes.operator.logging.MessageKeys.CIRCUIT_BREAKER_OPENED;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+
+class CircuitBreakerTest {
+
+  private static final int FAILURE_RATE_PERCENT = 50;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private long nanoTime = 0;
+  private final CircuitBreaker breaker = new CircuitBreaker("list", "pod", FAILURE_RATE_PERCENT, () -> nanoTime,
+        new DecorrelatedJitterBackoff(BASE_OPEN_MILLIS, CircuitBreaker.MAX_OPEN_MILLIS, () -> 0.0));
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, CIRCUIT_BREAKER_OPENED, CIRCUIT_BREAKER_CLOSED));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void recordOutcomes(int count, int statusCode) {
+    for (int i = 0; i < count; i++) {
+      breaker.recordOutcome(statusCode);
+    }
+  }
+
+  private void openBreaker() {
+    recordOutcomes(MINIMUM_CALLS, HTTP_UNAVAILABLE);
+    logRecords.clear();
+  }
+
+  private void advanceMillis(long millis) {
+    nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+
+  @Test
+  void whenNoCallsMade_breakerIsClosed() {
+    assertThat(breaker.getState(), equalTo(CLOSED));
+    assertThat(breaker.admit().getWaitNanos(), equalTo(0L));
+  }
+
+  @Test
+  void whenFewerThanMinimumCallsFail_breakerStaysClosed() {
+    recordOutcomes(MINIMUM_CALLS - 1, HTTP_UNAVAILABLE);
+
+    assertThat(breaker.getState(), equalTo(CLOSED));
+  }
+
+  @Test
+  void whenFailureRateBelowThreshold_breakerStaysClosed() {
+    recordOutcomes(6, HTTP_OK);
+    recordOutcomes(4, FIBER_TIMEOUT);
+
+    assertThat(breaker.getState(), equalTo(CLOSED));
+  }
+
+  @Test
+  void whenFailureRateReachesThreshold_breakerOpens() {
+    recordOutcomes(5, HTTP_OK);
+    recordOutcomes(5, FIBER_TIMEOUT);
+
+    assertThat(breaker.getState(), equalTo(OPEN));
+    assertThat(logRecords, containsWarning(CIRCUIT_BREAKER_OPENED));
+  }
+
+  @Test
+  void callsRejectedForReasonsOtherThanOverload_dontCountAsFailures() {
+    recordOutcomes(MINIMUM_CALLS, HTTP_NOT_FOUND);
+
+    assertThat(breaker.getState(), equalTo(CLOSED));
+  }
+
+  @Test
+  void whenOldSuccessesLeaveTheWindow_recentFailuresOpenBreaker() {
+    recordOutcomes(CircuitBreaker.WINDOW_SIZE, HTTP_OK);
+    recordOutcomes(CircuitBreaker.WINDOW_SIZE / 2, HTTP_UNAVAILABLE);
+
+    assertThat(breaker.getState(), equalTo(OPEN));
+    assertThat(logRecords, containsWarning(CIRCUIT_BREAKER_OPENED));
+  }
+
+  @Test
+  void whileOpen_callersMustWaitUntilOpenTimeEnds() {
+    openBreaker();
+
+    assertThat(breaker.admit().getWaitNanos(), equalTo(TimeUnit.MILLISECONDS.toNanos(BASE_OPEN_MILLIS)));
+    assertThat(breaker.getRejectedCount(), equalTo(1L));
+  }
+
+  @Test
+  void afterOpenTimeEnds_allowOneProbeCall() {
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+
+    assertThat(breaker.admit().getWaitNanos(), equalTo(0L));
+    assertThat(breaker.getState(), equalTo(HALF_OPEN));
+    assertThat(breaker.admit().getWaitNanos(), equalTo(TimeUnit.MILLISECONDS.toNanos(PROBE_INTERVAL_MILLIS)));
+  }
+
+  @Test
+  void whenProbeSucceeds_closeBreaker() {
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+    final CircuitBreaker.Admission probe = breaker.admit();
+
+    breaker.recordOutcome(probe, HTTP_OK);
+
+    assertThat(breaker.getState(), equalTo(CLOSED));
+    assertThat(breaker.admit().getWaitNanos(), equalTo(0L));
+    assertThat(logRecords, containsInfo(CIRCUIT_BREAKER_CLOSED));
+  }
+
+  @Test
+  void whenProbeFails_reopenBreakerForLonger() {
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+    final CircuitBreaker.Admission probe = breaker.admit();
+
+    breaker.recordOutcome(probe, HTTP_UNAVAILABLE);
+
+    assertThat(breaker.getState(), equalTo(OPEN));
+    assertThat(breaker.getOpenedCount(), equalTo(2L));
+    assertThat(breaker.admit().getWaitNanos(), greaterThan(0L));
+  }
+
+  @Test
+  void afterOpenTimeEnds_admitProbe() {
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+
+    assertThat(breaker.admit().isProbe(), equalTo(true));
+  }
+
+  @Test
+  void whenHalfOpen_outcomeOfCallWhichIsNotTheProbe_doesNotChangeState() {
+    final CircuitBreaker.Admission earlierCall = breaker.admit();
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+    breaker.admit();
+
+    breaker.recordOutcome(earlierCall, HTTP_OK);
+
+    assertThat(breaker.getState(), equalTo(HALF_OPEN));
+  }
+
+  @Test
+  void whenHalfOpen_outcomeOfEarlierProbe_doesNotChangeState() {
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+    final CircuitBreaker.Admission earlierProbe = breaker.admit();
+    advanceMillis(PROBE_INTERVAL_MILLIS);
+    final CircuitBreaker.Admission latestProbe = breaker.admit();
+
+    breaker.recordOutcome(earlierProbe, HTTP_UNAVAILABLE);
+    assertThat(breaker.getState(), equalTo(HALF_OPEN));
+
+    breaker.recordOutcome(latestProbe, HTTP_OK);
+    assertThat(breaker.getState(), equalTo(CLOSED));
+    assertThat(logRecords, containsInfo(CIRCUIT_BREAKER_CLOSED));
+  }
+
+  @Test
+  void afterBreakerCloses_itNeedsMinimumCallsToOpenAgain() {
+    openBreaker();
+    advanceMillis(BASE_OPEN_MILLIS);
+    breaker.recordOutcome(breaker.admit(), HTTP_OK);
+    logRecords.clear();
+
+    recordOutcomes(MINIMUM_CALLS - 1, HTTP_UNAVAILABLE);
+
+    assertThat(breaker.getState(), equalTo(CLOSED));
+  }
+
+  @Test
+  void decorrelatedJitterBackoff_growsWithinBounds() {
+    DecorrelatedJitterBackoff backoff = new DecorrelatedJitterBackoff(100, 1000, () -> 1.0);
+
+    assertThat(backoff.nextDelayMillis(), equalTo(300L));
+    assertThat(backoff.nextDelayMillis(), equalTo(900L));
+    assertThat(backoff.nextDelayMillis(), equalTo(1000L));
+
+    backoff.reset();
+    assertThat(backoff.nextDelayMillis(), equalTo(300L));
+  }
+
+  @Test
+  void whenFailureRateIsZero_noBreakersCreated() {
+    RequestParams params = new RequestParams("listPod", "ns", null, null, (String) null);
+
+    assertThat(new CircuitBreakers(0).getBreaker(params), nullValue());
+  }
+
+  @Test
+  void metricsIncludeEachBreaker() {
+    CircuitBreakers breakers = new CircuitBreakers(FAILURE_RATE_PERCENT, () -> nanoTime);
+    breakers.getBreaker(new RequestParams("listPod", "ns", null, null, (String) null));
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    breakers.writeMetrics(writer);
+
+    assertThat(writer.toString(),
+          containsString("operator_k8s_circuit_breaker_state{verb=\"list\",resource=\"pod\"} 0"));
+    assertThat(writer.toString(),
+          containsString("operator_k8s_circuit_breaker_opened_total{verb=\"list\",resource=\"pod\"} 0"));
+  }
+}
@@ -0,0 +1,320 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+import com.meterware.simplestub.Memento;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProtobufCodecTest {
+
+  private static final long CREATION_SECONDS = 1_600_000_000L;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<String> acceptHeaders = new ArrayList<>();
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    mementos.forEach(Memento::revert);
+  }
+
+  private void respondToPath(String path, String contentType, byte[] body) {
+    server.createContext(path, exchange -> respond(exchange, contentType, body));
+  }
+
+  private void respond(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+    acceptHeaders.add(exchange.getRequestHeaders().getFirst("Accept"));
+    exchange.getResponseHeaders().add("Content-Type", contentType);
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private V1PodList listPods() throws Exception {
+    ApiClient client = new ApiClient().setBasePath("http://localhost:" + server.getAddress().getPort());
+    CompletableFuture<V1PodList> result = new CompletableFuture<>();
+    ProtobufCodec.executeAsync(client,
+          new CoreV1Api(client).listNamespacedPodCall(
+                "ns1", null, null, null, null, null, null, null, null, null, null, null),
+          V1PodList.class, new ApiCallback<>() {
+            @Override
+            public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+              result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onSuccess(V1PodList list, int statusCode, Map<String, List<String>> responseHeaders) {
+              result.complete(list);
+            }
+
+            @Override
+            public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+              // not used
+            }
+
+            @Override
+            public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+              // not used
+            }
+          });
+    return result.get(10, TimeUnit.SECONDS);
+  }
+
+  private static byte[] encode(String apiVersion, String kind, Message message) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(new byte[] {'k', '8', 's', 0});
+    Runtime.Unknown.newBuilder()
+          .setTypeMeta(Runtime.TypeMeta.newBuilder().setApiVersion(apiVersion).setKind(kind))
+          .setRaw(message.toByteString())
+          .build()
+          .writeTo(out);
+    return out.toByteArray();
+  }
+
+  private static V1.Pod createPod(String name) {
+    return V1.Pod.newBuilder()
+          .setMetadata(Meta.ObjectMeta.newBuilder()
+                .setName(name)
+                .setNamespace("ns1")
+                .setGenerateName("")
+                .putLabels("weblogic.domainUID", "domain1")
+                .setCreationTimestamp(Meta.Time.newBuilder().setSeconds(CREATION_SECONDS))
+                .setDeletionTimestamp(Meta.Time.getDefaultInstance()))
+          .setSpec(V1.PodSpec.newBuilder()
+                .addContainers(V1.Container.newBuilder()
+                      .setName("weblogic-server")
+                      .addArgs("startServer.sh")
+                      .addPorts(V1.ContainerPort.newBuilder().setContainerPort(7001).setProtocol("TCP"))
+                      .setResources(V1.ResourceRequirements.newBuilder()
+                            .putLimits("memory", Resource.Quantity.newBuilder().setString("1Gi").build()))
+                      .setReadinessProbe(V1.Probe.newBuilder()
+                            .setPeriodSeconds(5)
+                            .setHandler(V1.Handler.newBuilder()
+                                  .setHttpGet(V1.HTTPGetAction.newBuilder()
+                                        .setPath("/weblogic/ready")
+                                        .setPort(IntStr.IntOrString.newBuilder().setType(0).setIntVal(8888)))))))
+          .setStatus(V1.PodStatus.newBuilder()
+                .setPhase("Running")
+                .addConditions(V1.PodCondition.newBuilder().setType("Ready").setStatus("True"))
+                .addContainerStatuses(V1.ContainerStatus.newBuilder()
+                      .setName("weblogic-server").setReady(false).setRestartCount(0)))
+          .build();
+  }
+
+  @Test
+  void decodeObjectMetadata() throws IOException {
+    V1Pod pod = ProtobufCodec.decode(encode("v1", "Pod", createPod("ms1")), V1Pod.class);
+
+    assertThat(pod.getApiVersion(), equalTo("v1"));
+    assertThat(pod.getKind(), equalTo("Pod"));
+    assertThat(pod.getMetadata().getName(), equalTo("ms1"));
+    assertThat(pod.getMetadata().getLabels(), hasEntry("weblogic.domainUID", "domain1"));
+    assertThat(pod.getMetadata().getCreationTimestamp(),
+          equalTo(OffsetDateTime.of(2020, 9, 13, 12, 26, 40, 0, ZoneOffset.UTC)));
+  }
+
+  @Test
+  void whenValuesAreEmpty_leaveFieldsUnsetAsJsonWould() throws IOException {
+    V1Pod pod = ProtobufCodec.decode(encode("v1", "Pod", createPod("ms1")), V1Pod.class);
+
+    assertThat(pod.getMetadata().getGenerateName(), nullValue());
+    assertThat(pod.getMetadata().getDeletionTimestamp(), nullValue());
+  }
+
+  @Test
+  void whenValuesAreZero_keepThem() throws IOException {
+    V1Pod pod = ProtobufCodec.decode(encode("v1", "Pod", createPod("ms1")), V1Pod.class);
+
+    assertThat(pod.getStatus().getContainerStatuses().get(0).getReady(), is(false));
+    assertThat(pod.getStatus().getContainerStatuses().get(0).getRestartCount(), equalTo(0));
+  }
+
+  @Test
+  void decodeNestedListsAndSpecialTypes() throws IOException {
+    V1Pod pod = ProtobufCodec.decode(encode("v1", "Pod", createPod("ms1")), V1Pod.class);
+
+    assertThat(pod.getSpec().getContainers().get(0).getArgs(), contains("startServer.sh"));
+    assertThat(pod.getSpec().getContainers().get(0).getPorts().get(0).getContainerPort(), equalTo(7001));
+    assertThat(pod.getSpec().getContainers().get(0).getResources().getLimits(),
+          hasEntry("memory", Quantity.fromString("1Gi")));
+    assertThat(pod.getStatus().getConditions().get(0).getType(), equalTo("Ready"));
+  }
+
+  @Test
+  void decodeFieldsOfInlineStructs() throws IOException {
+    V1Pod pod = ProtobufCodec.decode(encode("v1", "Pod", createPod("ms1")), V1Pod.class);
+
+    assertThat(pod.getSpec().getContainers().get(0).getReadinessProbe().getPeriodSeconds(), equalTo(5));
+    assertThat(pod.getSpec().getContainers().get(0).getReadinessProbe().getHttpGet().getPort(),
+          equalTo(new IntOrString(8888)));
+  }
+
+  @Test
+  void skipFieldsUnknownToDescriptors() throws IOException {
+    ByteString withUnknownField = createPod("ms1").toByteString()
+          .concat(encodeUnknownField(99, "added in a later version"));
+
+    V1Pod pod = ProtobufCodec.decode(encode("v1", "Pod", V1.Pod.parseFrom(withUnknownField)), V1Pod.class);
+
+    assertThat(pod.getMetadata().getName(), equalTo("ms1"));
+  }
+
+  private ByteString encodeUnknownField(int fieldNumber, String value) throws IOException {
+    ByteString.Output out = ByteString.newOutput();
+    CodedOutputStream coded = CodedOutputStream.newInstance(out);
+    coded.writeString(fieldNumber, value);
+    coded.flush();
+    return out.toByteString();
+  }
+
+  @Test
+  void decodeList() throws IOException {
+    V1.PodList list = V1.PodList.newBuilder()
+          .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("123").setContinue("next"))
+          .addItems(createPod("ms1"))
+          .addItems(createPod("ms2"))
+          .build();
+
+    V1PodList podList = ProtobufCodec.decode(encode("v1", "PodList", list), V1PodList.class);
+
+    assertThat(podList.getKind(), equalTo("PodList"));
+    assertThat(podList.getMetadata().getResourceVersion(), equalTo("123"));
+    assertThat(podList.getMetadata().getContinue(), equalTo("next"));
+    assertThat(podList.getItems().get(1).getMetadata().getName(), equalTo("ms2"));
+  }
+
+  @Test
+  void decodeWatchEvent() throws IOException {
+    byte[] frame = Meta.WatchEvent.newBuilder()
+          .setType("MODIFIED")
+          .setObject(Runtime.RawExtension.newBuilder()
+                .setRaw(ByteString.copyFrom(encode("v1", "Pod", createPod("ms1")))))
+          .build().toByteArray();
+
+    Watch.Response<V1Pod> response = ProtobufCodec.decodeWatchEvent(frame, V1Pod.class);
+
+    assertThat(response.type, equalTo("MODIFIED"));
+    assertThat(response.object.getMetadata().getName(), equalTo("ms1"));
+  }
+
+  @Test
+  void decodeWatchErrorEvent() throws IOException {
+    Meta.Status status = Meta.Status.newBuilder()
+          .setStatus("Failure").setReason("Expired").setCode(410).build();
+    byte[] frame = Meta.WatchEvent.newBuilder()
+          .setType("ERROR")
+          .setObject(Runtime.RawExtension.newBuilder().setRaw(ByteString.copyFrom(encode("v1", "Status", status))))
+          .build().toByteArray();
+
+    Watch.Response<V1Pod> response = ProtobufCodec.decodeWatchEvent(frame, V1Pod.class);
+
+    assertThat(response.type, equalTo("ERROR"));
+    assertThat(response.object, nullValue());
+    assertThat(response.status.getCode(), equalTo(410));
+    assertThat(response.status.getReason(), equalTo("Expired"));
+  }
+
+  @Test
+  void onlyBuiltInTypesSupported() {
+    assertThat(ProtobufCodec.supports(V1PodList.class), is(true));
+    assertThat(ProtobufCodec.supports(V1Status.class), is(true));
+    assertThat(ProtobufCodec.supports(DomainList.class), is(false));
+  }
+
+  @Test
+  void whenFeatureGateEnabled_requestAndDecodeProtobufList() throws Exception {
+    TuningParametersStub.setParameter("featureGates", ProtobufCodec.FEATURE_GATE);
+    respondToPath("/api/v1/namespaces/ns1/pods", ProtobufCodec.PROTOBUF_MEDIA_TYPE,
+          encode("v1", "PodList", V1.PodList.newBuilder().addItems(createPod("ms1")).build()));
+
+    V1PodList list = listPods();
+
+    assertThat(acceptHeaders.get(0), containsString(ProtobufCodec.PROTOBUF_MEDIA_TYPE));
+    assertThat(list.getItems().get(0).getMetadata().getName(), equalTo("ms1"));
+  }
+
+  @Test
+  void whenServerRespondsWithJson_decodeJson() throws Exception {
+    TuningParametersStub.setParameter("featureGates", ProtobufCodec.FEATURE_GATE);
+    respondToPath("/api/v1/namespaces/ns1/pods", "application/json",
+          "{\"kind\":\"PodList\",\"items\":[{\"metadata\":{\"name\":\"ms2\"}}]}".getBytes());
+
+    assertThat(listPods().getItems().get(0).getMetadata().getName(), equalTo("ms2"));
+  }
+
+  @Test
+  void whenFeatureGateDisabled_requestJson() throws Exception {
+    respondToPath("/api/v1/namespaces/ns1/pods", "application/json", "{\"kind\":\"PodList\"}".getBytes());
+
+    listPods();
+
+    assertThat(acceptHeaders.get(0), equalTo("application/json"));
+  }
+
+  @Test
+  void whenResponseCannotBeDecoded_reportFailure() {
+    TuningParametersStub.setParameter("featureGates", ProtobufCodec.FEATURE_GATE);
+    respondToPath("/api/v1/namespaces/ns1/pods", "application/json", "{\"kind\":[".getBytes());
+
+    ExecutionException e = assertThrows(ExecutionException.class, this::listPods);
+
+    assertThat(e.getCause(), instanceOf(ApiException.class));
+  }
+}
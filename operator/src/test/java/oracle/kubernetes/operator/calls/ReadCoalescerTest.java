@@ -0,0 +1,150 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_NOT_FOUND;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ReadCoalescerTest {
+
+  private static final String NS = "namespace";
+
+  private final ReadCoalescer coalescer = new ReadCoalescer(Arrays.asList("readSecret", " readPod "));
+  private final RequestParams readSecret = new RequestParams("readSecret", NS, "creds", null, "uid");
+  private final RequestParams readOtherSecret = new RequestParams("readSecret", NS, "other", null, "uid");
+  private final RequestParams readConfigMap = new RequestParams("readConfigMap", NS, "map", null, "uid");
+
+  @Test
+  void whenCallNotCoalesced_returnOriginalCallback() {
+    RecordingCallback callback = new RecordingCallback();
+
+    assertThat(coalescer.joinOrStart(readConfigMap, callback, s -> s), sameInstance(callback));
+  }
+
+  @Test
+  void firstRead_startsCall() {
+    assertThat(coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s), notNullValue());
+  }
+
+  @Test
+  void whenIdenticalReadInFlight_joinIt() {
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+
+    assertThat(coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s), nullValue());
+  }
+
+  @Test
+  void whenReadOfOtherResourceInFlight_startNewCall() {
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+
+    assertThat(coalescer.joinOrStart(readOtherSecret, new RecordingCallback(), s -> s), notNullValue());
+  }
+
+  @Test
+  void onSuccess_deliverCopiesToJoinedReads() {
+    RecordingCallback leader = new RecordingCallback();
+    RecordingCallback follower = new RecordingCallback();
+    ApiCallback<String> call = coalescer.joinOrStart(readSecret, leader, s -> s + "-copy");
+    coalescer.joinOrStart(readSecret, follower, s -> s);
+
+    call.onSuccess("value", HTTP_OK, Collections.emptyMap());
+
+    assertThat(leader.results, contains("value"));
+    assertThat(follower.results, contains("value-copy"));
+  }
+
+  @Test
+  void onFailure_deliverFailureToJoinedReads() {
+    RecordingCallback follower = new RecordingCallback();
+    ApiCallback<String> call = coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+    coalescer.joinOrStart(readSecret, follower, s -> s);
+
+    call.onFailure(new ApiException(), HTTP_NOT_FOUND, Collections.emptyMap());
+
+    assertThat(follower.failureCodes, contains(HTTP_NOT_FOUND));
+  }
+
+  @Test
+  void afterCallCompletes_nextReadStartsNewCall() {
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s).onSuccess("value", HTTP_OK, null);
+
+    assertThat(coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s), notNullValue());
+  }
+
+  @Test
+  void afterCallAbandoned_nextReadStartsNewCall() {
+    ApiCallback<String> call = coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+
+    coalescer.abandon(readSecret, call);
+
+    assertThat(coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s), notNullValue());
+  }
+
+  @Test
+  void computeHitRate() {
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+    coalescer.joinOrStart(readOtherSecret, new RecordingCallback(), s -> s);
+
+    assertThat(coalescer.getHitRate("readSecret"), closeTo(0.5, 0.001));
+  }
+
+  @Test
+  void metricsIncludeStartedAndJoinedCounts() {
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+    coalescer.joinOrStart(readSecret, new RecordingCallback(), s -> s);
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    coalescer.writeMetrics(writer);
+
+    assertThat(writer.toString(),
+          containsString("operator_k8s_coalesced_reads_total{call=\"readSecret\",result=\"started\"} 1"));
+    assertThat(writer.toString(),
+          containsString("operator_k8s_coalesced_reads_total{call=\"readSecret\",result=\"joined\"} 1"));
+  }
+
+  static class RecordingCallback implements ApiCallback<String> {
+    private final List<String> results = new ArrayList<>();
+    private final List<Integer> failureCodes = new ArrayList<>();
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      failureCodes.add(statusCode);
+    }
+
+    @Override
+    public void onSuccess(String result, int statusCode, Map<String, List<String>> responseHeaders) {
+      results.add(result);
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+      // no-op
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+      // no-op
+    }
+  }
+}
@@ -0,0 +1,221 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_OK;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_TOO_MANY_REQUESTS;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.EVENT;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.READ;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.STATUS;
+import static oracle.kubernetes.operator.calls.RequestRateLimiter.Lane.WRITE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+class RequestRateLimiterTest {
+
+  private static final int MAX_CONCURRENCY = 4;
+
+  private long nanoTime = 0;
+  private final RequestRateLimiter limiter = new RequestRateLimiter(MAX_CONCURRENCY, () -> nanoTime);
+  private final List<String> started = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void acquire(RequestRateLimiter.Lane lane, String name) {
+    limiter.acquire(lane, () -> started.add(name));
+  }
+
+  private void fillPermits() {
+    for (int i = 0; i < MAX_CONCURRENCY; i++) {
+      acquire(READ, "initial" + i);
+    }
+    started.clear();
+  }
+
+  private Map<String, List<String>> retryAfter(String seconds) {
+    return Collections.singletonMap("retry-after", Collections.singletonList(seconds));
+  }
+
+  @Test
+  void assignCallsToLanes() {
+    assertThat(RequestRateLimiter.Lane.forCall("listPod"), equalTo(READ));
+    assertThat(RequestRateLimiter.Lane.forCall("readDomain"), equalTo(READ));
+    assertThat(RequestRateLimiter.Lane.forCall("createPod"), equalTo(WRITE));
+    assertThat(RequestRateLimiter.Lane.forCall("replaceDomainStatus"), equalTo(STATUS));
+    assertThat(RequestRateLimiter.Lane.forCall("createEvent"), equalTo(EVENT));
+  }
+
+  @Test
+  void whilePermitsAvailable_startCallsImmediately() {
+    acquire(WRITE, "a");
+    acquire(READ, "b");
+
+    assertThat(started, contains("a", "b"));
+    assertThat(limiter.getInFlightCount(WRITE), equalTo(1));
+  }
+
+  @Test
+  void whenAllPermitsTaken_queueCalls() {
+    fillPermits();
+
+    acquire(WRITE, "a");
+
+    assertThat(started, empty());
+    assertThat(limiter.getQueuedCount(WRITE), equalTo(1));
+  }
+
+  @Test
+  void whenPermitReleased_startQueuedCall() {
+    fillPermits();
+    acquire(WRITE, "a");
+
+    limiter.release(READ, HTTP_OK, null);
+
+    assertThat(started, contains("a"));
+    assertThat(limiter.getInFlightCount(WRITE), equalTo(1));
+  }
+
+  @Test
+  void releasedPermits_areSharedInTurnAmongLanes() {
+    fillPermits();
+    acquire(STATUS, "status1");
+    acquire(STATUS, "status2");
+    acquire(STATUS, "status3");
+    acquire(WRITE, "createPod");
+    acquire(READ, "readPod");
+
+    for (int i = 0; i < 3; i++) {
+      limiter.release(READ, HTTP_OK, null);
+    }
+
+    assertThat(started, contains("readPod", "createPod", "status1"));
+  }
+
+  @Test
+  void whenThrottled_halveLimit() {
+    acquire(READ, "a");
+
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, null);
+
+    assertThat(limiter.getLimit(), equalTo(MAX_CONCURRENCY / 2));
+    assertThat(limiter.getThrottledCount(READ), equalTo(1L));
+  }
+
+  @Test
+  void afterSuccesses_increaseLimitGraduallyToMaximum() {
+    acquire(READ, "a");
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, null);
+
+    for (int i = 0; i < 10; i++) {
+      acquire(READ, "b" + i);
+      limiter.release(READ, HTTP_OK, null);
+    }
+
+    assertThat(limiter.getLimit(), equalTo(MAX_CONCURRENCY));
+  }
+
+  @Test
+  void afterCallsTimeOut_increaseLimitGraduallyToMaximum() {
+    acquire(READ, "a");
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, null);
+
+    for (int i = 0; i < 10; i++) {
+      acquire(READ, "b" + i);
+      limiter.release(READ, 0, null);
+    }
+
+    assertThat(limiter.getLimit(), equalTo(MAX_CONCURRENCY));
+  }
+
+  @Test
+  void sharedLimiter_takesMaximumConcurrencyFromItsOwnTuningParameter() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(RequestRateLimiter.class, "instance", null));
+
+    assertThat(RequestRateLimiter.getInstance().getLimit(),
+          equalTo(TuningParameters.getInstance().getMainTuning().apiRequestMaxConcurrency));
+  }
+
+  @Test
+  void limitNeverFallsBelowOne() {
+    for (int i = 0; i < 10; i++) {
+      acquire(READ, "a" + i);
+      limiter.release(READ, HTTP_TOO_MANY_REQUESTS, null);
+    }
+
+    assertThat(limiter.getLimit(), equalTo(1));
+  }
+
+  @Test
+  void whenThrottledWithRetryAfter_pauseUntilRequestedTime() {
+    acquire(READ, "a");
+
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, retryAfter("3"));
+
+    assertThat(limiter.getPauseNanos(), equalTo(TimeUnit.SECONDS.toNanos(3)));
+    nanoTime += TimeUnit.SECONDS.toNanos(3);
+    assertThat(limiter.getPauseNanos(), equalTo(0L));
+  }
+
+  @Test
+  void whilePaused_furtherThrottlingDoesNotReduceLimitAgain() {
+    acquire(READ, "a");
+    acquire(READ, "b");
+
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, retryAfter("3"));
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, retryAfter("3"));
+
+    assertThat(limiter.getLimit(), equalTo(MAX_CONCURRENCY / 2));
+  }
+
+  @Test
+  void ignoreUnparseableRetryAfter() {
+    acquire(READ, "a");
+
+    limiter.release(READ, HTTP_TOO_MANY_REQUESTS, retryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+
+    assertThat(limiter.getPauseNanos(), equalTo(0L));
+  }
+
+  @Test
+  void blockingAcquire_takesPermit() throws InterruptedException {
+    limiter.acquireBlocking(WRITE);
+
+    assertThat(limiter.getInFlightCount(WRITE), equalTo(1));
+  }
+
+  @Test
+  void metricsIncludeEachLane() {
+    fillPermits();
+    acquire(EVENT, "a");
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    limiter.writeMetrics(writer);
+
+    assertThat(writer.toString(), containsString("operator_k8s_requests_in_flight{lane=\"read\"} 4"));
+    assertThat(writer.toString(), containsString("operator_k8s_requests_queued{lane=\"event\"} 1"));
+    assertThat(writer.toString(), containsString("operator_k8s_requests_throttled_total{lane=\"status\"} 0"));
+  }
+}
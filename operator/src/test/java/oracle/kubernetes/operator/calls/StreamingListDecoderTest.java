@@ -0,0 +1,228 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.google.gson.stream.JsonReader;
+import com.meterware.simplestub.Memento;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import okhttp3.Call;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamingListDecoderTest {
+
+  private static final String PODS_JSON = "{\"kind\":\"PodList\",\"apiVersion\":\"v1\","
+        + "\"metadata\":{\"resourceVersion\":\"1234\",\"continue\":\"next-page\"},"
+        + "\"items\":[{\"metadata\":{\"name\":\"ms1\"}},{\"metadata\":{\"name\":\"ms2\"}}]}";
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<String> itemNames = new ArrayList<>();
+  private final CountDownLatch callStarted = new CountDownLatch(1);
+  private HttpServer server;
+  private Call streamingCall;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    mementos.forEach(Memento::revert);
+  }
+
+  private void respondWith(int status, String contentType, byte[] body) {
+    server.createContext("/api/v1/namespaces/ns1/pods", exchange -> {
+      awaitCallStarted();
+      exchange.getResponseHeaders().add("Content-Type", contentType);
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+  }
+
+  // Ensures that the call is recorded before its response is read
+  private void awaitCallStarted() {
+    try {
+      callStarted.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void addItem(V1Pod pod) {
+    itemNames.add(pod.getMetadata().getName());
+  }
+
+  private V1PodList listPods() throws Exception {
+    return listPods(this::addItem);
+  }
+
+  private V1PodList listPods(Consumer<V1Pod> itemConsumer) throws Exception {
+    ApiClient client = new ApiClient().setBasePath("http://localhost:" + server.getAddress().getPort());
+    CompletableFuture<V1PodList> result = new CompletableFuture<>();
+    streamingCall = StreamingListDecoder.executeAsync(client,
+          new CoreV1Api(client).listNamespacedPodCall(
+                "ns1", null, null, null, null, null, null, null, null, null, null, null),
+          V1PodList.class, V1Pod.class, itemConsumer, new ApiCallback<>() {
+            @Override
+            public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+              result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onSuccess(V1PodList list, int statusCode, Map<String, List<String>> responseHeaders) {
+              result.complete(list);
+            }
+
+            @Override
+            public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+              // not used
+            }
+
+            @Override
+            public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+              // not used
+            }
+          });
+    callStarted.countDown();
+    return result.get(10, TimeUnit.SECONDS);
+  }
+
+  private static byte[] encodePodList(String... names) throws IOException {
+    V1.PodList.Builder list = V1.PodList.newBuilder()
+          .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("1234").setContinue("next-page"));
+    for (String name : names) {
+      list.addItems(V1.Pod.newBuilder().setMetadata(Meta.ObjectMeta.newBuilder().setName(name)));
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(new byte[] {'k', '8', 's', 0});
+    Runtime.Unknown.newBuilder()
+          .setTypeMeta(Runtime.TypeMeta.newBuilder().setApiVersion("v1").setKind("PodList"))
+          .setRaw(list.build().toByteString())
+          .build()
+          .writeTo(out);
+    return out.toByteArray();
+  }
+
+  @Test
+  void whenReadingJson_handEachItemToConsumer() throws IOException {
+    StreamingListDecoder.readJson(new JSON().getGson(), new JsonReader(new StringReader(PODS_JSON)),
+          V1PodList.class, V1Pod.class, this::addItem);
+
+    assertThat(itemNames, contains("ms1", "ms2"));
+  }
+
+  @Test
+  void whenReadingJson_returnListWithMetadataButNoItems() throws IOException {
+    V1PodList list = StreamingListDecoder.readJson(new JSON().getGson(),
+          new JsonReader(new StringReader(PODS_JSON)), V1PodList.class, V1Pod.class, this::addItem);
+
+    assertThat(list.getKind(), equalTo("PodList"));
+    assertThat(list.getMetadata().getContinue(), equalTo("next-page"));
+    assertThat(list.getItems(), empty());
+  }
+
+  @Test
+  void whenServerRespondsWithJson_streamItemsAndReturnContinueToken() throws Exception {
+    respondWith(200, "application/json", PODS_JSON.getBytes());
+
+    V1PodList list = listPods();
+
+    assertThat(itemNames, contains("ms1", "ms2"));
+    assertThat(list.getMetadata().getContinue(), equalTo("next-page"));
+    assertThat(list.getItems(), empty());
+  }
+
+  @Test
+  void whenProtobufEnabledAndServerRespondsWithProtobuf_streamItems() throws Exception {
+    TuningParametersStub.setParameter("featureGates", ProtobufCodec.FEATURE_GATE);
+    respondWith(200, ProtobufCodec.PROTOBUF_MEDIA_TYPE, encodePodList("ms1", "ms2", "ms3"));
+
+    V1PodList list = listPods();
+
+    assertThat(itemNames, contains("ms1", "ms2", "ms3"));
+    assertThat(list.getMetadata().getResourceVersion(), equalTo("1234"));
+    assertThat(list.getItems(), empty());
+  }
+
+  @Test
+  void whenServerReportsError_reportFailureWithStatus() {
+    respondWith(410, "application/json", "{\"kind\":\"Status\",\"code\":410}".getBytes());
+
+    ExecutionException e = assertThrows(ExecutionException.class, this::listPods);
+
+    assertThat(e.getCause(), instanceOf(ApiException.class));
+    assertThat(((ApiException) e.getCause()).getCode(), equalTo(410));
+    assertThat(itemNames, empty());
+  }
+
+  @Test
+  void whenItemConsumerThrowsException_reportFailure() {
+    respondWith(200, "application/json", PODS_JSON.getBytes());
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> listPods(this::rejectItem));
+
+    assertThat(e.getCause(), instanceOf(ApiException.class));
+    assertThat(e.getCause().getCause(), instanceOf(IllegalStateException.class));
+  }
+
+  private void rejectItem(V1Pod pod) {
+    throw new IllegalStateException("cannot process " + pod.getMetadata().getName());
+  }
+
+  @Test
+  void whenCallCanceledWhileStreaming_stopHandingItemsToConsumer() {
+    respondWith(200, "application/json", PODS_JSON.getBytes());
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> listPods(this::addItemAndCancel));
+
+    assertThat(e.getCause(), instanceOf(ApiException.class));
+    assertThat(itemNames, contains("ms1"));
+  }
+
+  // Simulates the cancellation of a call by its timed-out fiber, which happens on another thread
+  private void addItemAndCancel(V1Pod pod) {
+    addItem(pod);
+    streamingCall.cancel();
+  }
+}
@@ -18,11 +18,15 @@ import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.VersionInfo;
+import okhttp3.OkHttpClient;
 import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.calls.ApiCallMetrics;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
@@ -32,6 +36,8 @@ import org.junit.jupiter.api.Test;
 
 import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -45,6 +51,8 @@ class CallBuilderTest {
           "/apis/weblogic.oracle/" + KubernetesConstants.DOMAIN_VERSION + "/namespaces/%s/domains",
           NAMESPACE);
 
+  private static final String TOKEN_REVIEW_RESOURCE = "/apis/authentication.k8s.io/v1/tokenreviews";
+
   private static final ApiClient apiClient = new ApiClient();
   private final List<Memento> mementos = new ArrayList<>();
   private final CallBuilder callBuilder = new CallBuilder();
@@ -87,6 +95,41 @@ class CallBuilderTest {
         callBuilder::readVersionCode, 1), equalTo(versionInfo));
   }
 
+  @Test
+  void whenSynchronousCallSucceedsOnSharedClient_recordActualStatus() throws ApiException {
+    final OkHttpClient originalHttpClient = apiClient.getHttpClient();
+    apiClient.setHttpClient(new SharedHttpResources(null, 10, 10).share(originalHttpClient));
+    defineResource(TOKEN_REVIEW_RESOURCE, new CreatedPostServlet(new V1TokenReview()));
+
+    try {
+      callBuilder.createTokenReview(new V1TokenReview());
+    } finally {
+      apiClient.setHttpClient(originalHttpClient);
+    }
+
+    assertThat(getMetricsText(), containsString(
+          "operator_k8s_requests_total{verb=\"create\",resource=\"tokenreview\",namespace=\"\",code=\"201\"}"));
+  }
+
+  private String getMetricsText() {
+    final PrometheusTextWriter writer = new PrometheusTextWriter();
+    ApiCallMetrics.getInstance().writeMetrics(writer);
+    return writer.toString();
+  }
+
+  static class CreatedPostServlet extends PseudoServlet {
+    private final Object created;
+
+    CreatedPostServlet(Object created) {
+      this.created = created;
+    }
+
+    @Override
+    public WebResource getPostResponse() {
+      return new WebResource(toJson(created), "application/json", HTTP_CREATED);
+    }
+  }
+
   static class FailOnceGetServlet extends JsonGetServlet {
 
     final int errorCode;
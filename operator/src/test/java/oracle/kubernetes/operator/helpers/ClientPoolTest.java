@@ -7,7 +7,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Dispatcher;
+import okhttp3.Protocol;
 import oracle.kubernetes.operator.ClientFactoryStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -15,7 +18,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 
@@ -54,4 +60,66 @@ class ClientPoolTest {
 
     assertThat(ClientPool.getInstance().take(), not(sameInstance(apiClient)));
   }
+
+  @Test
+  void afterDiscard_newClientSharesConnectionPoolAndDispatcher() {
+    ApiClient apiClient = ClientPool.getInstance().take();
+    ClientPool.getInstance().discard(apiClient);
+    ApiClient replacement = ClientPool.getInstance().take();
+
+    assertThat(replacement.getHttpClient().connectionPool(),
+          sameInstance(apiClient.getHttpClient().connectionPool()));
+    assertThat(replacement.getHttpClient().dispatcher(), sameInstance(apiClient.getHttpClient().dispatcher()));
+  }
+
+  @Test
+  void afterDiscard_newClientSharesTlsSettings() {
+    ApiClient apiClient = ClientPool.getInstance().take();
+    ClientPool.getInstance().discard(apiClient);
+    ApiClient replacement = ClientPool.getInstance().take();
+
+    assertThat(replacement.getHttpClient().sslSocketFactory(),
+          sameInstance(apiClient.getHttpClient().sslSocketFactory()));
+  }
+
+  @Test
+  void createdClients_useSharedResources() {
+    ApiClient apiClient = ClientPool.getInstance().take();
+
+    assertThat(apiClient.getHttpClient().dispatcher(),
+          sameInstance(ClientPool.getInstance().getHttpResources().getDispatcher()));
+  }
+
+  @Test
+  void withoutTuning_sharedDispatcherDoesNotLimitCallsToApiServerBelowOverallLimit() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(ClientPool.class, "SINGLETON", new ClientPool()));
+
+    final Dispatcher dispatcher = ClientPool.getInstance().getHttpResources().getDispatcher();
+
+    assertThat(dispatcher.getMaxRequestsPerHost(), equalTo(dispatcher.getMaxRequests()));
+  }
+
+  @Test
+  void whenOnlyHttp2FeatureGateEnabled_cleartextClientsUseHttp11() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter("featureGates", ClientPool.HTTP2_FEATURE_GATE);
+    mementos.add(StaticStubSupport.install(ClientPool.class, "SINGLETON", new ClientPool()));
+
+    ApiClient apiClient = ClientPool.getInstance().take();
+
+    assertThat(ClientPool.getInstance().getHttpResources().isHttp2Enabled(), is(true));
+    assertThat(apiClient.getHttpClient().protocols(), contains(Protocol.HTTP_1_1));
+  }
+
+  @Test
+  void whenHttp2CleartextFeatureGateAlsoEnabled_cleartextClientsUseHttp2() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter("featureGates",
+          ClientPool.HTTP2_FEATURE_GATE + "," + ClientPool.HTTP2_CLEARTEXT_FEATURE_GATE);
+    mementos.add(StaticStubSupport.install(ClientPool.class, "SINGLETON", new ClientPool()));
+
+    ApiClient apiClient = ClientPool.getInstance().take();
+
+    assertThat(apiClient.getHttpClient().protocols(), contains(Protocol.H2_PRIOR_KNOWLEDGE));
+  }
 }
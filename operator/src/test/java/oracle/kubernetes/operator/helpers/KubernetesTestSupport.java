@@ -9,6 +9,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,7 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -70,6 +72,7 @@ import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.RetryStrategy;
+import oracle.kubernetes.operator.calls.ServerSideApply;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.work.Component;
@@ -389,6 +392,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replace, resourceType, name, namespace, ae);
   }
 
+  /**
+   * Specifies that a patch operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources and replaces any existing failure checks.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnPatch(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.patch, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a delete operation should fail if it matches the specified conditions. Applies to
    * namespaced resources and replaces any existing failure checks.
@@ -448,6 +464,17 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return KubernetesUtils.getResourceName(requestParams.body);
       }
     },
+    apply {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.applyResource(dataRepository);
+      }
+
+      @Override
+      public String getName(RequestParams requestParams) {
+        return KubernetesUtils.getResourceName(requestParams.body);
+      }
+    },
     delete {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -695,6 +722,14 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return resource;
     }
 
+    T applyResource(String namespace, T resource) {
+      getMetadata(resource).setManagedFields(Collections.singletonList(new V1ManagedFieldsEntry()
+          .manager(ServerSideApply.FIELD_MANAGER).operation(ServerSideApply.APPLY_OPERATION)));
+      return hasElementWithName(getName(resource))
+          ? replaceResource(getName(resource), resource)
+          : createResource(namespace, resource);
+    }
+
     void deleteResourceInNamespace(T resource) {
       deleteResource(getMetadata(resource).getNamespace(), resource);
     }
@@ -1009,6 +1044,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return inNamespace(namespace).createResource(namespace, resource);
     }
 
+    @Override
+    T applyResource(String namespace, T resource) {
+      return inNamespace(namespace).applyResource(namespace, resource);
+    }
+
     @Override
     void deleteResource(String namespace, T resource) {
       inNamespace(namespace).deleteResource(namespace, resource);
@@ -1141,6 +1181,11 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataRepository.createResource(requestParams.namespace, (T) requestParams.body);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T applyResource(DataRepository<T> dataRepository) {
+      return dataRepository.applyResource(requestParams.namespace, (T) requestParams.body);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T replaceResource(DataRepository<T> dataRepository) {
       return dataRepository.replaceResource(requestParams.name, (T) requestParams.body);
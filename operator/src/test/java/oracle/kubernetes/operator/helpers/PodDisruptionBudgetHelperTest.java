@@ -11,13 +11,16 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1beta1PodDisruptionBudget;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.ServerSideApply;
 import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -40,6 +43,7 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainFailureReason.Kubernetes;
 import static oracle.kubernetes.operator.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.PODDISRUPTIONBUDGET;
@@ -231,6 +235,80 @@ class PodDisruptionBudgetHelperTest {
     assertThat(terminalStep.wasRun(), is(false));
   }
 
+  @Test
+  void whenServerSideApplyEnabledAndNoPodDisruptionBudget_applyIt() throws NoSuchFieldException {
+    enableServerSideApply();
+
+    runPodDisruptionBudgetHelper();
+
+    assertThat(logRecords, containsInfo(getPdbCreateLogMessage()));
+    assertThat(testSupport.getResources(PODDISRUPTIONBUDGET), contains(podDisruptionBudgetWithName(getPdbName())));
+    assertThat(
+            getRecordedPodDisruptionBudget(domainPresenceInfo),
+            is(podDisruptionBudgetWithName(getPdbName())));
+  }
+
+  @Test
+  void whenServerSideApplyRejected_createPodDisruptionBudget() throws NoSuchFieldException {
+    enableServerSideApply();
+    testSupport.failOnResource(PODDISRUPTIONBUDGET, getPdbName(), NS, HTTP_UNPROCESSABLE_ENTITY);
+
+    runPodDisruptionBudgetHelper();
+
+    assertThat(logRecords, containsInfo(getPdbCreateLogMessage()));
+    assertThat(testSupport.getResources(PODDISRUPTIONBUDGET), contains(podDisruptionBudgetWithName(getPdbName())));
+  }
+
+  @Test
+  void whenServerSideApplyEnabledAndAppliedPodDisruptionBudgetChanged_applyIt() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordOutdatedPodDisruptionBudget(new V1ManagedFieldsEntry()
+        .manager(ServerSideApply.FIELD_MANAGER).operation(ServerSideApply.APPLY_OPERATION));
+    testSupport.failOnPatch(PODDISRUPTIONBUDGET, getPdbName(), NS, HTTP_INTERNAL_ERROR);
+
+    runPodDisruptionBudgetHelper();
+
+    assertThat(getMinAvailable(), equalTo(getExpectedMinAvailable()));
+  }
+
+  // Apply would leave fields owned by another manager in place, so the pod disruption budget is patched instead.
+  @Test
+  void whenServerSideApplyEnabledAndPodDisruptionBudgetNotManagedByApply_patchIt() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordOutdatedPodDisruptionBudget(new V1ManagedFieldsEntry()
+        .manager(ServerSideApply.FIELD_MANAGER).operation("Update"));
+
+    runPodDisruptionBudgetHelper();
+
+    assertThat(getMinAvailable(), equalTo(getExpectedMinAvailable()));
+    assertThat(ServerSideApply.isManagedByApply(getPodDisruptionBudget().getMetadata()), is(false));
+  }
+
+  private void recordOutdatedPodDisruptionBudget(V1ManagedFieldsEntry managedFieldsEntry) {
+    V1beta1PodDisruptionBudget originalPdb = createPDBModel(testSupport.getPacket());
+    originalPdb.getSpec().setMinAvailable(new IntOrString(getExpectedMinAvailable() + 1));
+    originalPdb.getMetadata().namespace(NS).addManagedFieldsItem(managedFieldsEntry);
+    testSupport.defineResources(originalPdb);
+    recordPodDisruptionBudget(domainPresenceInfo, originalPdb);
+  }
+
+  private int getExpectedMinAvailable() {
+    return createPDBModel(testSupport.getPacket()).getSpec().getMinAvailable().getIntValue();
+  }
+
+  private V1beta1PodDisruptionBudget getPodDisruptionBudget() {
+    return testSupport.<V1beta1PodDisruptionBudget>getResources(PODDISRUPTIONBUDGET).get(0);
+  }
+
+  private int getMinAvailable() {
+    return getPodDisruptionBudget().getSpec().getMinAvailable().getIntValue();
+  }
+
+  private void enableServerSideApply() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter("featureGates", ServerSideApply.FEATURE_GATE);
+  }
+
   public V1beta1PodDisruptionBudget createPDBModel(Packet packet) {
     return new PodDisruptionBudgetHelper.PodDisruptionBudgetContext(null, packet)
             .createModel();
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -24,6 +25,7 @@ import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.ServerSideApply;
 import oracle.kubernetes.operator.calls.UnrecoverableCallException;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -40,6 +42,7 @@ import oracle.kubernetes.weblogic.domain.ServiceConfigurator;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,6 +51,7 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainFailureReason.Kubernetes;
 import static oracle.kubernetes.operator.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.operator.KubernetesConstants.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.KubernetesConstants.HTTP_UNPROCESSABLE_ENTITY;
 import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
@@ -78,6 +82,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("ConstantConditions")
@@ -456,6 +461,112 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     assertThat(getStrandedService(), empty());
   }
 
+  @Test
+  void whenServerSideApplyEnabledAndNoService_applyIt() throws NoSuchFieldException {
+    enableServerSideApply();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceCreateLogMessage()));
+    assertThat(
+        testFacade.getRecordedService(domainPresenceInfo),
+        is(serviceWithName(testFacade.getServiceName())));
+  }
+
+  @Test
+  void whenServerSideApplyEnabledAndNoService_createdServiceIsManagedByApply() throws NoSuchFieldException {
+    enableServerSideApply();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceCreateLogMessage()));
+    assertThat(getService().getMetadata(), isManagedByApply());
+  }
+
+  @Test
+  void whenServerSideApplyRejectedForNewService_createService() throws NoSuchFieldException {
+    enableServerSideApply();
+    testSupport.failOnResource(SERVICE, testFacade.getServiceName(), NS, HTTP_UNPROCESSABLE_ENTITY);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceCreateLogMessage()));
+    assertThat(
+        testFacade.getRecordedService(domainPresenceInfo),
+        is(serviceWithName(testFacade.getServiceName())));
+  }
+
+  @Test
+  void whenServerSideApplyEnabledAndAppliedServiceLabelChanged_applyServiceInPlace() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialAppliedService();
+    changeConfiguredLabel();
+    testSupport.failOnDelete(SERVICE, testFacade.getServiceName(), NS, HTTP_INTERNAL_ERROR);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+    assertThat(getServiceLabel(OLD_LABEL), equalTo("newValue"));
+  }
+
+  // Apply would leave fields owned by another manager in place, so the service is replaced instead.
+  @Test
+  void whenServerSideApplyEnabledAndServiceNotManagedByApply_replaceService() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialService();
+    changeConfiguredLabel();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+    assertThat(getServiceLabel(OLD_LABEL), equalTo("newValue"));
+    assertThat(getService().getMetadata(), not(isManagedByApply()));
+  }
+
+  @Test
+  void whenServerSideApplyRejected_replaceService() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialAppliedService();
+    changeConfiguredLabel();
+    testSupport.failOnResource(SERVICE, testFacade.getServiceName(), NS, HTTP_UNPROCESSABLE_ENTITY);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+    assertThat(getServiceLabel(OLD_LABEL), equalTo("newValue"));
+  }
+
+  private void enableServerSideApply() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setParameter("featureGates", ServerSideApply.FEATURE_GATE);
+  }
+
+  private String getServiceLabel(String name) {
+    return getService().getMetadata().getLabels().get(name);
+  }
+
+  private V1Service getService() {
+    return testSupport.<V1Service>getResources(SERVICE).stream()
+        .filter(s -> testFacade.getServiceName().equals(s.getMetadata().getName()))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private Matcher<V1ObjectMeta> isManagedByApply() {
+    return new TypeSafeDiagnosingMatcher<V1ObjectMeta>() {
+      @Override
+      protected boolean matchesSafely(V1ObjectMeta metadata, Description mismatchDescription) {
+        mismatchDescription.appendText("managed fields ").appendValue(metadata.getManagedFields());
+        return ServerSideApply.isManagedByApply(metadata);
+      }
+
+      @Override
+      public void describeTo(Description description) {
+        description.appendText("metadata with an apply entry for the operator's field manager");
+      }
+    };
+  }
+
   private List<Object> getStrandedService() {
     List<V1Service> svcList = testSupport.getResources(SERVICE);
     return svcList.stream().filter(s -> s.getMetadata().getName().equals(STRANDED)).collect(Collectors.toList());
@@ -491,6 +602,14 @@ abstract class ServiceHelperTest extends ServiceHelperTestBase {
     testFacade.recordService(domainPresenceInfo, originalService);
   }
 
+  private void recordInitialAppliedService() {
+    V1Service originalService = createService();
+    originalService.getMetadata().addManagedFieldsItem(
+        new V1ManagedFieldsEntry().manager(ServerSideApply.FIELD_MANAGER).operation(ServerSideApply.APPLY_OPERATION));
+    testSupport.defineResources(originalService);
+    testFacade.recordService(domainPresenceInfo, originalService);
+  }
+
   private void recordStrandedService() {
     Map<String, String> labels = new HashMap<>();
     labels.put(LabelConstants.DOMAINUID_LABEL, UID);
@@ -0,0 +1,383 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.X509TrustManager;
+import javax.security.auth.x500.X500Principal;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.internal.concurrent.TaskRunner;
+import okhttp3.internal.http2.Header;
+import okhttp3.internal.http2.Http2Connection;
+import okhttp3.internal.http2.Http2Stream;
+import okio.BufferedSink;
+import okio.Okio;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class SharedHttpResourcesTest {
+
+  private static final int NUM_CALLS = 4;
+  private static final ThreadFactory DAEMON_THREADS = r -> {
+    Thread thread = new Thread(r);
+    thread.setDaemon(true);
+    return thread;
+  };
+
+  private final SharedHttpResources resources = new SharedHttpResources(null, 10, 3);
+  private final SharedHttpResources http2Resources = new SharedHttpResources(DAEMON_THREADS, 10, 10, true);
+  private final SharedHttpResources http2CleartextResources
+        = new SharedHttpResources(DAEMON_THREADS, 10, 10, true, true);
+  private final List<AutoCloseable> closeables = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws Exception {
+    for (AutoCloseable closeable : closeables) {
+      closeable.close();
+    }
+    http2Resources.getConnectionPool().evictAll();
+    http2CleartextResources.getConnectionPool().evictAll();
+  }
+
+  @Test
+  void dispatcherIsBoundedByConfiguredLimits() {
+    assertThat(resources.getDispatcher().getMaxRequests(), equalTo(10));
+    assertThat(resources.getDispatcher().getMaxRequestsPerHost(), equalTo(3));
+  }
+
+  @Test
+  void whenLimitsNotPositive_allowOneRequest() {
+    SharedHttpResources unbounded = new SharedHttpResources(null, 0, -1);
+
+    assertThat(unbounded.getDispatcher().getMaxRequests(), equalTo(1));
+    assertThat(unbounded.getDispatcher().getMaxRequestsPerHost(), equalTo(1));
+  }
+
+  @Test
+  void sharedClients_useSameConnectionPoolDispatcherAndTlsContext() {
+    OkHttpClient first = resources.share(new OkHttpClient());
+    OkHttpClient second = resources.share(new OkHttpClient());
+
+    assertThat(second.connectionPool(), sameInstance(first.connectionPool()));
+    assertThat(second.dispatcher(), sameInstance(first.dispatcher()));
+    assertThat(second.sslSocketFactory(), sameInstance(first.sslSocketFactory()));
+    assertThat(second.hostnameVerifier(), sameInstance(first.hostnameVerifier()));
+  }
+
+  @Test
+  void whenClientsTrustSameCertificates_shareTlsContext() throws Exception {
+    OkHttpClient first = resources.share(createClientTrusting("CN=ca"));
+    OkHttpClient second = resources.share(createClientTrusting("CN=ca"));
+
+    assertThat(second.sslSocketFactory(), sameInstance(first.sslSocketFactory()));
+    assertThat(second.x509TrustManager(), sameInstance(first.x509TrustManager()));
+  }
+
+  @Test
+  void whenClientsTrustDifferentCertificates_useSeparateTlsContexts() throws Exception {
+    OkHttpClient first = resources.share(createClientTrusting("CN=old-ca"));
+    OkHttpClient second = resources.share(createClientTrusting("CN=new-ca"));
+
+    assertThat(second.connectionPool(), sameInstance(first.connectionPool()));
+    assertThat(second.sslSocketFactory(), not(sameInstance(first.sslSocketFactory())));
+    assertThat(getTrustedIssuer(second), equalTo("CN=new-ca"));
+  }
+
+  // Each client gets its own socket factory and trust manager, as each API client does.
+  private OkHttpClient createClientTrusting(String caName) throws Exception {
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, null, null);
+    return new OkHttpClient.Builder()
+          .sslSocketFactory(sslContext.getSocketFactory(), createStrictStub(TrustManagerStub.class, caName))
+          .build();
+  }
+
+  private String getTrustedIssuer(OkHttpClient client) {
+    return client.x509TrustManager().getAcceptedIssuers()[0].getSubjectX500Principal().getName();
+  }
+
+  abstract static class TrustManagerStub implements X509TrustManager {
+    private final X509Certificate certificate;
+
+    TrustManagerStub(String caName) {
+      certificate = createStrictStub(CertificateStub.class, caName);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+      return new X509Certificate[] {certificate};
+    }
+  }
+
+  // Certificates are equal if their encodings are.
+  abstract static class CertificateStub extends X509Certificate {
+    private final X500Principal subject;
+
+    CertificateStub(String name) {
+      subject = new X500Principal(name);
+    }
+
+    @Override
+    public byte[] getEncoded() {
+      return subject.getEncoded();
+    }
+
+    @Override
+    public X500Principal getSubjectX500Principal() {
+      return subject;
+    }
+
+    @Override
+    public PublicKey getPublicKey() {
+      return null;
+    }
+  }
+
+  @Test
+  void countSharedClients() {
+    resources.share(new OkHttpClient());
+    resources.share(new OkHttpClient());
+
+    assertThat(resources.getClientsCreatedCount(), equalTo(2L));
+  }
+
+  @Test
+  void whenNoCallsMade_statisticsAreZero() {
+    assertThat(resources.getIdleConnectionCount(), equalTo(0));
+    assertThat(resources.getActiveConnectionCount(), equalTo(0));
+    assertThat(resources.getQueuedCallCount(), equalTo(0));
+    assertThat(resources.getRunningCallCount(), equalTo(0));
+  }
+
+  @Test
+  void metricsIncludeConnectionAndCallStates() {
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    resources.writeMetrics(writer);
+
+    assertThat(writer.toString(), containsString("operator_k8s_client_connections{state=\"idle\"} 0"));
+    assertThat(writer.toString(), containsString("operator_k8s_client_connections{state=\"active\"} 0"));
+    assertThat(writer.toString(), containsString("operator_k8s_client_calls{state=\"queued\"} 0"));
+    assertThat(writer.toString(), containsString("operator_k8s_client_calls{state=\"running\"} 0"));
+  }
+
+  @Test
+  void whenHttp2NotEnabled_keepClientProtocols() {
+    OkHttpClient client = resources.share(
+          new OkHttpClient.Builder().protocols(List.of(Protocol.HTTP_1_1)).build(), "https://localhost");
+
+    assertThat(client.protocols(), contains(Protocol.HTTP_1_1));
+  }
+
+  @Test
+  void whenHttp2EnabledForTls_offerHttp2() {
+    OkHttpClient client = http2Resources.share(
+          new OkHttpClient.Builder().protocols(List.of(Protocol.HTTP_1_1)).build(), "https://localhost");
+
+    assertThat(client.protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+  }
+
+  @Test
+  void whenHttp2EnabledForCleartextWithoutOptIn_useHttp11() {
+    OkHttpClient client = http2Resources.share(new OkHttpClient(), "http://localhost");
+
+    assertThat(client.protocols(), contains(Protocol.HTTP_1_1));
+    assertThat(client.pingIntervalMillis(), equalTo(0));
+  }
+
+  @Test
+  void whenHttp2CleartextOptInWithoutHttp2_dontUseHttp2() {
+    SharedHttpResources cleartextOnly = new SharedHttpResources(null, 10, 10, false, true);
+
+    assertThat(cleartextOnly.isHttp2CleartextEnabled(), is(false));
+  }
+
+  @Test
+  void whenHttp2CleartextEnabled_useHttp2WithPriorKnowledge() {
+    OkHttpClient client = http2CleartextResources.share(new OkHttpClient(), "http://localhost");
+
+    assertThat(client.protocols(), contains(Protocol.H2_PRIOR_KNOWLEDGE));
+  }
+
+  @Test
+  void whenHttp2Enabled_pingConnections() {
+    OkHttpClient client = http2Resources.share(new OkHttpClient(), "https://localhost");
+
+    assertThat(client.pingIntervalMillis(),
+          equalTo((int) TimeUnit.SECONDS.toMillis(SharedHttpResources.HTTP2_PING_INTERVAL_SECONDS)));
+  }
+
+  @Test
+  void whenHttp2CleartextEnabled_multiplexConcurrentCallsOverOneConnection() throws Exception {
+    Http2StandInServer server = startServer();
+    OkHttpClient client = http2CleartextResources.share(new OkHttpClient(), server.getBasePath());
+    assertThat(sendCalls(client, server, 1).await(10, TimeUnit.SECONDS), is(true));
+
+    server.holdResponses(NUM_CALLS);
+    CountDownLatch responses = sendCalls(client, server, NUM_CALLS);
+
+    assertThat(server.awaitRequests(), is(true));
+    assertThat(server.getConnectionCount(), equalTo(1));
+    assertThat(http2CleartextResources.getStreamCount(Protocol.H2_PRIOR_KNOWLEDGE), equalTo(NUM_CALLS));
+
+    server.releaseResponses();
+    assertThat(responses.await(10, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void afterMultiplexedCallsComplete_metricsReportConnectionsAndStreams() throws Exception {
+    Http2StandInServer server = startServer();
+    OkHttpClient client = http2CleartextResources.share(new OkHttpClient(), server.getBasePath());
+
+    assertThat(sendCalls(client, server, 1).await(10, TimeUnit.SECONDS), is(true));
+    assertThat(sendCalls(client, server, NUM_CALLS).await(10, TimeUnit.SECONDS), is(true));
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    http2CleartextResources.writeMetrics(writer);
+    assertThat(http2CleartextResources.getConnectionsOpenedCount(Protocol.H2_PRIOR_KNOWLEDGE), equalTo(1L));
+    assertThat(writer.toString(),
+          containsString("operator_k8s_client_connections_opened_total{protocol=\"h2_prior_knowledge\"} 1"));
+    assertThat(writer.toString(), containsString("operator_k8s_client_streams{protocol=\"h2_prior_knowledge\"} 0"));
+  }
+
+  private Http2StandInServer startServer() throws IOException {
+    Http2StandInServer server = new Http2StandInServer();
+    closeables.add(server);
+    return server;
+  }
+
+  private CountDownLatch sendCalls(OkHttpClient client, Http2StandInServer server, int numCalls) {
+    CountDownLatch responses = new CountDownLatch(numCalls);
+    for (int i = 0; i < numCalls; i++) {
+      client.newCall(new Request.Builder().url(server.getBasePath() + "/api/v1/pods").build())
+            .enqueue(new Callback() {
+              @Override
+              public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+              }
+
+              @Override
+              public void onResponse(@Nonnull Call call, @Nonnull Response response) throws IOException {
+                try (response) {
+                  response.body().string();
+                  responses.countDown();
+                }
+              }
+            });
+    }
+    return responses;
+  }
+
+  /**
+   * A stand-in for the Kubernetes API server, which accepts cleartext HTTP/2 connections without negotiation and
+   * answers every request with an empty JSON object. Responses may be held until released, so that the calls which
+   * they answer remain in progress together.
+   */
+  static class Http2StandInServer implements AutoCloseable {
+    private final ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    private final List<Http2Connection> connections = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch requestsReceived = new CountDownLatch(0);
+    private volatile CountDownLatch responsesReleased = new CountDownLatch(0);
+
+    Http2StandInServer() throws IOException {
+      DAEMON_THREADS.newThread(this::acceptConnections).start();
+    }
+
+    String getBasePath() {
+      return "http://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort();
+    }
+
+    int getConnectionCount() {
+      return connections.size();
+    }
+
+    boolean awaitRequests() throws InterruptedException {
+      return requestsReceived.await(10, TimeUnit.SECONDS);
+    }
+
+    void holdResponses(int expectedRequests) {
+      requestsReceived = new CountDownLatch(expectedRequests);
+      responsesReleased = new CountDownLatch(1);
+    }
+
+    void releaseResponses() {
+      responsesReleased.countDown();
+    }
+
+    private void acceptConnections() {
+      try {
+        while (!serverSocket.isClosed()) {
+          Socket socket = serverSocket.accept();
+          Http2Connection connection = new Http2Connection.Builder(false, TaskRunner.INSTANCE)
+                .socket(socket)
+                .listener(new StreamHandler())
+                .build();
+          connections.add(connection);
+          connection.start();
+        }
+      } catch (IOException e) {
+        // the server has been closed
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      responsesReleased.countDown();
+      serverSocket.close();
+      for (Http2Connection connection : connections) {
+        connection.close();
+      }
+    }
+
+    private class StreamHandler extends Http2Connection.Listener {
+      @Override
+      public void onStream(@Nonnull Http2Stream stream) throws IOException {
+        stream.takeHeaders();
+        requestsReceived.countDown();
+        awaitRelease();
+        stream.writeHeaders(
+              List.of(new Header(":status", "200"), new Header("content-type", "application/json")), false, true);
+        try (BufferedSink sink = Okio.buffer(stream.getSink())) {
+          sink.writeUtf8("{}");
+        }
+      }
+
+      private void awaitRelease() throws IOException {
+        try {
+          responsesReleased.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+    }
+  }
+}
@@ -3,9 +3,13 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import com.meterware.simplestub.Memento;
@@ -77,7 +81,10 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(5, 2, 2, 2, 2, 2, 2, 30, 2L, 2L, 120);
+    return new MainTuning(
+        5, 2, 2, 2, 2, 2, 2, 30, 2L, 2L, 120,
+        Optional.ofNullable(namedParameters.get("engineThreadMode")).orElse("Platform"),
+        0, 60, 2, 2, 2, 0, 0, 32, 0, 5, 64, 64, 64, 50, 8, 64);
   }
 
   @Override
@@ -87,7 +94,7 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public WatchTuning getWatchTuning() {
-    return new TuningParameters.WatchTuning(30, 0, 5, 1);
+    return new TuningParameters.WatchTuning(30, 0, 5, 1, 0, 0);
   }
 
   @Override
@@ -108,7 +115,10 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public FeatureGates getFeatureGates() {
-    return new FeatureGates(Collections.singletonList(ENABLED_FEATURE));
+    List<String> enabledFeatures = new ArrayList<>(Collections.singletonList(ENABLED_FEATURE));
+    Optional.ofNullable(namedParameters.get("featureGates"))
+          .ifPresent(features -> enabledFeatures.addAll(Arrays.asList(features.split(","))));
+    return new FeatureGates(enabledFeatures);
   }
 
   @Override
@@ -17,6 +17,7 @@ import java.util.logging.LogRecord;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -221,8 +222,9 @@ class HttpAsyncRequestStepTest {
     }
 
     @Override
-    public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
       runnable.run();
+      return () -> false;
     }
   }
 
@@ -0,0 +1,66 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.COUNTER;
+import static oracle.kubernetes.operator.metrics.PrometheusTextWriter.HISTOGRAM;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class PrometheusTextWriterTest {
+
+  private final PrometheusTextWriter writer = new PrometheusTextWriter();
+
+  @Test
+  void familyWritesHelpAndType() {
+    writer.family("my_total", COUNTER, "Some help.");
+
+    assertThat(writer.toString(), equalTo("# HELP my_total Some help.\n# TYPE my_total counter\n"));
+  }
+
+  @Test
+  void sampleWithoutLabels_writesNameAndValue() {
+    writer.sample("my_total", 3);
+
+    assertThat(writer.toString(), equalTo("my_total 3\n"));
+  }
+
+  @Test
+  void sampleWithLabels_writesEscapedLabels() {
+    writer.sample("my_total", 1.5, "step", "Read\"Health", "ns", "a");
+
+    assertThat(writer.toString(), equalTo("my_total{step=\"Read\\\"Health\",ns=\"a\"} 1.5\n"));
+  }
+
+  @Test
+  void histogram_writesCumulativeBucketsSumAndCount() {
+    Histogram histogram = new Histogram(1, 5);
+    histogram.observe(0.5);
+    histogram.observe(2);
+    histogram.observe(10);
+
+    writer.family("my_size", HISTOGRAM, "Sizes.").histogram("my_size", histogram, "key", "k1");
+
+    assertThat(writer.toString(), containsString("my_size_bucket{key=\"k1\",le=\"1\"} 1\n"));
+    assertThat(writer.toString(), containsString("my_size_bucket{key=\"k1\",le=\"5\"} 2\n"));
+    assertThat(writer.toString(), containsString("my_size_bucket{key=\"k1\",le=\"+Inf\"} 3\n"));
+    assertThat(writer.toString(), containsString("my_size_sum{key=\"k1\"} 12.5\n"));
+    assertThat(writer.toString(), containsString("my_size_count{key=\"k1\"} 3\n"));
+  }
+
+  @Test
+  void histogramQuantile_returnsUpperBoundOfContainingBucket() {
+    Histogram histogram = new Histogram(1, 5, 10);
+    histogram.observe(0.5);
+    histogram.observe(2);
+    histogram.observe(3);
+    histogram.observe(7);
+
+    assertThat(histogram.getQuantile(0.5), equalTo(5.0));
+    assertThat(histogram.getQuantile(0.99), equalTo(10.0));
+  }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+class RestRequestExecutorTest {
+
+  private final RestRequestExecutor executor = new RestRequestExecutor(1, 1);
+  private final CountDownLatch blocker = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    blocker.countDown();
+  }
+
+  private void block() {
+    try {
+      blocker.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Object execute(Runnable work) throws Exception {
+    AsyncResponseStub response = createStrictStub(AsyncResponseStub.class);
+    executor.execute(response, work);
+    return response.result.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void whenWorkCompletes_resumeWithNoContent() throws Exception {
+    Object result = execute(() -> { });
+
+    assertThat(((Response) result).getStatus(), equalTo(204));
+  }
+
+  @Test
+  void whenWorkFails_resumeWithException() throws Exception {
+    Object result = execute(() -> {
+      throw new WebApplicationException(400);
+    });
+
+    assertThat(result, instanceOf(WebApplicationException.class));
+  }
+
+  @Test
+  void whenQueueFull_rejectRequestWithRetryAfter() throws Exception {
+    executor.execute(createStrictStub(AsyncResponseStub.class), this::block);
+    executor.execute(createStrictStub(AsyncResponseStub.class), this::block);
+
+    Response result = (Response) execute(() -> { });
+
+    assertThat(result.getStatus(), equalTo(503));
+    assertThat(result.getHeaderString(HttpHeaders.RETRY_AFTER),
+          equalTo(Integer.toString(RestRequestExecutor.RETRY_AFTER_SECONDS)));
+    assertThat(executor.getRejectedCount(), equalTo(1L));
+  }
+
+  @Test
+  void metricsReportQueuedAndRejectedRequests() throws Exception {
+    executor.execute(createStrictStub(AsyncResponseStub.class), this::block);
+    executor.execute(createStrictStub(AsyncResponseStub.class), this::block);
+    execute(() -> { });
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    executor.writeMetrics(writer);
+
+    assertThat(writer.toString(), containsString("operator_rest_requests_queued 1"));
+    assertThat(writer.toString(), containsString("operator_rest_requests_rejected_total 1"));
+  }
+
+  abstract static class AsyncResponseStub implements AsyncResponse {
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    @Override
+    public boolean resume(Object response) {
+      return result.complete(response);
+    }
+
+    @Override
+    public boolean resume(Throwable response) {
+      return result.complete(response);
+    }
+  }
+}
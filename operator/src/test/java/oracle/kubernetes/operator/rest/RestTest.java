@@ -11,12 +11,19 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Application;
@@ -25,9 +32,11 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.work.FiberMetrics;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
-import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
+import org.glassfish.jersey.test.TestProperties;
+import org.glassfish.jersey.test.grizzly.GrizzlyTestContainerFactory;
 import org.glassfish.jersey.test.spi.TestContainerException;
 import org.glassfish.jersey.test.spi.TestContainerFactory;
 import org.hamcrest.Description;
@@ -42,7 +51,9 @@ import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -56,15 +67,18 @@ class RestTest extends JerseyTest {
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
+  private static final String METRICS_HREF = LATEST_HREF + "/metrics";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
   private static final String ACCESS_TOKEN = "dummy token";
+  private static final int CONCURRENT_CALLERS = 4;
 
   private final List<Memento> mementos = new ArrayList<>();
   private final RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
   private boolean includeRequestedByHeader = true;
   private String authorizationHeader = ACCESS_TOKEN_PREFIX + " " + ACCESS_TOKEN;
+  private volatile String backendThreadName;
 
   @BeforeEach
   public void setupRestTest() throws Exception {
@@ -80,6 +94,7 @@ class RestTest extends JerseyTest {
 
   @Override
   protected Application configure() {
+    forceSet(TestProperties.CONTAINER_PORT, "0");
     return RestServer.createResourceConfig(RestConfigStub.create(this::getRestBackend));
   }
 
@@ -87,12 +102,14 @@ class RestTest extends JerseyTest {
   // is initialized. We therefore populate the ResourceConfig with this supplier method, so that
   // it will return the initialized and configured field.
   private RestBackend getRestBackend() {
+    backendThreadName = Thread.currentThread().getName();
     return restBackend;
   }
 
   @Override
   protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
-    return new InMemoryTestContainerFactory();
+    // the in-memory container cannot suspend requests
+    return new GrizzlyTestContainerFactory();
   }
 
   @Test
@@ -176,6 +193,14 @@ class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
+  @Test
+  void metricsEndPoint_returnsPrometheusText() {
+    FiberMetrics.getInstance();
+
+    assertThat(createRequest(METRICS_HREF).get(String.class),
+        containsString("# TYPE operator_step_invocations_total counter"));
+  }
+
   @Test
   void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
@@ -273,9 +298,88 @@ class RestTest extends JerseyTest {
     assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
   }
 
+  @Test
+  void whenScaleRequested_authenticateOnRestWorker() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    sendScaleRequest("cluster1", 3);
+
+    assertThat(backendThreadName, startsWith("rest-worker-"));
+  }
+
+  @Test
+  void whenScaleRequestedForUndefinedCluster_rejectIt() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    assertThat(sendScaleRequest("cluster3", 3).getStatus(), equalTo(HTTP_NOT_FOUND));
+  }
+
   private Response sendScaleRequest(String cluster, int numManagedServers) {
-    return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
-        .post(createScaleRequest(numManagedServers));
+    return createScaleInvocation(cluster).post(createScaleRequest(numManagedServers));
+  }
+
+  @Test
+  void whenConcurrentScaleRequests_runThemAtOnce() throws Exception {
+    mementos.add(StaticStubSupport.install(RestRequestExecutor.class, "instance",
+        new RestRequestExecutor(CONCURRENT_CALLERS, CONCURRENT_CALLERS)));
+    defineClusters("uid1", "cluster1", "cluster2");
+    CyclicBarrier barrier = new CyclicBarrier(CONCURRENT_CALLERS);
+    restBackend.onScale = () -> await(barrier);
+
+    List<Future<Response>> responses = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+      responses.add(createScaleInvocation("cluster1").async().post(createScaleRequest(i)));
+    }
+
+    for (Future<Response> response : responses) {
+      assertThat(response.get(10, TimeUnit.SECONDS).getStatus(), equalTo(HttpURLConnection.HTTP_NO_CONTENT));
+    }
+  }
+
+  @Test
+  void whenTooManyScaleRequestsWaiting_rejectWithServiceUnavailable() throws Exception {
+    mementos.add(StaticStubSupport.install(RestRequestExecutor.class, "instance", new RestRequestExecutor(1, 1)));
+    defineClusters("uid1", "cluster1", "cluster2");
+    CountDownLatch release = new CountDownLatch(1);
+    restBackend.onScale = () -> await(release);
+
+    Future<Response> running = createScaleInvocation("cluster1").async().post(createScaleRequest(1));
+    Future<Response> waiting = createScaleInvocation("cluster1").async().post(createScaleRequest(2));
+    awaitQueuedRequest();
+
+    try {
+      assertThat(sendScaleRequest("cluster1", 3).getStatus(), equalTo(HttpURLConnection.HTTP_UNAVAILABLE));
+    } finally {
+      release.countDown();
+      running.get(10, TimeUnit.SECONDS);
+      waiting.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void awaitQueuedRequest() throws InterruptedException {
+    for (int i = 0; i < 1000 && RestRequestExecutor.getInstance().getQueuedCount() == 0; i++) {
+      Thread.sleep(10);
+    }
+  }
+
+  private Invocation.Builder createScaleInvocation(String cluster) {
+    return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster));
   }
 
   @Test
@@ -383,6 +487,7 @@ class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private final Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private Runnable onScale = () -> { };
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -420,6 +525,7 @@ class RestTest extends JerseyTest {
 
     @Override
     public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+      onScale.run();
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
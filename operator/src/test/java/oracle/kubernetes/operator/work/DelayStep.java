@@ -0,0 +1,21 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+
+/** A step which runs its next step after a delay. */
+public class DelayStep extends Step {
+  private final int delaySeconds;
+
+  public DelayStep(Step next, int delaySeconds) {
+    super(next);
+    this.delaySeconds = delaySeconds;
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    return doDelay(getNext(), packet, delaySeconds, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,226 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.EXCEPTION;
+import static oracle.kubernetes.utils.LogMatcher.containsSevere;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EngineShardsTest {
+
+  private static final int NUM_SHARDS = 4;
+  private static final long WAIT_SECONDS = 10;
+
+  private final ScheduledExecutorService timerPool = Executors.newSingleThreadScheduledExecutor();
+  private final EngineShards shards = new EngineShards(new Engine(timerPool), "test", null, NUM_SHARDS);
+
+  @AfterEach
+  void tearDown() {
+    shards.shutdown();
+    timerPool.shutdownNow();
+  }
+
+  @Test
+  void sameNamespace_alwaysGetsSameEngine() {
+    assertThat(shards.getEngine("ns1"), sameInstance(shards.getEngine("ns1")));
+  }
+
+  @Test
+  void namespaces_areSpreadAcrossShards() {
+    Set<Engine> engines = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      engines.add(shards.getEngine("namespace" + i));
+    }
+
+    assertThat(engines.size(), equalTo(NUM_SHARDS));
+  }
+
+  @Test
+  void shardEngines_shareBaseEngineTimers() {
+    assertThat(shards.getEngine("ns1").getExecutor(), sameInstance(timerPool));
+    assertThat(shards.getEngine("ns1").getThreadMode(), equalTo(Engine.ThreadMode.SHARDED));
+  }
+
+  @Test
+  void fiberRunsOnShardWorker() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    shards.getEngine("ns1").createFiber()
+          .start(new RecordThreadStep(threadName), new Packet(), new LatchCallback(done));
+
+    assertThat(done.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+    assertThat(threadName.get(), startsWith("engine-test-shard-"));
+  }
+
+  @Test
+  void whenShardWorkerBlocked_otherShardStealsQueuedWork() throws InterruptedException {
+    Engine engine = shards.getEngine("ns1");
+    int shard = shards.getShardIndex("ns1");
+    CountDownLatch blockerStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    engine.createFiber().start(new BlockingStep(blockerStarted, release), new Packet(),
+          new LatchCallback(new CountDownLatch(1)));
+    assertThat(blockerStarted.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+    engine.createFiber().start(new RecordThreadStep(new AtomicReference<>()), new Packet(), new LatchCallback(done));
+
+    try {
+      assertThat(done.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+      assertThat(shards.getStolenCount(shard), greaterThan(0L));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void metrics_includeEachShard() {
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    shards.writeMetrics(writer);
+
+    for (int i = 0; i < NUM_SHARDS; i++) {
+      assertThat(writer.toString(), containsString("operator_engine_shard_queue_depth{shard=\"" + i + "\"} 0"));
+      assertThat(writer.toString(), containsString("operator_engine_shard_utilization{shard=\"" + i + "\"}"));
+    }
+  }
+
+  @Test
+  void whenNoWorkRun_utilizationIsZero() {
+    assertThat(shards.getUtilization(0), equalTo(0.0));
+  }
+
+  @Test
+  void whenTaskThrowsRuntimeException_logItAndRunLaterTasks() throws InterruptedException {
+    final List<LogRecord> logRecords = new ArrayList<>();
+    final Memento memento = TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, EXCEPTION).ignoringLoggedExceptions(IllegalStateException.class);
+    final EngineShards singleShard = new EngineShards(new Engine(timerPool), "test", null, 1);
+    final CountDownLatch done = new CountDownLatch(1);
+
+    try {
+      singleShard.execute("ns1", () -> {
+        throw new IllegalStateException("stray exception");
+      });
+      singleShard.execute("ns1", done::countDown);
+
+      assertThat(done.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+      assertThat(logRecords, containsWarning(EXCEPTION));
+    } finally {
+      singleShard.shutdown();
+      memento.revert();
+    }
+  }
+
+  @Test
+  void whenTaskThrowsError_replaceWorkerAndRunLaterTasks() throws InterruptedException {
+    final List<LogRecord> logRecords = new ArrayList<>();
+    final Memento memento = TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, EXCEPTION).ignoringLoggedExceptions(AssertionError.class);
+    final EngineShards singleShard = new EngineShards(new Engine(timerPool), "test", null, 1);
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch done = new CountDownLatch(1);
+
+    try {
+      singleShard.execute("ns1", () -> {
+        throw new AssertionError("stray error");
+      });
+      singleShard.execute("ns1", () -> {
+        threadName.set(Thread.currentThread().getName());
+        done.countDown();
+      });
+
+      assertThat(done.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+      assertThat(threadName.get(), equalTo("engine-test-shard-0"));
+      assertThat(logRecords, containsSevere(EXCEPTION));
+    } finally {
+      singleShard.shutdown();
+      memento.revert();
+    }
+  }
+
+  @Test
+  void whenBaseEngineUsesVirtualThreads_rejectShards() {
+    final Engine virtualEngine = new Engine(timerPool, Runnable::run, Engine.ThreadMode.VIRTUAL);
+
+    assertThrows(IllegalArgumentException.class, () -> new EngineShards(virtualEngine, "test", null, NUM_SHARDS));
+  }
+
+  static class RecordThreadStep extends Step {
+    private final AtomicReference<String> threadName;
+
+    RecordThreadStep(AtomicReference<String> threadName) {
+      this.threadName = threadName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      threadName.set(Thread.currentThread().getName());
+      return doNext(packet);
+    }
+  }
+
+  static class BlockingStep extends Step {
+    private final CountDownLatch started;
+    private final CountDownLatch release;
+
+    BlockingStep(CountDownLatch started, CountDownLatch release) {
+      this.started = started;
+      this.release = release;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.countDown();
+      try {
+        release.await(WAIT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return doNext(packet);
+    }
+  }
+
+  static class LatchCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch latch;
+
+    LatchCallback(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      latch.countDown();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class FiberGateTest {
+
+  private static final String KEY = "domain1";
+  private static final int WINDOW_MILLIS = 500;
+  private static final int MAX_DELAY_SECONDS = 30;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final List<String> completedSteps = new ArrayList<>();
+
+  @Test
+  void whenNotCoalescing_laterFiberCancelsEarlierOne() {
+    gate.startFiber(KEY, new DelayStep(new RecordStep("first"), 10), new Packet(), new NullCompletionCallback());
+    gate.startFiber(KEY, new RecordStep("second"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(20, TimeUnit.SECONDS);
+
+    assertThat(completedSteps, contains("second"));
+    assertThat(gate.getCancelledCount(), equalTo(1L));
+  }
+
+  @Test
+  void whenCoalescing_doNotStartFiberBeforeWindowElapses() {
+    coalesce();
+
+    gate.startFiber(KEY, new RecordStep("first"), new Packet(), new NullCompletionCallback());
+
+    assertThat(completedSteps, empty());
+  }
+
+  private void coalesce() {
+    gate.withCoalescing(WINDOW_MILLIS, TimeUnit.SECONDS.toMillis(MAX_DELAY_SECONDS), TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  void whenCoalescing_startLastRequestAfterWindowElapses() {
+    coalesce();
+
+    gate.startFiber(KEY, new RecordStep("first"), new Packet(), new NullCompletionCallback());
+    gate.startFiber(KEY, new RecordStep("second"), new Packet(), new NullCompletionCallback());
+    gate.startFiber(KEY, new RecordStep("third"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(completedSteps, contains("third"));
+    assertThat(gate.getCoalescedCount(), equalTo(2L));
+  }
+
+  @Test
+  void whenCoalescing_requestsForDifferentKeysAreIndependent() {
+    coalesce();
+
+    gate.startFiber(KEY, new RecordStep("first"), new Packet(), new NullCompletionCallback());
+    gate.startFiber("domain2", new RecordStep("second"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(completedSteps, contains("first", "second"));
+    assertThat(gate.getCoalescedCount(), equalTo(0L));
+  }
+
+  @Test
+  void whenCoalescing_letRunningFiberCompleteBeforeStartingNext() {
+    coalesce();
+    gate.startFiber(KEY, new DelayStep(new RecordStep("first"), 10), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    gate.startFiber(KEY, new RecordStep("second"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(20, TimeUnit.SECONDS);
+
+    assertThat(completedSteps, contains("first", "second"));
+    assertThat(gate.getCancelledCount(), equalTo(0L));
+  }
+
+  @Test
+  void whenCoalescing_cancelRunningFiberAfterMaximumDelay() {
+    coalesce();
+    gate.startFiber(KEY, new DelayStep(new RecordStep("first"), 100), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    gate.startFiber(KEY, new RecordStep("second"), new Packet(), new NullCompletionCallback());
+    testSupport.setTime(MAX_DELAY_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(completedSteps, contains("second"));
+    assertThat(gate.getCancelledCount(), equalTo(1L));
+  }
+
+  @Test
+  void whenCoalescingRequestPending_doNotStartNonInterruptingFiber() {
+    coalesce();
+    gate.startFiber(KEY, new RecordStep("first"), new Packet(), new NullCompletionCallback());
+
+    assertThat(gate.startFiberIfNoCurrentFiber(KEY, new RecordStep("second"), new Packet(),
+          new NullCompletionCallback()), nullValue());
+  }
+
+  @Test
+  void whenCoalescing_completeReplacedRequestsWhenLastRequestCompletes() {
+    coalesce();
+    final List<String> completedRequests = new ArrayList<>();
+
+    gate.startFiber(KEY, new RecordStep("first"), new Packet(), new RecordCallback("first", completedRequests));
+    gate.startFiber(KEY, new RecordStep("second"), new Packet(), new RecordCallback("second", completedRequests));
+    gate.startFiber(KEY, new RecordStep("third"), new Packet(), new RecordCallback("third", completedRequests));
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(completedSteps, contains("third"));
+    assertThat(completedRequests, contains("first", "second", "third"));
+  }
+
+  @Test
+  void whenCoalescingRequestPending_doNotStartFiberIfLastFiberMatches() {
+    coalesce();
+    final Fiber first = gate.startFiber(KEY, new DelayStep(new RecordStep("first"), 10), new Packet(),
+          new NullCompletionCallback());
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    gate.startFiber(KEY, new RecordStep("second"), new Packet(), new NullCompletionCallback());
+
+    assertThat(gate.startFiberIfLastFiberMatches(KEY, first, new RecordStep("retry"), new Packet(),
+          new NullCompletionCallback()), nullValue());
+    testSupport.setTime(20, TimeUnit.SECONDS);
+    assertThat(completedSteps, contains("first", "second"));
+  }
+
+  static class RecordCallback extends NullCompletionCallback {
+    private final String name;
+    private final List<String> completed;
+
+    RecordCallback(String name, List<String> completed) {
+      this.name = name;
+      this.completed = completed;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      completed.add(name);
+    }
+  }
+
+  class RecordStep extends Step {
+    private final String name;
+
+    RecordStep(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      completedSteps.add(name);
+      return doNext(packet);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class FiberMetricsTest {
+
+  private static final String FIRST_STEP = "FiberMetricsTest$MetricsTestFirst";
+  private static final String DELAY_STEP = "FiberMetricsTest$MetricsTestDelay";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberMetrics metrics = FiberMetrics.getInstance();
+
+  @Test
+  void whenStepRuns_recordInvocation() {
+    long before = getInvocationCount(FIRST_STEP);
+
+    testSupport.runSteps(new MetricsTestFirstStep(null));
+
+    assertThat(getInvocationCount(FIRST_STEP), equalTo(before + 1));
+  }
+
+  private long getInvocationCount(String stepName) {
+    return metrics.getAllStepStatistics().containsKey(stepName)
+          ? metrics.getStepStatistics(stepName).getInvocationCount() : 0;
+  }
+
+  @Test
+  void whenStepSuspends_recordSuspendedTimeOnResume() {
+    testSupport.runSteps(new MetricsTestDelayStep(new MetricsTestFirstStep(null)));
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(metrics.getStepStatistics(DELAY_STEP).getSuspendedTime().getCount(),
+          greaterThanOrEqualTo(1L));
+  }
+
+  @Test
+  void whenForkJoinRuns_recordFanOut() {
+    long before = metrics.getForkJoinFanOut().getCount();
+
+    testSupport.runSteps(new MetricsTestForkStep());
+
+    assertThat(metrics.getForkJoinFanOut().getCount(), equalTo(before + 1));
+  }
+
+  @Test
+  void whenGateFiberCompletes_recordDurationForKey() {
+    testSupport.createFiberGate().startFiber("metrics-key", new MetricsTestFirstStep(null), new Packet(),
+          new Fiber.CompletionCallback() {
+            @Override
+            public void onCompletion(Packet packet) {
+            }
+
+            @Override
+            public void onThrowable(Packet packet, Throwable throwable) {
+            }
+          });
+
+    assertThat(metrics.getGateFiberDuration("metrics-key"), notNullValue());
+  }
+
+  @Test
+  void metricsAreReportedInPrometheusFormat() {
+    testSupport.runSteps(new MetricsTestFirstStep(null));
+
+    assertThat(OperatorMetrics.getPrometheusText(),
+          containsString("operator_step_invocations_total{step=\"" + FIRST_STEP + "\"}"));
+  }
+
+  static class MetricsTestFirstStep extends Step {
+    MetricsTestFirstStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class MetricsTestDelayStep extends Step {
+    MetricsTestDelayStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, 5, TimeUnit.SECONDS);
+    }
+  }
+
+  static class MetricsTestForkStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(null, packet, Arrays.asList(
+            new StepAndPacket(new MetricsTestFirstStep(null), packet.copy()),
+            new StepAndPacket(new MetricsTestFirstStep(null), packet.copy())));
+    }
+  }
+}
@@ -19,6 +19,8 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
@@ -80,6 +82,17 @@ class FiberTest {
     assertThat(stepList, contains(step1, retry, retry, retry, step3));
   }
 
+  @Test
+  void whenScheduledOperationCancelled_dontRunIt() {
+    final List<String> operations = new ArrayList<>();
+    final Cancellable scheduled = fiber.scheduleOnce(100, TimeUnit.MILLISECONDS, () -> operations.add("late"));
+
+    assertThat(scheduled.cancel(), is(true));
+    testSupport.setTime(200, TimeUnit.MILLISECONDS);
+
+    assertThat(operations, empty());
+  }
+
   @Test
   void whenStepThrowsException_abortProcessing() {
     runSteps(step1, error, step3);
@@ -155,6 +168,34 @@ class FiberTest {
     assertThat(stepList, containsInRelativeOrder(step2, step3));
   }
 
+  @Test
+  void whenChildFibersBounded_runNoMoreThanLimitAtOnce() {
+    runSteps(new ChildFiberStep(step3, 2, delayed(step1), delayed(step2), delayed(step1), delayed(step2)));
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(stepList, contains(step1, step2));
+  }
+
+  private Step delayed(Step step) {
+    return new DelayStep(step);
+  }
+
+  @Test
+  void whenChildFibersBounded_startRemainingChildrenAsOthersComplete() {
+    runSteps(new ChildFiberStep(step3, 2, delayed(step1), delayed(step2), delayed(step1), delayed(step2)));
+    testSupport.setTime(2, TimeUnit.SECONDS);
+
+    assertThat(stepList, contains(step1, step2, step1, step2, step3));
+  }
+
+  @Test
+  void whenBoundedChildFiberFails_runRemainingChildrenAndReportFailure() {
+    runSteps(new ChildFiberStep(step3, 1, error, step1, step2));
+
+    assertThat(stepList, contains(error, step1, step2));
+    assertThat(throwablesList, contains(instanceOf(RuntimeException.class)));
+  }
+
   @Test
   void whenFiberCompletes_breadcrumbsAreCreated() {
     runSteps(step1, step2, step3);
@@ -191,6 +232,26 @@ class FiberTest {
     assertThat(fiber.getBreadCrumbString(), containsString("child-1: [FiberTest$Basic (1)"));
   }
 
+  @Test
+  void whenMoreActionsThanCapacity_keepOnlyMostRecentBreadCrumbs() {
+    testSupport.getEngine().withBreadCrumbCapacity(2);
+
+    runSteps(step1, step2, step3);
+
+    assertThat(fiber.getBreadCrumbs(), hasSize(2));
+    assertThat(fiber.getBreadCrumbString(), equalTo("[...FiberTest$Basic (2),FiberTest$Basic (3)]"));
+  }
+
+  @Test
+  void whenBreadCrumbsDisabled_doNotRecordThem() {
+    testSupport.getEngine().withBreadCrumbCapacity(0);
+
+    runSteps(step1, step2, step3);
+
+    assertThat(fiber.getBreadCrumbs(), empty());
+    assertThat(fiber.getBreadCrumbString(), equalTo("[]"));
+  }
+
   static class BasicStep extends Step {
 
     private final Integer stepNum;
@@ -254,19 +315,38 @@ class FiberTest {
     }
   }
 
+  static class DelayStep extends BasicStep {
+    private final Step delayedStep;
+
+    DelayStep(Step delayedStep) {
+      this.delayedStep = delayedStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(delayedStep, packet, 1, TimeUnit.SECONDS);
+    }
+  }
+
   static class ChildFiberStep extends BasicStep {
 
     private final Step nextStep;
+    private final int maxParallel;
     private final Step[] childSteps;
 
     ChildFiberStep(Step nextStep, Step... steps) {
+      this(nextStep, 0, steps);
+    }
+
+    ChildFiberStep(Step nextStep, int maxParallel, Step... steps) {
       this.nextStep = nextStep;
+      this.maxParallel = maxParallel;
       childSteps = steps;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      return doForkJoin(nextStep, packet, createStepAndPacketList(packet));
+      return doForkJoin(nextStep, packet, createStepAndPacketList(packet), maxParallel);
     }
 
     @Nonnull
@@ -278,9 +278,10 @@ public class FiberTestSupport {
     @Nonnull
     public ScheduledFuture<?> schedule(
         @Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
-      scheduledItems.add(new ScheduledItem(currentTime + unit.toMillis(delay), command));
+      final ScheduledItem item = new ScheduledItem(currentTime + unit.toMillis(delay), command);
+      scheduledItems.add(item);
       runNextRunnable();
-      return createStub(ScheduledFuture.class);
+      return createStub(ScheduledItemFuture.class, scheduledItems, item);
     }
 
     @Override
@@ -360,6 +361,22 @@ public class FiberTestSupport {
       return false;
     }
 
+    // A future whose cancellation removes its item from the schedule.
+    abstract static class ScheduledItemFuture implements ScheduledFuture<Object> {
+      private final PriorityQueue<ScheduledItem> scheduledItems;
+      private final ScheduledItem item;
+
+      ScheduledItemFuture(PriorityQueue<ScheduledItem> scheduledItems, ScheduledItem item) {
+        this.scheduledItems = scheduledItems;
+        this.item = item;
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        return scheduledItems.remove(item);
+      }
+    }
+
     private static class ScheduledItem implements Comparable<ScheduledItem> {
       private final long atTime;
       private final Runnable runnable;
@@ -0,0 +1,187 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.metrics.PrometheusTextWriter;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static oracle.kubernetes.operator.logging.MessageKeys.FIBER_SUSPENDED_TOO_LONG;
+import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class FiberWatchdogTest {
+
+  private static final int THRESHOLD_SECONDS = 60;
+  private static final double TOLERANCE = 0.001;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private long nanoTime = 0;
+  private FiberWatchdog watchdog = createWatchdog(0);
+  private final Step waitStep = new WaitStep();
+  private final Step requestStep = new RequestStep();
+
+  @BeforeEach
+  void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, FIBER_SUSPENDED_TOO_LONG));
+  }
+
+  @AfterEach
+  void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private FiberWatchdog createWatchdog(int numFibersToLog) {
+    return new FiberWatchdog(THRESHOLD_SECONDS, TimeUnit.SECONDS, numFibersToLog, () -> nanoTime);
+  }
+
+  private Fiber suspendAt(Step step, int secondsAgo) {
+    Fiber fiber = testSupport.getEngine().createFiber();
+    watchdog.fiberSuspended(fiber, step, nanoTime - TimeUnit.SECONDS.toNanos(secondsAgo));
+    return fiber;
+  }
+
+  @Test
+  void whenFibersSuspendedLessThanThreshold_reportNoneStuck() {
+    suspendAt(waitStep, 10);
+    suspendAt(requestStep, THRESHOLD_SECONDS - 1);
+
+    watchdog.check();
+
+    assertThat(watchdog.getStuckCounts(), aMapWithSize(0));
+    assertThat(watchdog.getSuspendedCount(), equalTo(2));
+  }
+
+  @Test
+  void whenFibersSuspendedPastThreshold_countThemBySuspendingStep() {
+    suspendAt(waitStep, 100);
+    suspendAt(waitStep, 200);
+    suspendAt(requestStep, 90);
+    suspendAt(requestStep, 10);
+
+    watchdog.check();
+
+    assertThat(watchdog.getStuckCounts(), hasEntry("FiberWatchdogTest$Wait", 2));
+    assertThat(watchdog.getStuckCounts(), hasEntry("FiberWatchdogTest$Request", 1));
+  }
+
+  @Test
+  void computeDwellTimeQuantilesForStuckFibers() {
+    for (int i = 1; i <= 10; i++) {
+      suspendAt(waitStep, 100 * i);
+    }
+
+    watchdog.check();
+
+    assertThat(watchdog.getDwellTimeQuantile("FiberWatchdogTest$Wait", 0.5), closeTo(500, TOLERANCE));
+    assertThat(watchdog.getDwellTimeQuantile("FiberWatchdogTest$Wait", 0.9), closeTo(900, TOLERANCE));
+    assertThat(watchdog.getDwellTimeQuantile("FiberWatchdogTest$Wait", 1.0), closeTo(1000, TOLERANCE));
+  }
+
+  @Test
+  void whenFiberResumed_stopTrackingIt() {
+    Fiber fiber = suspendAt(waitStep, 100);
+
+    watchdog.fiberResumed(fiber);
+    watchdog.check();
+
+    assertThat(watchdog.getSuspendedCount(), equalTo(0));
+    assertThat(watchdog.getStuckCounts(), aMapWithSize(0));
+  }
+
+  @Test
+  void logOnlyLongestStuckFibers() {
+    watchdog = createWatchdog(1);
+    suspendAt(waitStep, 100);
+    suspendAt(requestStep, 300);
+
+    watchdog.check();
+
+    assertThat(logRecords, hasSize(1));
+    assertThat(logRecords.get(0).getParameters()[1], equalTo("FiberWatchdogTest$Request"));
+    assertThat(logRecords, containsWarning(FIBER_SUSPENDED_TOO_LONG));
+  }
+
+  @Test
+  void logEachStuckFiberOnlyOnce() {
+    watchdog = createWatchdog(1);
+    suspendAt(requestStep, 300);
+
+    watchdog.check();
+    logRecords.clear();
+    watchdog.check();
+
+    assertThat(logRecords, empty());
+  }
+
+  @Test
+  void metricsIncludeDwellSummaryForStuckSteps() {
+    suspendAt(waitStep, 120);
+    watchdog.check();
+
+    PrometheusTextWriter writer = new PrometheusTextWriter();
+    watchdog.writeMetrics(writer);
+
+    assertThat(writer.toString(), containsString("operator_fibers_stuck{step=\"FiberWatchdogTest$Wait\"} 1"));
+    assertThat(writer.toString(),
+          containsString("operator_fiber_stuck_dwell_seconds{step=\"FiberWatchdogTest$Wait\",quantile=\"0.5\"} 120"));
+  }
+
+  @Test
+  void whenEngineHasWatchdog_trackFiberWhileSuspended() {
+    testSupport.getEngine().withWatchdog(watchdog);
+    List<AsyncFiber> suspended = new ArrayList<>();
+    Packet packet = new Packet();
+
+    testSupport.getEngine().createFiber().start(new SuspendStep(suspended), packet, new NullCompletionCallback());
+    assertThat(watchdog.getSuspendedCount(), equalTo(1));
+
+    suspended.get(0).resume(packet);
+    assertThat(watchdog.getSuspendedCount(), equalTo(0));
+  }
+
+  static class WaitStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class RequestStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class SuspendStep extends Step {
+    private final List<AsyncFiber> suspended;
+
+    SuspendStep(List<AsyncFiber> suspended) {
+      this.suspended = suspended;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(suspended::add);
+    }
+  }
+}
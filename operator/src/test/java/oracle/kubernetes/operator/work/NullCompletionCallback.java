@@ -0,0 +1,17 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/** A completion callback which ignores the outcome of its fiber. */
+public class NullCompletionCallback implements Fiber.CompletionCallback {
+  @Override
+  public void onCompletion(Packet packet) {
+    // no-op
+  }
+
+  @Override
+  public void onThrowable(Packet packet, Throwable throwable) {
+    // no-op
+  }
+}
@@ -0,0 +1,182 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class PacketTest {
+
+  private final Packet packet = new Packet();
+
+  @Test
+  void copiedPacket_containsOriginalValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    assertThat(packet.copy(), allOf(hasEntry("a", "1"), hasEntry("b", "2"), aMapWithSize(2)));
+  }
+
+  @Test
+  void changesToCopy_notVisibleInOriginal() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet copy = packet.copy();
+    copy.put("a", "changed");
+    copy.remove("b");
+    copy.put("c", "3");
+
+    assertThat(packet, allOf(hasEntry("a", "1"), hasEntry("b", "2"), not(hasKey("c"))));
+  }
+
+  @Test
+  void changesToOriginal_notVisibleInCopy() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+
+    packet.put("a", "changed");
+    packet.put("b", "2");
+
+    assertThat(copy, allOf(hasEntry("a", "1"), not(hasKey("b")), aMapWithSize(1)));
+  }
+
+  @Test
+  void whenValueRemovedFromCopy_copyDoesNotContainIt() {
+    packet.put("a", "1");
+
+    Packet copy = packet.copy();
+    Object removed = copy.remove("a");
+
+    assertThat(removed, equalTo("1"));
+    assertThat(copy.get("a"), nullValue());
+    assertThat(copy.containsKey("a"), equalTo(false));
+    assertThat(copy.isEmpty(), equalTo(true));
+  }
+
+  @Test
+  void whenNullValuePut_removeEntry() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+
+    copy.put("a", null);
+
+    assertThat(copy, not(hasKey("a")));
+  }
+
+  @Test
+  void whenRemovedValueReplacedInCopy_copyContainsNewValue() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+
+    copy.remove("a");
+    copy.put("a", "2");
+
+    assertThat(copy, allOf(hasEntry("a", "2"), aMapWithSize(1)));
+  }
+
+  @Test
+  void whenIteratingCopy_removeThroughIterator() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet copy = packet.copy();
+
+    copy.entrySet().removeIf(e -> e.getKey().equals("a"));
+
+    assertThat(copy, allOf(hasEntry("b", "2"), aMapWithSize(1)));
+    assertThat(packet, aMapWithSize(2));
+  }
+
+  @Test
+  void whenEntryValueSetInCopy_updateCopy() {
+    packet.put("a", "1");
+    Packet copy = packet.copy();
+
+    copy.entrySet().forEach(e -> e.setValue("2"));
+
+    assertThat(copy, hasEntry("a", "2"));
+    assertThat(packet, hasEntry("a", "1"));
+  }
+
+  @Test
+  void computeIfAbsentInCopy_addsOnlyToCopy() {
+    Packet copy = packet.copy();
+
+    Object value = copy.computeIfAbsent("list", k -> "computed");
+
+    assertThat(value, equalTo("computed"));
+    assertThat(copy, hasEntry("list", "computed"));
+    assertThat(packet, not(hasKey("list")));
+  }
+
+  @Test
+  void copiedPacket_sharesComponents() {
+    Component component = Component.createFor("value");
+    packet.getComponents().put("comp", component);
+
+    Packet copy = packet.copy();
+    copy.getComponents().remove("comp");
+
+    assertThat(copy.getSpi(String.class), nullValue());
+    assertThat(packet.getSpi(String.class), equalTo("value"));
+    assertThat(packet.getComponents().get("comp"), sameInstance(component));
+  }
+
+  @Test
+  void whenComponentReplacedInCopy_getSpiFindsReplacement() {
+    packet.getComponents().put("comp", Component.createFor("original"));
+    Packet copy = packet.copy();
+
+    copy.getComponents().put("comp", Component.createFor(Integer.valueOf(2)));
+
+    assertThat(copy.getSpi(String.class), nullValue());
+    assertThat(copy.getSpi(Integer.class), equalTo(2));
+    assertThat(packet.getSpi(String.class), equalTo("original"));
+  }
+
+  @Test
+  void afterSeveralCopies_getSpiFindsComponentsFromEveryLayer() {
+    packet.getComponents().put("first", Component.createFor("value"));
+    Packet copy = packet.copy();
+    copy.getComponents().put("second", Component.createFor(Integer.valueOf(2)));
+    copy = copy.copy();
+    copy.getComponents().put("third", Component.createFor(Boolean.TRUE));
+
+    assertThat(copy.getSpi(String.class), equalTo("value"));
+    assertThat(copy.getSpi(Integer.class), equalTo(2));
+    assertThat(copy.getSpi(Boolean.class), equalTo(Boolean.TRUE));
+  }
+
+  @Test
+  void afterRepeatedCopies_layerDepthIsBounded() {
+    Packet current = packet;
+    for (int i = 0; i < 5 * LayeredMap.MAX_DEPTH; i++) {
+      current.put("key" + i, i);
+      current = current.copy();
+    }
+
+    assertThat(current.getDepth(), lessThanOrEqualTo(LayeredMap.MAX_DEPTH));
+    assertThat(current, aMapWithSize(5 * LayeredMap.MAX_DEPTH));
+    assertThat(current, hasEntry("key0", 0));
+  }
+
+  @Test
+  void whenCopiedWithoutChanges_doNotAddLayers() {
+    packet.put("a", "1");
+    Packet first = packet.copy();
+    Packet second = packet.copy();
+
+    assertThat(second.getDepth(), equalTo(first.getDepth()));
+  }
+}
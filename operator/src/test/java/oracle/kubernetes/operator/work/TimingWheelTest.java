@@ -0,0 +1,125 @@
+// Copyright (c) 2021, Oracle and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+class TimingWheelTest {
+
+  private static final int TICK_MILLIS = 10;
+  private static final int NUM_BUCKETS = 8;
+
+  private long nanoTime = 1_000_000L;
+  private final List<String> tasksRun = new ArrayList<>();
+  private final TimingWheel wheel
+        = new TimingWheel(Runnable::run, TICK_MILLIS, TimeUnit.MILLISECONDS, NUM_BUCKETS, () -> nanoTime);
+
+  private void setElapsedMillis(long millis) {
+    nanoTime = 1_000_000L + TimeUnit.MILLISECONDS.toNanos(millis);
+    wheel.advance();
+  }
+
+  private Runnable record(String name) {
+    return () -> tasksRun.add(name);
+  }
+
+  @Test
+  void whenDelayNotReached_doNotRunTask() {
+    wheel.schedule(record("task"), 50, TimeUnit.MILLISECONDS);
+
+    setElapsedMillis(40);
+
+    assertThat(tasksRun, empty());
+  }
+
+  @Test
+  void whenDelayReached_runTaskWithinOneTick() {
+    wheel.schedule(record("task"), 50, TimeUnit.MILLISECONDS);
+
+    setElapsedMillis(50 + TICK_MILLIS);
+
+    assertThat(tasksRun, contains("task"));
+  }
+
+  @Test
+  void runTasksInDeadlineOrder() {
+    wheel.schedule(record("late"), 70, TimeUnit.MILLISECONDS);
+    wheel.schedule(record("early"), 20, TimeUnit.MILLISECONDS);
+
+    setElapsedMillis(100);
+
+    assertThat(tasksRun, contains("early", "late"));
+  }
+
+  @Test
+  void whenDelayExceedsOneRevolution_runOnlyAfterEnoughRevolutions() {
+    final int revolutionMillis = TICK_MILLIS * NUM_BUCKETS;
+    wheel.schedule(record("task"), 2 * revolutionMillis + 30, TimeUnit.MILLISECONDS);
+
+    setElapsedMillis(revolutionMillis + 40);
+    setElapsedMillis(2 * revolutionMillis + 20);
+    assertThat(tasksRun, empty());
+
+    setElapsedMillis(2 * revolutionMillis + 30 + TICK_MILLIS);
+    assertThat(tasksRun, contains("task"));
+  }
+
+  @Test
+  void whenTaskScheduledWithZeroDelay_runOnNextTick() {
+    setElapsedMillis(35);
+    wheel.schedule(record("task"), 0, TimeUnit.MILLISECONDS);
+
+    setElapsedMillis(40);
+
+    assertThat(tasksRun, contains("task"));
+  }
+
+  @Test
+  void whenTaskCancelled_doNotRunIt() {
+    TimingWheel.Timeout timeout = wheel.schedule(record("task"), 20, TimeUnit.MILLISECONDS);
+    setElapsedMillis(10);
+
+    timeout.cancel();
+    setElapsedMillis(100);
+
+    assertThat(tasksRun, empty());
+  }
+
+  @Test
+  void whenTaskCancelledBeforeFirstAdvance_doNotRunIt() {
+    wheel.schedule(record("task"), 20, TimeUnit.MILLISECONDS).cancel();
+
+    setElapsedMillis(100);
+
+    assertThat(tasksRun, empty());
+  }
+
+  @Test
+  void whenTaskAlreadyRun_cancelReturnsFalse() {
+    TimingWheel.Timeout timeout = wheel.schedule(record("task"), 20, TimeUnit.MILLISECONDS);
+    setElapsedMillis(100);
+
+    assertThat(timeout.cancel(), equalTo(false));
+  }
+
+  @Test
+  void pendingCountExcludesRunAndCancelledTasks() {
+    wheel.schedule(record("first"), 20, TimeUnit.MILLISECONDS);
+    wheel.schedule(record("second"), 500, TimeUnit.MILLISECONDS);
+    wheel.schedule(record("third"), 500, TimeUnit.MILLISECONDS).cancel();
+
+    setElapsedMillis(100);
+
+    assertThat(wheel.getPendingCount(), equalTo(1));
+  }
+}